@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares the results of a benchmark run with the results of an earlier run,
+ * both written by JMH in CSV format (<code>-rf csv</code>).
+ * <p>
+ * A benchmark has regressed if its score is worse than the baseline by more
+ * than the tolerance, and the difference is larger than the sum of the score
+ * errors. Benchmarks missing from either file are reported but do not fail the
+ * comparison, nor does a missing baseline.
+ * </p>
+ * <p>
+ * Usage: <code>java BaselineComparison.java &lt;baseline.csv&gt;
+ * &lt;results.csv&gt; [tolerance in percent]</code>. It is run from its source
+ * file, so it can compare the results of any benchmark bundle. The exit code
+ * is 1 if a benchmark regressed.
+ * </p>
+ */
+public class BaselineComparison {
+
+	private static final class Result {
+		final String mode;
+		final double score;
+		final double error;
+		final String unit;
+
+		Result(String mode, double score, double error, String unit) {
+			this.mode = mode;
+			this.score = score;
+			this.error = error;
+			this.unit = unit;
+		}
+
+		/**
+		 * @return whether a higher score is better, e.g. operations per second
+		 */
+		boolean isThroughput() {
+			return "thrpt".equals(mode);
+		}
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 2) {
+			System.err.println("Usage: BaselineComparison <baseline.csv> <results.csv> [tolerance in percent]");
+			System.exit(2);
+		}
+		Path baselineFile = Paths.get(args[0]);
+		double tolerance = args.length > 2 ? Double.parseDouble(args[2]) / 100 : 0.1;
+		if (!Files.isRegularFile(baselineFile)) {
+			System.out.println("No baseline at " + baselineFile + ", copy " + args[1] + " there to create one.");
+			return;
+		}
+		Map<String, Result> baseline = read(baselineFile);
+		Map<String, Result> results = read(Paths.get(args[1]));
+
+		int regressions = 0;
+		for (Map.Entry<String, Result> entry : results.entrySet()) {
+			Result result = entry.getValue();
+			Result base = baseline.get(entry.getKey());
+			if (base == null) {
+				System.out.println("NEW        " + entry.getKey() + ": " + format(result));
+				continue;
+			}
+			if (!base.unit.equals(result.unit)) {
+				System.out.println("UNIT       " + entry.getKey() + ": " + format(base) + " -> " + format(result));
+				continue;
+			}
+			double change = (result.score - base.score) / base.score;
+			double worse = result.isThroughput() ? -change : change;
+			boolean significant = Math.abs(result.score - base.score) > result.error + base.error;
+			String status;
+			if (worse > tolerance && significant) {
+				status = "REGRESSION";
+				regressions++;
+			} else if (worse < -tolerance && significant) {
+				status = "IMPROVED  ";
+			} else {
+				status = "OK        ";
+			}
+			System.out.println(status + ' ' + entry.getKey() + ": " + format(base) + " -> " + format(result)
+					+ String.format(" (%+.1f%%)", change * 100));
+		}
+		for (String key : baseline.keySet()) {
+			if (!results.containsKey(key)) {
+				System.out.println("MISSING    " + key);
+			}
+		}
+		if (regressions > 0) {
+			System.out.println(regressions + " benchmark(s) regressed by more than " + tolerance * 100 + "%");
+			System.exit(1);
+		}
+	}
+
+	private static String format(Result result) {
+		return String.format("%.3f +- %.3f %s", result.score, result.error, result.unit);
+	}
+
+	/**
+	 * Reads a CSV result file, keyed by benchmark, mode and parameters.
+	 */
+	private static Map<String, Result> read(Path file) throws IOException {
+		List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+		Map<String, Result> results = new LinkedHashMap<>();
+		if (lines.isEmpty()) {
+			return results;
+		}
+		List<String> header = parseLine(lines.get(0));
+		int benchmarkColumn = header.indexOf("Benchmark");
+		int modeColumn = header.indexOf("Mode");
+		int scoreColumn = header.indexOf("Score");
+		int unitColumn = header.indexOf("Unit");
+		int errorColumn = -1;
+		for (int i = 0; i < header.size(); i++) {
+			if (header.get(i).startsWith("Score Error")) {
+				errorColumn = i;
+			}
+		}
+		for (String line : lines.subList(1, lines.size())) {
+			if (line.isEmpty()) {
+				continue;
+			}
+			List<String> values = parseLine(line);
+			StringBuilder key = new StringBuilder(values.get(benchmarkColumn)).append(' ')
+					.append(values.get(modeColumn));
+			for (int i = 0; i < header.size(); i++) {
+				if (header.get(i).startsWith("Param: ") && !values.get(i).isEmpty()) {
+					key.append(' ').append(header.get(i).substring(7)).append('=').append(values.get(i));
+				}
+			}
+			double error = errorColumn < 0 ? 0 : parseDouble(values.get(errorColumn));
+			results.put(key.toString(), new Result(values.get(modeColumn), parseDouble(values.get(scoreColumn)),
+					Double.isNaN(error) ? 0 : error, values.get(unitColumn)));
+		}
+		return results;
+	}
+
+	private static double parseDouble(String value) {
+		return value.isEmpty() ? Double.NaN : Double.parseDouble(value);
+	}
+
+	private static List<String> parseLine(String line) {
+		List<String> values = new ArrayList<>();
+		StringBuilder value = new StringBuilder();
+		boolean quoted = false;
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if (c == '"') {
+				if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+					value.append(c);
+					i++;
+				} else {
+					quoted = !quoted;
+				}
+			} else if (c == ',' && !quoted) {
+				values.add(value.toString());
+				value.setLength(0);
+			} else {
+				value.append(c);
+			}
+		}
+		values.add(value.toString());
+		return values;
+	}
+}
@@ -0,0 +1,225 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.jface.viewers;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Widget;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link ElementMap} of the structured viewers with the
+ * {@link CustomHashtable} they used before, for mapping, looking up and
+ * unmapping many elements. The hash table is used the way
+ * <code>StructuredViewer</code> used it, with a <code>Widget</code> or a
+ * <code>Widget[]</code> as value.
+ * <p>
+ * Both maps are internal to their package, so the benchmark is in that
+ * package, in a fragment of <code>org.eclipse.jface</code>.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ElementMapBenchmark {
+
+	@Param({ "1000", "100000" })
+	public int size;
+
+	/**
+	 * The number of items showing each element, more than one for elements
+	 * shown at several places of a tree.
+	 */
+	@Param({ "1", "3" })
+	public int itemsPerElement;
+
+	private Object[] elements;
+
+	private Widget[] widgets;
+
+	private CustomHashtable filledHashtable;
+
+	private ElementMap filledMap;
+
+	@Setup
+	public void setUp() throws ReflectiveOperationException {
+		elements = new Object[size];
+		for (int i = 0; i < size; i++) {
+			elements[i] = "element" + i;
+		}
+		widgets = new Widget[itemsPerElement];
+		for (int i = 0; i < itemsPerElement; i++) {
+			widgets[i] = allocateWidget();
+		}
+		filledHashtable = fillHashtable();
+		filledMap = fillMap();
+	}
+
+	/**
+	 * A concrete widget, since {@link Widget} itself is abstract.
+	 */
+	private static final class BenchmarkWidget extends Widget {
+		BenchmarkWidget() {
+			super(null, SWT.NONE);
+		}
+	}
+
+	/**
+	 * Widgets cannot be created without a display, so the constructor is
+	 * skipped. The maps only compare the widgets by identity.
+	 */
+	private static Widget allocateWidget() throws ReflectiveOperationException {
+		Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+		Field field = unsafeClass.getDeclaredField("theUnsafe");
+		field.setAccessible(true);
+		Object unsafe = field.get(null);
+		return (Widget) unsafeClass.getMethod("allocateInstance", Class.class).invoke(unsafe,
+				BenchmarkWidget.class);
+	}
+
+	private CustomHashtable fillHashtable() {
+		CustomHashtable hashtable = new CustomHashtable(CustomHashtable.DEFAULT_CAPACITY, null);
+		for (Widget widget : widgets) {
+			for (Object element : elements) {
+				put(hashtable, element, widget);
+			}
+		}
+		return hashtable;
+	}
+
+	private ElementMap fillMap() {
+		ElementMap map = new ElementMap(null);
+		for (Widget widget : widgets) {
+			for (Object element : elements) {
+				map.add(element, widget);
+			}
+		}
+		return map;
+	}
+
+	/**
+	 * The former implementation of <code>StructuredViewer.mapElement</code>.
+	 */
+	private static void put(CustomHashtable hashtable, Object element, Widget item) {
+		Object widgetOrWidgets = hashtable.get(element);
+		if (widgetOrWidgets == null) {
+			hashtable.put(element, item);
+		} else if (widgetOrWidgets instanceof Widget) {
+			if (widgetOrWidgets != item) {
+				hashtable.put(element, new Widget[] { (Widget) widgetOrWidgets, item });
+			}
+		} else {
+			Widget[] widgets = (Widget[]) widgetOrWidgets;
+			if (Arrays.asList(widgets).indexOf(item) == -1) {
+				int length = widgets.length;
+				System.arraycopy(widgets, 0, widgets = new Widget[length + 1], 0, length);
+				widgets[length] = item;
+				hashtable.put(element, widgets);
+			}
+		}
+	}
+
+	/**
+	 * The former implementation of <code>StructuredViewer.unmapElement</code>.
+	 */
+	private static void remove(CustomHashtable hashtable, Object element, Widget item) {
+		Object widgetOrWidgets = hashtable.get(element);
+		if (widgetOrWidgets == null) {
+			return;
+		} else if (widgetOrWidgets instanceof Widget) {
+			if (item == widgetOrWidgets) {
+				hashtable.remove(element);
+			}
+		} else {
+			Widget[] widgets = (Widget[]) widgetOrWidgets;
+			int indexOfItem = Arrays.asList(widgets).indexOf(item);
+			if (indexOfItem == -1) {
+				return;
+			}
+			int length = widgets.length;
+			if (length == 1) {
+				hashtable.remove(element);
+			} else {
+				Widget[] updatedWidgets = new Widget[length - 1];
+				System.arraycopy(widgets, 0, updatedWidgets, 0, indexOfItem);
+				System.arraycopy(widgets, indexOfItem + 1, updatedWidgets, indexOfItem, length - indexOfItem - 1);
+				hashtable.put(element, updatedWidgets);
+			}
+		}
+	}
+
+	@Benchmark
+	public Object customHashtableMap() {
+		return fillHashtable();
+	}
+
+	@Benchmark
+	public Object elementMapMap() {
+		return fillMap();
+	}
+
+	@Benchmark
+	public int customHashtableFind() {
+		int found = 0;
+		for (Object element : elements) {
+			Object widgetOrWidgets = filledHashtable.get(element);
+			found += widgetOrWidgets instanceof Widget ? 1 : ((Widget[]) widgetOrWidgets).length;
+		}
+		return found;
+	}
+
+	@Benchmark
+	public int elementMapFind() {
+		int found = 0;
+		for (Object element : elements) {
+			found += filledMap.get(element).length;
+		}
+		return found;
+	}
+
+	@Benchmark
+	public Object customHashtableMapAndUnmap() {
+		CustomHashtable hashtable = fillHashtable();
+		for (Widget widget : widgets) {
+			for (Object element : elements) {
+				remove(hashtable, element, widget);
+			}
+		}
+		return hashtable;
+	}
+
+	@Benchmark
+	public Object elementMapMapAndUnmap() {
+		ElementMap map = fillMap();
+		for (Widget widget : widgets) {
+			for (Object element : elements) {
+				map.remove(element, widget);
+			}
+		}
+		return map;
+	}
+}
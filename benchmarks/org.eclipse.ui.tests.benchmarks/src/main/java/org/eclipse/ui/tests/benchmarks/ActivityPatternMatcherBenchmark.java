@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.tests.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ui.internal.activities.ActivityPatternBinding;
+import org.eclipse.ui.internal.activities.ActivityPatternMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures finding the activities of all identifiers, as done by the
+ * <code>MutableActivityManager</code> when activities are enabled, with the
+ * pattern bindings of a product-sized activity registry: testing every binding
+ * compared with the {@link ActivityPatternMatcher}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ActivityPatternMatcherBenchmark {
+
+	private static final String[] SEGMENTS = { "jdt", "pde", "team", "cvs", "git", "debug", "ui", "core", "launching",
+			"junit", "ant", "help", "search", "compare", "wst", "jst", "xml", "html", "css", "maven", "gradle",
+			"docker", "mylyn", "tasks", "egit", "emf", "gef", "cdt", "python", "rcp" };
+
+	private static final String[] KINDS = { "views", "wizards", "commands", "perspectives", "preferences",
+			"editors" };
+
+	/**
+	 * The number of activities, each with a few pattern bindings.
+	 */
+	@Param({ "100", "400" })
+	public int activities;
+
+	/**
+	 * The number of identifiers, e.g. of views, wizards and commands.
+	 */
+	@Param({ "5000" })
+	public int identifiers;
+
+	private List<ActivityPatternBinding> bindings;
+
+	private String[] ids;
+
+	private ActivityPatternMatcher matcher;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(activities);
+		List<String> plugins = new ArrayList<>();
+		for (int i = 0; plugins.size() < activities; i++) {
+			plugins.add("org.eclipse." + SEGMENTS[i % SEGMENTS.length] + '.'
+					+ SEGMENTS[(i / SEGMENTS.length + i) % SEGMENTS.length] + (i / SEGMENTS.length));
+		}
+
+		bindings = new ArrayList<>();
+		for (int i = 0; i < activities; i++) {
+			String activityId = "activity" + i;
+			String plugin = plugins.get(i).replace(".", "\\.");
+			// the usual kinds of patterns: a whole plug-in, some of its
+			// contributions, and single ids
+			bindings.add(new ActivityPatternBinding(activityId, plugin + "/.*"));
+			bindings.add(new ActivityPatternBinding(activityId,
+					".*/" + plugin + "\\." + KINDS[random.nextInt(KINDS.length)] + "\\..*"));
+			bindings.add(new ActivityPatternBinding(activityId, plugins.get(i) + ".*Wizard"));
+			bindings.add(new ActivityPatternBinding(activityId,
+					plugins.get(random.nextInt(activities)) + "/" + plugins.get(i) + ".command", true));
+		}
+
+		ids = new String[identifiers];
+		for (int i = 0; i < identifiers; i++) {
+			String plugin = plugins.get(random.nextInt(activities));
+			String contributor = random.nextInt(4) == 0 ? "com.example.product" : plugin;
+			ids[i] = contributor + '/' + plugin + '.' + KINDS[random.nextInt(KINDS.length)] + '.' + "Item" + i;
+		}
+
+		matcher = new ActivityPatternMatcher();
+		bindings.forEach(matcher::add);
+	}
+
+	@Benchmark
+	public int matchEachBinding() {
+		int matches = 0;
+		for (String id : ids) {
+			Set<String> activityIds = new HashSet<>();
+			for (ActivityPatternBinding binding : bindings) {
+				if (!activityIds.contains(binding.getActivityId()) && binding.isMatch(id)) {
+					activityIds.add(binding.getActivityId());
+				}
+			}
+			matches += activityIds.size();
+		}
+		return matches;
+	}
+
+	@Benchmark
+	public int matchCompiled() {
+		int matches = 0;
+		for (String id : ids) {
+			matches += matcher.getActivityIds(id).size();
+		}
+		return matches;
+	}
+
+	@Benchmark
+	public ActivityPatternMatcher addBindings() {
+		ActivityPatternMatcher result = new ActivityPatternMatcher();
+		bindings.forEach(result::add);
+		return result;
+	}
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.tests.benchmarks;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.commands.CommandManager;
+import org.eclipse.core.commands.ParameterizedCommand;
+import org.eclipse.core.commands.contexts.Context;
+import org.eclipse.core.commands.contexts.ContextManager;
+import org.eclipse.e4.ui.bindings.internal.BindingTable;
+import org.eclipse.jface.bindings.Binding;
+import org.eclipse.jface.bindings.TriggerSequence;
+import org.eclipse.jface.bindings.keys.KeyBinding;
+import org.eclipse.jface.bindings.keys.KeySequence;
+import org.eclipse.jface.bindings.keys.KeyStroke;
+import org.eclipse.swt.SWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures building a {@link BindingTable} and the lookups done for every key
+ * stroke and for every menu item showing a key binding.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BindingTableBenchmark {
+
+	private static final String CONTEXT_ID = "org.eclipse.ui.contexts.window";
+
+	private static final String SCHEME_ID = "org.eclipse.ui.defaultAcceleratorConfiguration";
+
+	private static final int[] MODIFIERS = { SWT.CTRL, SWT.CTRL | SWT.SHIFT, SWT.ALT, SWT.ALT | SWT.SHIFT,
+			SWT.CTRL | SWT.ALT };
+
+	@Param({ "500", "5000" })
+	public int size;
+
+	private Context context;
+
+	private List<Binding> bindings;
+
+	/**
+	 * The longest proper prefix of the trigger sequence of each binding.
+	 */
+	private List<TriggerSequence> prefixes;
+
+	private BindingTable table;
+
+	private int next;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(size);
+		context = new ContextManager().getContext(CONTEXT_ID);
+		CommandManager commandManager = new CommandManager();
+		Map<KeySequence, Binding> bindingsBySequence = new LinkedHashMap<>();
+		while (bindingsBySequence.size() < size) {
+			KeyStroke first = KeyStroke.getInstance(MODIFIERS[random.nextInt(MODIFIERS.length)],
+					'A' + random.nextInt(26));
+			KeySequence sequence;
+			if (random.nextInt(4) == 0) {
+				sequence = KeySequence.getInstance(first);
+			} else {
+				// emacs style key sequences
+				sequence = KeySequence.getInstance(new KeyStroke[] { first,
+						KeyStroke.getInstance(SWT.NONE, 'A' + random.nextInt(26)) });
+			}
+			String commandId = "command" + bindingsBySequence.size();
+			ParameterizedCommand command = new ParameterizedCommand(commandManager.getCommand(commandId), null);
+			bindingsBySequence.putIfAbsent(sequence,
+					new KeyBinding(sequence, command, SCHEME_ID, CONTEXT_ID, null, null, null, Binding.SYSTEM));
+		}
+		bindings = new ArrayList<>(bindingsBySequence.values());
+		prefixes = new ArrayList<>(size);
+		for (Binding binding : bindings) {
+			TriggerSequence[] sequencePrefixes = binding.getTriggerSequence().getPrefixes();
+			prefixes.add(sequencePrefixes[sequencePrefixes.length - 1]);
+		}
+		table = fill();
+	}
+
+	private BindingTable fill() {
+		BindingTable result = new BindingTable(context);
+		for (Binding binding : bindings) {
+			result.addBinding(binding);
+		}
+		return result;
+	}
+
+	private Binding nextBinding() {
+		next = (next + 1) % size;
+		return bindings.get(next);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public BindingTable addBindings() {
+		return fill();
+	}
+
+	@Benchmark
+	public Binding getPerfectMatch() {
+		return table.getPerfectMatch(nextBinding().getTriggerSequence());
+	}
+
+	@Benchmark
+	public boolean isPartialMatch() {
+		next = (next + 1) % size;
+		return table.isPartialMatch(prefixes.get(next));
+	}
+
+	@Benchmark
+	public Binding getBestSequenceFor() {
+		return table.getBestSequenceFor(nextBinding().getParameterizedCommand());
+	}
+}
@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.tests.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.e4.ui.css.core.dom.ElementAdapter;
+import org.eclipse.e4.ui.css.core.engine.CSSEngine;
+import org.eclipse.e4.ui.css.core.impl.dom.DocumentCSSImpl;
+import org.eclipse.e4.ui.css.core.impl.dom.ViewCSSImpl;
+import org.eclipse.e4.ui.css.core.impl.engine.CSSEngineImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.w3c.dom.css.CSSStyleDeclaration;
+import org.w3c.dom.css.CSSStyleSheet;
+
+/**
+ * Measures parsing a theme-sized style sheet and matching its selectors
+ * against a widget tree with {@link ViewCSSImpl}, using a CSS engine which
+ * does not need a display.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CSSBenchmark {
+
+	private static final String[] TYPES = { "Shell", "Composite", "CTabFolder", "Label", "Button", "Text", "Tree",
+			"Table", "ToolBar", "Combo" };
+
+	private static final String[] CLASSES = { "MPart", "MPartStack", "MTrimBar", "active", "busy", "editor",
+			"view", "dirty" };
+
+	/**
+	 * The number of style rules, a theme of the IDE has a few hundred.
+	 */
+	@Param({ "100", "1000" })
+	public int rules;
+
+	private String css;
+
+	private CSSEngine engine;
+
+	private ViewCSSImpl viewCSS;
+
+	private final List<BenchmarkElement> elements = new ArrayList<>();
+
+	@Setup
+	public void setUp() throws IOException {
+		Random random = new Random(rules);
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < rules; i++) {
+			String type = TYPES[random.nextInt(TYPES.length)];
+			String cssClass = CLASSES[random.nextInt(CLASSES.length)];
+			switch (i % 5) {
+			case 0:
+				builder.append(type);
+				break;
+			case 1:
+				builder.append('.').append(cssClass);
+				break;
+			case 2:
+				builder.append(type).append('.').append(cssClass);
+				break;
+			case 3:
+				builder.append('.').append(cssClass).append(' ').append(type);
+				break;
+			default:
+				builder.append('#').append("element").append(random.nextInt(1000));
+				break;
+			}
+			builder.append(" { color: #").append(String.format("%06x", random.nextInt(0x1000000)))
+					.append("; font-size: ").append(8 + random.nextInt(8)).append("px; }\n");
+		}
+		css = builder.toString();
+
+		engine = new BenchmarkEngine();
+		DocumentCSSImpl documentCSS = new DocumentCSSImpl();
+		documentCSS.addStyleSheet((CSSStyleSheet) engine.parseStyleSheet(new StringReader(css)));
+		viewCSS = new ViewCSSImpl(documentCSS);
+
+		BenchmarkElement root = new BenchmarkElement("Shell", null, engine);
+		elements.add(root);
+		for (int i = 1; i < 2000; i++) {
+			BenchmarkElement parent = elements.get(random.nextInt(elements.size()));
+			BenchmarkElement element = new BenchmarkElement(TYPES[random.nextInt(TYPES.length)], parent, engine);
+			if (random.nextBoolean()) {
+				element.cssClass = CLASSES[random.nextInt(CLASSES.length)];
+			}
+			element.id = "element" + i;
+			elements.add(element);
+		}
+	}
+
+	@Benchmark
+	public Object parseStyleSheet() throws IOException {
+		return engine.parseStyleSheet(new StringReader(css));
+	}
+
+	@Benchmark
+	public int computeStyles() {
+		int properties = 0;
+		for (BenchmarkElement element : elements) {
+			CSSStyleDeclaration style = viewCSS.getComputedStyle(element, null);
+			if (style != null) {
+				properties += style.getLength();
+			}
+		}
+		return properties;
+	}
+
+	private static final class BenchmarkEngine extends CSSEngineImpl {
+		@Override
+		public void reapply() {
+			// there are no widgets to restyle
+		}
+	}
+
+	private static final class BenchmarkElement extends ElementAdapter {
+
+		private final String type;
+
+		private final BenchmarkElement parent;
+
+		private final List<Node> children = new ArrayList<>();
+
+		String cssClass;
+
+		String id;
+
+		BenchmarkElement(String type, BenchmarkElement parent, CSSEngine engine) {
+			super(null, engine);
+			this.type = type;
+			this.parent = parent;
+			if (parent != null) {
+				parent.children.add(this);
+			}
+		}
+
+		@Override
+		public String getLocalName() {
+			return type;
+		}
+
+		@Override
+		public String getAttribute(String name) {
+			return "";
+		}
+
+		@Override
+		public String getNamespaceURI() {
+			return null;
+		}
+
+		@Override
+		public Node getParentNode() {
+			return parent;
+		}
+
+		@Override
+		public NodeList getChildNodes() {
+			return new NodeList() {
+				@Override
+				public int getLength() {
+					return children.size();
+				}
+
+				@Override
+				public Node item(int index) {
+					return children.get(index);
+				}
+			};
+		}
+
+		@Override
+		public String getCSSClass() {
+			return cssClass;
+		}
+
+		@Override
+		public String getCSSId() {
+			return id;
+		}
+
+		@Override
+		public String getCSSStyle() {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.tests.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.eclipse.jface.dialogs.DialogSettings;
+import org.eclipse.jface.dialogs.IDialogSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * Measures loading and saving {@link DialogSettings} the size of the
+ * <code>dialog_settings.xml</code> of a plug-in with many dialogs, as done at
+ * startup and shutdown. {@link #loadDom()} only parses the same document into
+ * a DOM, as <code>DialogSettings</code> did before it used a streaming parser.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DialogSettingsBenchmark {
+
+	/**
+	 * The number of sections.
+	 */
+	@Param({ "10", "1000" })
+	public int sections;
+
+	private DialogSettings settings;
+
+	private String xml;
+
+	@Setup
+	public void setUp() throws IOException {
+		settings = new DialogSettings("Workbench");
+		for (int i = 0; i < sections; i++) {
+			IDialogSettings section = settings.addNewSection("org.eclipse.ui.dialogs.Dialog" + i);
+			for (int j = 0; j < 10; j++) {
+				section.put("key" + j, "value & <setting> " + j);
+			}
+			section.put("history", new String[] { "first", "second", "third", "fourth", "fifth" });
+			section.addNewSection("DIALOG_BOUNDS_SETTINGS").put("DIALOG_WIDTH", 600);
+		}
+		StringWriter writer = new StringWriter();
+		settings.save(writer);
+		xml = writer.toString();
+	}
+
+	@Benchmark
+	public String save() throws IOException {
+		StringWriter writer = new StringWriter();
+		settings.save(writer);
+		return writer.toString();
+	}
+
+	@Benchmark
+	public DialogSettings load() {
+		DialogSettings result = new DialogSettings("Workbench");
+		result.load(new StringReader(xml));
+		return result;
+	}
+
+	@Benchmark
+	public Document loadDom() throws ParserConfigurationException, SAXException, IOException {
+		return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new InputSource(new StringReader(xml)));
+	}
+}
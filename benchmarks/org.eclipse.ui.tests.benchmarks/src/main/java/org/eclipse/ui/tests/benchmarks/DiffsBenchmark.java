@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.tests.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.list.ListDiff;
+import org.eclipse.core.databinding.observable.set.SetDiff;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Diffs#computeListDiff(List, List)} and
+ * {@link Diffs#computeSetDiff(Set, Set)} for the changes typically passed to
+ * the observable collections: appending, replacing all elements, reordering
+ * and removing some elements.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DiffsBenchmark {
+
+	public enum Change {
+		APPEND, REPLACE, SHUFFLE, REMOVE_SOME
+	}
+
+	@Param({ "100", "10000", "100000" })
+	public int size;
+
+	@Param
+	public Change change;
+
+	private List<String> oldList;
+
+	private List<String> newList;
+
+	private Set<String> oldSet;
+
+	private Set<String> newSet;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(size);
+		oldList = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			oldList.add("element" + i);
+		}
+		switch (change) {
+		case APPEND:
+			newList = new ArrayList<>(oldList);
+			for (int i = 0; i < size / 10; i++) {
+				newList.add("added" + i);
+			}
+			break;
+		case REPLACE:
+			newList = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				newList.add("replaced" + i);
+			}
+			break;
+		case SHUFFLE:
+			newList = new ArrayList<>(oldList);
+			Collections.shuffle(newList, random);
+			break;
+		case REMOVE_SOME:
+			newList = new ArrayList<>(size);
+			for (String element : oldList) {
+				if (random.nextInt(10) != 0) {
+					newList.add(element);
+				}
+			}
+			break;
+		default:
+			throw new IllegalArgumentException(change.toString());
+		}
+		oldSet = new HashSet<>(oldList);
+		newSet = new HashSet<>(newList);
+	}
+
+	@Benchmark
+	public ListDiff<String> computeListDiff() {
+		ListDiff<String> diff = Diffs.computeListDiff(oldList, newList);
+		diff.getDifferences();
+		return diff;
+	}
+
+	@Benchmark
+	public SetDiff<String> computeSetDiff() {
+		SetDiff<String> diff = Diffs.computeSetDiff(oldSet, newSet);
+		diff.getAdditions();
+		return diff;
+	}
+}
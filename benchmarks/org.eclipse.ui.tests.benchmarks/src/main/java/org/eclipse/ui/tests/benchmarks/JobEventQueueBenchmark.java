@@ -0,0 +1,274 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.tests.benchmarks;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import org.eclipse.ui.internal.progress.JobEventQueue;
+import org.eclipse.ui.internal.progress.ProgressManager;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the notification of the changes of jobs to the progress UI by the
+ * {@link ProgressManager} during a storm of short jobs. Three worker threads
+ * each report the life cycle of a job per operation, the scheduling of the job,
+ * its progress updates and its end, while the UI thread sends the pending
+ * changes to the listeners once per frame, as the throttled refresh of the
+ * progress manager does.
+ * <p>
+ * The score of the workers is the number of job life cycles reported per
+ * second, which has to stay far above the 10000 jobs per second of a storm.
+ * The <code>notifications</code> counter of the UI thread is the number of
+ * listener notifications per second. The <code>mutex</code> group reports the
+ * changes into listener sets per job guarded by one lock, as the progress
+ * manager did before it used a {@link JobEventQueue}.
+ * </p>
+ * <p>
+ * The benchmark uses stand-ins for the jobs and the listeners, since the
+ * progress manager needs a display.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class JobEventQueueBenchmark {
+
+	/**
+	 * A job, or its info in the progress manager.
+	 */
+	static final class Job {
+		volatile int pendingEvents;
+
+		final boolean system;
+
+		Job(boolean system) {
+			this.system = system;
+		}
+	}
+
+	/**
+	 * A listener of the progress manager, e.g. the progress view.
+	 */
+	static final class Listener {
+		final boolean showsDebug;
+
+		Listener(boolean showsDebug) {
+			this.showsDebug = showsDebug;
+		}
+
+		boolean shows(Job job) {
+			return showsDebug || !job.system;
+		}
+	}
+
+	/**
+	 * The pending changes as the progress manager kept them before: the
+	 * listeners to notify per job and kind of change, guarded by one lock.
+	 */
+	static final class MutexQueue {
+		private final Object mutex = new Object();
+
+		private final Listener[] listeners;
+
+		private Map<Job, Set<Listener>> additions = new LinkedHashMap<>();
+
+		private Map<Job, Set<Listener>> updates = new LinkedHashMap<>();
+
+		private Map<Job, Set<Listener>> removals = new LinkedHashMap<>();
+
+		MutexQueue(Listener[] listeners) {
+			this.listeners = listeners;
+		}
+
+		void offer(Job job, int events) {
+			synchronized (mutex) {
+				if ((events & JobEventQueue.ADDED) != 0) {
+					remember(job, additions);
+				}
+				if ((events & JobEventQueue.UPDATED) != 0) {
+					remember(job, updates);
+				}
+				if ((events & JobEventQueue.REMOVED) != 0) {
+					remember(job, removals);
+				}
+			}
+		}
+
+		private void remember(Job job, Map<Job, Set<Listener>> listenersMap) {
+			Set<Listener> localListeners = listenersMap.computeIfAbsent(job, k -> new LinkedHashSet<>());
+			for (Listener listener : listeners) {
+				if (listener.shows(job)) {
+					localListeners.add(listener);
+				}
+			}
+		}
+
+		int notifyListeners() {
+			Map<Job, Set<Listener>> localAdditions, localUpdates, localRemovals;
+			synchronized (mutex) {
+				localAdditions = additions;
+				additions = new LinkedHashMap<>();
+				localUpdates = updates;
+				updates = new LinkedHashMap<>();
+				localRemovals = removals;
+				removals = new LinkedHashMap<>();
+			}
+			int notifications = 0;
+			for (Set<Listener> jobListeners : localAdditions.values()) {
+				notifications += jobListeners.size();
+			}
+			for (Set<Listener> jobListeners : localUpdates.values()) {
+				notifications += jobListeners.size();
+			}
+			for (Set<Listener> jobListeners : localRemovals.values()) {
+				notifications += jobListeners.size();
+			}
+			return notifications;
+		}
+	}
+
+	/**
+	 * The jobs a worker thread reports, cycling through all of them.
+	 */
+	@State(Scope.Thread)
+	public static class Worker {
+		int next;
+
+		@Setup
+		public void setUp(JobEventQueueBenchmark benchmark) {
+			next = ThreadLocalRandom.current().nextInt(benchmark.jobs.length);
+		}
+
+		Job nextJob(Job[] jobs) {
+			Job job = jobs[next];
+			next = next + 1 == jobs.length ? 0 : next + 1;
+			return job;
+		}
+	}
+
+	/**
+	 * The listener notifications sent by the UI thread.
+	 */
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	@State(Scope.Thread)
+	public static class Notifications {
+		public long notifications;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			notifications = 0;
+		}
+	}
+
+	/**
+	 * The number of progress updates reported per job.
+	 */
+	@Param({ "10" })
+	public int updates;
+
+	/**
+	 * The time between two notifications of the listeners, 100 ms in the
+	 * progress manager.
+	 */
+	@Param({ "100" })
+	public int frameMillis;
+
+	private Job[] jobs;
+
+	private Listener[] listeners;
+
+	private JobEventQueue<Job> queue;
+
+	private MutexQueue mutexQueue;
+
+	@Setup
+	public void setUp() {
+		// The jobs of one second of a storm, a tenth of them system jobs
+		jobs = new Job[10000];
+		for (int i = 0; i < jobs.length; i++) {
+			jobs[i] = new Job(i % 10 == 0);
+		}
+		// The progress view, the task bar, the animation and the finished jobs
+		listeners = new Listener[] { new Listener(false), new Listener(false), new Listener(false),
+				new Listener(false) };
+		queue = new JobEventQueue<>(AtomicIntegerFieldUpdater.newUpdater(Job.class, "pendingEvents"));
+		mutexQueue = new MutexQueue(listeners);
+	}
+
+	@Benchmark
+	@Group("queue")
+	@GroupThreads(3)
+	public void queueJob(Worker worker) {
+		Job job = worker.nextJob(jobs);
+		queue.offer(job, JobEventQueue.ADDED);
+		for (int i = 0; i < updates; i++) {
+			queue.offer(job, JobEventQueue.UPDATED);
+		}
+		queue.offer(job, JobEventQueue.REMOVED);
+	}
+
+	@Benchmark
+	@Group("queue")
+	@GroupThreads(1)
+	public void queueFrame(Notifications notifications) throws InterruptedException {
+		Thread.sleep(frameMillis);
+		queue.drain((job, events) -> {
+			for (Listener listener : listeners) {
+				if (listener.shows(job)) {
+					notifications.notifications += Integer.bitCount(events);
+				}
+			}
+		});
+	}
+
+	@Benchmark
+	@Group("mutex")
+	@GroupThreads(3)
+	public void mutexJob(Worker worker) {
+		Job job = worker.nextJob(jobs);
+		mutexQueue.offer(job, JobEventQueue.ADDED);
+		for (int i = 0; i < updates; i++) {
+			mutexQueue.offer(job, JobEventQueue.UPDATED);
+		}
+		mutexQueue.offer(job, JobEventQueue.REMOVED);
+	}
+
+	@Benchmark
+	@Group("mutex")
+	@GroupThreads(1)
+	public void mutexFrame(Notifications notifications) throws InterruptedException {
+		Thread.sleep(frameMillis);
+		notifications.notifications += mutexQueue.notifyListeners();
+	}
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.tests.benchmarks;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jface.viewers.deferred.LazySortedCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link LazySortedCollection} used by the deferred content
+ * provider: filling it and computing the visible window, scrolling through a
+ * filled collection and replacing elements of it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LazySortedCollectionBenchmark {
+
+	private static final int WINDOW = 100;
+
+	private static final Comparator<Object> COMPARATOR = (a, b) -> ((String) a).compareTo((String) b);
+
+	@Param({ "10000", "100000" })
+	public int size;
+
+	private Object[] elements;
+
+	private LazySortedCollection filled;
+
+	private final Object[] window = new Object[WINDOW];
+
+	private int next;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(size);
+		elements = new Object[size];
+		for (int i = 0; i < size; i++) {
+			elements[i] = Integer.toString(random.nextInt());
+		}
+		filled = new LazySortedCollection(COMPARATOR);
+		filled.addAll(elements);
+	}
+
+	@Benchmark
+	public Object[] fillAndGetFirst() {
+		LazySortedCollection collection = new LazySortedCollection(COMPARATOR);
+		collection.addAll(elements);
+		collection.getFirst(window, true);
+		return window;
+	}
+
+	@Benchmark
+	public Object[] getRange() {
+		next = (next + WINDOW) % (size - WINDOW);
+		filled.getRange(window, next, true);
+		return window;
+	}
+
+	@Benchmark
+	public LazySortedCollection removeAndAdd() {
+		next = (next + 1) % size;
+		Object element = elements[next];
+		filled.remove(element);
+		filled.add(element);
+		return filled;
+	}
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.tests.benchmarks;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.ui.internal.views.markers.MarkerSortUtil;
+import org.eclipse.ui.internal.views.markers.MockMarkerEntry;
+import org.eclipse.ui.views.markers.MarkerItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures sorting the first entries of the markers views with
+ * {@link MarkerSortUtil}, with the default configuration which sorts all
+ * entries and with the batched partial heap sort.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MarkerSortUtilBenchmark {
+
+	private static final Comparator<MarkerItem> COMPARATOR = (o1, o2) -> ((MockMarkerEntry) o1).name
+			.compareTo(((MockMarkerEntry) o2).name);
+
+	@Param({ "100000" })
+	public int size;
+
+	/**
+	 * The number of entries shown, see the limit of the markers views.
+	 */
+	@Param({ "100", "10000" })
+	public int limit;
+
+	private MockMarkerEntry[] entries;
+
+	private MockMarkerEntry[] sorted;
+
+	@Setup(Level.Trial)
+	public void createEntries() {
+		Random random = new Random(size);
+		entries = new MockMarkerEntry[size];
+		for (int i = 0; i < size; i++) {
+			entries[i] = new MockMarkerEntry("marker" + random.nextInt(size));
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void copyEntries() {
+		sorted = entries.clone();
+	}
+
+	@Benchmark
+	public MockMarkerEntry[] sortStartingKElement() {
+		MarkerSortUtil.sortStartingKElement(sorted, COMPARATOR, 0, size - 1, limit, new NullProgressMonitor());
+		return sorted;
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = "-Dorg.eclipse.ui.MarkerSortUtil.batchSize=10000")
+	public MockMarkerEntry[] sortStartingKElementBatched() {
+		MarkerSortUtil.sortStartingKElement(sorted, COMPARATOR, 0, size - 1, limit, new NullProgressMonitor());
+		return sorted;
+	}
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.tests.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ui.dialogs.SearchPattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link SearchPattern} as used by the filtered selection dialogs:
+ * matching the patterns of each rule against many names.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SearchPatternBenchmark {
+
+	private static final String[] WORDS = { "Abstract", "Tree", "Viewer", "Content", "Provider", "Label",
+			"Resource", "Selection", "Dialog", "Filtered", "Item", "Manager", "Table", "Handler", "Service" };
+
+	private static final int NAMES = 10000;
+
+	/**
+	 * The pattern typed into the dialog, one per match rule.
+	 */
+	@Param({ "AbstractTree", "atvi", "ATV", "*Content*Prov", "Resource?election", "AbstractTreeViewer.java" })
+	public String pattern;
+
+	private String[] names;
+
+	private SearchPattern searchPattern;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(NAMES);
+		names = new String[NAMES];
+		for (int i = 0; i < NAMES; i++) {
+			StringBuilder name = new StringBuilder();
+			int words = 2 + random.nextInt(3);
+			for (int j = 0; j < words; j++) {
+				name.append(WORDS[random.nextInt(WORDS.length)]);
+			}
+			names[i] = name.append(".java").toString();
+		}
+		searchPattern = new SearchPattern();
+		searchPattern.setPattern(pattern);
+	}
+
+	@Benchmark
+	public int matchNames() {
+		int matches = 0;
+		for (String name : names) {
+			if (searchPattern.matches(name)) {
+				matches++;
+			}
+		}
+		return matches;
+	}
+
+	@Benchmark
+	public SearchPattern setPattern() {
+		SearchPattern result = new SearchPattern();
+		result.setPattern(pattern);
+		return result;
+	}
+}
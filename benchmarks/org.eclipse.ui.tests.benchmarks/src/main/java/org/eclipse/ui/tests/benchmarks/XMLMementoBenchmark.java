@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.tests.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.eclipse.ui.IMemento;
+import org.eclipse.ui.WorkbenchException;
+import org.eclipse.ui.XMLMemento;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * Measures writing and reading an {@link XMLMemento} the size of the state
+ * saved by views and dialogs of a large workbench. {@link #readDom()} reads the
+ * same document the way <code>XMLMemento</code> did before it used a streaming
+ * parser, with a new <code>DocumentBuilder</code> for each document.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class XMLMementoBenchmark {
+
+	/**
+	 * The number of child elements.
+	 */
+	@Param({ "100", "10000" })
+	public int size;
+
+	private String xml;
+
+	@Setup
+	public void setUp() throws IOException {
+		xml = write();
+	}
+
+	private String write() throws IOException {
+		XMLMemento root = XMLMemento.createWriteRoot("workbench");
+		for (int i = 0; i < size; i++) {
+			IMemento child = root.createChild("view", "org.eclipse.ui.views.view" + i);
+			child.putString("label", "View & <label> " + i);
+			child.putInteger("ratio", i % 100);
+			child.putBoolean("visible", i % 2 == 0);
+			child.createChild("settings").putTextData("text data of view " + i);
+		}
+		StringWriter writer = new StringWriter();
+		root.save(writer);
+		return writer.toString();
+	}
+
+	@Benchmark
+	public String save() throws IOException {
+		return write();
+	}
+
+	@Benchmark
+	public int read() throws WorkbenchException {
+		XMLMemento root = XMLMemento.createReadRoot(new StringReader(xml));
+		int count = 0;
+		for (IMemento child : root.getChildren("view")) {
+			if (child.getString("label") != null && child.getChild("settings").getTextData() != null) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Benchmark
+	public int readDom() throws ParserConfigurationException, SAXException, IOException {
+		Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+				.parse(new InputSource(new StringReader(xml)));
+		int count = 0;
+		for (Node node = document.getDocumentElement().getFirstChild(); node != null; node = node.getNextSibling()) {
+			if (node instanceof Element && "view".equals(node.getNodeName())) {
+				Element child = (Element) node;
+				Node settings = child.getElementsByTagName("settings").item(0);
+				if (child.getAttributeNode("label") != null && settings.getFirstChild() != null) {
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+}
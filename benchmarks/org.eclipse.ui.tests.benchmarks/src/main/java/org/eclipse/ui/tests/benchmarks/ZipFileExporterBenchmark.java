@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.tests.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.ui.internal.wizards.datatransfer.ZipFileExporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of {@link ZipFileExporter} exporting files held in
+ * memory, compared with writing the same files sequentially with a
+ * {@link ZipOutputStream} as the exporter used to do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ZipFileExporterBenchmark {
+
+	private static final String[] WORDS = { "public", "class", "void", "return", "import", "final", "static",
+			"private", "int", "String", "new", "if", "else", "for", "while", "{", "}", ";", "\n" };
+
+	/**
+	 * The size of each file in kilobytes.
+	 */
+	@Param({ "4", "256", "4096" })
+	public int fileSize;
+
+	@Param({ "true", "false" })
+	public boolean compress;
+
+	private byte[][] contents;
+
+	private IFile[] files;
+
+	private Path archive;
+
+	@Setup
+	public void setUp() throws IOException {
+		// export about 64 MB per invocation
+		int count = Math.max(16, 64 * 1024 / fileSize);
+		Random random = new Random(fileSize);
+		contents = new byte[count][];
+		files = new IFile[count];
+		for (int i = 0; i < count; i++) {
+			StringBuilder text = new StringBuilder(fileSize * 1024);
+			while (text.length() < fileSize * 1024) {
+				text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+			}
+			contents[i] = text.substring(0, fileSize * 1024).getBytes(StandardCharsets.US_ASCII);
+			files[i] = createFile(contents[i]);
+		}
+		archive = Files.createTempFile("benchmark", ".zip");
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(archive);
+	}
+
+	/**
+	 * @return a file answering only the methods used by the exporter
+	 */
+	private static IFile createFile(byte[] content) {
+		long timeStamp = System.currentTimeMillis();
+		return (IFile) Proxy.newProxyInstance(IFile.class.getClassLoader(), new Class<?>[] { IFile.class },
+				(proxy, method, args) -> {
+					switch (method.getName()) {
+					case "getContents":
+						return new ByteArrayInputStream(content);
+					case "getLocalTimeStamp":
+						return timeStamp;
+					case "isLinked":
+						return false;
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					case "equals":
+						return proxy == args[0];
+					case "toString":
+						return "file";
+					default:
+						throw new UnsupportedOperationException(method.getName());
+					}
+				});
+	}
+
+	@Benchmark
+	public Path zipFileExporter() throws IOException, CoreException {
+		ZipFileExporter exporter = new ZipFileExporter(archive.toString(), compress, false);
+		for (int i = 0; i < files.length; i++) {
+			exporter.write(files[i], "folder/file" + i + ".txt");
+		}
+		exporter.finished();
+		return archive;
+	}
+
+	@Benchmark
+	public Path zipOutputStream() throws IOException {
+		try (OutputStream out = Files.newOutputStream(archive);
+				ZipOutputStream zip = new ZipOutputStream(out)) {
+			byte[] buffer = new byte[8192];
+			for (int i = 0; i < contents.length; i++) {
+				ZipEntry entry = new ZipEntry("folder/file" + i + ".txt");
+				if (!compress) {
+					// the size and CRC of stored entries must be known in
+					// advance, which required reading the files twice
+					entry.setMethod(ZipEntry.STORED);
+					entry.setSize(contents[i].length);
+					CRC32 crc = new CRC32();
+					try (InputStream in = new ByteArrayInputStream(contents[i])) {
+						int n;
+						while ((n = in.read(buffer)) > 0) {
+							crc.update(buffer, 0, n);
+						}
+					}
+					entry.setCrc(crc.getValue());
+				}
+				zip.putNextEntry(entry);
+				try (InputStream in = new ByteArrayInputStream(contents[i])) {
+					in.transferTo(zip);
+				}
+				zip.closeEntry();
+			}
+		}
+		return archive;
+	}
+}
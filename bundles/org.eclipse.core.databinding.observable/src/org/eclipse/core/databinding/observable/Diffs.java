@@ -32,12 +32,20 @@ import org.eclipse.core.databinding.observable.list.ListDiffEntry;
 import org.eclipse.core.databinding.observable.map.MapDiff;
 import org.eclipse.core.databinding.observable.set.SetDiff;
 import org.eclipse.core.databinding.observable.value.ValueDiff;
+import org.eclipse.core.internal.databinding.observable.ListDiffer;
 
 /**
  * @since 1.0
  *
  */
 public class Diffs {
+	/**
+	 * Lists with more elements than this (in total) are compared with
+	 * {@link ListDiffer}, smaller ones with the simple algorithm of this class
+	 * whose cost grows quadratically with the list size.
+	 */
+	private static final int LIST_DIFFER_THRESHOLD = 256;
+
 	private static final class UnmodifiableListDiff<E> extends ListDiff<E> {
 		private ListDiff<? extends E> toWrap;
 
@@ -228,6 +236,9 @@ public class Diffs {
 	 * @since 1.6
 	 */
 	public static <E> ListDiff<E> computeListDiff(List<? extends E> oldList, List<? extends E> newList) {
+		if (oldList.size() + newList.size() > LIST_DIFFER_THRESHOLD) {
+			return createListDiff(ListDiffer.<E>computeDifferences(oldList, newList));
+		}
 		List<ListDiffEntry<E>> diffEntries = new ArrayList<>();
 		createListDiffs(new ArrayList<>(oldList), newList, diffEntries);
 		return createListDiff(diffEntries);
@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.core.internal.databinding.observable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.list.ListDiffEntry;
+
+/**
+ * Computes the differences between two lists in O(N log N) time, intended for
+ * large lists where the simple algorithm of {@link Diffs} becomes quadratic.
+ * <p>
+ * Equal elements of the old and new list are paired up through a hash map (in
+ * list order for duplicates). The longest subsequence of pairs that keeps its
+ * relative order stays in place, all other pairs become moves, i.e. a removal
+ * followed by an addition of the same element, and all unpaired elements are
+ * removed or added. If the elements of the lists are distinct, the result
+ * contains the minimal number of entries.
+ * </p>
+ */
+public class ListDiffer {
+
+	private ListDiffer() {
+	}
+
+	/**
+	 * Returns the entries which transform the old list into the new list, in
+	 * the order they have to be applied.
+	 *
+	 * @param oldList
+	 *            the old list state
+	 * @param newList
+	 *            the new list state
+	 * @return the list diff entries
+	 */
+	public static <E> List<ListDiffEntry<E>> computeDifferences(List<? extends E> oldList,
+			List<? extends E> newList) {
+		List<ListDiffEntry<E>> entries = new ArrayList<>();
+
+		// common prefix and suffix stay in place
+		int start = 0;
+		int oldEnd = oldList.size();
+		int newEnd = newList.size();
+		while (start < oldEnd && start < newEnd && Objects.equals(oldList.get(start), newList.get(start))) {
+			start++;
+		}
+		while (oldEnd > start && newEnd > start
+				&& Objects.equals(oldList.get(oldEnd - 1), newList.get(newEnd - 1))) {
+			oldEnd--;
+			newEnd--;
+		}
+		int oldSize = oldEnd - start;
+		int newSize = newEnd - start;
+
+		// pair each new element with the first unpaired equal old element
+		Map<Object, ArrayDeque<Integer>> oldIndices = new HashMap<>();
+		for (int i = 0; i < oldSize; i++) {
+			oldIndices.computeIfAbsent(oldList.get(start + i), k -> new ArrayDeque<>()).add(i);
+		}
+		int[] newToOld = new int[newSize];
+		for (int i = 0; i < newSize; i++) {
+			ArrayDeque<Integer> indices = oldIndices.get(newList.get(start + i));
+			if (indices == null || indices.isEmpty()) {
+				newToOld[i] = -1;
+			} else {
+				newToOld[i] = indices.poll();
+			}
+		}
+
+		boolean[] stays = longestIncreasingSubsequence(newToOld, oldSize);
+
+		// The list always consists of the first position elements of the new
+		// list followed by the old elements which have not been handled yet,
+		// so the tree of the remaining old elements gives their position.
+		int[] tree = new int[oldSize + 1];
+		for (int i = 1; i <= oldSize; i++) {
+			tree[i]++;
+			int parent = i + (i & -i);
+			if (parent <= oldSize) {
+				tree[parent] += tree[i];
+			}
+		}
+		boolean[] removed = new boolean[oldSize];
+		int oldCursor = 0;
+		int position = start;
+		for (int i = 0; i < newSize; i++, position++) {
+			E newValue = newList.get(start + i);
+			int oldIndex = newToOld[i];
+			if (oldIndex == -1 || removed[oldIndex]) {
+				// new element or moved element that had to make room earlier
+				entries.add(Diffs.createListDiffEntry(position, true, newValue));
+			} else if (stays[oldIndex]) {
+				// remove everything in front of the element staying in place
+				for (; oldCursor < oldIndex; oldCursor++) {
+					if (!removed[oldCursor]) {
+						entries.add(Diffs.createListDiffEntry(position, false, oldList.get(start + oldCursor)));
+						removed[oldCursor] = true;
+						remove(tree, oldCursor);
+					}
+				}
+				oldCursor++;
+				removed[oldIndex] = true;
+				remove(tree, oldIndex);
+			} else {
+				// move the element from its current position
+				int oldPosition = position + count(tree, oldIndex);
+				entries.add(Diffs.createListDiffEntry(oldPosition, false, oldList.get(start + oldIndex)));
+				entries.add(Diffs.createListDiffEntry(position, true, newValue));
+				removed[oldIndex] = true;
+				remove(tree, oldIndex);
+			}
+		}
+		for (; oldCursor < oldSize; oldCursor++) {
+			if (!removed[oldCursor]) {
+				entries.add(Diffs.createListDiffEntry(position, false, oldList.get(start + oldCursor)));
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Returns which of the old indices (ignoring -1) form a longest increasing
+	 * subsequence of the given array.
+	 */
+	private static boolean[] longestIncreasingSubsequence(int[] values, int maxValue) {
+		// tails[k] is the index of the smallest value ending an increasing
+		// subsequence of length k + 1
+		int[] tails = new int[values.length];
+		int[] predecessors = new int[values.length];
+		int length = 0;
+		for (int i = 0; i < values.length; i++) {
+			int value = values[i];
+			if (value == -1) {
+				continue;
+			}
+			int low = 0;
+			int high = length;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (values[tails[middle]] < value) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			predecessors[i] = low > 0 ? tails[low - 1] : -1;
+			tails[low] = i;
+			if (low == length) {
+				length++;
+			}
+		}
+		boolean[] result = new boolean[maxValue];
+		for (int i = length > 0 ? tails[length - 1] : -1; i != -1; i = predecessors[i]) {
+			result[values[i]] = true;
+		}
+		return result;
+	}
+
+	/**
+	 * Marks the element at the given index of a binary indexed tree as
+	 * handled.
+	 */
+	private static void remove(int[] tree, int index) {
+		for (int i = index + 1; i < tree.length; i += i & -i) {
+			tree[i]--;
+		}
+	}
+
+	/**
+	 * Returns the number of unhandled elements before the given index of a
+	 * binary indexed tree.
+	 */
+	private static int count(int[] tree, int index) {
+		int count = 0;
+		for (int i = index; i > 0; i -= i & -i) {
+			count += tree[i];
+		}
+		return count;
+	}
+}
@@ -0,0 +1,306 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.e4.ui.css.core.impl.dom;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.eclipse.e4.ui.css.core.dom.CSSStylableElement;
+import org.eclipse.e4.ui.css.core.dom.ExtendedCSSRule;
+import org.eclipse.e4.ui.css.core.impl.sac.AbstractCombinatorCondition;
+import org.eclipse.e4.ui.css.core.impl.sac.AbstractDescendantSelector;
+import org.eclipse.e4.ui.css.core.impl.sac.AbstractSiblingSelector;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSAndConditionImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSClassConditionImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSConditionalSelectorImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSElementSelectorImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSIdConditionImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.ExtendedSelector;
+import org.w3c.css.sac.AttributeCondition;
+import org.w3c.css.sac.Condition;
+import org.w3c.css.sac.ElementSelector;
+import org.w3c.css.sac.Selector;
+import org.w3c.css.sac.SelectorList;
+import org.w3c.dom.Element;
+import org.w3c.dom.css.CSSRule;
+import org.w3c.dom.css.CSSStyleRule;
+
+/**
+ * The selectors of a list of CSS rules bucketed by the key of their rightmost
+ * simple selector: the id, a CSS class, the element type or none of them
+ * (universal). An element can only be matched by the selectors of the buckets
+ * of its own id, classes and type and by the universal ones, so only these
+ * have to be tested.
+ */
+final class CSSRuleIndex {
+
+	/**
+	 * A selector of a style rule together with its position in the rule list.
+	 */
+	static final class Entry {
+
+		final int index;
+
+		final CSSStyleRule rule;
+
+		final ExtendedSelector selector;
+
+		/**
+		 * Whether the selector only depends on the type, id and classes of the
+		 * element, see {@link #isContextFree(Selector)}.
+		 */
+		final boolean contextFree;
+
+		Entry(int index, CSSStyleRule rule, ExtendedSelector selector) {
+			this.index = index;
+			this.rule = rule;
+			this.selector = selector;
+			this.contextFree = isContextFree(selector);
+		}
+	}
+
+	private final Map<String, List<Entry>> entriesById = new HashMap<>();
+
+	private final Map<String, List<Entry>> entriesByClass = new HashMap<>();
+
+	private final Map<String, List<Entry>> entriesByType = new HashMap<>();
+
+	private final List<Entry> universalEntries = new ArrayList<>();
+
+	CSSRuleIndex(List<CSSRule> rules) {
+		int index = 0;
+		for (CSSRule rule : rules) {
+			if (rule.getType() != CSSRule.STYLE_RULE || (!(rule instanceof ExtendedCSSRule))) {
+				continue; // we only handle the CSSRule.STYLE_RULE and ExtendedCSSRule case
+			}
+			SelectorList selectorList = ((ExtendedCSSRule) rule).getSelectorList();
+			int l = selectorList.getLength();
+			for (int j = 0; j < l; j++) {
+				Selector selector = selectorList.item(j);
+				if (selector instanceof ExtendedSelector) {
+					add(new Entry(index++, (CSSStyleRule) rule, (ExtendedSelector) selector));
+				}
+			}
+		}
+	}
+
+	private void add(Entry entry) {
+		Selector simpleSelector = getRightmostSelector(entry.selector);
+		if (simpleSelector instanceof CSSConditionalSelectorImpl) {
+			CSSConditionalSelectorImpl conditionalSelector = (CSSConditionalSelectorImpl) simpleSelector;
+			String id = findConditionValue(conditionalSelector.getCondition(), CSSIdConditionImpl.class);
+			if (id != null) {
+				entriesById.computeIfAbsent(id, k -> new ArrayList<>()).add(entry);
+				return;
+			}
+			String cssClass = findConditionValue(conditionalSelector.getCondition(), CSSClassConditionImpl.class);
+			if (cssClass != null) {
+				entriesByClass.computeIfAbsent(cssClass, k -> new ArrayList<>()).add(entry);
+				return;
+			}
+			simpleSelector = conditionalSelector.getSimpleSelector();
+		}
+		if (simpleSelector instanceof CSSElementSelectorImpl) {
+			String type = ((ElementSelector) simpleSelector).getLocalName();
+			if (type != null) {
+				entriesByType.computeIfAbsent(type, k -> new ArrayList<>()).add(entry);
+				return;
+			}
+		}
+		universalEntries.add(entry);
+	}
+
+	/**
+	 * Return the selector that has to match the element itself.
+	 */
+	private static Selector getRightmostSelector(Selector selector) {
+		Selector current = selector;
+		while (true) {
+			if (current instanceof AbstractDescendantSelector) {
+				current = ((AbstractDescendantSelector) current).getSimpleSelector();
+			} else if (current instanceof AbstractSiblingSelector) {
+				current = ((AbstractSiblingSelector) current).getSiblingSelector();
+			} else {
+				return current;
+			}
+		}
+	}
+
+	/**
+	 * Return the value of a condition of the given type that is required by the
+	 * given condition or <code>null</code> if there is none.
+	 */
+	private static String findConditionValue(Condition condition, Class<? extends AttributeCondition> type) {
+		if (condition.getClass() == type) {
+			return ((AttributeCondition) condition).getValue();
+		}
+		if (condition instanceof CSSAndConditionImpl) {
+			AbstractCombinatorCondition andCondition = (AbstractCombinatorCondition) condition;
+			String value = findConditionValue(andCondition.getFirstCondition(), type);
+			return value != null ? value : findConditionValue(andCondition.getSecondCondition(), type);
+		}
+		return null;
+	}
+
+	/**
+	 * A selector is context free if it consists of a type (or universal) selector
+	 * with any number of id and class conditions. Whether it matches an element
+	 * does not depend on the element's ancestors, siblings, attributes or state.
+	 */
+	private static boolean isContextFree(Selector selector) {
+		if (selector instanceof CSSConditionalSelectorImpl) {
+			CSSConditionalSelectorImpl conditionalSelector = (CSSConditionalSelectorImpl) selector;
+			return isContextFree(conditionalSelector.getSimpleSelector())
+					&& isContextFree(conditionalSelector.getCondition());
+		}
+		return selector.getClass() == CSSElementSelectorImpl.class
+				&& ((ElementSelector) selector).getNamespaceURI() == null;
+	}
+
+	private static boolean isContextFree(Condition condition) {
+		if (condition.getClass() == CSSIdConditionImpl.class || condition.getClass() == CSSClassConditionImpl.class) {
+			return true;
+		}
+		if (condition.getClass() == CSSAndConditionImpl.class) {
+			AbstractCombinatorCondition andCondition = (AbstractCombinatorCondition) condition;
+			return isContextFree(andCondition.getFirstCondition()) && isContextFree(andCondition.getSecondCondition());
+		}
+		return false;
+	}
+
+	/**
+	 * Return the entries which may match the given element in the order of the
+	 * rule list.
+	 */
+	List<Entry> getCandidates(Element elt) {
+		List<List<Entry>> buckets = new ArrayList<>(4);
+		addBucket(buckets, entriesById.get(getId(elt)));
+		for (String cssClass : getClasses(elt)) {
+			addBucket(buckets, entriesByClass.get(cssClass));
+		}
+		addBucket(buckets, entriesByType.get(getType(elt)));
+		addBucket(buckets, universalEntries);
+
+		if (buckets.isEmpty()) {
+			return Collections.emptyList();
+		}
+		if (buckets.size() == 1) {
+			return buckets.get(0);
+		}
+		List<Entry> candidates = new ArrayList<>();
+		for (List<Entry> bucket : buckets) {
+			candidates.addAll(bucket);
+		}
+		candidates.sort((e1, e2) -> Integer.compare(e1.index, e2.index));
+		return candidates;
+	}
+
+	private static void addBucket(List<List<Entry>> buckets, List<Entry> bucket) {
+		if (bucket != null && !bucket.isEmpty()) {
+			buckets.add(bucket);
+		}
+	}
+
+	/**
+	 * Return a key identifying all elements which are matched by the same
+	 * selectors as the given element, or <code>null</code> if the selectors
+	 * matching the element depend on more than its type, id and classes.
+	 *
+	 * @param candidates the candidates of the element, see
+	 *                   {@link #getCandidates(Element)}
+	 */
+	Object getStyleKey(List<Entry> candidates, Element elt, String pseudoElt) {
+		for (Entry entry : candidates) {
+			if (!entry.contextFree) {
+				return null;
+			}
+		}
+		return new StyleKey(getType(elt), getId(elt), getClasses(elt), pseudoElt);
+	}
+
+	private static String getType(Element elt) {
+		return elt.getPrefix() == null ? elt.getNodeName() : elt.getLocalName();
+	}
+
+	private static String getId(Element elt) {
+		if (elt instanceof CSSStylableElement) {
+			return ((CSSStylableElement) elt).getCSSId();
+		}
+		return elt.getAttribute("id");
+	}
+
+	private static Set<String> getClasses(Element elt) {
+		String attr;
+		if (elt instanceof CSSStylableElement) {
+			attr = ((CSSStylableElement) elt).getCSSClass();
+		} else {
+			attr = elt.getAttribute("class");
+		}
+		if (attr == null || attr.isEmpty()) {
+			return Collections.emptySet();
+		}
+		// split like CSSClassConditionImpl matches
+		Set<String> classes = new LinkedHashSet<>();
+		int start = -1;
+		for (int i = 0; i <= attr.length(); i++) {
+			if (i == attr.length() || Character.isSpaceChar(attr.charAt(i))) {
+				if (start != -1) {
+					classes.add(attr.substring(start, i));
+					start = -1;
+				}
+			} else if (start == -1) {
+				start = i;
+			}
+		}
+		return classes;
+	}
+
+	private static final class StyleKey {
+
+		private final String type;
+
+		private final String id;
+
+		private final Set<String> classes;
+
+		private final String pseudoElt;
+
+		StyleKey(String type, String id, Set<String> classes, String pseudoElt) {
+			this.type = type;
+			this.id = id;
+			this.classes = classes;
+			this.pseudoElt = pseudoElt;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(type, id, classes, pseudoElt);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof StyleKey)) {
+				return false;
+			}
+			StyleKey other = (StyleKey) obj;
+			return Objects.equals(type, other.type) && Objects.equals(id, other.id)
+					&& classes.equals(other.classes) && Objects.equals(pseudoElt, other.pseudoElt);
+		}
+	}
+}
@@ -19,17 +19,14 @@ package org.eclipse.e4.ui.css.core.impl.dom;
 
 import java.util.ArrayList;
 import java.util.List;
-import org.eclipse.e4.ui.css.core.dom.ExtendedCSSRule;
+import java.util.Map;
 import org.eclipse.e4.ui.css.core.dom.ExtendedDocumentCSS;
 import org.eclipse.e4.ui.css.core.impl.sac.ExtendedSelector;
-import org.w3c.css.sac.Selector;
-import org.w3c.css.sac.SelectorList;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.css.CSSRule;
 import org.w3c.dom.css.CSSRuleList;
 import org.w3c.dom.css.CSSStyleDeclaration;
-import org.w3c.dom.css.CSSStyleRule;
 import org.w3c.dom.css.CSSStyleSheet;
 import org.w3c.dom.css.DocumentCSS;
 import org.w3c.dom.css.ViewCSS;
@@ -47,6 +44,10 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 	private boolean ruleCachingEnabled;
 	/** Cached state of combined CSS rules for the current stylesheets */
 	private List<CSSRule> currentCombinedRules;
+	/** Cached index of the selectors of {@link #currentIndexedRules} */
+	private CSSRuleIndex currentRuleIndex;
+	/** The rules indexed by {@link #currentRuleIndex} */
+	private List<CSSRule> currentIndexedRules;
 
 	/**
 	 * Creates a new ViewCSS.
@@ -73,7 +74,75 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 	 */
 	@Override
 	public CSSStyleDeclaration getComputedStyle(Element elt, String pseudoElt) {
-		return getComputedStyle(getCombinedRules(), elt, pseudoElt);
+		return getComputedStyle(getRuleIndex().getCandidates(elt), elt, pseudoElt);
+	}
+
+	/**
+	 * Determines the relevant style declaration for an DOM element, reusing the
+	 * style computed for an element with the same type, id, CSS classes and
+	 * pseudo element if the style does not depend on anything else.
+	 *
+	 * @param styleCache the styles computed so far by
+	 *                   {@link #getComputedStyleKey(Element, String)}, must be
+	 *                   cleared when the stylesheets change
+	 */
+	public CSSStyleDeclaration getComputedStyle(Element elt, String pseudoElt,
+			Map<Object, CSSStyleDeclaration> styleCache) {
+		CSSRuleIndex ruleIndex = getRuleIndex();
+		List<CSSRuleIndex.Entry> candidates = ruleIndex.getCandidates(elt);
+		Object key = ruleIndex.getStyleKey(candidates, elt, pseudoElt);
+		if (key == null) {
+			return getComputedStyle(candidates, elt, pseudoElt);
+		}
+		CSSStyleDeclaration style = styleCache.get(key);
+		if (style == null && !styleCache.containsKey(key)) {
+			style = getComputedStyle(candidates, elt, pseudoElt);
+			styleCache.put(key, style);
+		}
+		return style;
+	}
+
+	/**
+	 * Returns a key for the computed style of the given element. Elements with
+	 * equal keys have the same computed style as long as the stylesheets do not
+	 * change.
+	 *
+	 * @return the key or <code>null</code> if the computed style of the element
+	 *         depends on more than its type, id, CSS classes and the pseudo
+	 *         element, e.g. on its parents or its state
+	 */
+	public Object getComputedStyleKey(Element elt, String pseudoElt) {
+		CSSRuleIndex ruleIndex = getRuleIndex();
+		return ruleIndex.getStyleKey(ruleIndex.getCandidates(elt), elt, pseudoElt);
+	}
+
+	/**
+	 * Returns the index of the current rules. It is only rebuilt when the rules
+	 * change, also when rule caching is disabled because the stylesheets do not
+	 * notify about changes: the rules are then compared to the indexed ones.
+	 */
+	private CSSRuleIndex getRuleIndex() {
+		List<CSSRule> rules = getCombinedRules();
+		if (this.currentRuleIndex == null || !isSameRules(rules, this.currentIndexedRules)) {
+			this.currentRuleIndex = new CSSRuleIndex(rules);
+			this.currentIndexedRules = rules;
+		}
+		return this.currentRuleIndex;
+	}
+
+	private static boolean isSameRules(List<CSSRule> rules, List<CSSRule> otherRules) {
+		if (rules == otherRules) {
+			return true;
+		}
+		if (otherRules == null || rules.size() != otherRules.size()) {
+			return false;
+		}
+		for (int i = 0; i < rules.size(); i++) {
+			if (rules.get(i) != otherRules.get(i)) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	/**
@@ -111,7 +180,7 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 		return cssRules;
 	}
 
-	private CSSStyleDeclaration getComputedStyle(List<CSSRule> ruleList, Element elt, String pseudoElt) {
+	private CSSStyleDeclaration getComputedStyle(List<CSSRuleIndex.Entry> candidates, Element elt, String pseudoElt) {
 		Node parent = elt.getParentNode();
 
 		Node[] hierarchy = null;
@@ -126,35 +195,22 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 		List<StyleWrapper> styleDeclarations = null;
 		StyleWrapper firstStyleDeclaration = null;
 		int position = 0;
-		for (CSSRule rule : ruleList) {
-			if (rule.getType() != CSSRule.STYLE_RULE || (!(rule instanceof ExtendedCSSRule)) ) {
-				continue; // we only handle the CSSRule.STYLE_RULE and ExtendedCSSRule case
-			}
-			CSSStyleRule styleRule = (CSSStyleRule) rule;
-			ExtendedCSSRule r = (ExtendedCSSRule) rule;
-			SelectorList selectorList = r.getSelectorList();
-			// Loop for SelectorList
-			int l = selectorList.getLength();
-			for (int j = 0; j < l; j++) {
-				Selector selector = selectorList.item(j);
-				if (selector instanceof ExtendedSelector) {
-					ExtendedSelector extendedSelector = (ExtendedSelector) selector;
-					if (extendedSelector.match(elt, hierarchy, 0, pseudoElt)) {
-						CSSStyleDeclaration style = styleRule.getStyle();
-						int specificity = extendedSelector.getSpecificity();
-						StyleWrapper wrapper = new StyleWrapper(style, specificity, position++);
-						if (firstStyleDeclaration == null) {
-							firstStyleDeclaration = wrapper;
-						} else {
-							// There is several Style Declarations which
-							// match the current element
-							if (styleDeclarations == null) {
-								styleDeclarations = new ArrayList<>();
-								styleDeclarations.add(firstStyleDeclaration);
-							}
-							styleDeclarations.add(wrapper);
-						}
+		for (CSSRuleIndex.Entry entry : candidates) {
+			ExtendedSelector extendedSelector = entry.selector;
+			if (extendedSelector.match(elt, hierarchy, 0, pseudoElt)) {
+				CSSStyleDeclaration style = entry.rule.getStyle();
+				int specificity = extendedSelector.getSpecificity();
+				StyleWrapper wrapper = new StyleWrapper(style, specificity, position++);
+				if (firstStyleDeclaration == null) {
+					firstStyleDeclaration = wrapper;
+				} else {
+					// There is several Style Declarations which
+					// match the current element
+					if (styleDeclarations == null) {
+						styleDeclarations = new ArrayList<>();
+						styleDeclarations.add(firstStyleDeclaration);
 					}
+					styleDeclarations.add(wrapper);
 				}
 			}
 		}
@@ -172,10 +228,14 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 	@Override
 	public void styleSheetAdded(StyleSheet styleSheet) {
 		currentCombinedRules = null;
+		currentRuleIndex = null;
+		currentIndexedRules = null;
 	}
 
 	@Override
 	public void styleSheetRemoved(StyleSheet styleSheet) {
 		currentCombinedRules = null;
+		currentRuleIndex = null;
+		currentIndexedRules = null;
 	}
 }
@@ -122,6 +122,13 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 	 */
 	private ViewCSS viewCSS;
 
+	/**
+	 * Computed styles of elements whose style only depends on their type, id and
+	 * CSS classes, keyed by {@link ViewCSSImpl#getComputedStyleKey(Element, String)}.
+	 * Cleared whenever a style sheet is added or removed.
+	 */
+	private final Map<Object, CSSStyleDeclaration> computedStyleCache = new HashMap<>();
+
 	/**
 	 * {@link IElementProvider} used to retrieve w3c Element linked to the
 	 * widget.
@@ -165,6 +172,17 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 	public AbstractCSSEngine(ExtendedDocumentCSS documentCSS) {
 		this.documentCSS = documentCSS;
 		this.viewCSS = new ViewCSSImpl(documentCSS);
+		documentCSS.addStyleSheetChangeListener(new ExtendedDocumentCSS.StyleSheetChangeListener() {
+			@Override
+			public void styleSheetAdded(StyleSheet styleSheet) {
+				computedStyleCache.clear();
+			}
+
+			@Override
+			public void styleSheetRemoved(StyleSheet styleSheet) {
+				computedStyleCache.clear();
+			}
+		});
 		keyFactory = new ResourceRegistryKeyFactory();
 	}
 
@@ -384,7 +402,7 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 		/*
 		 * Compute new Style to apply.
 		 */
-		CSSStyleDeclaration style = viewCSS.getComputedStyle(elt, null);
+		CSSStyleDeclaration style = getComputedStyle(elt, null);
 		if (computeDefaultStyle) {
 			if (applyStylesToChildNodes) {
 				this.computeDefaultStyle = computeDefaultStyle;
@@ -403,7 +421,7 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 			// there are static pseudo instances defined, loop for it and
 			// apply styles for each pseudo instance.
 			for (String pseudoInstance : pseudoInstances) {
-				CSSStyleDeclaration styleWithPseudoInstance = viewCSS.getComputedStyle(elt, pseudoInstance);
+				CSSStyleDeclaration styleWithPseudoInstance = getComputedStyle(elt, pseudoInstance);
 				if (computeDefaultStyle) {
 					/*
 					 * Apply default style for the current pseudo instance.
@@ -446,6 +464,18 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 		}
 	}
 
+	/**
+	 * Return the computed style of the element, reusing the style computed for
+	 * an element with the same type, id and CSS classes if the style does not
+	 * depend on anything else.
+	 */
+	private CSSStyleDeclaration getComputedStyle(Element elt, String pseudoInstance) {
+		if (!(viewCSS instanceof ViewCSSImpl)) {
+			return viewCSS.getComputedStyle(elt, pseudoInstance);
+		}
+		return ((ViewCSSImpl) viewCSS).getComputedStyle(elt, pseudoInstance, computedStyleCache);
+	}
+
 	/**
 	 * Allow the CSS engine to skip particular elements if they are not visible.
 	 * Elements need to be restyled when they become visible.
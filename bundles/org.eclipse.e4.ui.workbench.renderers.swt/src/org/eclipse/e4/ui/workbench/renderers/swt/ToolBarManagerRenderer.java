@@ -95,8 +95,6 @@ import org.osgi.service.event.Event;
  */
 public class ToolBarManagerRenderer extends SWTPartRenderer {
 
-	private static final Selector ALL_SELECTOR = element -> true;
-
 	/**	 */
 	public static final String POST_PROCESSING_FUNCTION = "ToolBarManagerRenderer.postProcess.func"; //$NON-NLS-1$
 	/**	 */
@@ -293,7 +291,21 @@ public class ToolBarManagerRenderer extends SWTPartRenderer {
 	@Inject
 	@Optional
 	private void subscribeTopicDirtyChanged(@UIEventTopic(UIEvents.Dirtyable.TOPIC_DIRTY) Event eventData) {
-		getUpdater().updateContributionItems(ALL_SELECTOR);
+		getUpdater().updateAllContributionItems();
+	}
+
+	@Inject
+	@Optional
+	private void subscribeTopicWbCommandChanged(@UIEventTopic(UIEvents.HandledItem.TOPIC_WBCOMMAND) Event event) {
+		// Ensure that this event is for a MToolBarElement
+		if (!(event.getProperty(UIEvents.EventTags.ELEMENT) instanceof MToolBarElement)) {
+			return;
+		}
+
+		IContributionItem ici = getContribution((MToolBarElement) event.getProperty(UIEvents.EventTags.ELEMENT));
+		if (ici instanceof AbstractContributionItem) {
+			getUpdater().updateItemCommand((AbstractContributionItem) ici);
+		}
 	}
 
 	@Inject
@@ -305,7 +317,8 @@ public class ToolBarManagerRenderer extends SWTPartRenderer {
 		if (v instanceof Selector) {
 			s = (Selector) v;
 		} else if (v == null || UIEvents.ALL_ELEMENT_ID.equals(v)) {
-			s = ALL_SELECTOR;
+			getUpdater().updateAllContributionItems();
+			return;
 		} else {
 			s = element -> v.equals(element.getElementId());
 		}
@@ -357,7 +370,7 @@ public class ToolBarManagerRenderer extends SWTPartRenderer {
 	public void init() {
 		context.set(ToolBarManagerRenderer.class, this);
 		Throttler throttler = new Throttler(Display.getDefault(), Duration.ofMillis(200),
-				() -> getUpdater().updateContributionItems(ALL_SELECTOR));
+				() -> getUpdater().updateAllContributionItems());
 
 		String[] vars = {
 				"org.eclipse.ui.internal.services.EvaluationService.evaluate", //$NON-NLS-1$
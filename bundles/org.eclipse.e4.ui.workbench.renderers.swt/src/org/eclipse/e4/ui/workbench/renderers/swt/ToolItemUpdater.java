@@ -15,19 +15,60 @@
 package org.eclipse.e4.ui.workbench.renderers.swt;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
-import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
+import org.eclipse.core.commands.Command;
+import org.eclipse.core.commands.CommandEvent;
+import org.eclipse.core.commands.ICommandListener;
+import org.eclipse.core.commands.ParameterizedCommand;
+import org.eclipse.e4.ui.internal.workbench.swt.Policy;
+import org.eclipse.e4.ui.internal.workbench.swt.WorkbenchSWTActivator;
+import org.eclipse.e4.ui.model.application.ui.menu.MHandledItem;
+import org.eclipse.e4.ui.model.application.ui.menu.MItem;
 import org.eclipse.e4.ui.workbench.Selector;
 import org.eclipse.swt.widgets.Display;
 
+/**
+ * Updates the enablement of the registered tool items in batches, shortly
+ * after an update has been requested.
+ * <p>
+ * Handled tool items are indexed by the id of their command. When the
+ * enablement or the handler of a command changes, only the items of this
+ * command are updated. A request to update all items updates the items without
+ * a command, and the items of the commands whose enablement changed since the
+ * last request. Items are indexed again when their command changes, see
+ * {@link #updateItemCommand(AbstractContributionItem)}.
+ * </p>
+ */
 public class ToolItemUpdater implements Runnable {
 
 	private static int DELAY = 100;
 	private long timestampOfEarliestQueuedUpdate = 0;
-	private List<AbstractContributionItem> itemsToCheck = new ArrayList<>();
-	private final List<AbstractContributionItem> orphanedToolItems = new ArrayList<>();
+
+	/**
+	 * The registered items mapped to the id of their command, or to
+	 * <code>null</code> for items without command.
+	 */
+	private final Map<AbstractContributionItem, String> itemsToCheck = new LinkedHashMap<>();
+	private final Map<String, Set<AbstractContributionItem>> itemsByCommandId = new HashMap<>();
+	private final Map<String, Command> commandsById = new HashMap<>();
+	private final Set<AbstractContributionItem> itemsWithoutCommand = new LinkedHashSet<>();
+	/** The enablement of the indexed commands when all items were last updated. */
+	private final Map<String, Boolean> commandEnablement = new HashMap<>();
 	private final Set<AbstractContributionItem> itemsToUpdateLater = new LinkedHashSet<>();
+	private final ICommandListener commandListener = this::commandChanged;
+	private boolean updating;
+
+	private long updateCount;
+	private long checkedItemCount;
+	private long evaluatedItemCount;
+	private int lastEvaluatedItemCount;
 
 	public ToolItemUpdater() {
 		String delayProperty = System.getProperty("ToolItemUpdaterDelayInMs"); //$NON-NLS-1$
@@ -37,54 +78,243 @@ public class ToolItemUpdater implements Runnable {
 	}
 
 	void registerItem(AbstractContributionItem item) {
-		if (!itemsToCheck.contains(item)) {
-			itemsToCheck.add(item);
+		if (itemsToCheck.containsKey(item)) {
+			return;
 		}
+		index(item);
 	}
 
 	void removeItem(AbstractContributionItem item) {
-		itemsToCheck.remove(item);
+		if (itemsToCheck.containsKey(item)) {
+			unindex(item, itemsToCheck.remove(item));
+		}
+	}
+
+	/**
+	 * Indexes the registered item again if the command of its model changed.
+	 *
+	 * @param item
+	 *            the item
+	 */
+	void updateItemCommand(AbstractContributionItem item) {
+		if (!itemsToCheck.containsKey(item)) {
+			return;
+		}
+		Command command = getCommand(item.getModel());
+		String commandId = command != null ? command.getId() : null;
+		if (!Objects.equals(commandId, itemsToCheck.get(item))) {
+			unindex(item, itemsToCheck.remove(item));
+			index(item);
+		}
+	}
+
+	private void index(AbstractContributionItem item) {
+		Command command = getCommand(item.getModel());
+		if (command == null) {
+			itemsToCheck.put(item, null);
+			itemsWithoutCommand.add(item);
+			return;
+		}
+		String commandId = command.getId();
+		itemsToCheck.put(item, commandId);
+		itemsByCommandId.computeIfAbsent(commandId, id -> {
+			commandsById.put(id, command);
+			command.addCommandListener(commandListener);
+			return new LinkedHashSet<>();
+		}).add(item);
+	}
+
+	private void unindex(AbstractContributionItem item, String commandId) {
+		if (commandId == null) {
+			itemsWithoutCommand.remove(item);
+			return;
+		}
+		Set<AbstractContributionItem> items = itemsByCommandId.get(commandId);
+		if (items != null && items.remove(item) && items.isEmpty()) {
+			itemsByCommandId.remove(commandId);
+			commandEnablement.remove(commandId);
+			commandsById.remove(commandId).removeCommandListener(commandListener);
+		}
+	}
+
+	private static Command getCommand(MItem model) {
+		if (model instanceof MHandledItem) {
+			ParameterizedCommand command = ((MHandledItem) model).getWbCommand();
+			if (command != null) {
+				return command.getCommand();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Updates the items after a change which may affect the enablement of any
+	 * of them. The items of a command are only updated if the enablement of the
+	 * command changed since the last call, other changes of a command are
+	 * notified by the command itself.
+	 */
+	public void updateAllContributionItems() {
+		boolean queued = false;
+		for (AbstractContributionItem ci : itemsWithoutCommand.toArray(new AbstractContributionItem[0])) {
+			if (isOrphaned(ci)) {
+				removeItem(ci);
+				continue;
+			}
+			// the command may have been created since the item was registered
+			updateItemCommand(ci);
+			if (itemsToCheck.get(ci) == null) {
+				checkedItemCount++;
+				itemsToUpdateLater.add(ci);
+				queued = true;
+			}
+		}
+		if (queued) {
+			scheduleUpdate();
+		}
+		for (Entry<String, Command> entry : new ArrayList<>(commandsById.entrySet())) {
+			Boolean enabled = Boolean.valueOf(entry.getValue().isEnabled());
+			if (!enabled.equals(commandEnablement.put(entry.getKey(), enabled))) {
+				updateContributionItems(entry.getKey());
+			}
+		}
 	}
 
 	public void updateContributionItems(Selector selector) {
-		boolean doRunNow = false;
-		for (final AbstractContributionItem ci : itemsToCheck) {
-			if (ci.getModel() != null && ci.getModel().getParent() != null) {
-				if (selector.select(ci.getModel())) {
-					itemsToUpdateLater.add(ci);
-					if (timestampOfEarliestQueuedUpdate == 0) {
-						timestampOfEarliestQueuedUpdate = System.nanoTime();
-					}
-					if (System.nanoTime() - timestampOfEarliestQueuedUpdate > DELAY * 1_000_000) {
-						// runnable was not called within the last DELAY milliseconds, do it now.
-						// For scenario: a plugin is forcing that updateContributionItems is called
-						// again and again in less than given DELAY frequency. TimerExec would then
-						// never be executed.
-						doRunNow = true;
-					} else {
-						Display.getDefault().timerExec(DELAY, this);
-					}
-				}
-			} else {
-				orphanedToolItems.add(ci);
+		boolean queued = false;
+		for (Iterator<Entry<AbstractContributionItem, String>> it = itemsToCheck.entrySet().iterator(); it
+				.hasNext();) {
+			Entry<AbstractContributionItem, String> entry = it.next();
+			final AbstractContributionItem ci = entry.getKey();
+			if (isOrphaned(ci)) {
+				it.remove();
+				unindex(ci, entry.getValue());
+				continue;
+			}
+			checkedItemCount++;
+			if (selector.select(ci.getModel())) {
+				itemsToUpdateLater.add(ci);
+				queued = true;
 			}
 		}
-		if (!orphanedToolItems.isEmpty()) {
-			itemsToCheck.removeAll(orphanedToolItems);
-			orphanedToolItems.clear();
+		if (queued) {
+			scheduleUpdate();
 		}
-		if (doRunNow) {
+	}
+
+	/**
+	 * Updates the enablement of the items of the given command only.
+	 *
+	 * @param commandId
+	 *            the id of the command
+	 */
+	public void updateContributionItems(String commandId) {
+		Set<AbstractContributionItem> items = itemsByCommandId.get(commandId);
+		if (items == null) {
+			return;
+		}
+		boolean queued = false;
+		for (AbstractContributionItem ci : items.toArray(new AbstractContributionItem[items.size()])) {
+			if (isOrphaned(ci)) {
+				removeItem(ci);
+				continue;
+			}
+			checkedItemCount++;
+			itemsToUpdateLater.add(ci);
+			queued = true;
+		}
+		if (queued) {
+			scheduleUpdate();
+		}
+	}
+
+	private static boolean isOrphaned(AbstractContributionItem ci) {
+		return ci.getModel() == null || ci.getModel().getParent() == null;
+	}
+
+	private void scheduleUpdate() {
+		if (timestampOfEarliestQueuedUpdate == 0) {
+			timestampOfEarliestQueuedUpdate = System.nanoTime();
+		}
+		if (System.nanoTime() - timestampOfEarliestQueuedUpdate > DELAY * 1_000_000) {
+			// runnable was not called within the last DELAY milliseconds, do it now.
+			// For scenario: a plugin is forcing that updateContributionItems is called
+			// again and again in less than given DELAY frequency. TimerExec would then
+			// never be executed.
 			run();
+		} else {
+			Display.getDefault().timerExec(DELAY, this);
+		}
+	}
+
+	private void commandChanged(CommandEvent event) {
+		// the evaluation of the enablement notifies about the new state itself
+		if (updating || !(event.isEnabledChanged() || event.isHandledChanged())) {
+			return;
+		}
+		String commandId = event.getCommand().getId();
+		if (Display.getCurrent() != null) {
+			commandChanged(commandId);
+		} else {
+			Display.getDefault().asyncExec(() -> commandChanged(commandId));
 		}
 	}
 
+	private void commandChanged(String commandId) {
+		Command command = commandsById.get(commandId);
+		if (command != null) {
+			commandEnablement.put(commandId, Boolean.valueOf(command.isEnabled()));
+		}
+		updateContributionItems(commandId);
+	}
+
 	@Override
 	public void run() {
 		timestampOfEarliestQueuedUpdate = 0;
 		AbstractContributionItem[] copy = itemsToUpdateLater.toArray(new AbstractContributionItem[] {});
 		itemsToUpdateLater.clear();
-		for (AbstractContributionItem it : copy) {
-			it.updateItemEnablement();
+		updating = true;
+		try {
+			for (AbstractContributionItem it : copy) {
+				it.updateItemEnablement();
+			}
+		} finally {
+			updating = false;
 		}
+		updateCount++;
+		evaluatedItemCount += copy.length;
+		lastEvaluatedItemCount = copy.length;
+		if (Policy.DEBUG_RENDERER) {
+			WorkbenchSWTActivator.trace(Policy.DEBUG_RENDERER_FLAG, "ToolItemUpdater: evaluated " + copy.length //$NON-NLS-1$
+					+ " of " + itemsToCheck.size() + " tool items", null); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * @return the number of enablement updates done so far
+	 */
+	public long getUpdateCount() {
+		return updateCount;
+	}
+
+	/**
+	 * @return the number of items checked for an update request so far
+	 */
+	public long getCheckedItemCount() {
+		return checkedItemCount;
+	}
+
+	/**
+	 * @return the number of items whose enablement has been evaluated so far
+	 */
+	public long getEvaluatedItemCount() {
+		return evaluatedItemCount;
+	}
+
+	/**
+	 * @return the number of items whose enablement has been evaluated by the last
+	 *         update
+	 */
+	public int getLastEvaluatedItemCount() {
+		return lastEvaluatedItemCount;
 	}
 }
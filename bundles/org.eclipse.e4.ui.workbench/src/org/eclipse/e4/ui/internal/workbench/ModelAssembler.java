@@ -19,9 +19,21 @@
 
 package org.eclipse.e4.ui.internal.workbench;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Dictionary;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -29,6 +41,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Properties;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
@@ -41,6 +54,7 @@ import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IExtension;
 import org.eclipse.core.runtime.IExtensionPoint;
 import org.eclipse.core.runtime.IExtensionRegistry;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.e4.core.contexts.ContextInjectionFactory;
 import org.eclipse.e4.core.contexts.EclipseContextFactory;
 import org.eclipse.e4.core.contexts.IEclipseContext;
@@ -61,10 +75,13 @@ import org.eclipse.emf.common.util.Diagnostic;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.URIConverter;
 import org.eclipse.emf.ecore.util.Diagnostician;
 import org.eclipse.emf.ecore.util.EContentsEList;
 import org.eclipse.emf.ecore.util.EcoreUtil;
@@ -106,6 +123,41 @@ public class ModelAssembler {
 		List<MApplicationElement> elements;
 	}
 
+	/**
+	 * A fragment resource contributed through the extension point.
+	 */
+	private static class FragmentContribution {
+		final URI uri;
+		final String apply;
+		final String contributorName;
+		final String contributorURI;
+		byte[] content;
+		Resource resource;
+
+		FragmentContribution(URI uri, String apply, String contributorName, String contributorURI) {
+			this.uri = uri;
+			this.apply = apply;
+			this.contributorName = contributorName;
+			this.contributorURI = contributorURI;
+		}
+	}
+
+	/**
+	 * An element of a fragment, identified by the element it is merged into, the
+	 * feature and its ID, as the merge of the fragment finds it.
+	 */
+	private static class MergedElement {
+		final String parentElementId;
+		final String featureName;
+		final String elementId;
+
+		MergedElement(String parentElementId, String featureName, String elementId) {
+			this.parentElementId = parentElementId;
+			this.featureName = featureName;
+			this.elementId = elementId;
+		}
+	}
+
 	private class ModelFragmentBundleTracker implements BundleTrackerCustomizer<List<FragmentWrapperElementMapping>> {
 
 		@Override
@@ -126,7 +178,7 @@ public class ModelAssembler {
 				// we skip direct processing in case the startup model processing is not done
 				// yet
 				if (processModelExecuted) {
-					uiSync.asyncExec(() -> processFragmentWrappers(wrappers));
+					uiSync.asyncExec(() -> runBatched(() -> processFragmentWrappers(wrappers)));
 				}
 
 				return mappings;
@@ -210,6 +262,15 @@ public class ModelAssembler {
 	private static final String INITIAL = "initial"; //$NON-NLS-1$
 	private static final String NOTEXISTS = "notexists"; //$NON-NLS-1$
 
+	/**
+	 * Key of the persisted state of the application holding the digest of the
+	 * fragments merged into the persisted model.
+	 */
+	private static final String FRAGMENTS_DIGEST = "modelFragmentsDigest"; //$NON-NLS-1$
+	private static final String MERGED_ELEMENT = "mergedElement."; //$NON-NLS-1$
+	private static final String APPLICATION_XPATH = "xpath:/"; //$NON-NLS-1$
+	private static final String MERGED_MODEL_CACHE_FILE = "modelFragments.properties"; //$NON-NLS-1$
+
 	LoggerFactory factory;
 	Logger logger;
 
@@ -341,21 +402,44 @@ public class ModelAssembler {
 	 *
 	 */
 	private void processFragments(IExtension[] extensions, boolean initial) {
-		List<ModelFragmentWrapper> wrappers = new ArrayList<>();
+		List<FragmentContribution> contributions = new ArrayList<>();
 		for (IExtension extension : extensions) {
 			IConfigurationElement[] ces = extension.getConfigurationElements();
 			for (IConfigurationElement ce : ces) {
 				if ("fragment".equals(ce.getName()) && (initial || !INITIAL.equals(ce.getAttribute("apply")))) { //$NON-NLS-1$ //$NON-NLS-2$
-					MModelFragments fragmentsContainer = getFragmentsContainer(ce.getAttribute("uri"), //$NON-NLS-1$
-							ce.getContributor().getName());
-					if (fragmentsContainer == null) {
-						continue;
+					String contributorName = ce.getContributor().getName();
+					URI uri = getFragmentsURI(ce.getAttribute("uri"), contributorName); //$NON-NLS-1$
+					if (uri != null) {
+						contributions.add(new FragmentContribution(uri, ce.getAttribute("apply"), contributorName, //$NON-NLS-1$
+								URIHelper.constructPlatformURI(ce.getContributor())));
 					}
-					for (MModelFragment fragment : fragmentsContainer.getFragments()) {
-						boolean checkExist = !initial && NOTEXISTS.equals(ce.getAttribute("apply")); //$NON-NLS-1$
-						wrappers.add(new ModelFragmentWrapper(fragmentsContainer, fragment,
-								ce.getContributor().getName(), URIHelper.constructPlatformURI(ce.getContributor()),
-								checkExist)); // $NON-NLS-1$
+				}
+			}
+		}
+
+		// the persisted model already contains the fragments merged on a previous
+		// start if neither they nor their elements in the model changed since, see
+		// isMergedModelCached
+		readFragments(contributions);
+		String digest = getFragmentsDigest(contributions);
+		boolean merged = !initial && digest != null && isMergedModelCached(digest);
+
+		List<ModelFragmentWrapper> wrappers = new ArrayList<>();
+		List<MergedElement> mergedElements = new ArrayList<>();
+		if (!merged) {
+			loadFragments(contributions);
+			for (FragmentContribution contribution : contributions) {
+				MModelFragments fragmentsContainer = contribution.resource == null ? null
+						: getFragmentsContainer(contribution.resource, contribution.contributorName);
+				if (fragmentsContainer == null) {
+					continue;
+				}
+				for (MModelFragment fragment : fragmentsContainer.getFragments()) {
+					boolean checkExist = !initial && NOTEXISTS.equals(contribution.apply);
+					wrappers.add(new ModelFragmentWrapper(fragmentsContainer, fragment,
+							contribution.contributorName, contribution.contributorURI, checkExist)); // $NON-NLS-1$
+					if (!INITIAL.equals(contribution.apply) && mergedElements != null) {
+						mergedElements = addMergedElements(mergedElements, (MStringModelFragment) fragment);
 					}
 				}
 			}
@@ -377,6 +461,303 @@ public class ModelAssembler {
 		}
 
 		processFragmentWrappers(wrappers);
+
+		if (!merged) {
+			storeMergedModelCache(digest, mergedElements);
+		}
+	}
+
+	/**
+	 * Reads the contents of the fragment resources in parallel.
+	 */
+	private void readFragments(List<FragmentContribution> contributions) {
+		URIConverter uriConverter = getResourceSet().getURIConverter();
+		contributions.parallelStream().forEach(contribution -> {
+			try (InputStream in = uriConverter.createInputStream(contribution.uri)) {
+				contribution.content = in.readAllBytes();
+			} catch (IOException | RuntimeException e) {
+				// reported when the fragments are loaded
+			}
+		});
+	}
+
+	/**
+	 * Loads the fragment resources from their contents in parallel. The resources
+	 * are added to the resource set of the application in the order of the
+	 * contributions, those already in the resource set are reused.
+	 */
+	private void loadFragments(List<FragmentContribution> contributions) {
+		ResourceSet resourceSet = getResourceSet();
+		List<FragmentContribution> unloaded = new ArrayList<>();
+		for (FragmentContribution contribution : contributions) {
+			Resource resource = resourceSet.getResource(contribution.uri, false);
+			if (resource == null) {
+				resource = resourceSet.createResource(contribution.uri);
+			}
+			if (resource != null && !resource.isLoaded()) {
+				unloaded.add(contribution);
+			}
+			contribution.resource = resource;
+		}
+
+		Map<Object, Object> loadOptions = resourceSet.getLoadOptions();
+		unloaded.parallelStream().forEach(contribution -> {
+			try {
+				if (contribution.content == null) {
+					throw new IOException("Unable to read " + contribution.uri); //$NON-NLS-1$
+				}
+				contribution.resource.load(new ByteArrayInputStream(contribution.content), loadOptions);
+			} catch (IOException | RuntimeException e) {
+				contribution.resource = null;
+			}
+		});
+
+		for (FragmentContribution contribution : contributions) {
+			if (contribution.resource == null) {
+				log(LogLevel.WARN, "Unable to read model extension from {} of {}", contribution.uri, //$NON-NLS-1$
+						contribution.contributorName);
+			}
+		}
+	}
+
+	/**
+	 * Returns a digest of the contributors, their versions and the contents of the
+	 * fragments applied on every start, or <code>null</code> if a fragment could
+	 * not be read.
+	 */
+	private static String getFragmentsDigest(List<FragmentContribution> contributions) {
+		MessageDigest digest = createDigest();
+		if (digest == null) {
+			return null;
+		}
+		for (FragmentContribution contribution : contributions) {
+			if (INITIAL.equals(contribution.apply)) {
+				continue;
+			}
+			if (contribution.content == null) {
+				return null;
+			}
+			Bundle bundle = Platform.getBundle(contribution.contributorName);
+			for (String value : new String[] { contribution.contributorName,
+					bundle != null ? bundle.getVersion().toString() : "", contribution.uri.toString(), //$NON-NLS-1$
+					String.valueOf(contribution.apply), String.valueOf(contribution.content.length) }) {
+				digest.update(value.getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) 0);
+			}
+			digest.update(contribution.content);
+		}
+		return Base64.getEncoder().encodeToString(digest.digest());
+	}
+
+	/**
+	 * Adds the elements of the fragment to the merged elements, or returns
+	 * <code>null</code> if merging the fragment again may change the model even
+	 * if the fragment did not change. That is the case for fragments merged into
+	 * several parents or into the results of an XPath other than the application,
+	 * as they may be found in elements added since, and for elements without an
+	 * ID, which are added again on every merge.
+	 */
+	private static List<MergedElement> addMergedElements(List<MergedElement> mergedElements,
+			MStringModelFragment fragment) {
+		String parentElementId = fragment.getParentElementId();
+		if (parentElementId == null || parentElementId.indexOf(',') >= 0
+				|| (parentElementId.startsWith("xpath:") && !APPLICATION_XPATH.equals(parentElementId))) { //$NON-NLS-1$
+			return null;
+		}
+		for (MApplicationElement element : fragment.getElements()) {
+			String elementId = element.getElementId();
+			if (elementId == null || elementId.isEmpty()) {
+				return null;
+			}
+			mergedElements.add(new MergedElement(parentElementId, fragment.getFeaturename(), elementId));
+		}
+		return mergedElements;
+	}
+
+	/**
+	 * Returns whether the application model was persisted after the fragments
+	 * with the digest were merged into it, and merging them again would not
+	 * change it.
+	 * <p>
+	 * A merge skips the elements of a fragment equal to those with the same ID in
+	 * the feature of its parent, and replaces or adds the others. So the merge is
+	 * skipped only if every element merged on the previous start is still in the
+	 * parent it was merged into, and neither it nor its children changed since,
+	 * compared by a digest of their persisted features. An element the user moved,
+	 * removed or changed, for example by a persisted customization, causes a full
+	 * merge, which replaces it by the element of the fragment as before. The
+	 * merge of fragments that may change the model even if they did not change is
+	 * never skipped, see {@link #addMergedElements(List, MStringModelFragment)}.
+	 * </p>
+	 */
+	private boolean isMergedModelCached(String digest) {
+		if (!digest.equals(application.getPersistedState().get(FRAGMENTS_DIGEST))) {
+			return false;
+		}
+		File cacheFile = getMergedModelCacheFile();
+		if (cacheFile == null || !cacheFile.isFile()) {
+			return false;
+		}
+		Properties cache = new Properties();
+		try (InputStream in = new FileInputStream(cacheFile)) {
+			cache.load(in);
+		} catch (IOException e) {
+			log(LogLevel.DEBUG, "Unable to read the merged model fragments from {}", cacheFile, e); //$NON-NLS-1$
+			return false;
+		}
+		if (!digest.equals(cache.getProperty(FRAGMENTS_DIGEST))) {
+			return false;
+		}
+		Map<String, MApplicationElement> parents = new HashMap<>();
+		for (int i = 0;; i++) {
+			String key = MERGED_ELEMENT + i + '.';
+			String parentElementId = cache.getProperty(key + "parent"); //$NON-NLS-1$
+			if (parentElementId == null) {
+				return true;
+			}
+			MApplicationElement parent = parents.computeIfAbsent(parentElementId, this::findParentElement);
+			String state = getMergedState(parent, cache.getProperty(key + "feature"), //$NON-NLS-1$
+					cache.getProperty(key + "id")); //$NON-NLS-1$
+			if (state == null || !state.equals(cache.getProperty(key + "state"))) { //$NON-NLS-1$
+				// changed by the user, merge again
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * Remembers that the fragments with the digest were merged into the
+	 * application model. The digest is persisted with the model, the merged
+	 * elements and a digest of their state after the merge are stored next to it.
+	 */
+	private void storeMergedModelCache(String digest, List<MergedElement> mergedElements) {
+		File cacheFile = getMergedModelCacheFile();
+		if (digest == null || mergedElements == null || cacheFile == null) {
+			application.getPersistedState().remove(FRAGMENTS_DIGEST);
+			return;
+		}
+		Properties cache = new Properties();
+		cache.setProperty(FRAGMENTS_DIGEST, digest);
+		Map<String, MApplicationElement> parents = new HashMap<>();
+		for (int i = 0; i < mergedElements.size(); i++) {
+			MergedElement element = mergedElements.get(i);
+			MApplicationElement parent = parents.computeIfAbsent(element.parentElementId, this::findParentElement);
+			String state = getMergedState(parent, element.featureName, element.elementId);
+			if (state == null) {
+				application.getPersistedState().remove(FRAGMENTS_DIGEST);
+				return;
+			}
+			String key = MERGED_ELEMENT + i + '.';
+			cache.setProperty(key + "parent", element.parentElementId); //$NON-NLS-1$
+			cache.setProperty(key + "feature", element.featureName); //$NON-NLS-1$
+			cache.setProperty(key + "id", element.elementId); //$NON-NLS-1$
+			cache.setProperty(key + "state", state); //$NON-NLS-1$
+		}
+		cacheFile.getParentFile().mkdirs();
+		try (OutputStream out = new FileOutputStream(cacheFile)) {
+			cache.store(out, null);
+		} catch (IOException e) {
+			log(LogLevel.WARN, "Unable to write the merged model fragments to {}", cacheFile, e); //$NON-NLS-1$
+			application.getPersistedState().remove(FRAGMENTS_DIGEST);
+			return;
+		}
+		application.getPersistedState().put(FRAGMENTS_DIGEST, digest);
+	}
+
+	/**
+	 * Returns the element a fragment with the parent element ID is merged into,
+	 * or <code>null</code> if there is none.
+	 */
+	private MApplicationElement findParentElement(String parentElementId) {
+		if (APPLICATION_XPATH.equals(parentElementId)) {
+			return application;
+		}
+		return ModelUtils.findElementById(application, parentElementId);
+	}
+
+	/**
+	 * Returns a digest of the elements with the ID in the feature of the parent,
+	 * an empty string if there are none, or <code>null</code> if no digest can be
+	 * computed.
+	 */
+	private static String getMergedState(MApplicationElement parent, String featureName, String elementId) {
+		MessageDigest digest = createDigest();
+		if (digest == null || featureName == null || elementId == null) {
+			return null;
+		}
+		EStructuralFeature feature = parent == null ? null
+				: ((EObject) parent).eClass().getEStructuralFeature(featureName);
+		if (feature == null) {
+			return ""; //$NON-NLS-1$
+		}
+		boolean found = false;
+		for (Object value : getValues((EObject) parent, feature)) {
+			if (value instanceof MApplicationElement && elementId.equals(((MApplicationElement) value).getElementId())) {
+				updateDigest(digest, (EObject) value);
+				found = true;
+			}
+		}
+		return found ? Base64.getEncoder().encodeToString(digest.digest()) : ""; //$NON-NLS-1$
+	}
+
+	/**
+	 * Updates the digest with the persisted features of the object and its
+	 * contents. Referenced objects are identified by their URI.
+	 */
+	private static void updateDigest(MessageDigest digest, EObject object) {
+		updateDigest(digest, object.eClass().getName());
+		for (EStructuralFeature feature : object.eClass().getEAllStructuralFeatures()) {
+			if (feature.isTransient() || feature.isDerived() || !object.eIsSet(feature)) {
+				continue;
+			}
+			updateDigest(digest, feature.getName());
+			for (Object value : getValues(object, feature)) {
+				if (feature instanceof EAttribute) {
+					updateDigest(digest, EcoreUtil.convertToString(((EAttribute) feature).getEAttributeType(), value));
+				} else if (((EReference) feature).isContainment()) {
+					updateDigest(digest, (EObject) value);
+				} else {
+					updateDigest(digest, value == null ? null : EcoreUtil.getURI((EObject) value).toString());
+				}
+			}
+		}
+	}
+
+	private static void updateDigest(MessageDigest digest, String value) {
+		digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
+	private static List<?> getValues(EObject object, EStructuralFeature feature) {
+		Object value = object.eGet(feature, false);
+		return feature.isMany() ? (List<?>) value : Collections.singletonList(value);
+	}
+
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the file next to the persisted application model caching the IDs of
+	 * the merged fragment elements, or <code>null</code> if the model is not
+	 * persisted in a file.
+	 */
+	private File getMergedModelCacheFile() {
+		Resource applicationResource = ((EObject) application).eResource();
+		URI uri = applicationResource.getURI();
+		if (uri == null || !uri.isFile()) {
+			return null;
+		}
+		File parent = new File(uri.toFileString()).getAbsoluteFile().getParentFile();
+		return parent == null ? null : new File(parent, MERGED_MODEL_CACHE_FILE);
+	}
+
+	private ResourceSet getResourceSet() {
+		return ((EObject) application).eResource().getResourceSet();
 	}
 
 	private List<ModelFragmentWrapper> getModelFragmentWrapperFromBundle(Bundle bundle, boolean initial) {
@@ -452,6 +833,19 @@ public class ModelAssembler {
 		processFragments(createUnifiedFragmentList(elementIdToBucket));
 	}
 
+	/**
+	 * Runs the given model changes with the events of the application model sent
+	 * at the end.
+	 */
+	private void runBatched(Runnable runnable) {
+		UIEventPublisher publisher = context != null ? context.get(UIEventPublisher.class) : null;
+		if (publisher != null) {
+			publisher.runBatched(runnable);
+		} else {
+			runnable.run();
+		}
+	}
+
 	private List<ModelFragmentWrapper> createUnifiedFragmentList(Map<String, Bucket> elementIdToBucket) {
 		List<ModelFragmentWrapper> fragmentList = new ArrayList<>();
 		Set<String> checkedElementIds = new LinkedHashSet<>();
@@ -533,35 +927,41 @@ public class ModelAssembler {
 	}
 
 	private MModelFragments getFragmentsContainer(String attrURI, String bundleName) {
-		E4XMIResource applicationResource = (E4XMIResource) ((EObject) application).eResource();
-		ResourceSet resourceSet = applicationResource.getResourceSet();
+		URI uri = getFragmentsURI(attrURI, bundleName);
+		if (uri == null) {
+			return null;
+		}
+
+		Resource resource;
+		try {
+			resource = getResourceSet().getResource(uri, true);
+		} catch (RuntimeException e) {
+			log(LogLevel.WARN, "Unable to read model extension from {} of {}", uri, bundleName); //$NON-NLS-1$
+			return null;
+		}
+		return getFragmentsContainer(resource, bundleName);
+	}
+
+	private URI getFragmentsURI(String attrURI, String bundleName) {
 		if (attrURI == null) {
 			log(LogLevel.WARN, "Unable to find location for the model extension {}", bundleName); //$NON-NLS-1$
 			return null;
 		}
 
-		URI uri;
 		try {
 			// check if the attrURI is already a platform URI
 			if (URIHelper.isPlatformURI(attrURI)) {
-				uri = URI.createURI(attrURI);
-			} else {
-				String path = bundleName + '/' + attrURI;
-				uri = URI.createPlatformPluginURI(path, false);
+				return URI.createURI(attrURI);
 			}
+			String path = bundleName + '/' + attrURI;
+			return URI.createPlatformPluginURI(path, false);
 		} catch (RuntimeException e) {
 			log(LogLevel.WARN, "Invalid location {} of model extension {}", attrURI, bundleName, e); //$NON-NLS-1$
 			return null;
 		}
+	}
 
-		Resource resource;
-		try {
-			resource = resourceSet.getResource(uri, true);
-		} catch (RuntimeException e) {
-			log(LogLevel.WARN, "Unable to read model extension from {} of {}", uri, bundleName); //$NON-NLS-1$
-			return null;
-		}
-
+	private MModelFragments getFragmentsContainer(Resource resource, String bundleName) {
 		EList<?> contents = resource.getContents();
 		if (contents.isEmpty()) {
 			return null;
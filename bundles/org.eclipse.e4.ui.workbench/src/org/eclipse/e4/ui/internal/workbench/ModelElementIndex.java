@@ -0,0 +1,262 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.internal.workbench;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.MApplicationElement;
+import org.eclipse.e4.ui.model.application.impl.ApplicationPackageImpl;
+import org.eclipse.e4.ui.model.application.ui.MUIElement;
+import org.eclipse.e4.ui.model.application.ui.advanced.MPlaceholder;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * An index of the elements of an application model by elementId, tag and
+ * class. The index is attached to the root of the model and kept current by
+ * adapting every contained element.
+ * <p>
+ * The index does not answer searches itself. Instead
+ * {@link #computeSearchScope(String, Class, List)} returns the elements a
+ * search can possibly match together with everything the search has to pass
+ * to reach them, so that {@link ModelServiceImpl} can skip all other parts of
+ * the model while still applying the usual search flags and ordering.
+ * </p>
+ */
+final class ModelElementIndex extends EContentAdapter {
+
+	private final Map<String, Set<MApplicationElement>> elementsById = new HashMap<>();
+
+	private final Map<String, Set<MApplicationElement>> elementsByTag = new HashMap<>();
+
+	private final Map<Class<?>, Set<MApplicationElement>> elementsByClass = new HashMap<>();
+
+	private final EObject root;
+
+	private int size;
+
+	private ModelElementIndex(EObject root) {
+		this.root = root;
+	}
+
+	/**
+	 * Return the index of the application containing the given element, creating
+	 * it if necessary.
+	 *
+	 * @param element an element of the model
+	 * @return the index of the application or <code>null</code> if the element is
+	 *         not contained in an application
+	 */
+	static ModelElementIndex getIndex(MApplicationElement element) {
+		EObject root = EcoreUtil.getRootContainer((EObject) element);
+		if (!(root instanceof MApplication)) {
+			return null;
+		}
+		ModelElementIndex index = (ModelElementIndex) EcoreUtil.getExistingAdapter(root, ModelElementIndex.class);
+		if (index == null) {
+			index = new ModelElementIndex(root);
+			root.eAdapters().add(index);
+		}
+		return index;
+	}
+
+	@Override
+	public boolean isAdapterForType(Object type) {
+		return type == ModelElementIndex.class;
+	}
+
+	@Override
+	public void notifyChanged(Notification notification) {
+		super.notifyChanged(notification);
+
+		if (notification.isTouch() || !(notification.getNotifier() instanceof MApplicationElement)) {
+			return;
+		}
+		MApplicationElement element = (MApplicationElement) notification.getNotifier();
+		Object feature = notification.getFeature();
+		if (feature == ApplicationPackageImpl.Literals.APPLICATION_ELEMENT__ELEMENT_ID) {
+			remove(elementsById, notification.getOldStringValue(), element);
+			add(elementsById, notification.getNewStringValue(), element);
+		} else if (feature == ApplicationPackageImpl.Literals.APPLICATION_ELEMENT__TAGS) {
+			updateTags(element, notification);
+		}
+	}
+
+	private void updateTags(MApplicationElement element, Notification notification) {
+		switch (notification.getEventType()) {
+		case Notification.ADD:
+		case Notification.SET:
+			removeTag((String) notification.getOldValue(), element);
+			add(elementsByTag, (String) notification.getNewValue(), element);
+			break;
+		case Notification.REMOVE:
+			removeTag((String) notification.getOldValue(), element);
+			break;
+		case Notification.ADD_MANY:
+			for (Object tag : (Collection<?>) notification.getNewValue()) {
+				add(elementsByTag, (String) tag, element);
+			}
+			break;
+		case Notification.REMOVE_MANY:
+			for (Object tag : (Collection<?>) notification.getOldValue()) {
+				removeTag((String) tag, element);
+			}
+			break;
+		default:
+			break;
+		}
+	}
+
+	private void removeTag(String tag, MApplicationElement element) {
+		// the same tag may be contained more than once
+		if (tag != null && !element.getTags().contains(tag)) {
+			remove(elementsByTag, tag, element);
+		}
+	}
+
+	@Override
+	protected void setTarget(EObject target) {
+		super.setTarget(target);
+		if (target instanceof MApplicationElement) {
+			MApplicationElement element = (MApplicationElement) target;
+			add(elementsById, element.getElementId(), element);
+			for (String tag : element.getTags()) {
+				add(elementsByTag, tag, element);
+			}
+			add(elementsByClass, element.getClass(), element);
+			size++;
+		}
+	}
+
+	@Override
+	protected void unsetTarget(EObject target) {
+		super.unsetTarget(target);
+		if (target instanceof MApplicationElement) {
+			MApplicationElement element = (MApplicationElement) target;
+			remove(elementsById, element.getElementId(), element);
+			for (String tag : element.getTags()) {
+				remove(elementsByTag, tag, element);
+			}
+			remove(elementsByClass, element.getClass(), element);
+			size--;
+		}
+	}
+
+	private static <K> void add(Map<K, Set<MApplicationElement>> map, K key, MApplicationElement element) {
+		if (key != null) {
+			map.computeIfAbsent(key, k -> new HashSet<>()).add(element);
+		}
+	}
+
+	private static <K> void remove(Map<K, Set<MApplicationElement>> map, K key, MApplicationElement element) {
+		if (key == null) {
+			return;
+		}
+		Set<MApplicationElement> elements = map.get(key);
+		if (elements != null && elements.remove(element) && elements.isEmpty()) {
+			map.remove(key);
+		}
+	}
+
+	/**
+	 * Return the elements a search for the given criteria has to visit. This are
+	 * all indexed elements that may match the criteria, their containers and all
+	 * placeholders (and their containers) that reference any of these.
+	 *
+	 * @param id          the elementId to search for, may be <code>null</code>
+	 * @param clazz       the class to search for, may be <code>null</code>
+	 * @param tagsToMatch the tags to search for, may be <code>null</code>
+	 * @return the elements to visit or <code>null</code> if the criteria are too
+	 *         unspecific and the whole model has to be searched
+	 */
+	Set<Object> computeSearchScope(String id, Class<?> clazz, List<String> tagsToMatch) {
+		Collection<MApplicationElement> candidates = getCandidates(id, clazz, tagsToMatch);
+		if (candidates == null) {
+			return null;
+		}
+
+		Collection<MApplicationElement> placeholders = getInstances(MPlaceholder.class);
+		for (MApplicationElement placeholder : placeholders) {
+			MUIElement ref = ((MPlaceholder) placeholder).getRef();
+			// the referenced element is not indexed, so the search has to walk it
+			if (ref != null && EcoreUtil.getRootContainer((EObject) ref) != root) {
+				return null;
+			}
+		}
+
+		Set<Object> scope = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (MApplicationElement candidate : candidates) {
+			addWithContainers(scope, (EObject) candidate);
+		}
+		boolean changed = !placeholders.isEmpty();
+		while (changed) {
+			changed = false;
+			for (MApplicationElement placeholder : placeholders) {
+				MUIElement ref = ((MPlaceholder) placeholder).getRef();
+				if (ref != null && scope.contains(ref) && !scope.contains(placeholder)) {
+					addWithContainers(scope, (EObject) placeholder);
+					changed = true;
+				}
+			}
+		}
+		return scope;
+	}
+
+	private Collection<MApplicationElement> getCandidates(String id, Class<?> clazz, List<String> tagsToMatch) {
+		if (id != null) {
+			return elementsById.getOrDefault(id, Collections.emptySet());
+		}
+		Collection<MApplicationElement> candidates = null;
+		if (tagsToMatch != null) {
+			for (String tag : tagsToMatch) {
+				Set<MApplicationElement> tagged = elementsByTag.getOrDefault(tag, Collections.emptySet());
+				if (candidates == null || tagged.size() < candidates.size()) {
+					candidates = tagged;
+				}
+			}
+		}
+		if (candidates == null && clazz != null) {
+			candidates = getInstances(clazz);
+			// not worth restricting the search
+			if (candidates.size() > size / 2) {
+				return null;
+			}
+		}
+		return candidates;
+	}
+
+	private Collection<MApplicationElement> getInstances(Class<?> clazz) {
+		Collection<MApplicationElement> instances = new HashSet<>();
+		for (Entry<Class<?>, Set<MApplicationElement>> entry : elementsByClass.entrySet()) {
+			if (clazz.isAssignableFrom(entry.getKey())) {
+				instances.addAll(entry.getValue());
+			}
+		}
+		return instances;
+	}
+
+	private static void addWithContainers(Set<Object> scope, EObject element) {
+		for (EObject current = element; current != null && scope.add(current); current = current.eContainer()) {
+			// the containers of an element in the scope are already part of it
+		}
+	}
+}
@@ -25,6 +25,7 @@ import java.util.Hashtable;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import org.eclipse.core.runtime.Assert;
@@ -170,13 +171,22 @@ public class ModelServiceImpl implements EModelService {
 
 	}
 
+	/**
+	 * @param scope the elements that have to be visited to find all matches, or
+	 *              <code>null</code> to visit all elements
+	 */
 	private <T> void findElementsRecursive(MApplicationElement searchRoot, Class<T> clazz,
-			Selector matcher, LinkedHashSet<T> elements, int searchFlags) {
+			Selector matcher, LinkedHashSet<T> elements, int searchFlags, Set<Object> scope) {
 		Assert.isLegal(searchRoot != null);
 		if (searchFlags == 0) {
 			return;
 		}
 
+		// neither a match nor on the way to one
+		if (scope != null && !scope.contains(searchRoot)) {
+			return;
+		}
+
 		// are *we* a match ?
 		boolean classMatch = clazz == null ? true : clazz.isInstance(searchRoot);
 		if (classMatch && matcher.select(searchRoot)) {
@@ -208,21 +218,21 @@ public class ModelServiceImpl implements EModelService {
 			}
 
 			for (MApplicationElement child : children) {
-				findElementsRecursive(child, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(child, clazz, matcher, elements, searchFlags, scope);
 			}
 		}
 
 		if (searchRoot instanceof MBindingContext && (searchFlags == ANYWHERE)) {
 			MBindingContext bindingContext = (MBindingContext) searchRoot;
 			for (MBindingContext child : bindingContext.getChildren()) {
-				findElementsRecursive(child, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(child, clazz, matcher, elements, searchFlags, scope);
 			}
 		}
 
 		if (searchRoot instanceof MBindingTable) {
 			MBindingTable bindingTable = (MBindingTable) searchRoot;
 			for (MKeyBinding child : bindingTable.getBindings()) {
-				findElementsRecursive(child, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(child, clazz, matcher, elements, searchFlags, scope);
 			}
 		}
 
@@ -242,7 +252,7 @@ public class ModelServiceImpl implements EModelService {
 				if((searchFlags & IN_SHARED_ELEMENTS) != 0) {
 					List<MUIElement> sharedElements = ((MWindow) searchRoot).getSharedElements();
 					for (MUIElement muiElement : sharedElements) {
-						findElementsRecursive(muiElement, clazz, matcher, elements, searchFlags);
+						findElementsRecursive(muiElement, clazz, matcher, elements, searchFlags, scope);
 					}
 				}
 
@@ -257,19 +267,19 @@ public class ModelServiceImpl implements EModelService {
 					MElementContainer<? extends MUIElement> container = searchContainer;
 					List<? extends MUIElement> children = container.getChildren();
 					for (MUIElement child : children) {
-						findElementsRecursive(child, clazz, matcher, elements, searchFlags);
+						findElementsRecursive(child, clazz, matcher, elements, searchFlags, scope);
 					}
 				} else if ((searchFlags & IN_ACTIVE_PERSPECTIVE) != 0) {
 					// Only search the currently active perspective, if any
 					MPerspective active = ((MPerspectiveStack) searchContainer).getSelectedElement();
 					if (active != null) {
-						findElementsRecursive(active, clazz, matcher, elements, searchFlags);
+						findElementsRecursive(active, clazz, matcher, elements, searchFlags, scope);
 					}
 				} else if ((searchFlags & IN_SHARED_AREA) != 0) {
 					// Only recurse through the shared areas
 					List<MArea> areas = findElements(searchContainer, null, MArea.class);
 					for (MArea area : areas) {
-						findElementsRecursive(area, clazz, matcher, elements, searchFlags);
+						findElementsRecursive(area, clazz, matcher, elements, searchFlags, scope);
 					}
 				}
 			} else {
@@ -277,7 +287,7 @@ public class ModelServiceImpl implements EModelService {
 				MElementContainer<MUIElement> container = (MElementContainer<MUIElement>) searchRoot;
 				List<MUIElement> children = container.getChildren();
 				for (MUIElement child : children) {
-					findElementsRecursive(child, clazz, matcher, elements, searchFlags);
+					findElementsRecursive(child, clazz, matcher, elements, searchFlags, scope);
 				}
 			}
 		}
@@ -287,7 +297,7 @@ public class ModelServiceImpl implements EModelService {
 			MTrimmedWindow tw = (MTrimmedWindow) searchRoot;
 			List<MTrimBar> bars = tw.getTrimBars();
 			for (MTrimBar bar : bars) {
-				findElementsRecursive(bar, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(bar, clazz, matcher, elements, searchFlags, scope);
 			}
 		}
 
@@ -295,17 +305,17 @@ public class ModelServiceImpl implements EModelService {
 		if (searchRoot instanceof MWindow) {
 			MWindow window = (MWindow) searchRoot;
 			for (MWindow dw : window.getWindows()) {
-				findElementsRecursive(dw, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(dw, clazz, matcher, elements, searchFlags, scope);
 			}
 
 			MMenu menu = window.getMainMenu();
 			if (menu != null && (searchFlags & IN_MAIN_MENU) != 0) {
-				findElementsRecursive(menu, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(menu, clazz, matcher, elements, searchFlags, scope);
 			}
 			// Check for Handlers
 			if (searchFlags == ANYWHERE && MHandler.class.equals(clazz)) {
 				for (MHandler child : window.getHandlers()) {
-					findElementsRecursive(child, clazz, matcher, elements, searchFlags);
+					findElementsRecursive(child, clazz, matcher, elements, searchFlags, scope);
 				}
 			}
 		}
@@ -313,7 +323,7 @@ public class ModelServiceImpl implements EModelService {
 		if (searchRoot instanceof MPerspective) {
 			MPerspective persp = (MPerspective) searchRoot;
 			for (MWindow dw : persp.getWindows()) {
-				findElementsRecursive(dw, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(dw, clazz, matcher, elements, searchFlags, scope);
 			}
 		}
 		// Search shared elements
@@ -323,7 +333,7 @@ public class ModelServiceImpl implements EModelService {
 			// Don't search in shared areas unless the flag is set
 			if (ph.getRef() != null
 					&& (!(ph.getRef() instanceof MArea) || (searchFlags & IN_SHARED_AREA) != 0)) {
-				findElementsRecursive(ph.getRef(), clazz, matcher, elements, searchFlags);
+				findElementsRecursive(ph.getRef(), clazz, matcher, elements, searchFlags, scope);
 			}
 		}
 
@@ -331,16 +341,16 @@ public class ModelServiceImpl implements EModelService {
 			MPart part = (MPart) searchRoot;
 
 			for (MMenu menu : part.getMenus()) {
-				findElementsRecursive(menu, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(menu, clazz, matcher, elements, searchFlags, scope);
 			}
 
 			MToolBar toolBar = part.getToolbar();
 			if (toolBar != null) {
-				findElementsRecursive(toolBar, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(toolBar, clazz, matcher, elements, searchFlags, scope);
 			}
 			if (MHandler.class.equals(clazz)) {
 				for (MHandler child : part.getHandlers()) {
-					findElementsRecursive(child, clazz, matcher, elements, searchFlags);
+					findElementsRecursive(child, clazz, matcher, elements, searchFlags, scope);
 				}
 			}
 		}
@@ -414,8 +424,7 @@ public class ModelServiceImpl implements EModelService {
 
 	@Override
 	public <T> List<T> findElements(MUIElement searchRoot, String id, Class<T> clazz, List<String> tagsToMatch) {
-		ElementMatcher matcher = new ElementMatcher(id, clazz, tagsToMatch);
-		return findElements(searchRoot, clazz, ANYWHERE, matcher);
+		return findElements(searchRoot, id, clazz, tagsToMatch, ANYWHERE);
 	}
 
 	@Override
@@ -426,15 +435,16 @@ public class ModelServiceImpl implements EModelService {
 	@Override
 	public <T> List<T> findElements(MUIElement searchRoot, String id, Class<T> clazz,
 			List<String> tagsToMatch, int searchFlags) {
-		ElementMatcher matcher = new ElementMatcher(id, clazz, tagsToMatch);
-		return findElements(searchRoot, clazz, searchFlags, matcher);
+		LinkedHashSet<T> elements = new LinkedHashSet<>();
+		findElementsIndexed(searchRoot, id, clazz, tagsToMatch, elements, searchFlags);
+		return new ArrayList<>(elements);
 	}
 
 	@Override
 	public <T> List<T> findElements(MApplicationElement searchRoot, Class<T> clazz,
 			int searchFlags, Selector matcher) {
 		LinkedHashSet<T> elements = new LinkedHashSet<>();
-		findElementsRecursive(searchRoot, clazz, matcher, elements, searchFlags);
+		findElementsRecursive(searchRoot, clazz, matcher, elements, searchFlags, null);
 		return new ArrayList<>(elements);
 	}
 
@@ -442,11 +452,30 @@ public class ModelServiceImpl implements EModelService {
 			Class<T> clazz,
 			List<String> tagsToMatch) {
 		LinkedHashSet<T> elements = new LinkedHashSet<>();
-		ElementMatcher matcher = new ElementMatcher(id, clazz, tagsToMatch);
-		findElementsRecursive(searchRoot, clazz, matcher, elements, PRESENTATION);
+		findElementsIndexed(searchRoot, id, clazz, tagsToMatch, elements, PRESENTATION);
 		return elements;
 	}
 
+	/**
+	 * Search for elements matching the given criteria like
+	 * {@link #findElementsRecursive}, but only visit the parts of the model that
+	 * can contain a match according to the {@link ModelElementIndex} of the
+	 * application.
+	 */
+	private <T> void findElementsIndexed(MApplicationElement searchRoot, String id, Class<T> clazz,
+			List<String> tagsToMatch, LinkedHashSet<T> elements, int searchFlags) {
+		Assert.isLegal(searchRoot != null);
+		ElementMatcher matcher = new ElementMatcher(id, clazz, tagsToMatch);
+		Set<Object> scope = null;
+		if (searchFlags != 0) {
+			ModelElementIndex index = ModelElementIndex.getIndex(searchRoot);
+			if (index != null) {
+				scope = index.computeSearchScope(id, clazz, tagsToMatch);
+			}
+		}
+		findElementsRecursive(searchRoot, clazz, matcher, elements, searchFlags, scope);
+	}
+
 	@Override
 	public MUIElement find(String id, MUIElement searchRoot) {
 		if (id == null || id.isEmpty()) {
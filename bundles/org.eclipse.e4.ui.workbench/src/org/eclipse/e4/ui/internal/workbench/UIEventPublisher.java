@@ -14,8 +14,11 @@
  *******************************************************************************/
 package org.eclipse.e4.ui.internal.workbench;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.services.events.IEventBroker;
@@ -33,11 +36,30 @@ import org.eclipse.emf.ecore.util.EContentAdapter;
 
 /**
  * Transforms E4 MPart events into 3.x legacy events.
+ * <p>
+ * The events are sent synchronously while the model is changed. Bulk model
+ * operations can instead run in {@link #runBatched(Runnable)}, which buffers
+ * the events of the calling thread and sends them when the operation is done.
+ * Repeated SET events for the same attribute of an element are coalesced into
+ * one event.
+ * </p>
  */
 public class UIEventPublisher extends EContentAdapter {
 
 	private IEclipseContext context;
 
+	/**
+	 * The thread whose events are buffered, or <code>null</code> if no batch is
+	 * running.
+	 */
+	private volatile Thread batchThread;
+
+	private int batchDepth;
+
+	private List<PendingEvent> pendingEvents = new ArrayList<>();
+
+	private Map<SetKey, PendingEvent> pendingSets = new HashMap<>();
+
 	/**
 	 * @param e4Context
 	 */
@@ -59,8 +81,135 @@ public class UIEventPublisher extends EContentAdapter {
 		String topic = formatData(notification, argMap);
 
 		if (topic != null) {
-			IEventBroker eventManager = context.get(IEventBroker.class);
-			eventManager.send(topic, argMap);
+			if (batchThread == Thread.currentThread()) {
+				addPendingEvent(notification, topic, argMap);
+			} else {
+				IEventBroker eventManager = context.get(IEventBroker.class);
+				eventManager.send(topic, argMap);
+			}
+		}
+	}
+
+	/**
+	 * Runs the given model operation and sends the events for the model changes
+	 * done by the calling thread after it has completed, in the order of the
+	 * changes. Repeated SET events for the same attribute of an element (or the
+	 * same key of its transient data or persisted state) are sent as one event
+	 * with the first old value and the last new value, at the position of the
+	 * last change.
+	 * <p>
+	 * Handlers of the events must not expect to see the model in the state
+	 * right after the change, so this is only meant for operations whose
+	 * intermediate states are not of interest, e.g. merging model fragments.
+	 * Nested calls are sent with the outermost batch. Changes done by other
+	 * threads in the meantime are sent immediately, as is everything if
+	 * another thread is running a batch already.
+	 * </p>
+	 *
+	 * @param runnable
+	 *            the model operation
+	 */
+	public void runBatched(Runnable runnable) {
+		Thread current = Thread.currentThread();
+		synchronized (this) {
+			if (batchThread == null) {
+				batchThread = current;
+			}
+		}
+		if (batchThread != current) {
+			runnable.run();
+			return;
+		}
+		batchDepth++;
+		try {
+			runnable.run();
+		} finally {
+			if (--batchDepth == 0) {
+				sendPendingEvents();
+			}
+		}
+	}
+
+	private void addPendingEvent(Notification notification, String topic, Map<String, Object> argMap) {
+		PendingEvent event = new PendingEvent(topic, argMap);
+		if (notification.getEventType() == Notification.SET) {
+			Object newValue = argMap.get(EventTags.NEW_VALUE);
+			Object mapKey = newValue instanceof Map.Entry ? ((Map.Entry<?, ?>) newValue).getKey() : null;
+			SetKey key = new SetKey(argMap.get(EventTags.ELEMENT), topic, mapKey);
+			PendingEvent previous = pendingSets.put(key, event);
+			if (previous != null) {
+				previous.discarded = true;
+				Object oldValue = previous.argMap.get(EventTags.OLD_VALUE);
+				if (oldValue != null) {
+					argMap.put(EventTags.OLD_VALUE, oldValue);
+				} else {
+					argMap.remove(EventTags.OLD_VALUE);
+				}
+			}
+		}
+		pendingEvents.add(event);
+	}
+
+	private void sendPendingEvents() {
+		List<PendingEvent> events = pendingEvents;
+		pendingEvents = new ArrayList<>();
+		pendingSets = new HashMap<>();
+		synchronized (this) {
+			batchThread = null;
+		}
+		// the handlers may change the model again, which is sent immediately
+		IEventBroker eventManager = events.isEmpty() ? null : context.get(IEventBroker.class);
+		for (PendingEvent event : events) {
+			if (!event.discarded) {
+				eventManager.send(event.topic, event.argMap);
+			}
+		}
+	}
+
+	private static final class PendingEvent {
+
+		final String topic;
+
+		final Map<String, Object> argMap;
+
+		boolean discarded;
+
+		PendingEvent(String topic, Map<String, Object> argMap) {
+			this.topic = topic;
+			this.argMap = argMap;
+		}
+	}
+
+	/**
+	 * Identifies the attribute (or map entry) of an element changed by a SET
+	 * event.
+	 */
+	private static final class SetKey {
+
+		private final Object element;
+
+		private final String topic;
+
+		private final Object mapKey;
+
+		SetKey(Object element, String topic, Object mapKey) {
+			this.element = element;
+			this.topic = topic;
+			this.mapKey = mapKey;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * (31 * System.identityHashCode(element) + topic.hashCode()) + Objects.hashCode(mapKey);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof SetKey)) {
+				return false;
+			}
+			SetKey other = (SetKey) obj;
+			return element == other.element && topic.equals(other.topic) && Objects.equals(mapKey, other.mapKey);
 		}
 	}
 
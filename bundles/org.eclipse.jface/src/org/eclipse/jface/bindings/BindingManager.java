@@ -23,6 +23,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -77,6 +78,13 @@ public final class BindingManager extends HandleObjectManager implements
 	 */
 	public static boolean DEBUG = false;
 
+	/**
+	 * The maximum number of binding sets kept in the cache. The least recently
+	 * used binding set is dropped when the cache is full.
+	 */
+	private static final int CACHE_SIZE = Math.max(1,
+			Integer.getInteger("org.eclipse.jface.bindings.cacheSize", 32).intValue()); //$NON-NLS-1$
+
 	/**
 	 * Returned for optimized lookup.
 	 */
@@ -226,9 +234,29 @@ public final class BindingManager extends HandleObjectManager implements
 	/**
 	 * A cache of the bindings previously computed by this manager. This value
 	 * may be empty, but it is never <code>null</code>. This is a map of
-	 * <code>CachedBindingSet</code> to <code>CachedBindingSet</code>.
+	 * <code>CachedBindingSet</code> to <code>CachedBindingSet</code>, in the
+	 * order of access, holding at most <code>CACHE_SIZE</code> entries.
+	 */
+	private Map cachedBindings = new LinkedHashMap(16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+
+	/**
+	 * The number of times a binding set has been found in the cache.
 	 */
-	private Map cachedBindings = new HashMap();
+	private int cacheHitCount;
+
+	/**
+	 * The number of times a binding set had to be computed because it was not
+	 * in the cache.
+	 */
+	private int cacheMissCount;
 
 	/**
 	 * The command manager for this binding manager. This manager is only needed
@@ -989,6 +1017,7 @@ public final class BindingManager extends HandleObjectManager implements
 			if (DEBUG) {
 				Tracing.printTrace("BINDINGS", "Cache hit"); //$NON-NLS-1$ //$NON-NLS-2$
 			}
+			cacheHitCount++;
 
 			return Collections.unmodifiableMap(commandIdsByTrigger);
 		}
@@ -997,6 +1026,7 @@ public final class BindingManager extends HandleObjectManager implements
 		if (DEBUG) {
 			Tracing.printTrace("BINDINGS", "Cache miss"); //$NON-NLS-1$ //$NON-NLS-2$
 		}
+		cacheMissCount++;
 
 		// Compute the active bindings.
 		commandIdsByTrigger = new HashMap();
@@ -1052,6 +1082,7 @@ public final class BindingManager extends HandleObjectManager implements
 			if (DEBUG) {
 				Tracing.printTrace("BINDINGS", "Cache hit"); //$NON-NLS-1$ //$NON-NLS-2$
 			}
+			cacheHitCount++;
 
 			return Collections.unmodifiableMap(triggersByParameterizedCommand);
 		}
@@ -1060,6 +1091,7 @@ public final class BindingManager extends HandleObjectManager implements
 		if (DEBUG) {
 			Tracing.printTrace("BINDINGS", "Cache miss"); //$NON-NLS-1$ //$NON-NLS-2$
 		}
+		cacheMissCount++;
 
 		// Compute the active bindings.
 		final Map commandIdsByTrigger = new HashMap();
@@ -1739,6 +1771,7 @@ public final class BindingManager extends HandleObjectManager implements
 			if (DEBUG) {
 				Tracing.printTrace("BINDINGS", "Cache hit"); //$NON-NLS-1$ //$NON-NLS-2$
 			}
+			cacheHitCount++;
 			setActiveBindings(existingCache.getBindingsByTrigger(), existingCache.getTriggersByCommandId(),
 					existingCache.getPrefixTable(),
 					existingCache.getConflictsByTrigger());
@@ -1749,8 +1782,34 @@ public final class BindingManager extends HandleObjectManager implements
 		if (DEBUG) {
 			Tracing.printTrace("BINDINGS", "Cache miss"); //$NON-NLS-1$ //$NON-NLS-2$
 		}
+		cacheMissCount++;
 
 		// Compute the active bindings.
+		initializeBindingSet(activeContextTree, existingCache);
+		setActiveBindings(existingCache.getBindingsByTrigger(), existingCache.getTriggersByCommandId(),
+				existingCache.getPrefixTable(),
+				existingCache.getConflictsByTrigger());
+	}
+
+	/**
+	 * <p>
+	 * Computes the bindings for the given tree of contexts, and stores them in
+	 * the given cached binding set.
+	 * </p>
+	 * <p>
+	 * This method completes in <code>O(n+pn)</code>, where <code>n</code>
+	 * is the number of bindings, and <code>p</code> is the average number of
+	 * triggers in a trigger sequence.
+	 * </p>
+	 *
+	 * @param activeContextTree
+	 *            The tree of contexts for which the bindings are computed; must
+	 *            not be <code>null</code>.
+	 * @param bindingSet
+	 *            The binding set to initialize; must not be <code>null</code>.
+	 */
+	private final void initializeBindingSet(final Map activeContextTree,
+			final CachedBindingSet bindingSet) {
 		final Map commandIdsByTrigger = new HashMap();
 		final Map triggersByParameterizedCommand = new HashMap();
 		final Map conflictsByTrigger = new HashMap();
@@ -1758,15 +1817,91 @@ public final class BindingManager extends HandleObjectManager implements
 				triggersByParameterizedCommand, conflictsByTrigger);
 		final Map newPrefixTable = buildPrefixTable(commandIdsByTrigger);
 
-		// init cache
-		existingCache.setBindingsByTrigger(commandIdsByTrigger);
-		existingCache.setTriggersByCommandId(triggersByParameterizedCommand);
-		existingCache.setConflictsByTrigger(conflictsByTrigger);
-		existingCache.setPrefixTable(newPrefixTable);
+		bindingSet.setBindingsByTrigger(commandIdsByTrigger);
+		bindingSet.setTriggersByCommandId(triggersByParameterizedCommand);
+		bindingSet.setConflictsByTrigger(conflictsByTrigger);
+		bindingSet.setPrefixTable(newPrefixTable);
+	}
+
+	/**
+	 * <p>
+	 * Computes the bindings for combinations of contexts which are likely to
+	 * become active, e.g. those of the parts open in a window, and keeps them
+	 * in the cache. Activating one of these combinations later on will then
+	 * not have to compute the bindings. Combinations which are already cached
+	 * are skipped, and the active bindings are not changed.
+	 * </p>
+	 * <p>
+	 * This method completes in <code>O(m(n+pn))</code>, where <code>m</code>
+	 * is the number of combinations which are not cached yet, <code>n</code>
+	 * is the number of bindings, and <code>p</code> is the average number of
+	 * triggers in a trigger sequence.
+	 * </p>
+	 *
+	 * @param contextIdSets
+	 *            The sets of context identifiers (<code>String</code>) which
+	 *            may become active; must not be <code>null</code>. Only the
+	 *            most recently used combinations are kept, so this should not
+	 *            contain more sets than the size of the cache.
+	 * @since 3.29
+	 */
+	public void precomputeBindings(final Collection<? extends Set<String>> contextIdSets) {
+		if (bindings == null) {
+			// Not yet initialized. This is happening too early. Do nothing.
+			return;
+		}
 
-		setActiveBindings(commandIdsByTrigger, triggersByParameterizedCommand,
-				newPrefixTable,
-				conflictsByTrigger);
+		for (Set<String> contextIds : contextIdSets) {
+			final Map activeContextTree = createFilteredContextTreeFor(new HashSet(contextIds));
+			final CachedBindingSet bindingCache = new CachedBindingSet(
+					activeContextTree, locales, platforms, activeSchemeIds);
+			CachedBindingSet existingCache = (CachedBindingSet) cachedBindings
+					.get(bindingCache);
+			if (existingCache == null) {
+				existingCache = bindingCache;
+				cachedBindings.put(existingCache, existingCache);
+			}
+			if (!existingCache.isInitialized()) {
+				if (DEBUG) {
+					Tracing.printTrace("BINDINGS", "Precomputing " + contextIds); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				initializeBindingSet(activeContextTree, existingCache);
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Returns the number of times the bindings for a state of the application
+	 * have been found in the cache, since this manager has been created.
+	 * </p>
+	 * <p>
+	 * This method completes in <code>O(1)</code>.
+	 * </p>
+	 *
+	 * @return The number of cache hits.
+	 * @since 3.29
+	 */
+	public int getCacheHitCount() {
+		return cacheHitCount;
+	}
+
+	/**
+	 * <p>
+	 * Returns the number of times the bindings for a state of the application
+	 * had to be computed because they were not in the cache, since this manager
+	 * has been created. Bindings computed by
+	 * {@link #precomputeBindings(Collection)} are not counted.
+	 * </p>
+	 * <p>
+	 * This method completes in <code>O(1)</code>.
+	 * </p>
+	 *
+	 * @return The number of cache misses.
+	 * @since 3.29
+	 */
+	public int getCacheMissCount() {
+		return cacheMissCount;
 	}
 
 	/**
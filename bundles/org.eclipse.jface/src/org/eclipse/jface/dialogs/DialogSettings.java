@@ -35,16 +35,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
-import org.xml.sax.SAXException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 /**
  * Concrete implementation of a dialog settings (<code>IDialogSettings</code>)
@@ -100,6 +94,17 @@ public class DialogSettings implements IDialogSettings {
 
 	private static final String TAG_ITEM = "item";//$NON-NLS-1$
 
+	/**
+	 * The parser factory, created once as looking it up is expensive.
+	 */
+	private static final class InputFactory {
+		static final XMLInputFactory INSTANCE = XMLInputFactory.newInstance();
+
+		static {
+			INSTANCE.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.FALSE);
+		}
+	}
+
 	/**
 	 * Create an empty dialog settings which loads and saves its
 	 * content to a file.
@@ -258,21 +263,29 @@ public class DialogSettings implements IDialogSettings {
 
 	@Override
 	public void load(Reader r) {
-		Document document = null;
 		try {
-			DocumentBuilder parser = DocumentBuilderFactory.newInstance()
-					.newDocumentBuilder();
-			//		parser.setProcessNamespace(true);
-			document = parser.parse(new InputSource(r));
-
-			//Strip out any comments first
-			Node root = document.getFirstChild();
-			while (root.getNodeType() == Node.COMMENT_NODE) {
-				document.removeChild(root);
-				root = document.getFirstChild();
+			XMLStreamReader parser = InputFactory.INSTANCE.createXMLStreamReader(r);
+			try {
+				// Only take the settings if the whole document can be read
+				DialogSettings loaded = null;
+				while (parser.hasNext()) {
+					if (parser.next() == XMLStreamConstants.START_ELEMENT && loaded == null) {
+						loaded = new DialogSettings("NoName");//$NON-NLS-1$
+						loaded.load(parser);
+					}
+				}
+				if (loaded != null) {
+					name = loaded.name;
+					items.putAll(loaded.items);
+					arrayItems.putAll(loaded.arrayItems);
+					for (IDialogSettings section : loaded.sections.values()) {
+						addSection(section);
+					}
+				}
+			} finally {
+				parser.close();
 			}
-			load(document, (Element) root);
-		} catch (ParserConfigurationException | IOException | SAXException e) {
+		} catch (XMLStreamException e) {
 			// ignore
 		}
 	}
@@ -286,43 +299,69 @@ public class DialogSettings implements IDialogSettings {
 		}
 	}
 
-	private void load(Document document, Element root) {
-		name = root.getAttribute(TAG_NAME);
-		NodeList l = root.getElementsByTagName(TAG_ITEM);
-		for (int i = 0; i < l.getLength(); i++) {
-			Node n = l.item(i);
-			if (root == n.getParentNode()) {
-				String key = ((Element) l.item(i)).getAttribute(TAG_KEY);
-				String value = ((Element) l.item(i)).getAttribute(TAG_VALUE);
-				items.put(key, value);
+	/**
+	 * Reads the section the parser is at, up to its end tag. Only the direct
+	 * children of the section are taken, other elements are skipped.
+	 */
+	private void load(XMLStreamReader parser) throws XMLStreamException {
+		name = getAttribute(parser, TAG_NAME);
+		while (parser.next() != XMLStreamConstants.END_ELEMENT) {
+			if (parser.getEventType() != XMLStreamConstants.START_ELEMENT) {
+				continue;
 			}
-		}
-		l = root.getElementsByTagName(TAG_LIST);
-		for (int i = 0; i < l.getLength(); i++) {
-			Node n = l.item(i);
-			if (root == n.getParentNode()) {
-				Element child = (Element) l.item(i);
-				String key = child.getAttribute(TAG_KEY);
-				NodeList list = child.getElementsByTagName(TAG_ITEM);
+			String tag = parser.getLocalName();
+			if (TAG_ITEM.equals(tag)) {
+				items.put(getAttribute(parser, TAG_KEY), getAttribute(parser, TAG_VALUE));
+				skipElement(parser);
+			} else if (TAG_LIST.equals(tag)) {
+				String key = getAttribute(parser, TAG_KEY);
 				List<String> valueList = new ArrayList<>();
-				for (int j = 0; j < list.getLength(); j++) {
-					Element node = (Element) list.item(j);
-					if (child == node.getParentNode()) {
-						valueList.add(node.getAttribute(TAG_VALUE));
+				while (parser.next() != XMLStreamConstants.END_ELEMENT) {
+					if (parser.getEventType() == XMLStreamConstants.START_ELEMENT) {
+						if (TAG_ITEM.equals(parser.getLocalName())) {
+							valueList.add(getAttribute(parser, TAG_VALUE));
+						}
+						skipElement(parser);
 					}
 				}
 				String[] value = new String[valueList.size()];
 				valueList.toArray(value);
 				arrayItems.put(key, value);
-			}
-		}
-		l = root.getElementsByTagName(TAG_SECTION);
-		for (int i = 0; i < l.getLength(); i++) {
-			Node n = l.item(i);
-			if (root == n.getParentNode()) {
+			} else if (TAG_SECTION.equals(tag)) {
 				DialogSettings s = new DialogSettings("NoName");//$NON-NLS-1$
-				s.load(document, (Element) n);
+				s.load(parser);
 				addSection(s);
+			} else {
+				skipElement(parser);
+			}
+		}
+	}
+
+	/**
+	 * @return the value of the attribute of the element the parser is at, or an
+	 *         empty string if there is none
+	 */
+	private static String getAttribute(XMLStreamReader parser, String attributeName) {
+		for (int i = 0; i < parser.getAttributeCount(); i++) {
+			String prefix = parser.getAttributePrefix(i);
+			if ((prefix == null || prefix.isEmpty()) && attributeName.equals(parser.getAttributeLocalName(i))) {
+				return parser.getAttributeValue(i);
+			}
+		}
+		return ""; //$NON-NLS-1$
+	}
+
+	/**
+	 * Moves the parser from the start tag of an element to its end tag.
+	 */
+	private static void skipElement(XMLStreamReader parser) throws XMLStreamException {
+		int depth = 1;
+		while (depth > 0) {
+			int event = parser.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				depth++;
+			} else if (event == XMLStreamConstants.END_ELEMENT) {
+				depth--;
 			}
 		}
 	}
@@ -430,6 +469,11 @@ public class DialogSettings implements IDialogSettings {
 		/** current number of tabs to use for indent */
 		protected int tab;
 
+		/** the tag being printed, reused for all tags */
+		private final StringBuilder tag = new StringBuilder(128);
+
+		private char[] tagChars = new char[128];
+
 		/** the xml header */
 		protected static final String XML_VERSION = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"; //$NON-NLS-1$
 
@@ -486,17 +530,17 @@ public class DialogSettings implements IDialogSettings {
 		}
 
 		private void printTag(String name, Map<String, String> parameters, boolean shouldTab, boolean newLine, boolean close) throws IOException {
-			StringBuilder sb = new StringBuilder();
+			StringBuilder sb = tag;
+			sb.setLength(0);
 			sb.append('<');
 			sb.append(name);
 			if (parameters != null) {
 				for (Entry<String, String> entry : parameters.entrySet()) {
-					sb.append(" "); //$NON-NLS-1$
-					String key = entry.getKey();
-					sb.append(key);
+					sb.append(' ');
+					sb.append(entry.getKey());
 					sb.append("=\""); //$NON-NLS-1$
-					sb.append(getEscaped(String.valueOf(entry.getValue())));
-					sb.append("\""); //$NON-NLS-1$
+					appendEscaped(sb, String.valueOf(entry.getValue()));
+					sb.append('"');
 				}
 			}
 			if (close) {
@@ -506,10 +550,13 @@ public class DialogSettings implements IDialogSettings {
 			if (shouldTab) {
 				printTabulation();
 			}
+			if (tagChars.length < sb.length()) {
+				tagChars = new char[Math.max(sb.length(), 2 * tagChars.length)];
+			}
+			sb.getChars(0, sb.length(), tagChars, 0);
+			write(tagChars, 0, sb.length());
 			if (newLine) {
-				writeln(sb.toString());
-			} else {
-				write(sb.toString());
+				newLine();
 			}
 		}
 
@@ -528,23 +575,23 @@ public class DialogSettings implements IDialogSettings {
 			printTag(name, parameters, true, newLine, false);
 		}
 
-		private static void appendEscapedChar(StringBuilder buffer, char c) {
-			String replacement = getReplacement(c);
-			if (replacement != null) {
-				buffer.append('&');
-				buffer.append(replacement);
-				buffer.append(';');
-			} else {
-				buffer.append(c);
-			}
-		}
-
-		private static String getEscaped(String s) {
-			StringBuilder result = new StringBuilder(s.length() + 10);
+		/**
+		 * Appends the string, replacing special characters by character
+		 * references. Runs of plain characters are appended at once.
+		 */
+		private static void appendEscaped(StringBuilder buffer, String s) {
+			int start = 0;
 			for (int i = 0; i < s.length(); ++i) {
-				appendEscapedChar(result, s.charAt(i));
+				String replacement = getReplacement(s.charAt(i));
+				if (replacement != null) {
+					buffer.append(s, start, i);
+					buffer.append('&');
+					buffer.append(replacement);
+					buffer.append(';');
+					start = i + 1;
+				}
 			}
-			return result.toString();
+			buffer.append(s, start, s.length());
 		}
 
 		private static String getReplacement(char c) {
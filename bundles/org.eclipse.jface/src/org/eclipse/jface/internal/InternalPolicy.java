@@ -38,6 +38,14 @@ public class InternalPolicy {
 	 */
 	public static boolean DEBUG_LOG_EQUAL_VIEWER_ELEMENTS= false;
 
+	/**
+	 * (NON-API) A flag to indicate whether the number of items touched when a
+	 * tree viewer updates the children of an element should be traced.
+	 *
+	 * @since 3.29
+	 */
+	public static boolean DEBUG_TRACE_TREE_REFRESH = false;
+
 	/**
 	 * (NON-API) A flag to indicate whether label provider changed notifications
 	 * should always be logged when the underlying control has been disposed. If
@@ -2710,6 +2710,10 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 			}
 		}
 
+		if (reconcileChildren(widget, elementChildren, items, expanded, updateLabels)) {
+			return;
+		}
+
 		int min = Math.min(elementChildren.length, items.length);
 
 		// dispose of surplus items, optimizing for the case where elements have
@@ -2841,6 +2845,165 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		}
 	}
 
+	/**
+	 * Updates the items of the given widget to the given children by keeping
+	 * the items whose elements are still children in the same order, disposing
+	 * the other items and inserting items for the other children. The kept
+	 * items are those of the longest sequence of elements whose order has not
+	 * changed, so adding or removing a few children of a large parent only
+	 * touches the items of these children, instead of all the items following
+	 * them.
+	 * <p>
+	 * Nothing is done if most items would have to be replaced, e.g. after the
+	 * sort order has changed, or if the elements or the items are unusual,
+	 * i.e. for virtual trees and if there are equal elements. The items are
+	 * then updated in place by the caller.
+	 * </p>
+	 *
+	 * @return <code>true</code> if the items have been updated
+	 */
+	private boolean reconcileChildren(Widget widget, Object[] elementChildren, Item[] items,
+			CustomHashtable expanded, boolean updateLabels) {
+		Control control = getControl();
+		if (items.length == 0 || elementChildren.length == 0 || (control.getStyle() & SWT.VIRTUAL) != 0) {
+			return false;
+		}
+
+		// the index of the item of each element
+		CustomHashtable itemIndices = newHashtable(items.length * 2);
+		for (int i = 0; i < items.length; i++) {
+			Object data = items[i].getData();
+			if (data != null && itemIndices.put(data, Integer.valueOf(i)) != null) {
+				return false;
+			}
+		}
+		// the index of the current item of each child, or -1
+		CustomHashtable children = newHashtable(elementChildren.length * 2);
+		int[] sources = new int[elementChildren.length];
+		for (int i = 0; i < elementChildren.length; i++) {
+			Object child = elementChildren[i];
+			if (children.put(child, child) != null) {
+				return false;
+			}
+			Object index = itemIndices.get(child);
+			sources[i] = index != null ? ((Integer) index).intValue() : -1;
+		}
+
+		boolean[] keep = new boolean[items.length];
+		int kept = markLongestIncreasingSequence(sources, keep);
+		int removed = items.length - kept;
+		int inserted = elementChildren.length - kept;
+		if (kept == 0 || kept * 2 < Math.min(items.length, elementChildren.length)) {
+			if (InternalPolicy.DEBUG_TRACE_TREE_REFRESH) {
+				System.out.println("Tree refresh: " + Math.max(items.length, elementChildren.length) //$NON-NLS-1$
+						+ " items updated in place"); //$NON-NLS-1$
+			}
+			return false;
+		}
+
+		boolean suspendRedraw = removed + inserted > 1;
+		if (suspendRedraw) {
+			control.setRedraw(false);
+		}
+		try {
+			// dispose the items first so that their elements are unmapped
+			// before the elements of the kept items are mapped again
+			for (int i = items.length - 1; i >= 0; i--) {
+				if (!keep[i]) {
+					if (items[i].getData() != null) {
+						disassociate(items[i]);
+					}
+					items[i].dispose();
+				}
+			}
+
+			boolean restoreExpanded = false;
+			for (int i = 0; i < elementChildren.length; i++) {
+				Object newElement = elementChildren[i];
+				if (sources[i] >= 0 && keep[sources[i]]) {
+					Item item = items[sources[i]];
+					Object oldElement = item.getData();
+					if (newElement != oldElement) {
+						// the elements are equal but may have different labels
+						// or children
+						unmapElement(oldElement, item);
+						item.setData(newElement);
+						mapElement(newElement, item);
+					}
+					updatePlus(item, newElement);
+					if (updateLabels) {
+						updateItem(item, newElement);
+					} else {
+						associate(newElement, item);
+					}
+				} else {
+					createTreeItem(widget, newElement, i);
+					restoreExpanded |= expanded.containsKey(newElement);
+				}
+			}
+
+			if (restoreExpanded) {
+				// restore the expanded state of the items of moved elements
+				Item[] newItems = getChildren(widget);
+				for (int i = 0; i < elementChildren.length; i++) {
+					if ((sources[i] < 0 || !keep[sources[i]]) && expanded.containsKey(elementChildren[i])) {
+						setExpanded(newItems[i], true);
+					}
+				}
+			}
+		} finally {
+			if (suspendRedraw) {
+				control.setRedraw(true);
+			}
+		}
+
+		if (InternalPolicy.DEBUG_TRACE_TREE_REFRESH) {
+			System.out.println("Tree refresh: " + kept + " items kept, " + removed + " removed, " + inserted //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ " inserted"); //$NON-NLS-1$
+		}
+		return true;
+	}
+
+	/**
+	 * Marks the values of the longest strictly increasing subsequence of the
+	 * given non-negative values, ignoring the negative values.
+	 *
+	 * @return the length of the subsequence
+	 */
+	private static int markLongestIncreasingSequence(int[] values, boolean[] marks) {
+		// the index of the smallest last value of the increasing subsequences
+		// of each length, and the index of the previous value of each value in
+		// its subsequence
+		int[] tails = new int[values.length];
+		int[] previous = new int[values.length];
+		int length = 0;
+		for (int i = 0; i < values.length; i++) {
+			int value = values[i];
+			if (value < 0) {
+				continue;
+			}
+			int low = 0;
+			int high = length;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (values[tails[middle]] < value) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			previous[i] = low > 0 ? tails[low - 1] : -1;
+			tails[low] = i;
+			if (low == length) {
+				length++;
+			}
+		}
+		for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = previous[i]) {
+			marks[values[i]] = true;
+		}
+		return length;
+	}
+
 	/** Returns true if children were pruned */
 	/*package*/ boolean optionallyPruneChildren(Item item, Object element) {
 		// need a dummy node if element is expandable;
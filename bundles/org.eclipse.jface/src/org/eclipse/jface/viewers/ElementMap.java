@@ -0,0 +1,448 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.jface.viewers;
+
+import org.eclipse.swt.widgets.Widget;
+
+/**
+ * Maps the elements of a structured viewer to the widgets representing them.
+ * <p>
+ * The map uses open addressing with linear probing over parallel arrays, so
+ * that no entry objects are allocated. Almost all elements are represented by
+ * a single widget, which is stored inline. The additional widgets of an element
+ * shown more than once are kept in a pool of overflow slots chained per
+ * element, which are reused once they are released. The order in which the
+ * widgets of an element have been added is preserved.
+ * </p>
+ * <p>
+ * Like {@link CustomHashtable} the map uses the {@link IElementComparer} of
+ * the viewer, if any, to hash and compare the elements. Elements and widgets
+ * cannot be <code>null</code>.
+ * </p>
+ */
+/* package */final class ElementMap {
+
+	private static final int MIN_CAPACITY = 16;
+
+	/**
+	 * Estimated size of an object header and of an array header, and of a
+	 * reference, assuming compressed references.
+	 */
+	private static final int OBJECT_HEADER_BYTES = 12;
+	private static final int ARRAY_HEADER_BYTES = 16;
+	private static final int REFERENCE_BYTES = 4;
+
+	private final IElementComparer comparer;
+
+	/**
+	 * The elements, <code>null</code> for free slots. The length is a power of
+	 * two.
+	 */
+	private Object[] keys;
+
+	/**
+	 * The hash codes of the elements, so that the comparer is not asked again
+	 * when growing the table or removing elements.
+	 */
+	private int[] hashes;
+
+	/**
+	 * The first widget of each element.
+	 */
+	private Widget[] widgets;
+
+	/**
+	 * One plus the index of the first overflow slot of each element, or
+	 * <code>0</code> if it has a single widget.
+	 */
+	private int[] overflow;
+
+	private int size;
+
+	private int threshold;
+
+	/**
+	 * The widgets in the overflow slots.
+	 */
+	private Widget[] poolWidgets;
+
+	/**
+	 * One plus the index of the next slot of the chain, or <code>0</code> at
+	 * its end. Released slots are chained in the same way.
+	 */
+	private int[] poolNext;
+
+	/**
+	 * One plus the index of the first released slot, or <code>0</code> if
+	 * there is none.
+	 */
+	private int freeSlots;
+
+	/**
+	 * The number of pool slots which have ever been used.
+	 */
+	private int poolTop;
+
+	/**
+	 * The number of pool slots in use.
+	 */
+	private int overflowCount;
+
+	/**
+	 * Creates an empty map.
+	 *
+	 * @param comparer
+	 *            the comparer used to hash and compare the elements, or
+	 *            <code>null</code> to use their own methods
+	 */
+	ElementMap(IElementComparer comparer) {
+		this.comparer = comparer;
+		allocate(MIN_CAPACITY);
+	}
+
+	/**
+	 * Creates a map with the contents of the given map, using a different
+	 * comparer. The widgets of elements which are equal according to the new
+	 * comparer are merged.
+	 *
+	 * @param source
+	 *            the map to copy
+	 * @param comparer
+	 *            the comparer used to hash and compare the elements, or
+	 *            <code>null</code> to use their own methods
+	 */
+	ElementMap(ElementMap source, IElementComparer comparer) {
+		this.comparer = comparer;
+		allocate(capacityFor(source.size));
+		for (int slot = 0; slot < source.keys.length; slot++) {
+			Object element = source.keys[slot];
+			if (element != null) {
+				add(element, source.widgets[slot]);
+				for (int next = source.overflow[slot]; next != 0; next = source.poolNext[next - 1]) {
+					add(element, source.poolWidgets[next - 1]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the number of elements in the map
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the first widget added for the given element.
+	 *
+	 * @param element
+	 *            the element
+	 * @return the widget, or <code>null</code> if the element is not mapped
+	 */
+	Widget getFirst(Object element) {
+		int slot = find(element, hash(element));
+		return slot < 0 ? null : widgets[slot];
+	}
+
+	/**
+	 * Returns the widgets of the given element, in the order they have been
+	 * added.
+	 *
+	 * @param element
+	 *            the element
+	 * @return a new array with the widgets, or <code>null</code> if the element
+	 *         is not mapped
+	 */
+	Widget[] get(Object element) {
+		int slot = find(element, hash(element));
+		if (slot < 0) {
+			return null;
+		}
+		int head = overflow[slot];
+		if (head == 0) {
+			return new Widget[] { widgets[slot] };
+		}
+		int count = 1;
+		for (int next = head; next != 0; next = poolNext[next - 1]) {
+			count++;
+		}
+		Widget[] result = new Widget[count];
+		result[0] = widgets[slot];
+		int i = 1;
+		for (int next = head; next != 0; next = poolNext[next - 1]) {
+			result[i++] = poolWidgets[next - 1];
+		}
+		return result;
+	}
+
+	/**
+	 * Adds a widget for the given element. Does nothing if the widget is
+	 * already mapped to the element.
+	 *
+	 * @param element
+	 *            the element
+	 * @param widget
+	 *            the widget
+	 */
+	void add(Object element, Widget widget) {
+		int hash = hash(element);
+		int slot = find(element, hash);
+		if (slot < 0) {
+			if (size >= threshold) {
+				allocate(keys.length * 2);
+			}
+			int mask = keys.length - 1;
+			slot = hash & mask;
+			while (keys[slot] != null) {
+				slot = (slot + 1) & mask;
+			}
+			keys[slot] = element;
+			hashes[slot] = hash;
+			widgets[slot] = widget;
+			size++;
+			return;
+		}
+		if (widgets[slot] == widget) {
+			return;
+		}
+		int last = 0;
+		for (int next = overflow[slot]; next != 0; next = poolNext[next - 1]) {
+			if (poolWidgets[next - 1] == widget) {
+				return;
+			}
+			last = next;
+		}
+		int added = allocateOverflow(widget);
+		if (last == 0) {
+			overflow[slot] = added;
+		} else {
+			poolNext[last - 1] = added;
+		}
+	}
+
+	/**
+	 * Removes the given element with all its widgets.
+	 *
+	 * @param element
+	 *            the element
+	 */
+	void remove(Object element) {
+		int slot = find(element, hash(element));
+		if (slot >= 0) {
+			releaseOverflow(overflow[slot]);
+			delete(slot);
+		}
+	}
+
+	/**
+	 * Removes a widget of the given element, and the element if it was its
+	 * only widget. Does nothing if the widget is not mapped to the element.
+	 *
+	 * @param element
+	 *            the element
+	 * @param widget
+	 *            the widget
+	 */
+	void remove(Object element, Widget widget) {
+		int slot = find(element, hash(element));
+		if (slot < 0) {
+			return;
+		}
+		int head = overflow[slot];
+		if (widgets[slot] == widget) {
+			if (head == 0) {
+				delete(slot);
+			} else {
+				// move the first overflow widget inline
+				widgets[slot] = poolWidgets[head - 1];
+				overflow[slot] = poolNext[head - 1];
+				releaseSlot(head);
+			}
+			return;
+		}
+		int previous = 0;
+		for (int next = head; next != 0; next = poolNext[next - 1]) {
+			if (poolWidgets[next - 1] == widget) {
+				if (previous == 0) {
+					overflow[slot] = poolNext[next - 1];
+				} else {
+					poolNext[previous - 1] = poolNext[next - 1];
+				}
+				releaseSlot(next);
+				return;
+			}
+			previous = next;
+		}
+	}
+
+	/**
+	 * Returns an estimate of the memory used by the map itself, not counting
+	 * the elements and the widgets.
+	 *
+	 * @return the estimated number of bytes
+	 */
+	long getMemoryUsage() {
+		long bytes = OBJECT_HEADER_BYTES + 7 * REFERENCE_BYTES + 5 * Integer.BYTES;
+		bytes += 4 * (ARRAY_HEADER_BYTES + (long) keys.length * REFERENCE_BYTES);
+		if (poolWidgets != null) {
+			bytes += 2 * (ARRAY_HEADER_BYTES + (long) poolWidgets.length * REFERENCE_BYTES);
+		}
+		return bytes;
+	}
+
+	/**
+	 * @return the number of overflow slots in use, that is the number of
+	 *         widgets in addition to the first widget of each element
+	 */
+	int getOverflowCount() {
+		return overflowCount;
+	}
+
+	@Override
+	public String toString() {
+		return "ElementMap [size=" + size + ", capacity=" + keys.length //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", overflow=" + overflowCount + '/' + (poolWidgets == null ? 0 : poolWidgets.length) //$NON-NLS-1$
+				+ ", bytes=" + getMemoryUsage() + ']'; //$NON-NLS-1$
+	}
+
+	private int hash(Object element) {
+		int h = comparer == null ? element.hashCode() : comparer.hashCode(element);
+		return h ^ (h >>> 16);
+	}
+
+	private boolean equal(Object a, Object b) {
+		if (a == b) {
+			return true;
+		}
+		return comparer == null ? a.equals(b) : comparer.equals(a, b);
+	}
+
+	/**
+	 * @return the slot of the element, or <code>-1</code>
+	 */
+	private int find(Object element, int hash) {
+		int mask = keys.length - 1;
+		for (int slot = hash & mask;; slot = (slot + 1) & mask) {
+			Object key = keys[slot];
+			if (key == null) {
+				return -1;
+			}
+			if (hashes[slot] == hash && equal(key, element)) {
+				return slot;
+			}
+		}
+	}
+
+	/**
+	 * Frees the given slot, shifting back the following entries of the probe
+	 * sequence so that no tombstones are needed.
+	 */
+	private void delete(int slot) {
+		int mask = keys.length - 1;
+		int free = slot;
+		for (int next = (slot + 1) & mask; keys[next] != null; next = (next + 1) & mask) {
+			int home = hashes[next] & mask;
+			// move the entry unless its home lies cyclically in (free, next]
+			if (((next - home) & mask) >= ((next - free) & mask)) {
+				keys[free] = keys[next];
+				hashes[free] = hashes[next];
+				widgets[free] = widgets[next];
+				overflow[free] = overflow[next];
+				free = next;
+			}
+		}
+		keys[free] = null;
+		widgets[free] = null;
+		overflow[free] = 0;
+		size--;
+	}
+
+	private static int capacityFor(int count) {
+		int capacity = MIN_CAPACITY;
+		while (capacity * 3 / 4 <= count) {
+			capacity *= 2;
+		}
+		return capacity;
+	}
+
+	private void allocate(int capacity) {
+		Object[] oldKeys = keys;
+		int[] oldHashes = hashes;
+		Widget[] oldWidgets = widgets;
+		int[] oldOverflow = overflow;
+		keys = new Object[capacity];
+		hashes = new int[capacity];
+		widgets = new Widget[capacity];
+		overflow = new int[capacity];
+		threshold = capacity * 3 / 4;
+		if (oldKeys == null) {
+			return;
+		}
+		int mask = capacity - 1;
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != null) {
+				int slot = oldHashes[i] & mask;
+				while (keys[slot] != null) {
+					slot = (slot + 1) & mask;
+				}
+				keys[slot] = oldKeys[i];
+				hashes[slot] = oldHashes[i];
+				widgets[slot] = oldWidgets[i];
+				overflow[slot] = oldOverflow[i];
+			}
+		}
+	}
+
+	/**
+	 * @return one plus the index of a pool slot holding the widget, at the end
+	 *         of a chain
+	 */
+	private int allocateOverflow(Widget widget) {
+		int index;
+		if (freeSlots != 0) {
+			index = freeSlots;
+			freeSlots = poolNext[index - 1];
+		} else {
+			if (poolWidgets == null) {
+				poolWidgets = new Widget[4];
+				poolNext = new int[4];
+			} else if (poolTop == poolWidgets.length) {
+				Widget[] newWidgets = new Widget[poolTop * 2];
+				System.arraycopy(poolWidgets, 0, newWidgets, 0, poolTop);
+				poolWidgets = newWidgets;
+				int[] newNext = new int[poolTop * 2];
+				System.arraycopy(poolNext, 0, newNext, 0, poolTop);
+				poolNext = newNext;
+			}
+			index = ++poolTop;
+		}
+		poolWidgets[index - 1] = widget;
+		poolNext[index - 1] = 0;
+		overflowCount++;
+		return index;
+	}
+
+	private void releaseOverflow(int head) {
+		while (head != 0) {
+			int next = poolNext[head - 1];
+			releaseSlot(head);
+			head = next;
+		}
+	}
+
+	private void releaseSlot(int index) {
+		poolWidgets[index - 1] = null;
+		poolNext[index - 1] = freeSlots;
+		freeSlots = index;
+		overflowCount--;
+	}
+}
@@ -66,10 +66,10 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 
 	/**
 	 * A map from the viewer's model elements to SWT widgets. (key type:
-	 * <code>Object</code>, value type: <code>Widget</code>, or <code>Widget[]</code>).
+	 * <code>Object</code>, value type: <code>Widget</code>).
 	 * <code>null</code> means that the element map is disabled.
 	 */
-	private CustomHashtable elementMap;
+	private ElementMap elementMap;
 
 	/**
 	 * The comparer to use for comparing elements, or <code>null</code> to use
@@ -713,8 +713,14 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 * @return the corresponding widget, or <code>null</code> if none
 	 */
 	protected final Widget findItem(Object element) {
-		Widget[] result = findItems(element);
-		return result.length == 0 ? null : result[0];
+		Widget result = doFindInputItem(element);
+		if (result != null) {
+			return result;
+		}
+		if (usingElementMap()) {
+			return elementMap.getFirst(element);
+		}
+		return doFindItem(element);
 	}
 
 	/**
@@ -749,14 +755,8 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 		}
 		// if we have an element map use it, otherwise search for the item.
 		if (usingElementMap()) {
-			Object widgetOrWidgets = elementMap.get(element);
-			if (widgetOrWidgets==null) {
-				return NO_WIDGETS;
-			} else if (widgetOrWidgets instanceof Widget) {
-				return new Widget[] {(Widget) widgetOrWidgets};
-			} else {
-				return (Widget[])widgetOrWidgets;
-			}
+			Widget[] widgets = elementMap.get(element);
+			return widgets == null ? NO_WIDGETS : widgets;
 		}
 		result = doFindItem(element);
 		return result == null ? NO_WIDGETS : new Widget[] { result };
@@ -1270,25 +1270,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 */
 	protected void mapElement(Object element, Widget item) {
 		if (elementMap != null) {
-			Object widgetOrWidgets = elementMap.get(element);
-			if (widgetOrWidgets == null) {
-				elementMap.put(element, item);
-			} else if (widgetOrWidgets instanceof Widget) {
-				if (widgetOrWidgets != item) {
-					elementMap.put(element, new Widget[] {
-							(Widget) widgetOrWidgets, item });
-				}
-			} else {
-				Widget[] widgets = (Widget[]) widgetOrWidgets;
-				int indexOfItem = Arrays.asList(widgets).indexOf(item);
-				if (indexOfItem == -1) {
-					int length = widgets.length;
-					System.arraycopy(widgets, 0,
-							widgets = new Widget[length + 1], 0, length);
-					widgets[length] = item;
-					elementMap.put(element, widgets);
-				}
-			}
+			elementMap.add(element, item);
 		}
 	}
 
@@ -1762,7 +1744,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 		Assert.isTrue(getInput() == null,
 				"Can only enable the hash look up before input has been set");//$NON-NLS-1$
 		if (enable) {
-			elementMap = newHashtable(CustomHashtable.DEFAULT_CAPACITY);
+			elementMap = new ElementMap(getComparer());
 		} else {
 			elementMap = null;
 		}
@@ -1780,7 +1762,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	public void setComparer(IElementComparer comparer) {
 		this.comparer = comparer;
 		if (elementMap != null) {
-			elementMap = new CustomHashtable(elementMap, comparer);
+			elementMap = new ElementMap(elementMap, comparer);
 		}
 	}
 
@@ -1842,6 +1824,18 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 		return findItems(element);
 	}
 
+	/**
+	 * Hook for testing and diagnostics.
+	 *
+	 * @return the estimated number of bytes used by the element map, not
+	 *         counting the elements and widgets, or <code>-1</code> if the
+	 *         element map is disabled
+	 * @since 3.29
+	 */
+	public long testElementMapMemoryUsage() {
+		return elementMap == null ? -1 : elementMap.getMemoryUsage();
+	}
+
 	/**
 	 * Removes all elements from the map.
 	 * <p>
@@ -1851,7 +1845,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 */
 	protected void unmapAllElements() {
 		if (elementMap != null) {
-			elementMap = newHashtable(CustomHashtable.DEFAULT_CAPACITY);
+			elementMap = new ElementMap(getComparer());
 		}
 	}
 
@@ -1888,39 +1882,8 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 * @since 2.0
 	 */
 	protected void unmapElement(Object element, Widget item) {
-		// double-check that the element actually maps to the given item before
-		// unmapping it
 		if (elementMap != null) {
-			Object widgetOrWidgets = elementMap.get(element);
-			if (widgetOrWidgets == null) {
-				// item was not mapped, return
-				return;
-			} else if (widgetOrWidgets instanceof Widget) {
-				if (item == widgetOrWidgets) {
-					elementMap.remove(element);
-				}
-			} else {
-				Widget[] widgets = (Widget[]) widgetOrWidgets;
-				int indexOfItem = Arrays.asList(widgets).indexOf(item);
-				if (indexOfItem == -1) {
-					return;
-				}
-				int length = widgets.length;
-				if (indexOfItem == 0) {
-					if(length == 1) {
-						elementMap.remove(element);
-					} else {
-						Widget[] updatedWidgets = new Widget[length - 1];
-						System.arraycopy(widgets, 1, updatedWidgets, 0, length -1 );
-						elementMap.put(element, updatedWidgets);
-					}
-				} else {
-					Widget[] updatedWidgets = new Widget[length - 1];
-					System.arraycopy(widgets, 0, updatedWidgets, 0, indexOfItem);
-					System.arraycopy(widgets, indexOfItem + 1, updatedWidgets, indexOfItem, length - indexOfItem - 1);
-					elementMap.put(element, updatedWidgets);
-				}
-			}
+			elementMap.remove(element, item);
 		}
 	}
 
@@ -2269,7 +2232,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 		comparer = null;
 		if (filters != null)
 			filters.clear();
-		elementMap = newHashtable(1);
+		elementMap = new ElementMap(null);
 		openListeners.clear();
 		doubleClickListeners.clear();
 		colorAndFontCollector.clear();
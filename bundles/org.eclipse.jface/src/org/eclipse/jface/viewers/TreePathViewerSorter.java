@@ -91,7 +91,9 @@ public class TreePathViewerSorter extends ViewerSorter {
 	 * <p>
 	 * The default implementation of this method uses the
 	 * java.util.Arrays#sort algorithm on the given array,
-	 * calling {@link #compare(Viewer, TreePath, Object, Object)} to compare elements.
+	 * calling {@link #compare(Viewer, TreePath, Object, Object)} to compare elements,
+	 * or sorts the elements by their precomputed category and label if
+	 * {@link #useSortKeys()} returns <code>true</code>.
 	 * </p>
 	 * <p>
 	 * Subclasses may reimplement this method to provide a more optimized implementation.
@@ -102,6 +104,10 @@ public class TreePathViewerSorter extends ViewerSorter {
 	 * @param elements the elements to sort
 	 */
 	public void sort(final Viewer viewer, final TreePath parentPath, Object[] elements) {
+		if (elements.length > 1 && useSortKeys()) {
+			sortByKeys(viewer, elements);
+			return;
+		}
 		Arrays.sort(elements, (a, b) -> TreePathViewerSorter.this.compare(viewer, parentPath, a, b));
 	}
 }
@@ -16,6 +16,8 @@
 
 package org.eclipse.jface.viewers;
 
+import java.text.CollationKey;
+import java.text.Collator;
 import java.util.Arrays;
 import java.util.Comparator;
 
@@ -41,6 +43,14 @@ import org.eclipse.jface.util.Policy;
  * categorization; and they may override the <code>compare</code> methods
  * to provide a totally different way of sorting elements.
  * </p>
+ * <p>
+ * Unless the <code>compare</code> method is overridden, <code>sort</code>
+ * computes the category and the label of each element only once and sorts the
+ * elements by these keys, using {@link CollationKey}s if the comparator used
+ * to sort strings is a {@link Collator}. Subclasses overriding
+ * <code>compare</code> in a way consistent with the default implementation can
+ * enable this by overriding {@link #useSortKeys()}.
+ * </p>
  * @see IStructuredContentProvider
  * @see StructuredViewer
  *
@@ -53,6 +63,46 @@ public class ViewerComparator {
 	 */
 	private Comparator<? super String> comparator;
 
+	/**
+	 * Whether the classes use the default comparison of elements.
+	 */
+	private static final ClassValue<Boolean> DEFAULT_COMPARE = new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			try {
+				if (type.getMethod("compare", Viewer.class, Object.class, Object.class) //$NON-NLS-1$
+						.getDeclaringClass() != ViewerComparator.class) {
+					return Boolean.FALSE;
+				}
+				if (TreePathViewerSorter.class.isAssignableFrom(type)) {
+					return Boolean.valueOf(type
+							.getMethod("compare", Viewer.class, TreePath.class, Object.class, Object.class) //$NON-NLS-1$
+							.getDeclaringClass() == TreePathViewerSorter.class);
+				}
+				return Boolean.TRUE;
+			} catch (NoSuchMethodException | SecurityException e) {
+				return Boolean.FALSE;
+			}
+		}
+	};
+
+	/**
+	 * The precomputed keys of an element.
+	 */
+	private static final class SortKey {
+		final Object element;
+		final int category;
+		final String label;
+		final CollationKey collationKey;
+
+		SortKey(Object element, int category, String label, CollationKey collationKey) {
+			this.element = element;
+			this.category = category;
+			this.label = label;
+			this.collationKey = collationKey;
+		}
+	}
+
 	/**
 	 * Creates a new {@link ViewerComparator}, which uses the default comparator
 	 * to sort strings.
@@ -192,7 +242,8 @@ public class ViewerComparator {
 	 * The default implementation of this method uses the
 	 * {@link java.util.Arrays#sort(Object[], Comparator)} algorithm on the
 	 * given array, calling {@link #compare(Viewer, Object, Object)} to compare
-	 * elements.
+	 * elements, or sorts the elements by their precomputed category and label
+	 * if {@link #useSortKeys()} returns <code>true</code>.
 	 * </p>
 	 * <p>
 	 * Subclasses may reimplement this method to provide a more optimized implementation.
@@ -203,7 +254,11 @@ public class ViewerComparator {
 	 */
 	public void sort(final Viewer viewer, Object[] elements) {
 		try {
-			Arrays.sort(elements, (a, b) -> ViewerComparator.this.compare(viewer, a, b));
+			if (elements.length > 1 && useSortKeys()) {
+				sortByKeys(viewer, elements);
+			} else {
+				Arrays.sort(elements, (a, b) -> ViewerComparator.this.compare(viewer, a, b));
+			}
 		} catch (IllegalArgumentException e) {
 			String msg = e
 					+ "\nWorkaround for comparator violation:\n\tSet system property -Djava.util.Arrays.useLegacyMergeSort=true" //$NON-NLS-1$
@@ -228,4 +283,57 @@ public class ViewerComparator {
 			throw e;
 		}
 	}
+
+	/**
+	 * Returns whether {@link #sort(Viewer, Object[])} may compute the category
+	 * and the label of each element once and sort the elements by these keys,
+	 * instead of comparing the elements with
+	 * {@link #compare(Viewer, Object, Object)}. This is much faster for large
+	 * numbers of elements, since the label provider is only asked once for the
+	 * label of each element.
+	 * <p>
+	 * The default implementation returns <code>true</code> if
+	 * {@link #compare(Viewer, Object, Object)} is not overridden, nor for
+	 * {@link TreePathViewerSorter}s the <code>compare</code> method taking the
+	 * parent path. Subclasses overriding them may return <code>true</code> if
+	 * the order they define is the one defined by the default implementation
+	 * of <code>compare</code>, i.e. by {@link #category(Object)} and the
+	 * labels compared with {@link #getComparator()}.
+	 * </p>
+	 *
+	 * @return <code>true</code> if the elements may be sorted by precomputed
+	 *         keys
+	 * @since 3.29
+	 */
+	protected boolean useSortKeys() {
+		return DEFAULT_COMPARE.get(getClass()).booleanValue();
+	}
+
+	/**
+	 * Sorts the elements by their category and label, computing them once for
+	 * each element.
+	 */
+	void sortByKeys(Viewer viewer, Object[] elements) {
+		Comparator<? super String> stringComparator = getComparator();
+		Collator collator = stringComparator instanceof Collator ? (Collator) stringComparator : null;
+		SortKey[] keys = new SortKey[elements.length];
+		for (int i = 0; i < elements.length; i++) {
+			Object element = elements[i];
+			String label = getLabel(viewer, element);
+			keys[i] = new SortKey(element, category(element), label,
+					collator != null ? collator.getCollationKey(label) : null);
+		}
+		Comparator<SortKey> keyComparator;
+		if (collator != null) {
+			keyComparator = (k1, k2) -> k1.category != k2.category ? k1.category - k2.category
+					: k1.collationKey.compareTo(k2.collationKey);
+		} else {
+			keyComparator = (k1, k2) -> k1.category != k2.category ? k1.category - k2.category
+					: stringComparator.compare(k1.label, k2.label);
+		}
+		Arrays.sort(keys, keyComparator);
+		for (int i = 0; i < keys.length; i++) {
+			elements[i] = keys[i].element;
+		}
+	}
 }
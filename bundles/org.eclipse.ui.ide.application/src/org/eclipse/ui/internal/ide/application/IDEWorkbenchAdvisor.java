@@ -84,6 +84,7 @@ import org.eclipse.ui.internal.ide.IDEWorkbenchErrorHandler;
 import org.eclipse.ui.internal.ide.IDEWorkbenchMessages;
 import org.eclipse.ui.internal.ide.IDEWorkbenchPlugin;
 import org.eclipse.ui.internal.ide.StatusUtil;
+import org.eclipse.ui.internal.ide.dialogs.ResourceNameIndex;
 import org.eclipse.ui.internal.ide.undo.WorkspaceUndoMonitor;
 import org.eclipse.ui.internal.progress.ProgressMonitorJobsDialog;
 import org.eclipse.ui.progress.IProgressService;
@@ -282,6 +283,8 @@ public class IDEWorkbenchAdvisor extends WorkbenchAdvisor {
 			initializeSettingsChangeListener();
 			Display.getCurrent().addListener(SWT.Settings,
 					settingsChangeListener);
+			// have the index ready when Open Resource is used first
+			ResourceNameIndex.getDefault();
 		} finally {
 			// Resume the job manager to allow background jobs to run.
 			// The job manager was suspended by the IDEApplication.start method.
@@ -82,6 +82,7 @@ import org.eclipse.ui.internal.WorkbenchMessages;
 import org.eclipse.ui.internal.WorkbenchPlugin;
 import org.eclipse.ui.internal.ide.IDEWorkbenchMessages;
 import org.eclipse.ui.internal.ide.IIDEHelpContextIds;
+import org.eclipse.ui.internal.ide.dialogs.ResourceNameIndex;
 import org.eclipse.ui.internal.ide.model.ResourceFactory;
 import org.eclipse.ui.model.WorkbenchLabelProvider;
 import org.eclipse.ui.statushandlers.StatusManager;
@@ -539,6 +540,16 @@ public class FilteredResourcesSelectionDialog extends FilteredItemsSelectionDial
 	protected void fillContentProvider(AbstractContentProvider contentProvider, ItemsFilter itemsFilter,
 			IProgressMonitor progressMonitor) throws CoreException {
 		if (itemsFilter instanceof ResourceFilter) {
+			ResourceFilter resourceFilter = (ResourceFilter) itemsFilter;
+			String namePrefix = resourceFilter.getNamePrefix();
+			ResourceNameIndex index = namePrefix != null ? ResourceNameIndex.getDefault() : null;
+			List<IResource> indexedResources = index != null ? index.getResources(container, namePrefix) : null;
+			if (indexedResources != null) {
+				fillContentProvider(contentProvider, resourceFilter, indexedResources, progressMonitor);
+				progressMonitor.done();
+				return;
+			}
+
 			IResource[] members = container.members();
 			progressMonitor.beginTask(WorkbenchMessages.FilteredItemsSelectionDialog_searchJob_taskName,
 					members.length);
@@ -560,6 +571,30 @@ public class FilteredResourcesSelectionDialog extends FilteredItemsSelectionDial
 		progressMonitor.done();
 	}
 
+	/**
+	 * Adds the resources found in the name index which match the filter and
+	 * would have been found by walking the container.
+	 */
+	private void fillContentProvider(AbstractContentProvider contentProvider, ResourceFilter resourceFilter,
+			List<IResource> resources, IProgressMonitor progressMonitor) {
+		progressMonitor.beginTask(WorkbenchMessages.FilteredItemsSelectionDialog_searchJob_taskName,
+				resources.size());
+		int count = 0;
+		for (IResource resource : resources) {
+			if (resourceFilter.matchItem(resource) && resource.isAccessible()
+					&& !resource.isHidden(IResource.CHECK_ANCESTORS)
+					&& !resource.isTeamPrivateMember(IResource.CHECK_ANCESTORS)
+					&& (resourceFilter.isShowDerived() || !resource.isDerived(IResource.CHECK_ANCESTORS))) {
+				contentProvider.add(resource, resourceFilter);
+			}
+			if (++count % 1000 == 0) {
+				progressMonitor.worked(1000);
+				if (progressMonitor.isCanceled())
+					break;
+			}
+		}
+	}
+
 	private boolean parentIsRoot(IResource resource) {
 		if (resource.getParent() == null) {
 			return false;
@@ -1151,6 +1186,58 @@ public class FilteredResourcesSelectionDialog extends FilteredItemsSelectionDial
 			return false;
 		}
 
+		/**
+		 * Returns the prefix, ignoring case, of the names of all resources that
+		 * may match this filter. The prefix may be shorter than the text typed
+		 * by the user, down to the empty prefix if any name may match, e.g. for
+		 * wildcard patterns which also match the words within names.
+		 *
+		 * @return the prefix, or <code>null</code> if it cannot be determined
+		 *         because the matching has been customized
+		 */
+		String getNamePrefix() {
+			if (getClass() != ResourceFilter.class || patternMatcher.getClass() != SearchPattern.class) {
+				return null;
+			}
+			String prefix = getNamePrefix(patternMatcher);
+			if (namePattern != null) {
+				// names may also match the name and extension patterns
+				String otherPrefix = getNamePrefix(namePattern);
+				int length = 0;
+				while (length < prefix.length() && length < otherPrefix.length()
+						&& Character.toLowerCase(prefix.charAt(length)) == Character
+								.toLowerCase(otherPrefix.charAt(length))) {
+					length++;
+				}
+				prefix = prefix.substring(0, length);
+			}
+			return prefix;
+		}
+
+		private String getNamePrefix(SearchPattern pattern) {
+			String prefix;
+			switch (pattern.getMatchRule()) {
+			case SearchPattern.RULE_EXACT_MATCH:
+			case SearchPattern.RULE_PREFIX_MATCH:
+				prefix = pattern.getPattern();
+				break;
+			case SearchPattern.RULE_CAMELCASE_MATCH:
+				// the first character has to match
+				prefix = pattern.getPattern().substring(0, 1);
+				break;
+			default:
+				return ""; //$NON-NLS-1$
+			}
+			// only rely on ASCII characters to be compared ignoring case the
+			// same way by the index and the pattern
+			for (int i = 0; i < prefix.length(); i++) {
+				if (prefix.charAt(i) >= 128) {
+					return prefix.substring(0, i);
+				}
+			}
+			return prefix;
+		}
+
 		/**
 		 * Check show derived flag for a filter
 		 *
@@ -45,6 +45,7 @@ import org.eclipse.ui.IWorkbenchPage;
 import org.eclipse.ui.IWorkbenchWindow;
 import org.eclipse.ui.PartInitException;
 import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.internal.ide.dialogs.ResourceNameIndex;
 import org.eclipse.ui.internal.ide.registry.MarkerImageProviderRegistry;
 import org.eclipse.ui.internal.ide.registry.ProjectImageRegistry;
 import org.eclipse.ui.internal.ide.registry.UnassociatedEditorStrategyRegistry;
@@ -335,6 +336,7 @@ public class IDEWorkbenchPlugin extends AbstractUIPlugin {
 
 	@Override
 	public void stop(BundleContext context) throws Exception {
+		ResourceNameIndex.shutdown();
 		super.stop(context);
 		if (resourceManager != null)
 			resourceManager.dispose();
@@ -47,12 +47,25 @@ public class Policy {
 	 */
 	public static boolean DEBUG_CORE_EXCEPTIONS = DEFAULT;
 
+	/**
+	 * Option for reporting the time taken by updates of the marker views.
+	 */
+	public static boolean DEBUG_MARKERS_UPDATES = DEFAULT;
+
+	/**
+	 * Option for reporting the time taken to build and save the resource name
+	 * index.
+	 */
+	public static boolean DEBUG_RESOURCE_NAME_INDEX = DEFAULT;
+
 	static {
 		if (getDebugOption("/debug")) { //$NON-NLS-1$
 			DEBUG_OPEN_ERROR_DIALOG = getDebugOption("/debug/internalerror/openDialog"); //$NON-NLS-1$
 			DEBUG_GC = getDebugOption("/debug/gc"); //$NON-NLS-1$
 			DEBUG_UNDOMONITOR = getDebugOption("/debug/undomonitor"); //$NON-NLS-1$
 			DEBUG_CORE_EXCEPTIONS = getDebugOption("/debug/coreExceptions"); //$NON-NLS-1$
+			DEBUG_MARKERS_UPDATES = getDebugOption("/debug/markers/updates"); //$NON-NLS-1$
+			DEBUG_RESOURCE_NAME_INDEX = getDebugOption("/debug/resourceNameIndex"); //$NON-NLS-1$
 		}
 	}
 
@@ -0,0 +1,685 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.ide.dialogs;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IResourceProxy;
+import org.eclipse.core.resources.ISaveContext;
+import org.eclipse.core.resources.ISaveParticipant;
+import org.eclipse.core.resources.ISavedState;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.ui.internal.ide.IDEWorkbenchPlugin;
+import org.eclipse.ui.internal.ide.Policy;
+
+/**
+ * An index of the names of all resources in the workspace, used by the Open
+ * Resource dialog to find the resources whose names start with a prefix
+ * without walking the workspace.
+ * <p>
+ * The index is built by a background job, kept up to date from the resource
+ * deltas and saved in the state location of the plug-in together with the
+ * workspace, so that on the next start only the changes since the last save
+ * have to be applied. Projects which are added or opened are scanned by another
+ * background job, and the index is not ready until they have been. Like the
+ * walk it replaces, it doesn't contain hidden and team private resources, but
+ * it does contain derived resources and the members of derived folders.
+ * </p>
+ * <p>
+ * The index can be disabled with the system property
+ * <code>org.eclipse.ui.ide.resourceNameIndex=false</code>.
+ * </p>
+ */
+public final class ResourceNameIndex {
+
+	private static final boolean ENABLED = Boolean
+			.parseBoolean(System.getProperty("org.eclipse.ui.ide.resourceNameIndex", "true")); //$NON-NLS-1$ //$NON-NLS-2$
+
+	private static final String DEBUG_PREFIX = "[ResourceNameIndex] "; //$NON-NLS-1$
+
+	/**
+	 * The identifier of the save participant, separate from the one of the
+	 * plug-in so that the saved state of the index is independent of other
+	 * participants of the plug-in.
+	 */
+	private static final String SAVE_PARTICIPANT_ID = IDEWorkbenchPlugin.IDE_WORKBENCH + ".resourceNameIndex"; //$NON-NLS-1$
+
+	/**
+	 * The key under which the saved index file is registered with the
+	 * workspace.
+	 */
+	private static final IPath SAVE_KEY = new Path("resourceNameIndex"); //$NON-NLS-1$
+
+	private static final String FILE_PREFIX = "resourceNameIndex."; //$NON-NLS-1$
+
+	private static final int FORMAT_VERSION = 1;
+
+	private static ResourceNameIndex instance;
+
+	/**
+	 * The indexed resources by their {@link #toKey(String) key}. The values are
+	 * either a single resource or an array of the resources with the same key.
+	 */
+	private final TreeMap<String, Object> resources = new TreeMap<>();
+
+	/**
+	 * The indexed resources by their full path, to find the members of a
+	 * container.
+	 */
+	private final TreeMap<String, IResource> resourcesByPath = new TreeMap<>();
+
+	/**
+	 * The changes received while the index is being built, or
+	 * <code>null</code> once it is ready.
+	 */
+	private List<Change> pendingChanges = new ArrayList<>();
+
+	private final IResourceChangeListener listener = this::resourceChanged;
+
+	private final ISaveParticipant saveParticipant = new SaveParticipant();
+
+	/**
+	 * The projects waiting to be scanned by the {@link #scanJob}.
+	 */
+	private final Set<IProject> projectsToScan = new LinkedHashSet<>();
+
+	/**
+	 * The number of projects being scanned.
+	 */
+	private int scanningCount;
+
+	private final Job scanJob = new Job("Indexing resource names of projects") { //$NON-NLS-1$
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			IProject project;
+			while ((project = nextProjectToScan()) != null) {
+				try {
+					scan(project, monitor);
+				} catch (OperationCanceledException e) {
+					return Status.CANCEL_STATUS;
+				} catch (CoreException e) {
+					IDEWorkbenchPlugin.log("Cannot index the resource names", e.getStatus()); //$NON-NLS-1$
+				} finally {
+					synchronized (ResourceNameIndex.this) {
+						scanningCount--;
+					}
+				}
+			}
+			return Status.OK_STATUS;
+		}
+	};
+
+	private final Job initializeJob = new Job("Indexing resource names") { //$NON-NLS-1$
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			try {
+				initialize(monitor);
+			} catch (OperationCanceledException e) {
+				return Status.CANCEL_STATUS;
+			} catch (CoreException e) {
+				IDEWorkbenchPlugin.log("Cannot index the resource names", e.getStatus()); //$NON-NLS-1$
+			}
+			return Status.OK_STATUS;
+		}
+	};
+
+	private static final class Change {
+		static final int ADD = 0;
+		static final int REMOVE = 1;
+		static final int REMOVE_TREE = 2;
+
+		final int kind;
+		final IResource resource;
+
+		Change(int kind, IResource resource) {
+			this.kind = kind;
+			this.resource = resource;
+		}
+	}
+
+	private ResourceNameIndex() {
+		initializeJob.setSystem(true);
+		initializeJob.setPriority(Job.DECORATE);
+		scanJob.setSystem(true);
+		scanJob.setPriority(Job.DECORATE);
+	}
+
+	/**
+	 * Returns the index of the workspace, starting to build it if this hasn't
+	 * been done yet.
+	 *
+	 * @return the index, or <code>null</code> if the index is disabled
+	 */
+	public static synchronized ResourceNameIndex getDefault() {
+		if (instance == null && ENABLED) {
+			instance = new ResourceNameIndex();
+			instance.start();
+		}
+		return instance;
+	}
+
+	/**
+	 * Stops updating the index, if it has been started.
+	 */
+	public static synchronized void shutdown() {
+		if (instance != null) {
+			instance.stop();
+			instance = null;
+		}
+	}
+
+	private void start() {
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(listener, IResourceChangeEvent.POST_CHANGE);
+		initializeJob.schedule();
+	}
+
+	private void stop() {
+		initializeJob.cancel();
+		scanJob.cancel();
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		workspace.removeResourceChangeListener(listener);
+		workspace.removeSaveParticipant(SAVE_PARTICIPANT_ID);
+	}
+
+	/**
+	 * Returns whether the index has been built, including the projects added or
+	 * opened since, and can be queried.
+	 *
+	 * @return <code>true</code> if the index is ready
+	 */
+	public synchronized boolean isReady() {
+		return pendingChanges == null && projectsToScan.isEmpty() && scanningCount == 0;
+	}
+
+	/**
+	 * Returns the indexed resources within the given container whose names
+	 * start with the given prefix, ignoring case. The resources may include
+	 * resources which are not accessible or have been made hidden or team
+	 * private since they have been indexed.
+	 *
+	 * @param container
+	 *            the container to which the returned resources have to
+	 *            belong, at any depth or as the container itself
+	 * @param namePrefix
+	 *            the prefix of the names
+	 * @return the resources, or <code>null</code> if the index is not ready
+	 */
+	public List<IResource> getResources(IContainer container, String namePrefix) {
+		IPath containerPath = container.getFullPath();
+		boolean allResources = container.getType() == IResource.ROOT;
+		String keyPrefix = toKey(namePrefix);
+		List<IResource> result = new ArrayList<>();
+		synchronized (this) {
+			if (!isReady()) {
+				return null;
+			}
+			for (Map.Entry<String, Object> entry : resources.tailMap(keyPrefix).entrySet()) {
+				if (!entry.getKey().startsWith(keyPrefix)) {
+					break;
+				}
+				Object value = entry.getValue();
+				if (value instanceof IResource) {
+					IResource resource = (IResource) value;
+					if (allResources || containerPath.isPrefixOf(resource.getFullPath())) {
+						result.add(resource);
+					}
+				} else {
+					for (IResource resource : (IResource[]) value) {
+						if (allResources || containerPath.isPrefixOf(resource.getFullPath())) {
+							result.add(resource);
+						}
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the key of a name, which is equal for names that are equal
+	 * ignoring case as defined by {@link String#equalsIgnoreCase(String)}.
+	 */
+	private static String toKey(String name) {
+		char[] chars = name.toCharArray();
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+		}
+		String key = new String(chars);
+		// share the string with the name if possible
+		return key.equals(name) ? name : key;
+	}
+
+	private void initialize(IProgressMonitor monitor) throws CoreException {
+		long startTime = System.currentTimeMillis();
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		ISavedState savedState = workspace.addSaveParticipant(SAVE_PARTICIPANT_ID, saveParticipant);
+		boolean loaded = false;
+		if (savedState != null) {
+			IPath savedFile = savedState.lookup(SAVE_KEY);
+			if (savedFile != null) {
+				loaded = load(getStateLocation().append(savedFile).toFile());
+			}
+			if (loaded) {
+				// apply the changes since the index has been saved
+				savedState.processResourceChangeEvents(listener);
+			}
+		}
+		if (!loaded) {
+			workspace.getRoot().accept((IResourceProxy proxy) -> {
+				if (monitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+				if (proxy.getType() != IResource.ROOT) {
+					IResource resource = proxy.requestResource();
+					synchronized (this) {
+						add(resource);
+					}
+				}
+				return true;
+			}, IResource.NONE);
+		}
+		synchronized (this) {
+			// the changes reported while the index was being built may include
+			// changes the index already reflects, applying them again is
+			// harmless since each change sets the state of the resource
+			apply(pendingChanges);
+			pendingChanges = null;
+		}
+		if (Policy.DEBUG_RESOURCE_NAME_INDEX) {
+			System.out.println(DEBUG_PREFIX + (loaded ? "loaded " : "built ") + getSize() + " entries in " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ (System.currentTimeMillis() - startTime) + " ms"); //$NON-NLS-1$
+		}
+	}
+
+	private void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta = event.getDelta();
+		if (delta == null) {
+			return;
+		}
+		List<Change> changes = new ArrayList<>();
+		List<IProject> projects = new ArrayList<>();
+		try {
+			delta.accept(child -> {
+				IResource resource = child.getResource();
+				switch (child.getKind()) {
+				case IResourceDelta.ADDED:
+					changes.add(new Change(Change.ADD, resource));
+					if (resource.getType() == IResource.PROJECT) {
+						// don't walk the members of added projects in the
+						// listener
+						projects.add((IProject) resource);
+						return false;
+					}
+					break;
+				case IResourceDelta.REMOVED:
+					changes.add(new Change(Change.REMOVE, resource));
+					break;
+				case IResourceDelta.CHANGED:
+					int flags = child.getFlags();
+					if (resource.getType() == IResource.PROJECT && (flags & IResourceDelta.OPEN) != 0) {
+						// the members of opened or closed projects are not
+						// reported
+						changes.add(new Change(Change.REMOVE_TREE, resource));
+						changes.add(new Change(Change.ADD, resource));
+						if (resource.isAccessible()) {
+							projects.add((IProject) resource);
+						}
+						return false;
+					}
+					if ((flags & IResourceDelta.TYPE) != 0) {
+						changes.add(new Change(Change.REMOVE, resource));
+						changes.add(new Change(Change.ADD, resource));
+					}
+					break;
+				default:
+					break;
+				}
+				return true;
+			});
+		} catch (CoreException e) {
+			IDEWorkbenchPlugin.log("Cannot update the resource name index", e.getStatus()); //$NON-NLS-1$
+		}
+		synchronized (this) {
+			submit(changes);
+			if (!projects.isEmpty()) {
+				projectsToScan.addAll(projects);
+				scanJob.schedule();
+			}
+		}
+	}
+
+	/**
+	 * Applies the changes, or keeps them until the index has been built.
+	 */
+	private void submit(List<Change> changes) {
+		if (pendingChanges != null) {
+			pendingChanges.addAll(changes);
+		} else {
+			apply(changes);
+		}
+	}
+
+	private synchronized IProject nextProjectToScan() {
+		Iterator<IProject> iterator = projectsToScan.iterator();
+		if (!iterator.hasNext()) {
+			return null;
+		}
+		IProject project = iterator.next();
+		iterator.remove();
+		scanningCount++;
+		return project;
+	}
+
+	/**
+	 * Adds the members of an added or opened project.
+	 */
+	private void scan(IProject project, IProgressMonitor monitor) throws CoreException {
+		if (!project.isAccessible()) {
+			return;
+		}
+		List<Change> changes = new ArrayList<>();
+		project.accept((IResourceProxy proxy) -> {
+			if (monitor.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+			changes.add(new Change(Change.ADD, proxy.requestResource()));
+			return true;
+		}, IResource.NONE);
+		synchronized (this) {
+			// the listener removes the members again once a project closed
+			// during the walk is reported, unless it is already
+			if (project.isAccessible()) {
+				submit(changes);
+			}
+		}
+	}
+
+	private void apply(List<Change> changes) {
+		for (Change change : changes) {
+			switch (change.kind) {
+			case Change.ADD:
+				if (change.resource.getType() != IResource.ROOT) {
+					add(change.resource);
+				}
+				break;
+			case Change.REMOVE:
+				remove(change.resource);
+				break;
+			case Change.REMOVE_TREE:
+				removeTree(change.resource.getFullPath());
+				break;
+			default:
+				break;
+			}
+		}
+	}
+
+	private void add(IResource resource) {
+		IResource existing = resourcesByPath.get(resource.getFullPath().toString());
+		if (resource.equals(existing)) {
+			return;
+		}
+		if (existing != null) {
+			// a resource whose type changed
+			remove(existing);
+		}
+		String key = toKey(resource.getName());
+		Object value = resources.get(key);
+		if (value == null) {
+			resources.put(key, resource);
+		} else if (value instanceof IResource) {
+			resources.put(key, new IResource[] { (IResource) value, resource });
+		} else {
+			IResource[] array = (IResource[]) value;
+			array = Arrays.copyOf(array, array.length + 1);
+			array[array.length - 1] = resource;
+			resources.put(key, array);
+		}
+		resourcesByPath.put(resource.getFullPath().toString(), resource);
+	}
+
+	/**
+	 * Removes the resource with the path of the given resource, whatever its
+	 * type.
+	 */
+	private void remove(IResource resource) {
+		String key = toKey(resource.getName());
+		IPath path = resource.getFullPath();
+		if (resourcesByPath.remove(path.toString()) == null) {
+			return;
+		}
+		Object value = resources.get(key);
+		if (value instanceof IResource) {
+			if (((IResource) value).getFullPath().equals(path)) {
+				resources.remove(key);
+			}
+		} else if (value != null) {
+			IResource[] array = (IResource[]) value;
+			for (int i = 0; i < array.length; i++) {
+				if (array[i].getFullPath().equals(path)) {
+					if (array.length == 2) {
+						resources.put(key, array[1 - i]);
+					} else {
+						IResource[] newArray = new IResource[array.length - 1];
+						System.arraycopy(array, 0, newArray, 0, i);
+						System.arraycopy(array, i + 1, newArray, i, newArray.length - i);
+						resources.put(key, newArray);
+					}
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Removes the resource with the given path and all its members.
+	 */
+	private void removeTree(IPath path) {
+		String pathKey = path.toString();
+		IResource resource = resourcesByPath.get(pathKey);
+		if (resource != null) {
+			remove(resource);
+		}
+		// the paths of the members start with the path and a separator
+		NavigableMap<String, IResource> members = resourcesByPath.subMap(pathKey + IPath.SEPARATOR, true,
+				pathKey + (char) (IPath.SEPARATOR + 1), false);
+		for (IResource member : new ArrayList<>(members.values())) {
+			remove(member);
+		}
+	}
+
+	private synchronized int getSize() {
+		return resourcesByPath.size();
+	}
+
+	private static IPath getStateLocation() {
+		return IDEWorkbenchPlugin.getDefault().getStateLocation();
+	}
+
+	/**
+	 * Writes the index, as full paths sorted and front coded to keep the file
+	 * small.
+	 */
+	private void save(File file) throws IOException {
+		List<IResource> all;
+		synchronized (this) {
+			all = new ArrayList<>(resourcesByPath.values());
+		}
+
+		try (DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(new FileOutputStream(file), 64 * 1024))) {
+			out.writeInt(FORMAT_VERSION);
+			out.writeInt(all.size());
+			String previous = ""; //$NON-NLS-1$
+			for (IResource resource : all) {
+				String path = resource.getFullPath().toPortableString();
+				int shared = 0;
+				int max = Math.min(0xFFFF, Math.min(previous.length(), path.length()));
+				while (shared < max && previous.charAt(shared) == path.charAt(shared)) {
+					shared++;
+				}
+				out.writeByte(resource.getType());
+				out.writeShort(shared);
+				out.writeUTF(path.substring(shared));
+				previous = path;
+			}
+		}
+	}
+
+	/**
+	 * Reads the index saved by {@link #save(File)}.
+	 *
+	 * @return <code>true</code> if the index has been read
+	 */
+	private boolean load(File file) {
+		if (!file.isFile()) {
+			return false;
+		}
+		IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+		List<IResource> loaded = new ArrayList<>();
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 64 * 1024))) {
+			if (in.readInt() != FORMAT_VERSION) {
+				return false;
+			}
+			int count = in.readInt();
+			String previous = ""; //$NON-NLS-1$
+			for (int i = 0; i < count; i++) {
+				int type = in.readByte();
+				int shared = in.readUnsignedShort();
+				String path = previous.substring(0, shared) + in.readUTF();
+				IPath fullPath = Path.fromPortableString(path);
+				switch (type) {
+				case IResource.FILE:
+					loaded.add(root.getFile(fullPath));
+					break;
+				case IResource.FOLDER:
+					loaded.add(root.getFolder(fullPath));
+					break;
+				case IResource.PROJECT:
+					loaded.add(root.getProject(fullPath.segment(0)));
+					break;
+				default:
+					return false;
+				}
+				previous = path;
+			}
+		} catch (IOException | RuntimeException e) {
+			IDEWorkbenchPlugin.log("Cannot read the resource name index, it is rebuilt", e); //$NON-NLS-1$
+			return false;
+		}
+		synchronized (this) {
+			for (IResource resource : loaded) {
+				add(resource);
+			}
+		}
+		return true;
+	}
+
+	private final class SaveParticipant implements ISaveParticipant {
+
+		/**
+		 * The number of the save the index has been written for, or -1.
+		 */
+		private int savingNumber = -1;
+
+		@Override
+		public void prepareToSave(ISaveContext context) {
+			// nothing to prepare
+		}
+
+		@Override
+		public void saving(ISaveContext context) throws CoreException {
+			savingNumber = -1;
+			if (context.getKind() != ISaveContext.FULL_SAVE || !isReady()) {
+				return;
+			}
+			String fileName = FILE_PREFIX + context.getSaveNumber();
+			try {
+				long startTime = System.currentTimeMillis();
+				save(getStateLocation().append(fileName).toFile());
+				if (Policy.DEBUG_RESOURCE_NAME_INDEX) {
+					System.out.println(DEBUG_PREFIX + "saved " + getSize() + " entries in " //$NON-NLS-1$ //$NON-NLS-2$
+							+ (System.currentTimeMillis() - startTime) + " ms"); //$NON-NLS-1$
+				}
+			} catch (IOException e) {
+				// the index is rebuilt on the next start
+				IDEWorkbenchPlugin.log("Cannot save the resource name index", e); //$NON-NLS-1$
+				return;
+			}
+			savingNumber = context.getSaveNumber();
+			context.map(SAVE_KEY, new Path(fileName));
+			context.needSaveNumber();
+			context.needDelta();
+		}
+
+		@Override
+		public void doneSaving(ISaveContext context) {
+			if (savingNumber == context.getSaveNumber()) {
+				deleteSavedFile(context.getPreviousSaveNumber());
+			}
+		}
+
+		@Override
+		public void rollback(ISaveContext context) {
+			if (savingNumber == context.getSaveNumber()) {
+				deleteSavedFile(savingNumber);
+			}
+		}
+
+		private void deleteSavedFile(int saveNumber) {
+			File file = getStateLocation().append(FILE_PREFIX + saveNumber).toFile();
+			if (file.exists()) {
+				file.delete();
+			}
+		}
+	}
+
+	/**
+	 * @return a description of the size of the index, for debugging
+	 */
+	@Override
+	public synchronized String toString() {
+		return "ResourceNameIndex [" + resourcesByPath.size() + " resources, " + resources.size() + " names" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ (!isReady() ? ", building" : "") + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+}
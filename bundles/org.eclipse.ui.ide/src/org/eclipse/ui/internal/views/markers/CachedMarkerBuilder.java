@@ -73,6 +73,9 @@ public class CachedMarkerBuilder {
 
 	private IMemento memento;
 
+	// whether the next update has to gather all markers again
+	private volatile boolean cleanUpdateRequested = true;
+
 
 	/**
 	 * Create a new instance of the receiver. Update using the updateJob.
@@ -130,9 +133,9 @@ public class CachedMarkerBuilder {
 			PlatformUI.getWorkbench().getWorkingSetManager().removePropertyChangeListener(getWorkingSetListener());
 		}
 
-		if (isIncremental()) {
-			if (incrementJob != null) {
-				incrementJob.clearEntries();
+		synchronized (getUpdateScheduler().getSchedulingLock()) {
+			if (updateJob instanceof IncrementUpdateJob) {
+				((IncrementUpdateJob) updateJob).clearEntries();
 			}
 		}
 	}
@@ -298,6 +301,7 @@ public class CachedMarkerBuilder {
 	 */
 	void scheduleUpdate() {
 		if (active) {
+			cleanUpdateRequested = true;
 			scheduler.scheduleUpdate(MarkerUpdateScheduler.SHORT_DELAY,true);
 		}
 	}
@@ -308,6 +312,7 @@ public class CachedMarkerBuilder {
 	 */
 	void scheduleUpdate(long delay) {
 		if (active) {
+			cleanUpdateRequested = true;
 			scheduler.scheduleUpdate(delay,true);
 		}
 	}
@@ -451,15 +456,14 @@ public class CachedMarkerBuilder {
 				// ensure cancellation before calling the method
 				// updateJob.cancel();
 			} else {
-				/*
-				 * updateJob = isIncremental() ? new IncrementUpdateJob(this):
-				 * new MarkerUpdateJob(this);
-				 */
-				updateJob = new MarkerUpdateJob(this);
+				updateJob = isIncremental() ? new IncrementUpdateJob(this) : new MarkerUpdateJob(this);
 				updateJob.setPriority(Job.LONG);
 				updateJob.setSystem(true);
 			}
-			if (clean) {
+			// marker changes are applied incrementally, any other change
+			// requires to gather the markers again
+			if (clean && (cleanUpdateRequested || !isIncremental())) {
+				cleanUpdateRequested = false;
 				updateJob.setClean();
 			}
 			if (progressService != null) {
@@ -597,20 +601,21 @@ public class CachedMarkerBuilder {
 	}
 
 ///////	<Incremental update code>///////
-		private IncrementUpdateJob incrementJob;
 	/**
-	 * Checks whether the builder should perform incrementally Note : Incremental
-	 * updating method is NOT used and tested yet but left out for further
-	 * investigation(*).
+	 * Whether marker changes are applied to the gathered markers instead of
+	 * gathering all markers again. Can be disabled with the system property
+	 * <code>org.eclipse.ui.views.markers.incrementalUpdates=false</code>.
+	 */
+	private static final boolean INCREMENTAL_UPDATES = Boolean
+			.parseBoolean(System.getProperty("org.eclipse.ui.views.markers.incrementalUpdates", "true")); //$NON-NLS-1$ //$NON-NLS-2$
+
+	/**
+	 * Checks whether the builder should perform incrementally.
 	 *
 	 * @return Returns true if we should collect markers incrementally.
 	 */
 	boolean isIncremental() {
-		/*
-		 * We do not update incrementally. We have
-		 * code for further investigation(*) for this anyway.
-		 */
-		return false;
+		return INCREMENTAL_UPDATES;
 	}
 
 	/**
@@ -644,13 +649,11 @@ public class CachedMarkerBuilder {
 	 */
 	void incrementalUpdate(MarkerUpdate update) {
 		synchronized (getUpdateScheduler().getSchedulingLock()) {
-			if (incrementJob == null) {
-				scheduleUpdateJob(MarkerUpdateScheduler.SHORT_DELAY, true);
+			// without a job the markers have not been gathered yet
+			if (updateJob instanceof IncrementUpdateJob) {
+				((IncrementUpdateJob) updateJob).addUpdate(update);
 			}
 		}
-		if (incrementJob != null) {
-			incrementJob.addUpdate(update);
-		}
 	}
 ///////	</Incremental update code>///////
 
@@ -14,262 +14,153 @@
 
 package org.eclipse.ui.internal.views.markers;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.ui.internal.ide.Policy;
 import org.eclipse.ui.views.markers.internal.MarkerMessages;
 
 /**
- * The job that performs incremental update. Once the processing is complete it
- * schedules an UI update. If it'll be possible and beneficial switch to
- * incremental updatation, this has been left out for further investigation(*).
- * only, and not used currently.
+ * The job that performs incremental updates. The markers are gathered again
+ * only if a clean update has been requested, for example because the filters
+ * have changed. Otherwise the marker changes queued by the
+ * {@link MarkersChangeListener} are applied to the sorted and grouped
+ * {@link Markers}. Once the processing is complete it schedules an UI update.
  *
  * @since 3.6
  *
  */
 class IncrementUpdateJob extends MarkerUpdateJob {
 
-	private LinkedList<MarkerEntry> incrementEntryList;
-	private LinkedList<MarkerUpdate> updateQueue;
+	private static final String DEBUG_PREFIX = "Markers Update: "; //$NON-NLS-1$
+
+	private final LinkedList<MarkerUpdate> updateQueue = new LinkedList<>();
 
 	/**
 	 * @param builder
 	 */
 	public IncrementUpdateJob(CachedMarkerBuilder builder) {
 		super(builder);
-		incrementEntryList = new LinkedList<>();
 	}
 
 	@Override
 	protected IStatus run(IProgressMonitor monitor) {
-		monitor.beginTask(MarkerMessages.MarkerView_processUpdates, IProgressMonitor.UNKNOWN);
-		boolean clean= isClean();
-		if (clean) {
+		long startTime = System.currentTimeMillis();
+		if (isClean()) {
+			monitor.beginTask(MarkerMessages.MarkerView_searching_for_markers, IProgressMonitor.UNKNOWN);
+			// changes arriving while gathering are applied by the next update
 			clearEntries();
-		}
-		Collection<MarkerEntry> markerEntries = incrementalEntries();
-		if (clean) {
-			/*
-			 * Unfortunately we cannot lock marker operations between gathering
-			 * and updation. We have this code in place only for further
-			 * investigation
-			 */
-			clean = !clean(markerEntries, monitor);
-			LinkedList<MarkerUpdate> queue = getUpdatesQueue();
-			synchronized (queue) {
-				queue.clear();
-			}
-		}
-		if (monitor.isCanceled()) {
-			return Status.CANCEL_STATUS;
-		}
-		if (!clean) {
-			builder.registerTypesToListener();
-			if (!processUpdates(monitor)) {
+			buildMarkers(monitor);
+			if (monitor.isCanceled()) {
 				return Status.CANCEL_STATUS;
 			}
+			if (Policy.DEBUG_MARKERS_UPDATES) {
+				System.out.println(DEBUG_PREFIX + "gathered " + builder.getMarkers().getMarkerEntryArray().length //$NON-NLS-1$
+						+ " markers in " + (System.currentTimeMillis() - startTime) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			return Status.OK_STATUS;
 		}
-		if (!processMarkerEntries(markerEntries, monitor)) {
-			return Status.CANCEL_STATUS;
-		}
-		if (monitor.isCanceled()) {
-			return Status.CANCEL_STATUS;
-		}
-		// update with sorted entries
-		updateIncrementalList(markerEntries);
 
-		if (monitor.isCanceled()) {
-			return Status.CANCEL_STATUS;
+		monitor.beginTask(MarkerMessages.MarkerView_processUpdates, IProgressMonitor.UNKNOWN);
+		List<MarkerUpdate> updates = takeUpdates();
+		if (updates.isEmpty()) {
+			builder.setBuilding(false);
+			updateDone();
+			return Status.OK_STATUS;
+		}
+		builder.registerTypesToListener();
+		if (!processUpdates(updates, monitor)) {
+			if (monitor.isCanceled()) {
+				// nothing has been applied yet
+				requeueUpdates(updates);
+				return Status.CANCEL_STATUS;
+			}
+			// the markers have to be regrouped
+			setClean();
+			clearEntries();
+			buildMarkers(monitor);
+			return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
 		}
 		builder.getUpdateScheduler().scheduleUIUpdate(MarkerUpdateScheduler.SHORT_DELAY);
-		if (monitor.isCanceled()) {
-			return Status.CANCEL_STATUS;
-		}
 		builder.setBuilding(false);
 		updateDone();
-		return Status.OK_STATUS;
-	}
-
-	/**
-	 * Update the list
-	 *
-	 * @param markerEntries
-	 */
-	private boolean updateIncrementalList(Collection<MarkerEntry> markerEntries) {
-		markerEntries.clear();
-		Markers clone = builder.getMarkers();
-		synchronized (clone) {
-			clone = clone.getClone();
+		if (Policy.DEBUG_MARKERS_UPDATES) {
+			System.out.println(DEBUG_PREFIX + "applied " + updates.size() + " marker deltas to " //$NON-NLS-1$ //$NON-NLS-2$
+					+ builder.getMarkers().getMarkerEntryArray().length + " markers in " //$NON-NLS-1$
+					+ (System.currentTimeMillis() - startTime) + " ms"); //$NON-NLS-1$
 		}
-		markerEntries.addAll(Arrays.asList(clone.getMarkerEntryArray()));
-		return true;
+		return Status.OK_STATUS;
 	}
 
 	/**
 	 * Process the incremental updates
 	 *
+	 * @param updates
 	 * @param monitor
+	 * @return <code>false</code> if canceled or the markers have to be gathered
+	 *         again
 	 */
-	private boolean processUpdates(IProgressMonitor monitor) {
-		Collection<MarkerEntry> markerEntries = incrementalEntries();
-		int addCount = 0, removedCount = 0, changedCount = 0, size = 0, newSize = 0;
-		LinkedList<MarkerUpdate> queue = getUpdatesQueue();
-		MarkerUpdate next = null;
-		do {
-			synchronized (queue) {
-				if (!queue.isEmpty()) {
-					next = queue.removeFirst();
-				} else {
-					next = null;
-				}
-			}
-			if (monitor.isCanceled() || next == null) {
-				break;
-			}
-			/**
-			 * The following performs incremental updation of the markers that
-			 * were gathered intially, and keeps them synched at any point with
-			 * the markers of interest in Workspace
-			 */
-			// unfortunately marker operations cannot be locked
-			// so locking between gathering of markers and
-			// marker deltas is not possible
-			size = markerEntries.size();
-			handleRemovedEntries(markerEntries, next.removed, monitor);
-			newSize = markerEntries.size();
-			removedCount += size - newSize;
-
-			handleChangedEntries(markerEntries, next.changed, monitor);
-			changedCount += next.changed.size();
-
-			size = newSize;
-			handleAddedEntries(markerEntries, next.added, monitor);
-			newSize = markerEntries.size();
-			removedCount += newSize - size;
-		} while (next != null);
-		boolean[] changeFlags = new boolean[] { addCount > 0, removedCount > 0,
-				changedCount > 0 };
-		for (boolean changeFlag : changeFlags) {
-			if (changeFlag) {
-				builder.updateChangeFlags(changeFlags);
-				return true;
+	private boolean processUpdates(List<MarkerUpdate> updates, IProgressMonitor monitor) {
+		// the last state of every marker wins
+		Set<IMarker> obsoleteMarkers = new HashSet<>();
+		Map<IMarker, MarkerEntry> newEntries = new LinkedHashMap<>();
+		boolean added = false, removed = false, changed = false;
+		for (MarkerUpdate update : updates) {
+			for (MarkerEntry entry : update.removed) {
+				obsoleteMarkers.add(entry.getMarker());
+				newEntries.remove(entry.getMarker());
+				removed = true;
 			}
+			changed |= putEntries(update.changed, obsoleteMarkers, newEntries);
+			added |= putEntries(update.added, obsoleteMarkers, newEntries);
+		}
+		if (monitor.isCanceled()) {
+			return false;
 		}
-		return false;
-	}
 
-	/**
-	 * @param added
-	 * @param monitor
-	 */
-	private void handleAddedEntries(Collection<MarkerEntry> markerEntries, Collection<MarkerEntry> added,
-			IProgressMonitor monitor) {
 		MarkerContentGenerator generator = builder.getGenerator();
-		Iterator<MarkerEntry> iterator = added.iterator();
-		while (iterator.hasNext()) {
-			MarkerEntry entry = iterator.next();
-			if (generator.select(entry)) {
-				markerEntries.add(entry);
+		Collection<MarkerEntry> selected = new ArrayList<>(newEntries.size());
+		for (MarkerEntry entry : newEntries.values()) {
+			if (!entry.checkIfMarkerStale() && generator.select(entry)) {
+				selected.add(entry);
 			}
 		}
-	}
+		if (monitor.isCanceled()) {
+			return false;
+		}
 
-	/**
-	 * @param changed
-	 * @param monitor
-	 */
-	private void handleChangedEntries(Collection<MarkerEntry> markerEntries,
-			Collection<MarkerEntry> changed, IProgressMonitor monitor) {
-		MarkerContentGenerator generator = builder.getGenerator();
-		Iterator<MarkerEntry> iterator = changed.iterator();
-		while (iterator.hasNext()) {
-			MarkerEntry entry = iterator.next();
-			Iterator<MarkerEntry> iterator2 = markerEntries.iterator();
-			while (iterator2.hasNext()) {
-				MarkerEntry oldEntry = iterator2.next();
-				if (oldEntry.getMarker().equals(entry.getMarker())) {
-					iterator2.remove();
-				}
-			}
-			if (!generator.select(entry)) {
-				iterator.remove();
-			}
+		if (!builder.getMarkers().updateWithChangedMarkers(obsoleteMarkers, selected, monitor)) {
+			return false;
 		}
-		markerEntries.addAll(changed);
+		builder.updateChangeFlags(new boolean[] { added, removed, changed });
+		return true;
 	}
 
-	/**
-	 * @param removed
-	 * @param monitor
-	 */
-	private void handleRemovedEntries(Collection<MarkerEntry> markerEntries,
-			Collection<MarkerEntry> removed, IProgressMonitor monitor) {
-		boolean found = false;
-		Iterator<MarkerEntry> iterator = markerEntries.iterator();
-		while (iterator.hasNext()) {
-			MarkerEntry entry = iterator.next();
-			found = entry.getStaleState();
-			if (found) {
-				iterator.remove();
-			}
-			if (removed.isEmpty()) {
-				continue;
-			}
-			Iterator<MarkerEntry> iterator2 = removed.iterator();
-			while (iterator2.hasNext()) {
-				MarkerEntry stale = iterator2.next();
-				if (stale.getMarker().equals(entry.getMarker())) {
-					iterator2.remove();
-					if (!found) {
-						iterator.remove();
-					}
-					break;
-				}
-			}
-		}
-		if (removed.isEmpty()) {
-			// TODO: do we check for residuals?
-			return;
-		}
-		// TODO: do we check for residuals?
-		iterator = markerEntries.iterator();
-		while (iterator.hasNext()) {
-			MarkerEntry entry = iterator.next();
-			if (entry.getMarker() != null && !entry.getMarker().exists()) {
-				iterator.remove();
-			}
+	private static boolean putEntries(Collection<MarkerEntry> entries, Set<IMarker> obsoleteMarkers,
+			Map<IMarker, MarkerEntry> newEntries) {
+		for (MarkerEntry entry : entries) {
+			obsoleteMarkers.add(entry.getMarker());
+			newEntries.put(entry.getMarker(), entry);
 		}
+		return !entries.isEmpty();
 	}
 
 	/**
-	 * Clean
+	 * Discard the queued updates, used when all markers are gathered again.
 	 */
 	void clearEntries() {
-		incrementEntryList = new LinkedList<>();
-	}
-
-	/**
-	 * @return Returns the incrementEntryies.
-	 */
-	Collection<MarkerEntry> incrementalEntries() {
-		return incrementEntryList;
-	}
-
-	/**
-	 * @return the updateQueue that holds the updates and maintains ordering
-	 */
-	LinkedList<MarkerUpdate> getUpdatesQueue() {
-		synchronized (builder.MARKER_INCREMENTAL_UPDATE_FAMILY) {
-			if (updateQueue == null) {
-				updateQueue = new LinkedList<>();
-			}
-			return updateQueue;
+		synchronized (updateQueue) {
+			updateQueue.clear();
 		}
 	}
 
@@ -279,9 +170,22 @@ class IncrementUpdateJob extends MarkerUpdateJob {
 	 * @param update
 	 */
 	void addUpdate(MarkerUpdate update) {
-		LinkedList<MarkerUpdate> updateList = getUpdatesQueue();
-		synchronized (updateList) {
-			updateList.addLast(update);
+		synchronized (updateQueue) {
+			updateQueue.addLast(update);
+		}
+	}
+
+	private List<MarkerUpdate> takeUpdates() {
+		synchronized (updateQueue) {
+			List<MarkerUpdate> updates = new ArrayList<>(updateQueue);
+			updateQueue.clear();
+			return updates;
+		}
+	}
+
+	private void requeueUpdates(List<MarkerUpdate> updates) {
+		synchronized (updateQueue) {
+			updateQueue.addAll(0, updates);
 		}
 	}
 
@@ -292,4 +196,4 @@ class IncrementUpdateJob extends MarkerUpdateJob {
 		}
 		return super.belongsTo(family);
 	}
-}
\ No newline at end of file
+}
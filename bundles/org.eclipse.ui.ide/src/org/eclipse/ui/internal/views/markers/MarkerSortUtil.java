@@ -66,6 +66,14 @@ public class MarkerSortUtil {
 	 */
 	private static float MERGE_OR_HEAP_SWITCH=1.5f;
 
+	/**
+	 * Returns whether {@link #sortStartingKElement} sorts whole ranges, which
+	 * is the case unless batching has been enabled.
+	 */
+	static boolean sortsCompletely() {
+		return BATCH_SIZE == Integer.MAX_VALUE;
+	}
+
 	/**
 	 * Sorts [first,middle] in the array of [first,last] using a variant of
 	 * modified heapsort, such that {@literal
@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
 import java.util.TreeMap;
 
 import org.eclipse.core.resources.IMarker;
@@ -52,6 +53,10 @@ class Markers {
 	private volatile MarkerEntry[] markerEntryArray = EMPTY_ENTRY_ARRAY;
 	// the categories
 	private volatile MarkerCategory[] categories = EMPTY_CATEGORY_ARRAY;
+	// the grouping entries of the categories and the group they belong to,
+	// null if the entries have not been grouped
+	private MarkerGroupingEntry[] categoryGroupingEntries;
+	private MarkerGroup categoryGroup;
 
 	private CachedMarkerBuilder builder;
 
@@ -85,9 +90,15 @@ class Markers {
 				markerToEntryMap = null;
 			}
 			markerCounts = null;
+			categoryGroupingEntries = null;
+			categoryGroup = null;
 			if (markerEntries.isEmpty()) {
 				categories = EMPTY_CATEGORY_ARRAY;
 				markerEntryArray = EMPTY_ENTRY_ARRAY;
+				if (sortAndGroup && builder.isShowingHierarchy()) {
+					categoryGroupingEntries = new MarkerGroupingEntry[0];
+					categoryGroup = builder.getCategoryGroup();
+				}
 				return true;
 			}
 			if (monitor.isCanceled()) {
@@ -199,6 +210,182 @@ class Markers {
 		}
 	}
 
+	/**
+	 * Update the sorted and grouped marker entries with changed markers without
+	 * gathering all markers again. The entries of the obsolete markers are
+	 * removed and the new entries are inserted at their sorted position in
+	 * their category.
+	 * <p>
+	 * The entries are kept in one array addressed by the index ranges of the
+	 * categories, so every batch of changes copies the array once: an update
+	 * costs O(n + k log n) for n entries and k added entries. This is not
+	 * logarithmic per change, but it avoids gathering, grouping and sorting
+	 * all markers again.
+	 * </p>
+	 *
+	 * @param obsoleteMarkers
+	 *            the markers whose entries have to be removed
+	 * @param newEntries
+	 *            the entries to add, they must already be selected by the
+	 *            filters
+	 * @param monitor
+	 * @return <code>true</code> if the entries have been updated,
+	 *         <code>false</code> if the update was canceled or the entries
+	 *         have to be gathered again
+	 */
+	synchronized boolean updateWithChangedMarkers(Set<IMarker> obsoleteMarkers, Collection<MarkerEntry> newEntries,
+			IProgressMonitor monitor) {
+		boolean showingHierarchy = builder.isShowingHierarchy();
+		if (showingHierarchy && (categoryGroupingEntries == null || categoryGroup != builder.getCategoryGroup())) {
+			// the current entries have not been grouped by the current group
+			return false;
+		}
+		if (!showingHierarchy && categories.length > 0) {
+			return false;
+		}
+		boolean initialVal = inChange;
+		try {
+			inChange = true;
+			MarkerEntry[] oldEntries = markerEntryArray;
+			List<MarkerEntry> result = new ArrayList<>(oldEntries.length + newEntries.size());
+			if (!showingHierarchy) {
+				List<MarkerEntry> additions = new ArrayList<>(newEntries);
+				if (!mergeRange(oldEntries, 0, oldEntries.length - 1, additions, obsoleteMarkers,
+						builder.getComparator(), result, monitor)) {
+					return false;
+				}
+			} else {
+				MarkerGroup group = builder.getCategoryGroup();
+				Comparator<MarkerGroupingEntry> groupComparator = group.getEntriesComparator();
+				TreeMap<MarkerGroupingEntry, List<MarkerEntry>> additionsByGroup = new TreeMap<>(groupComparator);
+				for (MarkerEntry entry : newEntries) {
+					IMarker marker = entry.getMarker();
+					try {
+						MarkerGroupingEntry groupingEntry = group.findGroupValue(marker.getType(), marker);
+						additionsByGroup.computeIfAbsent(groupingEntry, k -> new ArrayList<>()).add(entry);
+					} catch (CoreException e) {
+						entry.checkIfMarkerStale();
+					}
+				}
+				Comparator<MarkerItem> comparator = builder.getComparator().getFieldsComparator();
+				List<MarkerCategory> newCategories = new ArrayList<>(categories.length + additionsByGroup.size());
+				List<MarkerGroupingEntry> newGroupingEntries = new ArrayList<>(newCategories.size());
+				int index = 0;
+				while (index < categories.length || !additionsByGroup.isEmpty()) {
+					MarkerGroupingEntry groupingEntry;
+					MarkerCategory category = null;
+					if (index < categories.length && (additionsByGroup.isEmpty() || groupComparator
+							.compare(categoryGroupingEntries[index], additionsByGroup.firstKey()) <= 0)) {
+						groupingEntry = categoryGroupingEntries[index];
+						category = categories[index++];
+					} else {
+						groupingEntry = additionsByGroup.firstKey();
+					}
+					List<MarkerEntry> additions = additionsByGroup.remove(groupingEntry);
+					if (additions == null) {
+						additions = new ArrayList<>();
+					}
+					int start = result.size();
+					if (category != null) {
+						if (!mergeRange(oldEntries, category.start, category.end, additions, obsoleteMarkers,
+								comparator, result, monitor)) {
+							return false;
+						}
+					} else if (!mergeRange(oldEntries, 0, -1, additions, obsoleteMarkers, comparator, result,
+							monitor)) {
+						return false;
+					}
+					if (result.size() > start) {
+						String name = category != null ? category.getName()
+								: group.getMarkerField().getValue(result.get(start));
+						newCategories.add(new MarkerCategory(this, start, result.size() - 1, name));
+						newGroupingEntries.add(groupingEntry);
+					}
+				}
+				categories = newCategories.toArray(EMPTY_CATEGORY_ARRAY);
+				categoryGroupingEntries = newGroupingEntries.toArray(new MarkerGroupingEntry[newGroupingEntries.size()]);
+			}
+			markerEntryArray = result.toArray(EMPTY_ENTRY_ARRAY);
+			if (markerToEntryMap != null) {
+				markerToEntryMap.clear();
+				markerToEntryMap = null;
+			}
+			markerCounts = null;
+			MarkerEntry.clearCollationCache();
+			return true;
+		} finally {
+			inChange = initialVal;
+		}
+	}
+
+	/**
+	 * Append the entries of the range [start, end] of the sorted entries that
+	 * are not obsolete and the additions to result, keeping them sorted. Each
+	 * entry of the range is copied, the additions are placed by binary search,
+	 * so the cost is O(m + k log m) for m entries in the range and k additions.
+	 *
+	 * @return <code>false</code> if canceled
+	 */
+	private boolean mergeRange(MarkerEntry[] entries, int start, int end, List<MarkerEntry> additions,
+			Set<IMarker> obsoleteMarkers, Comparator<MarkerItem> comparator, List<MarkerEntry> result,
+			IProgressMonitor monitor) {
+		MarkerEntry[] kept = new MarkerEntry[end - start + 1];
+		int keptCount = 0;
+		for (int i = start; i <= end; i++) {
+			MarkerEntry entry = entries[i];
+			if (!entry.getStaleState() && !obsoleteMarkers.contains(entry.getMarker())) {
+				kept[keptCount++] = entry;
+			}
+		}
+		if (monitor.isCanceled()) {
+			return false;
+		}
+		if (additions.isEmpty()) {
+			result.addAll(Arrays.asList(kept).subList(0, keptCount));
+			return true;
+		}
+		if (!MarkerSortUtil.sortsCompletely()) {
+			// only the first entries of a range are sorted, sort it again
+			MarkerEntry[] range = new MarkerEntry[keptCount + additions.size()];
+			System.arraycopy(kept, 0, range, 0, keptCount);
+			for (int i = 0; i < additions.size(); i++) {
+				range[keptCount + i] = additions.get(i);
+			}
+			MarkerSortUtil.sortStartingKElement(range, comparator, 0, range.length - 1,
+					getShowingLimit(range.length), monitor);
+			result.addAll(Arrays.asList(range));
+			return !monitor.isCanceled();
+		}
+		try {
+			additions.sort(comparator);
+			int cursor = 0;
+			for (MarkerEntry addition : additions) {
+				int position = Arrays.binarySearch(kept, cursor, keptCount, addition, comparator);
+				if (position < 0) {
+					position = -position - 1;
+				}
+				for (; cursor < position; cursor++) {
+					result.add(kept[cursor]);
+				}
+				result.add(addition);
+			}
+			for (; cursor < keptCount; cursor++) {
+				result.add(kept[cursor]);
+			}
+			return true;
+		} catch (IllegalArgumentException e) {
+			// broken comparator, see sortMarkerEntries(IProgressMonitor)
+			return false;
+		} finally {
+			for (int i = 0; i < keptCount; i++) {
+				kept[i].clearCache();
+			}
+			for (MarkerEntry addition : additions) {
+				addition.clearCache();
+			}
+		}
+	}
+
 	/**
 	 * get marker limit to show, if any.
 	 *
@@ -230,15 +417,21 @@ class Markers {
 				builder.getCategoryGroup(), newMarkers.length - 1, monitor);
 		int start = 0;
 		MarkerCategory[] markerCategories = new MarkerCategory[boundaryInfoMap.size()];
+		MarkerGroupingEntry[] groupingEntries = new MarkerGroupingEntry[boundaryInfoMap.size()];
 		int i = 0;
 		int end = 0;
 		for (Entry<MarkerGroupingEntry, Integer> entry : boundaryInfoMap.entrySet()) {
 			end = entry.getValue();
+			groupingEntries[i] = entry.getKey();
 			markerCategories[i++] = new MarkerCategory(this, start, end,
 					builder.getCategoryGroup().getMarkerField()
 							.getValue(newMarkers[start]));
 			start = end + 1;
 		}
+		if (!monitor.isCanceled()) {
+			categoryGroupingEntries = groupingEntries;
+			categoryGroup = builder.getCategoryGroup();
+		}
 		return markerCategories;
 	}
 
@@ -181,10 +181,8 @@ class MarkersChangeListener implements IResourceChangeListener {
 	 * of the markers that were gathered initially, and keeps them synched at
 	 * any point with the markers of interest in Workspace. Unfortunately marker
 	 * operations cannot be locked so locking between gathering of markers and
-	 * marker deltas is not possible.
-	 *
-	 * Note : this method of updating is NOT used and tested yet and has holes
-	 * but left out SOLELY for further investigation(*).
+	 * marker deltas is not possible, the {@link IncrementUpdateJob} therefore
+	 * replaces the entries of all markers contained in a delta.
 	 *
 	 * @param event
 	 */
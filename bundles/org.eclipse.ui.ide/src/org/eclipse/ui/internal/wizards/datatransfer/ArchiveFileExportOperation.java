@@ -118,6 +118,15 @@ public class ArchiveFileExportOperation implements IRunnableWithProgress {
 				IDEWorkbenchPlugin.IDE_WORKBENCH, 0, message, e));
 	}
 
+	/**
+	 * Adds an error for each file the exporter left out of the archive since
+	 * the last call, as reading it failed after it was written.
+	 */
+	private void addFailedFileErrors() {
+		exporter.getFailedFiles().forEach((file, e) -> addError(NLS.bind(DataTransferMessages.DataTransfer_errorExporting,
+				file.getFullPath().makeRelative(), e.getMessage()), e));
+	}
+
 	/**
 	 *  Answer the total number of file resources that exist at or below self
 	 *  in the resources hierarchy.
@@ -202,6 +211,7 @@ public class ArchiveFileExportOperation implements IRunnableWithProgress {
 			} catch (IOException | CoreException e) {
 				addError(NLS.bind(DataTransferMessages.DataTransfer_errorExporting, exportResource.getFullPath().makeRelative(), e.getMessage()), e);
 			}
+			addFailedFileErrors();
 
 			monitor.worked(1);
 			ModalContext.checkCanceled(monitor);
@@ -338,6 +348,8 @@ public class ArchiveFileExportOperation implements IRunnableWithProgress {
 				throw new InvocationTargetException(
 						e,
 						NLS.bind(DataTransferMessages.ZipExport_cannotClose, e.getMessage()));
+			} finally {
+				addFailedFileErrors();
 			}
 		} finally {
 			monitor.done();
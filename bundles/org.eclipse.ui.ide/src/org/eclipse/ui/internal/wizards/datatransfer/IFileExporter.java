@@ -14,6 +14,8 @@
 package org.eclipse.ui.internal.wizards.datatransfer;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
 
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
@@ -56,4 +58,16 @@ public interface IFileExporter {
 	public void write(IFile resource, String destinationPath)
 		throws IOException, CoreException;
 
+	/**
+	 * Returns the files which were left out of the archive because reading them
+	 * failed after {@link #write(IFile, String)} returned for them, with the
+	 * exception they failed with, and forgets them.
+	 *
+	 * @return the failed files in the order they were written, not
+	 *         <code>null</code>
+	 */
+	default Map<IFile, Exception> getFailedFiles() {
+		return Collections.emptyMap();
+	}
+
 }
@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.wizards.datatransfer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.osgi.util.NLS;
+
+/**
+ * Finds the project description files below a directory.
+ * <p>
+ * The directory tree is walked by a fork-join pool, so several directories are
+ * read at the same time, which matters most on slow (network) file systems.
+ * The attributes of the directory entries are read together with the entries
+ * where the platform supports it. Directories reached more than once, e.g.
+ * through symbolic links, are detected by their file key and only visited once.
+ * </p>
+ * <p>
+ * The found files are passed to the consumer as soon as they are found, from
+ * the threads of the pool.
+ * </p>
+ */
+final class ProjectDiscovery {
+
+	private static final String DOT_PROJECT = IProjectDescription.DESCRIPTION_FILE_NAME;
+
+	/**
+	 * The threads mostly wait for the file system, so use more of them than
+	 * processors.
+	 */
+	private static final int PARALLELISM = Math.max(4, Math.min(16, Runtime.getRuntime().availableProcessors() * 2));
+
+	private static final long PROGRESS_INTERVAL = 100_000_000L;
+
+	private final boolean nestedProjects;
+
+	private final Consumer<File> consumer;
+
+	private final IProgressMonitor monitor;
+
+	private final Set<Object> visitedDirectories = ConcurrentHashMap.newKeySet();
+
+	private final AtomicLong lastProgress = new AtomicLong(System.nanoTime() - PROGRESS_INTERVAL);
+
+	/**
+	 * @param nestedProjects
+	 *            whether to look for projects nested in other projects
+	 * @param consumer
+	 *            the thread-safe consumer of the found project description files
+	 * @param monitor
+	 *            the monitor to report to and to check for cancellation
+	 */
+	ProjectDiscovery(boolean nestedProjects, Consumer<File> consumer, IProgressMonitor monitor) {
+		this.nestedProjects = nestedProjects;
+		this.consumer = consumer;
+		this.monitor = monitor;
+	}
+
+	/**
+	 * Searches the given directory and returns when all its sub-directories have
+	 * been searched.
+	 *
+	 * @param directory
+	 *            the directory to search
+	 * @return <code>true</code> if the search has been completed,
+	 *         <code>false</code> if it has been canceled or the directory could
+	 *         not be read
+	 */
+	boolean search(File directory) {
+		Path root = directory.toPath();
+		BasicFileAttributes attributes;
+		try {
+			attributes = Files.readAttributes(root, BasicFileAttributes.class);
+		} catch (IOException e) {
+			return false;
+		}
+		if (!attributes.isDirectory()) {
+			return false;
+		}
+		visitedDirectories.add(getKey(root, attributes));
+
+		DirectoryTask rootTask = new DirectoryTask(root);
+		ForkJoinPool pool = new ForkJoinPool(PARALLELISM);
+		try {
+			pool.invoke(rootTask);
+		} finally {
+			pool.shutdownNow();
+		}
+		return rootTask.read && !monitor.isCanceled();
+	}
+
+	/**
+	 * Returns the key identifying the given directory, its file key if the file
+	 * system provides one or its real path otherwise.
+	 */
+	private static Object getKey(Path directory, BasicFileAttributes attributes) {
+		Object key = attributes.fileKey();
+		if (key != null) {
+			return key;
+		}
+		try {
+			return directory.toRealPath().toString();
+		} catch (IOException e) {
+			return directory.toAbsolutePath().normalize().toString();
+		}
+	}
+
+	private void reportProgress(Path directory) {
+		long now = System.nanoTime();
+		long last = lastProgress.get();
+		if (now - last >= PROGRESS_INTERVAL && lastProgress.compareAndSet(last, now)) {
+			synchronized (monitor) {
+				monitor.subTask(NLS.bind(DataTransferMessages.WizardProjectsImportPage_CheckingMessage,
+						directory.toString()));
+			}
+		}
+	}
+
+	private final class DirectoryTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Path directory;
+
+		/**
+		 * Whether the entries of the directory could be read.
+		 */
+		boolean read;
+
+		DirectoryTask(Path directory) {
+			this.directory = directory;
+		}
+
+		@Override
+		protected void compute() {
+			if (monitor.isCanceled()) {
+				return;
+			}
+			reportProgress(directory);
+
+			Path projectFile = null;
+			List<Path> subdirectories = new ArrayList<>();
+			List<BasicFileAttributes> subdirectoryAttributes = new ArrayList<>();
+			try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+				for (Path entry : entries) {
+					BasicFileAttributes attributes;
+					try {
+						// follows symbolic links like File.isDirectory()
+						attributes = Files.readAttributes(entry, BasicFileAttributes.class);
+					} catch (IOException e) {
+						// broken link or no access
+						continue;
+					}
+					String name = entry.getFileName().toString();
+					if (attributes.isDirectory()) {
+						if (!WizardProjectsImportPage.METADATA_FOLDER.equals(name)) {
+							subdirectories.add(entry);
+							subdirectoryAttributes.add(attributes);
+						}
+					} else if (DOT_PROJECT.equals(name) && attributes.isRegularFile()) {
+						projectFile = entry;
+					}
+				}
+			} catch (IOException | DirectoryIteratorException e) {
+				return;
+			}
+			read = true;
+
+			if (projectFile != null) {
+				consumer.accept(projectFile.toFile());
+				if (!nestedProjects) {
+					// don't search sub-directories since we can't have nested
+					// projects
+					return;
+				}
+			}
+			List<DirectoryTask> tasks = new ArrayList<>(subdirectories.size());
+			for (int i = 0; i < subdirectories.size(); i++) {
+				Path subdirectory = subdirectories.get(i);
+				if (visitedDirectories.add(getKey(subdirectory, subdirectoryAttributes.get(i)))) {
+					tasks.add(new DirectoryTask(subdirectory));
+				}
+			}
+			invokeAll(tasks);
+		}
+	}
+}
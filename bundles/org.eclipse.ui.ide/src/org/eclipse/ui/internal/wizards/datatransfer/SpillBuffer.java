@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.wizards.datatransfer;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * An output stream which keeps the written bytes in memory up to a threshold
+ * and spills them to a temporary file beyond it, so that the contents of an
+ * archive entry can be kept until they are written without holding large
+ * files in memory.
+ * <p>
+ * The buffer has to be closed before its contents are read and disposed when
+ * it is no longer needed to delete the temporary file.
+ * </p>
+ */
+final class SpillBuffer extends OutputStream {
+
+	private final int threshold;
+
+	private byte[] buffer = new byte[256];
+
+	private long size;
+
+	private Path file;
+
+	private OutputStream fileStream;
+
+	/**
+	 * @param threshold
+	 *            the number of bytes kept in memory
+	 */
+	SpillBuffer(int threshold) {
+		this.threshold = threshold;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		write(new byte[] { (byte) b }, 0, 1);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (fileStream == null && size + len > threshold) {
+			file = Files.createTempFile("export", ".tmp"); //$NON-NLS-1$ //$NON-NLS-2$
+			fileStream = new BufferedOutputStream(Files.newOutputStream(file));
+			fileStream.write(buffer, 0, (int) size);
+			buffer = null;
+		}
+		if (fileStream != null) {
+			fileStream.write(b, off, len);
+		} else {
+			if (size + len > buffer.length) {
+				buffer = Arrays.copyOf(buffer, (int) Math.min(threshold, Math.max(size + len, buffer.length * 2L)));
+			}
+			System.arraycopy(b, off, buffer, (int) size, len);
+		}
+		size += len;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (fileStream != null) {
+			fileStream.close();
+		}
+	}
+
+	/**
+	 * @return the number of bytes written
+	 */
+	long size() {
+		return size;
+	}
+
+	/**
+	 * Writes the written bytes to the given stream.
+	 *
+	 * @param out
+	 *            the stream to write to
+	 * @throws IOException
+	 *             if the temporary file cannot be read or the stream cannot be
+	 *             written
+	 */
+	void writeTo(OutputStream out) throws IOException {
+		if (file != null) {
+			Files.copy(file, out);
+		} else {
+			out.write(buffer, 0, (int) size);
+		}
+	}
+
+	/**
+	 * Releases the buffer and deletes the temporary file.
+	 */
+	void dispose() {
+		buffer = null;
+		if (file != null) {
+			try {
+				close();
+				Files.deleteIfExists(file);
+			} catch (IOException e) {
+				// the file is left in the temporary directory
+			}
+			file = null;
+		}
+	}
+}
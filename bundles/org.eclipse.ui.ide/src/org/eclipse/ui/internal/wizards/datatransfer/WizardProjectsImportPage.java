@@ -36,10 +36,10 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipException;
 import java.util.zip.ZipFile;
@@ -84,6 +84,7 @@ import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Combo;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.DirectoryDialog;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.FileDialog;
 import org.eclipse.swt.widgets.Group;
@@ -96,10 +97,8 @@ import org.eclipse.ui.dialogs.WizardDataTransferPage;
 import org.eclipse.ui.dialogs.WorkingSetGroup;
 import org.eclipse.ui.internal.WorkbenchPlugin;
 import org.eclipse.ui.internal.ide.IDEWorkbenchPlugin;
-import org.eclipse.ui.internal.ide.StatusUtil;
 import org.eclipse.ui.internal.registry.WorkingSetDescriptor;
 import org.eclipse.ui.internal.registry.WorkingSetRegistry;
-import org.eclipse.ui.statushandlers.StatusManager;
 import org.eclipse.ui.wizards.datatransfer.FileSystemStructureProvider;
 import org.eclipse.ui.wizards.datatransfer.ImportOperation;
 
@@ -114,6 +113,8 @@ public class WizardProjectsImportPage extends WizardDataTransferPage {
 	 */
 	public static final String METADATA_FOLDER = ".metadata"; //$NON-NLS-1$
 
+	private static final long FOUND_PROJECTS_REFRESH_INTERVAL = 250_000_000L;
+
 	/**
 	 * The import structure provider.
 	 *
@@ -351,7 +352,7 @@ public class WizardProjectsImportPage extends WizardDataTransferPage {
 
 	private boolean hideConflictingProjects = false;
 
-	private ProjectRecord[] selectedProjects = new ProjectRecord[0];
+	private volatile ProjectRecord[] selectedProjects = new ProjectRecord[0];
 
 	// Keep track of the directory that we browsed to last time
 	// the wizard was invoked.
@@ -898,6 +899,7 @@ public class WizardProjectsImportPage extends WizardDataTransferPage {
 		// We can't access the radio button from the inner class so get the
 		// status beforehand
 		final boolean dirSelected = this.projectFromDirectoryRadio.getSelection();
+		final Display display = getShell().getDisplay();
 		try {
 			getContainer().run(true, true, monitor -> {
 
@@ -963,22 +965,24 @@ public class WizardProjectsImportPage extends WizardDataTransferPage {
 
 				else if (dirSelected && directory.isDirectory()) {
 
-					Collection<File> files = new ArrayList<>();
-					if (!collectProjectFilesFromDirectory(files, directory,
-							null, nestedProjects, monitor)) {
+					List<ProjectRecord> records = new ArrayList<>();
+					AtomicLong lastRefresh = new AtomicLong(System.nanoTime());
+					boolean completed = new ProjectDiscovery(nestedProjects, file -> {
+						ProjectRecord record = new ProjectRecord(file);
+						synchronized (records) {
+							records.add(record);
+						}
+						showFoundProjects(records, lastRefresh, display);
+					}, monitor).search(directory);
+					if (!completed) {
+						selectedProjects = new ProjectRecord[0];
 						return;
 					}
-					Iterator<File> filesIterator3 = files.iterator();
-					selectedProjects = new ProjectRecord[files.size()];
-					int index3 = 0;
 					monitor.worked(50);
 					monitor
 							.subTask(DataTransferMessages.WizardProjectsImportPage_ProcessingMessage);
-					while (filesIterator3.hasNext()) {
-						File file = filesIterator3.next();
-						selectedProjects[index3] = new ProjectRecord(file);
-						index3++;
-					}
+					records.sort(Comparator.comparing(record -> record.projectSystemFile));
+					selectedProjects = records.toArray(new ProjectRecord[records.size()]);
 				} else {
 					monitor.worked(60);
 				}
@@ -994,6 +998,26 @@ public class WizardProjectsImportPage extends WizardDataTransferPage {
 		updateProjectsStatus();
 	}
 
+	/**
+	 * Shows the projects found so far in the list while the search is still
+	 * running, at most a few times per second.
+	 */
+	private void showFoundProjects(List<ProjectRecord> records, AtomicLong lastRefresh, Display display) {
+		long now = System.nanoTime();
+		long last = lastRefresh.get();
+		if (now - last < FOUND_PROJECTS_REFRESH_INTERVAL || !lastRefresh.compareAndSet(last, now)) {
+			return;
+		}
+		synchronized (records) {
+			selectedProjects = records.toArray(new ProjectRecord[records.size()]);
+		}
+		display.asyncExec(() -> {
+			if (!projectsList.getControl().isDisposed()) {
+				projectsList.refresh(true);
+			}
+		});
+	}
+
 	private void updateProjectsStatus() {
 		projectsList.refresh(true);
 		ProjectRecord[] projects = getProjectRecords();
@@ -1071,12 +1095,11 @@ public class WizardProjectsImportPage extends WizardDataTransferPage {
 	}
 
 	/**
-	 * Collect the list of .project files that are under directory into files.
+	 * Collect the list of .project files that are under directory into files,
+	 * sorted by their path.
 	 *
 	 * @param files
 	 * @param directory
-	 * @param directoriesVisited
-	 *            Set of canonical paths of directories, used as recursion guard
 	 * @param nestedProjects
 	 *            whether to look for nested projects
 	 * @param monitor
@@ -1084,63 +1107,16 @@ public class WizardProjectsImportPage extends WizardDataTransferPage {
 	 * @return boolean <code>true</code> if the operation was completed.
 	 */
 	static boolean collectProjectFilesFromDirectory(Collection<File> files, File directory,
-			Set<String> directoriesVisited, boolean nestedProjects, IProgressMonitor monitor) {
-
-		if (monitor.isCanceled()) {
-			return false;
-		}
-		monitor.subTask(NLS.bind(
-				DataTransferMessages.WizardProjectsImportPage_CheckingMessage,
-				directory.getPath()));
-		File[] contents = directory.listFiles();
-		if (contents == null) {
-			return false;
-		}
-
-		// Initialize recursion guard for recursive symbolic links
-		if (directoriesVisited == null) {
-			directoriesVisited = new HashSet<>();
-			try {
-				directoriesVisited.add(directory.getCanonicalPath());
-			} catch (IOException exception) {
-				StatusManager.getManager().handle(StatusUtil.newError(exception));
-			}
-		}
-
-		// first look for project description files
-		final String dotProject = IProjectDescription.DESCRIPTION_FILE_NAME;
-		List<File> directories = new ArrayList<>();
-		for (File file : contents) {
-			if(file.isDirectory()){
-				directories.add(file);
-			} else if (file.getName().equals(dotProject) && file.isFile()) {
-				files.add(file);
-				if (!nestedProjects) {
-					// don't search sub-directories since we can't have nested
-					// projects
-					return true;
-				}
+			boolean nestedProjects, IProgressMonitor monitor) {
+		List<File> found = new ArrayList<>();
+		boolean completed = new ProjectDiscovery(nestedProjects, file -> {
+			synchronized (found) {
+				found.add(file);
 			}
-		}
-		// no project description found or search for nested projects enabled,
-		// so recurse into sub-directories
-		for (File dir : directories) {
-			if (!dir.getName().equals(METADATA_FOLDER)) {
-				try {
-					String canonicalPath = dir.getCanonicalPath();
-					if (!directoriesVisited.add(canonicalPath)) {
-						// already been here --> do not recurse
-						continue;
-					}
-				} catch (IOException exception) {
-					StatusManager.getManager().handle(StatusUtil.newError(exception));
-
-				}
-				collectProjectFilesFromDirectory(files, dir,
-						directoriesVisited, nestedProjects, monitor);
-			}
-		}
-		return true;
+		}, monitor).search(directory);
+		found.sort(null);
+		files.addAll(found);
+		return completed;
 	}
 
 	/**
@@ -0,0 +1,364 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.wizards.datatransfer;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+/**
+ * Writes a zip file from entries whose contents have been compressed in
+ * advance, e.g. by another thread, or which are stored uncompressed. Unlike
+ * {@link java.util.zip.ZipOutputStream} it does not compress the contents
+ * itself. Stored entries are copied from their stream as they are read, and
+ * their CRC and size are filled into the local header afterwards, so no data
+ * descriptors are written. Zip64 extensions are used for large entries and
+ * archives.
+ */
+// VisibleForTesting
+public final class ZipArchiveWriter implements Closeable {
+
+	private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+	private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+	private static final int END_SIGNATURE = 0x06054b50;
+	private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+	private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+
+	private static final int VERSION = 20;
+	private static final int ZIP64_VERSION = 45;
+
+	/**
+	 * The file names are encoded in UTF-8.
+	 */
+	private static final int UTF8_FLAG = 0x800;
+
+	private static final short ZIP64_EXTRA_ID = 0x0001;
+
+	private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+	private static final int ZIP64_MAGIC_COUNT = 0xFFFF;
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private final FileChannel channel;
+
+	private final OutputStream out;
+
+	private long written;
+
+	private final List<CentralEntry> entries = new ArrayList<>();
+
+	/**
+	 * The data of an entry repeated in the central directory.
+	 */
+	private static final class CentralEntry {
+		final byte[] name;
+		final int method;
+		final int dosTime;
+		final long crc;
+		final long size;
+		final long compressedSize;
+		final long offset;
+
+		CentralEntry(byte[] name, int method, int dosTime, long crc, long size, long compressedSize, long offset) {
+			this.name = name;
+			this.method = method;
+			this.dosTime = dosTime;
+			this.crc = crc;
+			this.size = size;
+			this.compressedSize = compressedSize;
+			this.offset = offset;
+		}
+	}
+
+	/**
+	 * Creates a writer for the given file.
+	 *
+	 * @param filename
+	 *            the file to create
+	 * @throws IOException
+	 *             if the file cannot be created
+	 */
+	public ZipArchiveWriter(String filename) throws IOException {
+		channel = FileChannel.open(Paths.get(filename), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+		out = new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024);
+	}
+
+	/**
+	 * Returns the encoded name, checking that it fits into the zip headers.
+	 *
+	 * @param name
+	 *            the entry name
+	 * @return the UTF-8 encoded name
+	 * @throws ZipException
+	 *             if the name is too long
+	 */
+	public static byte[] encodeName(String name) throws ZipException {
+		byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+		if (bytes.length > 0xFFFF) {
+			throw new ZipException("entry name too long: " + name); //$NON-NLS-1$
+		}
+		return bytes;
+	}
+
+	/**
+	 * Writes an entry.
+	 *
+	 * @param name
+	 *            the encoded entry name
+	 * @param time
+	 *            the modification time of the entry
+	 * @param method
+	 *            {@link ZipEntry#STORED} or {@link ZipEntry#DEFLATED}, the way
+	 *            the contents have been prepared
+	 * @param crc
+	 *            the CRC-32 of the uncompressed contents
+	 * @param size
+	 *            the size of the uncompressed contents
+	 * @param contents
+	 *            the contents as they are written to the archive
+	 * @throws IOException
+	 *             if the archive cannot be written
+	 */
+	void writeEntry(byte[] name, long time, int method, long crc, long size, SpillBuffer contents)
+			throws IOException {
+		long compressedSize = contents.size();
+		CentralEntry entry = new CentralEntry(name, method, toDosTime(time), crc, size, compressedSize, written);
+		boolean zip64 = size >= ZIP64_MAGIC || compressedSize >= ZIP64_MAGIC;
+		write(newLocalHeader(name, method, entry.dosTime, crc, size, compressedSize, zip64));
+		contents.writeTo(out);
+		written += compressedSize;
+		entries.add(entry);
+	}
+
+	/**
+	 * Writes an uncompressed entry, copying the contents from the given
+	 * stream. The contents are read once: the CRC and size are computed while
+	 * they are copied and written into the local header afterwards.
+	 *
+	 * @param name
+	 *            the encoded entry name
+	 * @param time
+	 *            the modification time of the entry
+	 * @param expectedSize
+	 *            the expected size of the contents, used to decide whether the
+	 *            local header needs Zip64 extensions, or a negative value if it
+	 *            is not known
+	 * @param contents
+	 *            the stream to copy, not closed by this method
+	 * @throws IOException
+	 *             if the contents cannot be read, the archive cannot be
+	 *             written, or the contents outgrew the header reserved for
+	 *             their expected size
+	 */
+	public void writeStoredEntry(byte[] name, long time, long expectedSize, InputStream contents)
+			throws IOException {
+		long offset = written;
+		int dosTime = toDosTime(time);
+		boolean zip64 = expectedSize < 0 || expectedSize >= ZIP64_MAGIC;
+		write(newLocalHeader(name, ZipEntry.STORED, dosTime, 0, 0, 0, zip64));
+
+		CRC32 crc = new CRC32();
+		byte[] buffer = new byte[BUFFER_SIZE];
+		long size = 0;
+		int n;
+		while ((n = contents.read(buffer)) > 0) {
+			crc.update(buffer, 0, n);
+			out.write(buffer, 0, n);
+			size += n;
+		}
+		written += size;
+		if (!zip64 && size >= ZIP64_MAGIC) {
+			throw new ZipException("entry size changed during export: " //$NON-NLS-1$
+					+ new String(name, StandardCharsets.UTF_8));
+		}
+
+		// fill in the CRC and sizes now that they are known
+		out.flush();
+		ByteBuffer fields = newBuffer(12);
+		fields.putInt((int) crc.getValue());
+		fields.putInt((int) (zip64 ? ZIP64_MAGIC : size));
+		fields.putInt((int) (zip64 ? ZIP64_MAGIC : size));
+		patch(fields, offset + 14);
+		if (zip64) {
+			ByteBuffer extra = newBuffer(16);
+			extra.putLong(size);
+			extra.putLong(size);
+			patch(extra, offset + 30 + name.length + 4);
+		}
+		entries.add(new CentralEntry(name, ZipEntry.STORED, dosTime, crc.getValue(), size, size, offset));
+	}
+
+	/**
+	 * Writes the central directory and closes the file.
+	 *
+	 * @throws IOException
+	 *             if the archive cannot be written
+	 */
+	public void finish() throws IOException {
+		long centralOffset = written;
+		for (CentralEntry entry : entries) {
+			writeCentralHeader(entry);
+		}
+		long centralSize = written - centralOffset;
+		int count = entries.size();
+		boolean zip64 = count >= ZIP64_MAGIC_COUNT || centralOffset >= ZIP64_MAGIC || centralSize >= ZIP64_MAGIC;
+		if (zip64) {
+			long zip64EndOffset = written;
+			ByteBuffer end = newBuffer(56 + 20);
+			end.putInt(ZIP64_END_SIGNATURE);
+			end.putLong(44);
+			end.putShort((short) ZIP64_VERSION);
+			end.putShort((short) ZIP64_VERSION);
+			end.putInt(0);
+			end.putInt(0);
+			end.putLong(count);
+			end.putLong(count);
+			end.putLong(centralSize);
+			end.putLong(centralOffset);
+			end.putInt(ZIP64_LOCATOR_SIGNATURE);
+			end.putInt(0);
+			end.putLong(zip64EndOffset);
+			end.putInt(1);
+			write(end);
+		}
+		ByteBuffer end = newBuffer(22);
+		end.putInt(END_SIGNATURE);
+		end.putShort((short) 0);
+		end.putShort((short) 0);
+		end.putShort((short) Math.min(count, ZIP64_MAGIC_COUNT));
+		end.putShort((short) Math.min(count, ZIP64_MAGIC_COUNT));
+		end.putInt((int) Math.min(centralSize, ZIP64_MAGIC));
+		end.putInt((int) Math.min(centralOffset, ZIP64_MAGIC));
+		end.putShort((short) 0);
+		write(end);
+		close();
+	}
+
+	@Override
+	public void close() throws IOException {
+		out.close();
+	}
+
+	private static ByteBuffer newLocalHeader(byte[] name, int method, int dosTime, long crc, long size,
+			long compressedSize, boolean zip64) {
+		ByteBuffer header = newBuffer(30 + name.length + (zip64 ? 20 : 0));
+		header.putInt(LOCAL_HEADER_SIGNATURE);
+		header.putShort((short) (zip64 ? ZIP64_VERSION : VERSION));
+		header.putShort((short) UTF8_FLAG);
+		header.putShort((short) method);
+		header.putInt(dosTime);
+		header.putInt((int) crc);
+		header.putInt((int) (zip64 ? ZIP64_MAGIC : compressedSize));
+		header.putInt((int) (zip64 ? ZIP64_MAGIC : size));
+		header.putShort((short) name.length);
+		header.putShort((short) (zip64 ? 20 : 0));
+		header.put(name);
+		if (zip64) {
+			header.putShort(ZIP64_EXTRA_ID);
+			header.putShort((short) 16);
+			header.putLong(size);
+			header.putLong(compressedSize);
+		}
+		return header;
+	}
+
+	private void writeCentralHeader(CentralEntry entry) throws IOException {
+		boolean zip64Size = entry.size >= ZIP64_MAGIC || entry.compressedSize >= ZIP64_MAGIC;
+		boolean zip64Offset = entry.offset >= ZIP64_MAGIC;
+		int extraLength = zip64Size || zip64Offset ? 4 + (zip64Size ? 16 : 0) + (zip64Offset ? 8 : 0) : 0;
+		int version = extraLength > 0 ? ZIP64_VERSION : VERSION;
+
+		ByteBuffer header = newBuffer(46 + entry.name.length + extraLength);
+		header.putInt(CENTRAL_HEADER_SIGNATURE);
+		header.putShort((short) version);
+		header.putShort((short) version);
+		header.putShort((short) UTF8_FLAG);
+		header.putShort((short) entry.method);
+		header.putInt(entry.dosTime);
+		header.putInt((int) entry.crc);
+		header.putInt((int) (zip64Size ? ZIP64_MAGIC : entry.compressedSize));
+		header.putInt((int) (zip64Size ? ZIP64_MAGIC : entry.size));
+		header.putShort((short) entry.name.length);
+		header.putShort((short) extraLength);
+		header.putShort((short) 0); // comment length
+		header.putShort((short) 0); // disk number
+		header.putShort((short) 0); // internal attributes
+		header.putInt(0); // external attributes
+		header.putInt((int) (zip64Offset ? ZIP64_MAGIC : entry.offset));
+		header.put(entry.name);
+		if (extraLength > 0) {
+			header.putShort(ZIP64_EXTRA_ID);
+			header.putShort((short) (extraLength - 4));
+			if (zip64Size) {
+				header.putLong(entry.size);
+				header.putLong(entry.compressedSize);
+			}
+			if (zip64Offset) {
+				header.putLong(entry.offset);
+			}
+		}
+		write(header);
+	}
+
+	private static ByteBuffer newBuffer(int size) {
+		return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	private void write(ByteBuffer buffer) throws IOException {
+		out.write(buffer.array(), 0, buffer.position());
+		written += buffer.position();
+	}
+
+	/**
+	 * Overwrites already flushed bytes without moving the write position.
+	 */
+	private void patch(ByteBuffer buffer, long position) throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer, position + buffer.position());
+		}
+	}
+
+	/**
+	 * Converts the time to the MS-DOS format used by the zip headers, in local
+	 * time with a two seconds resolution, like {@link ZipEntry#setTime(long)}.
+	 */
+	private static int toDosTime(long time) {
+		LocalDateTime date = LocalDateTime.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault());
+		int year = date.getYear();
+		if (year < 1980) {
+			return (1 << 21) | (1 << 16);
+		}
+		if (year > 2107) {
+			return (127 << 25) | (12 << 21) | (31 << 16) | (23 << 11) | (59 << 5) | (59 >> 1);
+		}
+		return (year - 1980) << 25 | date.getMonthValue() << 21 | date.getDayOfMonth() << 16 | date.getHour() << 11
+				| date.getMinute() << 5 | date.getSecond() >> 1;
+	}
+}
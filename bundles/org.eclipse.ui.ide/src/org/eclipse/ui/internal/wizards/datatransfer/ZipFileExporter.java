@@ -13,13 +13,27 @@
  *******************************************************************************/
 package org.eclipse.ui.internal.wizards.datatransfer;
 
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
+import java.util.zip.ZipException;
 
+import org.eclipse.core.filesystem.EFS;
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
@@ -28,14 +42,95 @@ import org.eclipse.core.runtime.CoreException;
 
 /**
  *	Exports resources to a .zip file
+ * <p>
+ * The contents of every file are read once. Without compression they are
+ * copied straight into the archive, and their CRC and size are filled into the
+ * entry header afterwards. With compression, the files are read and deflated in
+ * parallel by a small pool of threads; the compressed contents are buffered in
+ * memory or, for large files, in a temporary file until they are written to
+ * the archive in the order the files have been passed to the exporter. A file
+ * which cannot be read is left out of the archive, and returned by
+ * {@link #getFailedFiles()}, as its failure surfaces only after it was passed.
+ * </p>
  */
 public class ZipFileExporter implements IFileExporter {
-	private ZipOutputStream outputStream;
+
+	private static final int BUFFER_SIZE = 8192;
+
+	/**
+	 * The number of compressed bytes of an entry kept in memory before spilling
+	 * to a temporary file.
+	 */
+	private static final int MEMORY_THRESHOLD = 512 * 1024;
+
+	private static final int PARALLELISM = Math.max(1, Math.min(8, Runtime.getRuntime().availableProcessors()));
+
+	/**
+	 * The number of entries which may wait to be written, limiting the memory
+	 * used for buffering.
+	 */
+	private static final int MAX_PENDING_ENTRIES = PARALLELISM * 2;
+
+	private ZipArchiveWriter outputStream;
 
 	private boolean useCompression = true;
 
 	private boolean resolveLinks;
 
+	private final Set<String> entryNames = new HashSet<>();
+
+	private final ArrayDeque<PendingEntry> pendingEntries = new ArrayDeque<>();
+
+	private ThreadPoolExecutor compressionExecutor;
+
+	private final Map<IFile, Exception> failedFiles = new LinkedHashMap<>();
+
+	/**
+	 * A compressed entry which has not been written yet.
+	 */
+	private static final class PendingEntry {
+		final byte[] name;
+		final long time;
+		/** The file to read, or <code>null</code> for a directory. */
+		final IFile file;
+		final SpillBuffer contents = new SpillBuffer(MEMORY_THRESHOLD);
+		final FutureTask<PendingEntry> deflated = new FutureTask<>(this::deflate);
+		long crc;
+		long size;
+
+		PendingEntry(byte[] name, long time, IFile file) {
+			this.name = name;
+			this.time = time;
+			this.file = file;
+		}
+
+		/**
+		 * Reads and deflates the contents of the file, computing their CRC and
+		 * size.
+		 */
+		PendingEntry deflate() throws IOException, CoreException {
+			CRC32 checksumCalculator = new CRC32();
+			Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+			byte[] readBuffer = new byte[BUFFER_SIZE];
+			try (InputStream in = file == null ? InputStream.nullInputStream() : file.getContents(false);
+					DeflaterOutputStream out = new DeflaterOutputStream(contents, deflater, BUFFER_SIZE)) {
+				int n;
+				while ((n = in.read(readBuffer)) > 0) {
+					checksumCalculator.update(readBuffer, 0, n);
+					out.write(readBuffer, 0, n);
+					size += n;
+				}
+			} catch (CoreException | IOException | RuntimeException e) {
+				contents.dispose();
+				throw e;
+			} finally {
+				deflater.end();
+			}
+			crc = checksumCalculator.getValue();
+			return this;
+		}
+	}
+
 	/**
 	 * Create an instance of this class.
 	 *
@@ -49,8 +144,18 @@ public class ZipFileExporter implements IFileExporter {
 	 */
 	public ZipFileExporter(String filename, boolean compress, boolean resolveLinks) throws IOException {
 		this.resolveLinks = resolveLinks;
-		outputStream = new ZipOutputStream(new FileOutputStream(filename));
+		outputStream = new ZipArchiveWriter(filename);
 		useCompression = compress;
+		if (compress && PARALLELISM > 1) {
+			compressionExecutor = new ThreadPoolExecutor(PARALLELISM, PARALLELISM, 1, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(), runnable -> {
+						Thread thread = new Thread(runnable, "Zip Export Compression"); //$NON-NLS-1$
+						thread.setDaemon(true);
+						return thread;
+					});
+			// don't keep the threads if the export is abandoned
+			compressionExecutor.allowCoreThreadTimeOut(true);
+		}
 	}
 
 	/**
@@ -61,55 +166,73 @@ public class ZipFileExporter implements IFileExporter {
 	 */
 	@Override
 	public void finished() throws IOException {
-		outputStream.close();
+		try {
+			IOException failure = null;
+			try {
+				writePendingEntries(0);
+			} catch (IOException e) {
+				failure = e;
+			}
+			// the entries written so far still make a valid archive
+			try {
+				outputStream.finish();
+			} catch (IOException e) {
+				if (failure == null) {
+					failure = e;
+				} else {
+					failure.addSuppressed(e);
+				}
+			}
+			if (failure != null) {
+				throw failure;
+			}
+		} finally {
+			if (compressionExecutor != null) {
+				compressionExecutor.shutdown();
+			}
+			// release the entries left after a failure
+			for (PendingEntry entry : pendingEntries) {
+				try {
+					entry.deflated.get().contents.dispose();
+				} catch (ExecutionException e) {
+					// nothing to clean up
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+			}
+			pendingEntries.clear();
+			outputStream.close();
+		}
 	}
 
 	/**
-	 *	Write the contents of the file to the tar archive.
+	 *	Write the contents of the file to the zip archive.
 	 *
-	 *	@param entry
+	 *	@param name
 	 *	@param contents
 	 *  @exception java.io.IOException
 	 *  @exception org.eclipse.core.runtime.CoreException
 	 */
-	private void write(ZipEntry entry, IFile contents) throws IOException, CoreException {
-		byte[] readBuffer = new byte[4096];
-
-		// If the contents are being compressed then we get the below for free.
-		if (!useCompression) {
-			entry.setMethod(ZipEntry.STORED);
-			InputStream contentStream = contents.getContents(false);
-			int length = 0;
-			CRC32 checksumCalculator = new CRC32();
-			try {
-				int n;
-				while ((n = contentStream.read(readBuffer)) > 0) {
-					checksumCalculator.update(readBuffer, 0, n);
-					length += n;
-				}
-			} finally {
-				if (contentStream != null) {
-					contentStream.close();
-				}
-			}
-
-			entry.setSize(length);
-			entry.setCrc(checksumCalculator.getValue());
-		}
+	private void write(String name, IFile contents) throws IOException, CoreException {
+		byte[] encodedName = checkName(name);
 
 		// set the timestamp
 		long localTimeStamp = contents.getLocalTimeStamp();
-		if(localTimeStamp != IResource.NULL_STAMP)
-			entry.setTime(localTimeStamp);
+		if (localTimeStamp == IResource.NULL_STAMP) {
+			localTimeStamp = System.currentTimeMillis();
+		}
+		entryNames.add(name);
+		if (useCompression) {
+			addEntry(new PendingEntry(encodedName, localTimeStamp, contents));
+			return;
+		}
 
-		outputStream.putNextEntry(entry);
+		URI location = contents.getLocationURI();
+		long expectedSize = location != null ? EFS.getStore(location).fetchInfo().getLength() : EFS.NONE;
 		try (InputStream contentStream = contents.getContents(false)) {
-			int n;
-			while ((n = contentStream.read(readBuffer)) > 0) {
-				outputStream.write(readBuffer, 0, n);
-			}
+			outputStream.writeStoredEntry(encodedName, localTimeStamp, expectedSize, contentStream);
 		}
-		outputStream.closeEntry();
 	}
 
 	@Override
@@ -118,8 +241,13 @@ public class ZipFileExporter implements IFileExporter {
 		if (!resolveLinks && container.isLinked(IResource.DEPTH_INFINITE)) {
 			return;
 		}
-		ZipEntry newEntry = new ZipEntry(destinationPath);
-		outputStream.putNextEntry(newEntry);
+		byte[] encodedName = checkName(destinationPath);
+		entryNames.add(destinationPath);
+		if (useCompression) {
+			addEntry(new PendingEntry(encodedName, System.currentTimeMillis(), null));
+		} else {
+			outputStream.writeStoredEntry(encodedName, System.currentTimeMillis(), 0, InputStream.nullInputStream());
+		}
 	}
 
 	/**
@@ -136,7 +264,69 @@ public class ZipFileExporter implements IFileExporter {
 		if (!resolveLinks && resource.isLinked(IResource.DEPTH_INFINITE)) {
 			return;
 		}
-		ZipEntry newEntry = new ZipEntry(destinationPath);
-		write(newEntry, resource);
+		write(destinationPath, resource);
+	}
+
+	@Override
+	public Map<IFile, Exception> getFailedFiles() {
+		Map<IFile, Exception> failed = new LinkedHashMap<>(failedFiles);
+		failedFiles.clear();
+		return failed;
+	}
+
+	private byte[] checkName(String name) throws ZipException {
+		if (entryNames.contains(name)) {
+			throw new ZipException("duplicate entry: " + name); //$NON-NLS-1$
+		}
+		return ZipArchiveWriter.encodeName(name);
+	}
+
+	/**
+	 * Queues the entry for compression and writes the entries which are ready.
+	 */
+	private void addEntry(PendingEntry entry) throws IOException {
+		pendingEntries.add(entry);
+		if (compressionExecutor != null) {
+			compressionExecutor.execute(entry.deflated);
+		} else {
+			entry.deflated.run();
+		}
+		writePendingEntries(MAX_PENDING_ENTRIES);
+	}
+
+	/**
+	 * Writes the pending entries in order, as long as they are ready or there
+	 * are more than the given number of them. The entries of files which could
+	 * not be read are skipped and remembered with their failure.
+	 */
+	private void writePendingEntries(int maxPending) throws IOException {
+		while (!pendingEntries.isEmpty()
+				&& (pendingEntries.size() > maxPending || pendingEntries.peek().deflated.isDone())) {
+			PendingEntry entry = pendingEntries.peek();
+			try {
+				entry.deflated.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException();
+			} catch (ExecutionException e) {
+				pendingEntries.poll();
+				Throwable cause = e.getCause();
+				if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+				if (entry.file == null) {
+					throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+				}
+				failedFiles.put(entry.file, (Exception) cause);
+				continue;
+			}
+			pendingEntries.poll();
+			try {
+				outputStream.writeEntry(entry.name, entry.time, ZipEntry.DEFLATED, entry.crc, entry.size,
+						entry.contents);
+			} finally {
+				entry.contents.dispose();
+			}
+		}
 	}
 }
@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Call tree merging stack samples of one thread. Each node is a method called from the method of
+ * its parent node, and counts the samples in which the method was running itself and in total.
+ * The number of nodes is bounded; when it is reached, the frames of a sample that would need new
+ * nodes are counted for the deepest existing node.
+ * <p>
+ * The profile can be written in the collapsed stack format read by flame graph tools, one line
+ * per call path with the frames separated by semicolons followed by the sample count.
+ * <p>
+ * This class is thread safe.
+ */
+public class CallTreeProfile {
+	/** The root frame of the samples that were truncated to the maximum stack depth. */
+	static final String TRUNCATED_FRAME = "[truncated]"; //$NON-NLS-1$
+
+	private static class Node {
+		final String className;
+		final String methodName;
+		/** The children of the node, or {@code null}. The fan-out is small, so a list is used. */
+		List<Node> children;
+		long selfCount;
+		long totalCount;
+
+		Node(String className, String methodName) {
+			this.className = className;
+			this.methodName = methodName;
+		}
+
+		Node getChild(String childClassName, String childMethodName) {
+			if (children != null) {
+				for (Node child : children) {
+					if (child.methodName.equals(childMethodName) && child.className.equals(childClassName)) {
+						return child;
+					}
+				}
+			}
+			return null;
+		}
+
+		Node addChild(String childClassName, String childMethodName) {
+			if (children == null) {
+				children = new ArrayList<>(2);
+			}
+			Node child = new Node(childClassName, childMethodName);
+			children.add(child);
+			return child;
+		}
+	}
+
+	private final Node root = new Node("", ""); //$NON-NLS-1$ //$NON-NLS-2$
+	private final int maxNodes;
+	private int nodeCount;
+
+	/**
+	 * @param maxNodes the maximum number of nodes of the call tree
+	 */
+	public CallTreeProfile(int maxNodes) {
+		this.maxNodes = maxNodes;
+	}
+
+	/**
+	 * Adds a stack sample.
+	 *
+	 * @param stack the stack trace, the running method first
+	 * @param truncated whether the bottom frames of the stack are missing
+	 */
+	public synchronized void addSample(StackTraceElement[] stack, boolean truncated) {
+		Node node = root;
+		node.totalCount++;
+		if (truncated) {
+			Node child = getOrAddChild(node, TRUNCATED_FRAME, ""); //$NON-NLS-1$
+			if (child == node) {
+				node.selfCount++;
+				return;
+			}
+			node = child;
+			node.totalCount++;
+		}
+		for (int i = stack.length; --i >= 0;) {
+			StackTraceElement frame = stack[i];
+			Node child = getOrAddChild(node, frame.getClassName(), frame.getMethodName());
+			if (child == node) {
+				break;
+			}
+			node = child;
+			node.totalCount++;
+		}
+		node.selfCount++;
+	}
+
+	/**
+	 * Returns the child of the node for the method, adding it if there is room, otherwise
+	 * returns the node itself.
+	 */
+	private Node getOrAddChild(Node node, String className, String methodName) {
+		Node child = node.getChild(className, methodName);
+		if (child == null) {
+			if (nodeCount >= maxNodes) {
+				return node;
+			}
+			child = node.addChild(className, methodName);
+			nodeCount++;
+		}
+		return child;
+	}
+
+	/**
+	 * Halves the sample counts and removes the nodes left without samples, so that older samples
+	 * weigh less than recent ones.
+	 */
+	public synchronized void decay() {
+		nodeCount = 0;
+		decay(root);
+	}
+
+	private void decay(Node node) {
+		node.selfCount /= 2;
+		long totalCount = node.selfCount;
+		if (node.children != null) {
+			for (Iterator<Node> iter = node.children.iterator(); iter.hasNext();) {
+				Node child = iter.next();
+				decay(child);
+				if (child.totalCount == 0) {
+					iter.remove();
+				} else {
+					totalCount += child.totalCount;
+					nodeCount++;
+				}
+			}
+		}
+		node.totalCount = totalCount;
+	}
+
+	/**
+	 * Returns the number of samples in the profile.
+	 */
+	public synchronized long getSampleCount() {
+		return root.totalCount;
+	}
+
+	/**
+	 * Returns the number of nodes of the call tree, not counting the root.
+	 */
+	public synchronized int getNodeCount() {
+		return nodeCount;
+	}
+
+	/**
+	 * Writes the profile in collapsed stack format, one line per call path with samples in which
+	 * the last method of the path was running.
+	 *
+	 * @param out the destination
+	 * @throws IOException if writing fails
+	 */
+	public synchronized void writeCollapsed(Appendable out) throws IOException {
+		if (root.children != null) {
+			StringBuilder path = new StringBuilder();
+			for (Node child : root.children) {
+				writeCollapsed(child, path, out);
+			}
+		}
+	}
+
+	private static void writeCollapsed(Node node, StringBuilder path, Appendable out)
+			throws IOException {
+		int length = path.length();
+		if (length != 0) {
+			path.append(';');
+		}
+		path.append(node.className);
+		if (!node.methodName.isEmpty()) {
+			path.append('.').append(node.methodName);
+		}
+		if (node.selfCount != 0) {
+			out.append(path).append(' ').append(Long.toString(node.selfCount)).append('\n');
+		}
+		if (node.children != null) {
+			for (Node child : node.children) {
+				writeCollapsed(child, path, out);
+			}
+		}
+		path.setLength(length);
+	}
+}
@@ -0,0 +1,257 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.swt.SWT;
+
+/**
+ * Dispatch times of the events of the UI thread, in a {@link LatencyHistogram} per SWT event type
+ * and optionally per class of the first listener of the event. The number of listener classes is
+ * bounded; the dispatch times of further classes are recorded under {@link #OTHER_LISTENERS}.
+ * <p>
+ * This class is thread safe. Recording does not block.
+ */
+public class DispatchLatencyHistogram {
+	/** The key of the dispatch times of the listener classes beyond the maximum. */
+	public static final String OTHER_LISTENERS = "(other)"; //$NON-NLS-1$
+	/** The event types with a name, for which the listeners can be tracked. */
+	static final int[] EVENT_TYPES = { SWT.KeyDown, SWT.KeyUp, SWT.MouseDown, SWT.MouseUp,
+			SWT.MouseMove, SWT.MouseEnter, SWT.MouseExit, SWT.MouseDoubleClick, SWT.Paint, SWT.Move,
+			SWT.Resize, SWT.Selection, SWT.DefaultSelection, SWT.FocusIn, SWT.FocusOut, SWT.Expand,
+			SWT.Collapse, SWT.Close, SWT.Show, SWT.Hide, SWT.Modify, SWT.Verify, SWT.Activate,
+			SWT.Deactivate, SWT.Traverse, SWT.MouseHover, SWT.MenuDetect, SWT.SetData,
+			SWT.MouseWheel, SWT.EraseItem, SWT.PaintItem, SWT.Gesture, SWT.Touch };
+	private static final int MAX_LISTENER_CLASSES = 128;
+	private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+
+	private final Map<Integer, LatencyHistogram> histogramsByEventType = new ConcurrentHashMap<>();
+	private final Map<String, LatencyHistogram> histogramsByListener = new ConcurrentHashMap<>();
+
+	/**
+	 * Records the dispatch of an event.
+	 *
+	 * @param eventType the SWT event type
+	 * @param nanos the dispatch time in nanoseconds
+	 */
+	public void record(int eventType, long nanos) {
+		record(eventType, null, nanos);
+	}
+
+	/**
+	 * Records the dispatch of an event.
+	 *
+	 * @param eventType the SWT event type
+	 * @param listenerClass the class name of the first listener of the event, or {@code null}
+	 * @param nanos the dispatch time in nanoseconds
+	 */
+	public void record(int eventType, String listenerClass, long nanos) {
+		long micros = nanos / 1000;
+		LatencyHistogram histogram = histogramsByEventType.get(eventType);
+		if (histogram == null) {
+			histogram = histogramsByEventType.computeIfAbsent(eventType, type -> new LatencyHistogram());
+		}
+		histogram.record(micros);
+		if (listenerClass != null) {
+			histogram = histogramsByListener.get(listenerClass);
+			if (histogram == null) {
+				String key = histogramsByListener.size() < MAX_LISTENER_CLASSES ?
+						listenerClass : OTHER_LISTENERS;
+				histogram = histogramsByListener.computeIfAbsent(key, k -> new LatencyHistogram());
+			}
+			histogram.record(micros);
+		}
+	}
+
+	/**
+	 * Returns the number of recorded dispatches of events of the type.
+	 */
+	public long getCount(int eventType) {
+		LatencyHistogram histogram = histogramsByEventType.get(eventType);
+		return histogram == null ? 0 : histogram.getCount();
+	}
+
+	/**
+	 * Returns an upper bound of the dispatch time of the given percentage of the events of the
+	 * type, in microseconds, or 0 if no event of the type was recorded.
+	 *
+	 * @param eventType the SWT event type
+	 * @param percentile the percentage, between 0 and 100
+	 */
+	public long getPercentile(int eventType, double percentile) {
+		LatencyHistogram histogram = histogramsByEventType.get(eventType);
+		return histogram == null ? 0 : histogram.getValueAtPercentile(percentile);
+	}
+
+	/**
+	 * Returns the histograms by the name of the event type, sorted by name.
+	 */
+	public Map<String, LatencyHistogram> getEventTypeHistograms() {
+		Map<String, LatencyHistogram> result = new TreeMap<>();
+		histogramsByEventType.forEach(
+				(eventType, histogram) -> result.put(getEventName(eventType), histogram));
+		return result;
+	}
+
+	/**
+	 * Returns the histograms by listener class name, sorted by name. Empty unless listener
+	 * classes were recorded.
+	 */
+	public Map<String, LatencyHistogram> getListenerHistograms() {
+		return Collections.unmodifiableMap(new TreeMap<>(histogramsByListener));
+	}
+
+	/**
+	 * Halves the counts, so that older dispatches weigh less than recent ones.
+	 */
+	public void decay() {
+		histogramsByEventType.values().forEach(LatencyHistogram::decay);
+		histogramsByListener.values().forEach(LatencyHistogram::decay);
+	}
+
+	/**
+	 * Removes all recorded dispatches.
+	 */
+	public void reset() {
+		histogramsByEventType.values().forEach(LatencyHistogram::reset);
+		histogramsByListener.clear();
+	}
+
+	/**
+	 * Writes the count, the mean, the percentiles and the maximum of the dispatch time of each
+	 * event type and listener class as tab separated tables, with the times in milliseconds.
+	 *
+	 * @param out the destination
+	 * @throws IOException if writing fails
+	 */
+	public void write(Appendable out) throws IOException {
+		out.append("# Dispatch time of UI events in milliseconds\n"); //$NON-NLS-1$
+		write(out, "event", getEventTypeHistograms()); //$NON-NLS-1$
+		Map<String, LatencyHistogram> listenerHistograms = getListenerHistograms();
+		if (!listenerHistograms.isEmpty()) {
+			out.append('\n');
+			write(out, "listener", listenerHistograms); //$NON-NLS-1$
+		}
+	}
+
+	private static void write(Appendable out, String keyName, Map<String, LatencyHistogram> histograms)
+			throws IOException {
+		out.append("# ").append(keyName).append("\tcount\tmean"); //$NON-NLS-1$ //$NON-NLS-2$
+		for (double percentile : PERCENTILES) {
+			out.append("\tp").append(formatPercentile(percentile)); //$NON-NLS-1$
+		}
+		out.append("\tmax\n"); //$NON-NLS-1$
+		for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+			LatencyHistogram histogram = entry.getValue();
+			long count = histogram.getCount();
+			if (count == 0) {
+				continue;
+			}
+			out.append(entry.getKey()).append('\t').append(Long.toString(count));
+			out.append('\t').append(formatMillis(histogram.getMean()));
+			for (double percentile : PERCENTILES) {
+				out.append('\t').append(formatMillis(histogram.getValueAtPercentile(percentile)));
+			}
+			out.append('\t').append(formatMillis(histogram.getMax())).append('\n');
+		}
+	}
+
+	private static String formatMillis(double micros) {
+		return String.format(Locale.ROOT, "%.3f", micros / 1000); //$NON-NLS-1$
+	}
+
+	private static String formatPercentile(double percentile) {
+		return percentile == Math.rint(percentile) ?
+				Integer.toString((int) percentile) : Double.toString(percentile);
+	}
+
+	/**
+	 * Returns the name of the SWT event type.
+	 */
+	static String getEventName(int eventType) {
+		switch (eventType) {
+		case SWT.KeyDown:
+			return "KeyDown"; //$NON-NLS-1$
+		case SWT.KeyUp:
+			return "KeyUp"; //$NON-NLS-1$
+		case SWT.MouseDown:
+			return "MouseDown"; //$NON-NLS-1$
+		case SWT.MouseUp:
+			return "MouseUp"; //$NON-NLS-1$
+		case SWT.MouseMove:
+			return "MouseMove"; //$NON-NLS-1$
+		case SWT.MouseEnter:
+			return "MouseEnter"; //$NON-NLS-1$
+		case SWT.MouseExit:
+			return "MouseExit"; //$NON-NLS-1$
+		case SWT.MouseDoubleClick:
+			return "MouseDoubleClick"; //$NON-NLS-1$
+		case SWT.Paint:
+			return "Paint"; //$NON-NLS-1$
+		case SWT.Move:
+			return "Move"; //$NON-NLS-1$
+		case SWT.Resize:
+			return "Resize"; //$NON-NLS-1$
+		case SWT.Selection:
+			return "Selection"; //$NON-NLS-1$
+		case SWT.DefaultSelection:
+			return "DefaultSelection"; //$NON-NLS-1$
+		case SWT.FocusIn:
+			return "FocusIn"; //$NON-NLS-1$
+		case SWT.FocusOut:
+			return "FocusOut"; //$NON-NLS-1$
+		case SWT.Expand:
+			return "Expand"; //$NON-NLS-1$
+		case SWT.Collapse:
+			return "Collapse"; //$NON-NLS-1$
+		case SWT.Close:
+			return "Close"; //$NON-NLS-1$
+		case SWT.Show:
+			return "Show"; //$NON-NLS-1$
+		case SWT.Hide:
+			return "Hide"; //$NON-NLS-1$
+		case SWT.Modify:
+			return "Modify"; //$NON-NLS-1$
+		case SWT.Verify:
+			return "Verify"; //$NON-NLS-1$
+		case SWT.Activate:
+			return "Activate"; //$NON-NLS-1$
+		case SWT.Deactivate:
+			return "Deactivate"; //$NON-NLS-1$
+		case SWT.Traverse:
+			return "Traverse"; //$NON-NLS-1$
+		case SWT.MouseHover:
+			return "MouseHover"; //$NON-NLS-1$
+		case SWT.MenuDetect:
+			return "MenuDetect"; //$NON-NLS-1$
+		case SWT.SetData:
+			return "SetData"; //$NON-NLS-1$
+		case SWT.MouseWheel:
+			return "MouseWheel"; //$NON-NLS-1$
+		case SWT.EraseItem:
+			return "EraseItem"; //$NON-NLS-1$
+		case SWT.PaintItem:
+			return "PaintItem"; //$NON-NLS-1$
+		case SWT.Gesture:
+			return "Gesture"; //$NON-NLS-1$
+		case SWT.Touch:
+			return "Touch"; //$NON-NLS-1$
+		default:
+			return "Event " + eventType; //$NON-NLS-1$
+		}
+	}
+}
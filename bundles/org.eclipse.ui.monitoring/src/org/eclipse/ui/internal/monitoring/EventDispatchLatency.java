@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Publishes a {@link DispatchLatencyHistogram} through JMX.
+ */
+public class EventDispatchLatency implements EventDispatchLatencyMXBean {
+	private final DispatchLatencyHistogram histogram;
+	private ObjectName objectName;
+
+	public EventDispatchLatency(DispatchLatencyHistogram histogram) {
+		this.histogram = histogram;
+	}
+
+	@Override
+	public Map<String, LatencyStatistics> getEventTypes() {
+		return getStatistics(histogram.getEventTypeHistograms());
+	}
+
+	@Override
+	public Map<String, LatencyStatistics> getListeners() {
+		return getStatistics(histogram.getListenerHistograms());
+	}
+
+	private static Map<String, LatencyStatistics> getStatistics(Map<String, LatencyHistogram> histograms) {
+		Map<String, LatencyStatistics> result = new LinkedHashMap<>();
+		histograms.forEach((key, histogram) -> result.put(key, LatencyStatistics.of(histogram)));
+		return result;
+	}
+
+	@Override
+	public String dump() {
+		StringBuilder out = new StringBuilder();
+		try {
+			histogram.write(out);
+		} catch (IOException e) {
+			// Not thrown by StringBuilder.
+		}
+		return out.toString();
+	}
+
+	@Override
+	public void reset() {
+		histogram.reset();
+	}
+
+	/**
+	 * Registers the MXBean with the platform MBean server, replacing the one of a previous
+	 * monitoring thread.
+	 */
+	public synchronized void register() {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(OBJECT_NAME);
+			try {
+				server.registerMBean(this, name);
+			} catch (InstanceAlreadyExistsException e) {
+				server.unregisterMBean(name);
+				server.registerMBean(this, name);
+			}
+			objectName = name;
+		} catch (JMException | RuntimeException e) {
+			MonitoringPlugin.logError(Messages.EventDispatchLatency_registration_error, e);
+		}
+	}
+
+	/**
+	 * Unregisters the MXBean if it is registered.
+	 */
+	public synchronized void unregister() {
+		if (objectName == null) {
+			return;
+		}
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			if (server.isRegistered(objectName)) {
+				server.unregisterMBean(objectName);
+			}
+		} catch (JMException | RuntimeException e) {
+			MonitoringPlugin.logError(Messages.EventDispatchLatency_registration_error, e);
+		}
+		objectName = null;
+	}
+}
@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import java.util.Map;
+
+/**
+ * Management interface of the dispatch times of the events of the UI thread, registered with the
+ * platform MBean server under {@value #OBJECT_NAME} while the event loop is monitored.
+ */
+public interface EventDispatchLatencyMXBean {
+	/** The object name of the MXBean. */
+	String OBJECT_NAME = "org.eclipse.ui.monitoring:type=EventDispatchLatency"; //$NON-NLS-1$
+
+	/**
+	 * Returns the statistics of the dispatch times by the name of the SWT event type.
+	 */
+	Map<String, LatencyStatistics> getEventTypes();
+
+	/**
+	 * Returns the statistics of the dispatch times by the class name of the first listener of
+	 * the events. Empty unless the dispatch times are recorded by listener class.
+	 */
+	Map<String, LatencyStatistics> getListeners();
+
+	/**
+	 * Returns the statistics of all events as a tab separated table.
+	 */
+	String dump();
+
+	/**
+	 * Removes all recorded dispatch times.
+	 */
+	void reset();
+}
@@ -36,6 +36,8 @@ import org.eclipse.swt.SWTException;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.TypedListener;
+import org.eclipse.swt.widgets.Widget;
 import org.eclipse.ui.monitoring.IUiFreezeEventLogger;
 import org.eclipse.ui.monitoring.PreferenceConstants;
 import org.eclipse.ui.monitoring.StackSample;
@@ -52,6 +54,7 @@ public class EventLoopMonitorThread extends Thread {
 	private static final String NEW_LINE_AND_BULLET = "\n* "; //$NON-NLS-1$
 	private static final String TRACE_EVENT_MONITOR = "/debug/event_monitor"; //$NON-NLS-1$
 	private static final String TRACE_PREFIX = "Event Loop Monitor"; //$NON-NLS-1$
+	private static final String LAMBDA_MARKER = "$$Lambda"; //$NON-NLS-1$
 	private static final Tracer tracer =
 			Tracer.create(TRACE_PREFIX, PreferenceConstants.PLUGIN_ID + TRACE_EVENT_MONITOR);
 
@@ -79,6 +82,20 @@ public class EventLoopMonitorThread extends Thread {
 		public String uiThreadFilter;
 		/** @see org.eclipse.ui.monitoring.PreferenceConstants#NONINTERESTING_THREAD_FILTER */
 		public String noninterestingThreadFilter;
+		/** If true, profile the UI thread and record the dispatch time of events. */
+		public boolean profilingEnabled;
+		/** @see org.eclipse.ui.monitoring.PreferenceConstants#PROFILING_SAMPLE_INTERVAL_MILLIS */
+		public int profilingSampleInterval;
+		/** @see org.eclipse.ui.monitoring.PreferenceConstants#PROFILING_MAX_CPU_PERCENT */
+		public int profilingMaxCpuPercent;
+		/** @see org.eclipse.ui.monitoring.PreferenceConstants#PROFILING_EXPORT_INTERVAL_SECONDS */
+		public int profilingExportInterval;
+		/** @see org.eclipse.ui.monitoring.PreferenceConstants#PROFILING_EXPORT_DIRECTORY */
+		public String profilingExportDirectory;
+		/** If true, record the dispatch time of events and publish it through JMX. */
+		public boolean dispatchLatencyEnabled;
+		/** @see org.eclipse.ui.monitoring.PreferenceConstants#DISPATCH_LATENCY_BY_LISTENER */
+		public boolean dispatchLatencyByListener;
 
 		/**
 		 * Checks if the values of parameters for UI responsiveness monitoring are valid.
@@ -134,6 +151,22 @@ public class EventLoopMonitorThread extends Thread {
 		private int[] nestingLevelStack = new int[64];
 		private int nestingLevelStackSize;
 
+		/**
+		 * The start times in nanoseconds of the events being dispatched, the innermost last.
+		 * Used only if {@link #latencies} is not {@code null}.
+		 */
+		private long[] dispatchStartStack = new long[64];
+		/** The class names of the first listeners of the events being dispatched, or nulls. */
+		private String[] dispatchListenerStack = new String[64];
+		private int dispatchDepth;
+
+		/**
+		 * The type and the first listener class of the event about to be dispatched, found by
+		 * the event filter that runs before the {@link SWT#PreEvent PreEvent}.
+		 */
+		private int pendingEventType;
+		private String pendingListenerClass;
+
 		@Override
 		public void handleEvent(Event event) {
 			/*
@@ -169,6 +202,16 @@ public class EventLoopMonitorThread extends Thread {
 				if (eventHistory != null) {
 					eventHistory.recordEvent(event.type, event.detail, nestingLevel);
 				}
+				if (latencies != null) {
+					if (dispatchDepth == dispatchStartStack.length) {
+						dispatchStartStack = Arrays.copyOf(dispatchStartStack, dispatchDepth * 2);
+						dispatchListenerStack = Arrays.copyOf(dispatchListenerStack, dispatchDepth * 2);
+					}
+					dispatchListenerStack[dispatchDepth] =
+							pendingEventType == event.detail ? pendingListenerClass : null;
+					pendingListenerClass = null;
+					dispatchStartStack[dispatchDepth++] = System.nanoTime();
+				}
 				// Log a long interval, start the timer.
 				handleEventTransition(true, true);
 				break;
@@ -184,6 +227,11 @@ public class EventLoopMonitorThread extends Thread {
 				if (eventHistory != null) {
 					eventHistory.recordEvent(event.type, event.detail, nestingLevel);
 				}
+				if (latencies != null && dispatchDepth > 0) {
+					long duration = System.nanoTime() - dispatchStartStack[--dispatchDepth];
+					latencies.record(event.detail, dispatchListenerStack[dispatchDepth], duration);
+					dispatchListenerStack[dispatchDepth] = null;
+				}
 				// Log a long interval, start the timer if inside another event.
 				handleEventTransition(true, nestingLevel > 0);
 				break;
@@ -224,6 +272,32 @@ public class EventLoopMonitorThread extends Thread {
 			}
 		}
 
+		/**
+		 * Called by the event filter before an event is sent to the listeners of its widget.
+		 */
+		void trackListener(Event event) {
+			Widget widget = event.widget;
+			pendingListenerClass = null;
+			if (widget == null || widget.isDisposed()) {
+				return;
+			}
+			Listener[] listeners = widget.getListeners(event.type);
+			if (listeners.length != 0) {
+				Object listener = listeners[0];
+				if (listener instanceof TypedListener) {
+					listener = ((TypedListener) listener).getEventListener();
+				}
+				String className = listener.getClass().getName();
+				// Lambdas of the same class share a name up to a generated suffix.
+				int lambda = className.indexOf(LAMBDA_MARKER);
+				if (lambda >= 0) {
+					className = className.substring(0, lambda + LAMBDA_MARKER.length());
+				}
+				pendingEventType = event.type;
+				pendingListenerClass = className;
+			}
+		}
+
 		private void saveAndResetNestingLevel() {
 			if (nestingLevelStackSize < nestingLevelStack.length) {
 				nestingLevelStack[nestingLevelStackSize++] = nestingLevel;
@@ -322,6 +396,7 @@ public class EventLoopMonitorThread extends Thread {
 
 	// Accessed only by the UI thread. */
 	private final EventLoopState eventLoopState = new EventLoopState();
+	private final Listener listenerTracker = event -> eventLoopState.trackListener(event);
 
 	/*
 	 * Tracks when the current event was started, or if the event has nested {@link Event#sendEvent}
@@ -340,6 +415,13 @@ public class EventLoopMonitorThread extends Thread {
 	private final AtomicBoolean cancelled = new AtomicBoolean(false);
 	private final AtomicReference<LongEventInfo> eventToPublish =
 			new AtomicReference<>(null);
+	/** The dispatch times of events when recorded, otherwise {@code null}. */
+	private final DispatchLatencyHistogram latencies;
+	/** Publishes {@link #latencies} through JMX, or {@code null}. */
+	private final EventDispatchLatency latencyMXBean;
+	private final boolean trackListeners;
+	/** The profiler of the UI thread, or {@code null}. */
+	private final UiThreadProfiler profiler;
 
 	// Accessed only by the monitoring thread.
 	private final List<IUiFreezeEventLogger> externalLoggers =
@@ -395,6 +477,21 @@ public class EventLoopMonitorThread extends Thread {
 		uiThreadFilter = new FilterHandler(args.uiThreadFilter);
 		noninterestingThreadFilter = new FilterHandler(args.noninterestingThreadFilter);
 		sleepMonitor = new Object();
+		if (args.dispatchLatencyEnabled || args.profilingEnabled) {
+			latencies = new DispatchLatencyHistogram();
+			latencyMXBean = new EventDispatchLatency(latencies);
+			trackListeners = args.dispatchLatencyByListener;
+		} else {
+			latencies = null;
+			latencyMXBean = null;
+			trackListeners = false;
+		}
+		if (args.profilingEnabled) {
+			profiler = new UiThreadProfiler(args, uiThreadId, () -> eventStartOrResumeTime != 0,
+					latencies);
+		} else {
+			profiler = null;
+		}
 	}
 
 	/**
@@ -402,15 +499,40 @@ public class EventLoopMonitorThread extends Thread {
 	 */
 	public void shutdown() throws SWTException {
 		cancelled.set(true);
+		if (profiler != null) {
+			profiler.shutdown();
+		}
+		if (latencyMXBean != null) {
+			latencyMXBean.unregister();
+		}
 		if (!display.isDisposed()) {
 			display.removeListener(SWT.PreEvent, eventLoopState);
 			display.removeListener(SWT.PostEvent, eventLoopState);
 			display.removeListener(SWT.PreExternalEventDispatch, eventLoopState);
 			display.removeListener(SWT.PostExternalEventDispatch, eventLoopState);
+			if (trackListeners) {
+				for (int eventType : DispatchLatencyHistogram.EVENT_TYPES) {
+					display.removeFilter(eventType, listenerTracker);
+				}
+			}
 		}
 		wakeUp();
 	}
 
+	/**
+	 * Returns the dispatch times of events, or {@code null} if they are not recorded.
+	 */
+	public DispatchLatencyHistogram getDispatchLatencies() {
+		return latencies;
+	}
+
+	/**
+	 * Returns the profiler of the UI thread, or {@code null} if profiling is disabled.
+	 */
+	public UiThreadProfiler getProfiler() {
+		return profiler;
+	}
+
 	/**
 	 * For testing only.
 	 */
@@ -490,6 +612,13 @@ public class EventLoopMonitorThread extends Thread {
 		// Register for events
 		display.asyncExec(this::registerDisplayListeners);
 
+		if (latencyMXBean != null && !cancelled.get()) {
+			latencyMXBean.register();
+		}
+		if (profiler != null && !cancelled.get()) {
+			profiler.start();
+		}
+
 		long currTime = getTimestamp();
 
 		while (!cancelled.get()) {
@@ -741,6 +870,12 @@ public class EventLoopMonitorThread extends Thread {
 		display.addListener(SWT.PostEvent, eventLoopState);
 		display.addListener(SWT.PreExternalEventDispatch, eventLoopState);
 		display.addListener(SWT.PostExternalEventDispatch, eventLoopState);
+		if (trackListeners) {
+			// Filters see the widget of an event right before its PreEvent.
+			for (int eventType : DispatchLatencyHistogram.EVENT_TYPES) {
+				display.addFilter(eventType, listenerTracker);
+			}
+		}
 	}
 
 	/**
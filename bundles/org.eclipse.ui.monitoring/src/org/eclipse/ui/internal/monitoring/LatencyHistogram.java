@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of durations in microseconds with a fixed memory footprint, in the manner of an HDR
+ * histogram. Values below {@value #SUB_BUCKETS} are counted exactly. Above, each power of two is
+ * divided into {@value #SUB_BUCKETS} buckets of equal width, so a value is known with an error
+ * of at most 1/{@value #SUB_BUCKETS} of itself. Values of 2<sup>32</sup> microseconds, more than
+ * an hour, and above are counted in the last bucket.
+ * <p>
+ * This class is thread safe. Recording does not block.
+ */
+public class LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 5;
+	static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int MAX_EXPONENT = 31;
+	private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private final AtomicLong totalMicros = new AtomicLong();
+	private final AtomicLong maxMicros = new AtomicLong();
+
+	/**
+	 * Records a duration.
+	 *
+	 * @param micros the duration in microseconds
+	 */
+	public void record(long micros) {
+		if (micros < 0) {
+			micros = 0;
+		}
+		counts.incrementAndGet(getIndex(micros));
+		totalMicros.addAndGet(micros);
+		if (micros > maxMicros.get()) {
+			maxMicros.accumulateAndGet(micros, Math::max);
+		}
+	}
+
+	/**
+	 * Returns the number of recorded durations.
+	 */
+	public long getCount() {
+		long count = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			count += counts.get(i);
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the mean of the recorded durations in microseconds, or 0 if there are none.
+	 */
+	public double getMean() {
+		long count = getCount();
+		return count == 0 ? 0 : (double) totalMicros.get() / count;
+	}
+
+	/**
+	 * Returns the longest recorded duration in microseconds, or 0 if there are none.
+	 */
+	public long getMax() {
+		return maxMicros.get();
+	}
+
+	/**
+	 * Returns the duration in microseconds that the given percentage of the recorded durations
+	 * do not exceed, as the highest value of its bucket, or 0 if there are none.
+	 *
+	 * @param percentile the percentage, between 0 and 100
+	 */
+	public long getValueAtPercentile(double percentile) {
+		long[] snapshot = new long[BUCKETS];
+		long total = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			snapshot[i] = counts.get(i);
+			total += snapshot[i];
+		}
+		if (total == 0) {
+			return 0;
+		}
+		long rank = Math.max((long) Math.ceil(total * percentile / 100), 1);
+		long count = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			count += snapshot[i];
+			if (count >= rank) {
+				return Math.min(getHighestValue(i), maxMicros.get());
+			}
+		}
+		return maxMicros.get();
+	}
+
+	/**
+	 * Halves the counts, so that older durations weigh less than recent ones.
+	 */
+	public void decay() {
+		int highest = -1;
+		for (int i = 0; i < BUCKETS; i++) {
+			if (counts.updateAndGet(i, count -> count / 2) != 0) {
+				highest = i;
+			}
+		}
+		totalMicros.updateAndGet(total -> total / 2);
+		long max = highest < 0 ? 0 : getHighestValue(highest);
+		maxMicros.accumulateAndGet(max, Math::min);
+	}
+
+	/**
+	 * Removes all recorded durations.
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKETS; i++) {
+			counts.set(i, 0);
+		}
+		totalMicros.set(0);
+		maxMicros.set(0);
+	}
+
+	// VisibleForTesting
+	static int getIndex(long micros) {
+		if (micros < SUB_BUCKETS) {
+			return (int) micros;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(micros);
+		if (exponent > MAX_EXPONENT) {
+			return BUCKETS - 1;
+		}
+		int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	// VisibleForTesting
+	static long getLowestValue(int index) {
+		int block = index >> SUB_BUCKET_BITS;
+		int subBucket = index & (SUB_BUCKETS - 1);
+		if (block == 0) {
+			return subBucket;
+		}
+		return (long) (SUB_BUCKETS + subBucket) << (block - 1);
+	}
+
+	// VisibleForTesting
+	static long getHighestValue(int index) {
+		return index == BUCKETS - 1 ? Long.MAX_VALUE : getLowestValue(index + 1) - 1;
+	}
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import javax.management.openmbean.CompositeData;
+
+/**
+ * Summary of a {@link LatencyHistogram} for {@link EventDispatchLatencyMXBean}, with the times
+ * in milliseconds.
+ */
+public class LatencyStatistics {
+	private final long count;
+	private final double mean;
+	private final double p50;
+	private final double p90;
+	private final double p99;
+	private final double p999;
+	private final double max;
+
+	public LatencyStatistics(long count, double mean, double p50, double p90, double p99,
+			double p999, double max) {
+		this.count = count;
+		this.mean = mean;
+		this.p50 = p50;
+		this.p90 = p90;
+		this.p99 = p99;
+		this.p999 = p999;
+		this.max = max;
+	}
+
+	/**
+	 * Creates the summary of the histogram.
+	 */
+	public static LatencyStatistics of(LatencyHistogram histogram) {
+		return new LatencyStatistics(histogram.getCount(), histogram.getMean() / 1000,
+				histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(90) / 1000.0,
+				histogram.getValueAtPercentile(99) / 1000.0,
+				histogram.getValueAtPercentile(99.9) / 1000.0, histogram.getMax() / 1000.0);
+	}
+
+	/**
+	 * Reconstructs the summary from its open type representation, for MXBean proxies.
+	 */
+	public static LatencyStatistics from(CompositeData data) {
+		return new LatencyStatistics((Long) data.get("count"), (Double) data.get("mean"), //$NON-NLS-1$ //$NON-NLS-2$
+				(Double) data.get("p50"), (Double) data.get("p90"), (Double) data.get("p99"), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				(Double) data.get("p999"), (Double) data.get("max")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/** Returns the number of dispatched events. */
+	public long getCount() {
+		return count;
+	}
+
+	/** Returns the mean dispatch time. */
+	public double getMean() {
+		return mean;
+	}
+
+	/** Returns the median dispatch time. */
+	public double getP50() {
+		return p50;
+	}
+
+	/** Returns the 90th percentile of the dispatch time. */
+	public double getP90() {
+		return p90;
+	}
+
+	/** Returns the 99th percentile of the dispatch time. */
+	public double getP99() {
+		return p99;
+	}
+
+	/** Returns the 99.9th percentile of the dispatch time. */
+	public double getP999() {
+		return p999;
+	}
+
+	/** Returns the longest dispatch time. */
+	public double getMax() {
+		return max;
+	}
+}
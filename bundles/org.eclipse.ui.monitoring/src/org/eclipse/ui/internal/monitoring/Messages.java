@@ -29,6 +29,7 @@ final class Messages extends NLS {
 	public static String DefaultUiFreezeEventLogger_ui_freeze_ongoing_header_2;
 	public static String DefaultUiFreezeEventLogger_waiting_for_1;
 	public static String DefaultUiFreezeEventLogger_waiting_for_with_lock_owner_3;
+	public static String EventDispatchLatency_registration_error;
 	public static String EventLoopMonitorThread_deadlock_error_1;
 	public static String EventLoopMonitorThread_deadlock_threshold_too_low_error_2;
 	public static String EventLoopMonitorThread_display_was_null;
@@ -41,6 +42,7 @@ final class Messages extends NLS {
 	public static String EventLoopMonitorThread_max_event_loop_depth_exceeded_1;
 	public static String FilterHandler_missing_thread_error;
 	public static String MonitoringStartup_initialization_error;
+	public static String UiThreadProfiler_export_error;
 
 	private Messages() {
 		// Do not instantiate.
@@ -85,6 +85,18 @@ public class MonitoringStartup implements IStartup {
 		args.noninterestingThreadFilter =
 				preferences.getString(PreferenceConstants.NONINTERESTING_THREAD_FILTER);
 		args.logToErrorLog = preferences.getBoolean(PreferenceConstants.LOG_TO_ERROR_LOG);
+		args.dispatchLatencyEnabled =
+				preferences.getBoolean(PreferenceConstants.DISPATCH_LATENCY_ENABLED);
+		args.dispatchLatencyByListener =
+				preferences.getBoolean(PreferenceConstants.DISPATCH_LATENCY_BY_LISTENER);
+		args.profilingEnabled = preferences.getBoolean(PreferenceConstants.PROFILING_ENABLED);
+		args.profilingSampleInterval =
+				preferences.getInt(PreferenceConstants.PROFILING_SAMPLE_INTERVAL_MILLIS);
+		args.profilingMaxCpuPercent = preferences.getInt(PreferenceConstants.PROFILING_MAX_CPU_PERCENT);
+		args.profilingExportInterval =
+				preferences.getInt(PreferenceConstants.PROFILING_EXPORT_INTERVAL_SECONDS);
+		args.profilingExportDirectory =
+				preferences.getString(PreferenceConstants.PROFILING_EXPORT_DIRECTORY);
 
 		return args;
 	}
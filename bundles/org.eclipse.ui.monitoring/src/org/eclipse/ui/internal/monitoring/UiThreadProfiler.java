@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.core.runtime.Platform;
+import org.osgi.framework.FrameworkUtil;
+
+/**
+ * Samples the stack of the UI thread at a regular interval while it dispatches events, and merges
+ * the samples into a {@link CallTreeProfile}. The interval is increased when taking the samples
+ * costs more than the allowed share of the time of one processor.
+ * <p>
+ * The profile and the {@link DispatchLatencyHistogram} of the monitoring thread are periodically
+ * written to the export directory, overwriting the previous files, and the counts are halved
+ * after each export.
+ */
+public class UiThreadProfiler extends Thread {
+	/** The name of the file the profile is written to, in collapsed stack format. */
+	public static final String PROFILE_FILE_NAME = "ui-thread.collapsed"; //$NON-NLS-1$
+	/** The name of the file the dispatch latency histogram is written to. */
+	public static final String LATENCY_FILE_NAME = "event-dispatch-latency.txt"; //$NON-NLS-1$
+	private static final int MAX_STACK_DEPTH = 256;
+	private static final int MAX_NODES = 100000;
+
+	/* NOTE: All time-related values in this class are in milliseconds. */
+
+	private final long uiThreadId;
+	private final BooleanSupplier uiThreadBusy;
+	private final CallTreeProfile profile = new CallTreeProfile(MAX_NODES);
+	private final DispatchLatencyHistogram latencies;
+	private final long sampleInterval;
+	private final int maxCpuPercent;
+	private final long exportInterval;
+	private final String exportDirectory;
+	private final AtomicBoolean cancelled = new AtomicBoolean(false);
+	private final Object sleepMonitor = new Object();
+	private boolean exportFailed;
+
+	/**
+	 * @param args parameters derived from preferences
+	 * @param uiThreadId the id of the UI thread
+	 * @param uiThreadBusy tells whether the UI thread is dispatching an event
+	 * @param latencies the histogram written with the profile
+	 */
+	public UiThreadProfiler(EventLoopMonitorThread.Parameters args, long uiThreadId,
+			BooleanSupplier uiThreadBusy, DispatchLatencyHistogram latencies) {
+		super("UI Thread Profiler"); //$NON-NLS-1$
+		setDaemon(true);
+		this.uiThreadId = uiThreadId;
+		this.uiThreadBusy = uiThreadBusy;
+		this.latencies = latencies;
+		sampleInterval = Math.max(args.profilingSampleInterval, 1);
+		maxCpuPercent = Math.max(args.profilingMaxCpuPercent, 1);
+		exportInterval = Math.max(args.profilingExportInterval, 1) * 1000L;
+		exportDirectory = args.profilingExportDirectory == null ? "" : args.profilingExportDirectory; //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the profile of the UI thread.
+	 */
+	public CallTreeProfile getProfile() {
+		return profile;
+	}
+
+	/**
+	 * Stops sampling and writes the profile a last time.
+	 */
+	public void shutdown() {
+		cancelled.set(true);
+		synchronized (sleepMonitor) {
+			sleepMonitor.notify();
+		}
+	}
+
+	@Override
+	public void run() {
+		ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+		boolean cpuTimeSupported = threadMXBean.isCurrentThreadCpuTimeSupported()
+				&& threadMXBean.isThreadCpuTimeEnabled();
+		long interval = sampleInterval;
+		long averageCostNanos = 0;
+		long exportAt = System.currentTimeMillis() + exportInterval;
+
+		while (!cancelled.get()) {
+			sleepForMillis(interval);
+			if (cancelled.get()) {
+				break;
+			}
+
+			if (uiThreadBusy.getAsBoolean()) {
+				long start = cpuTimeSupported ? threadMXBean.getCurrentThreadCpuTime() : System.nanoTime();
+				ThreadInfo threadInfo = threadMXBean.getThreadInfo(uiThreadId, MAX_STACK_DEPTH);
+				if (threadInfo != null) {
+					StackTraceElement[] stack = threadInfo.getStackTrace();
+					profile.addSample(stack, stack.length >= MAX_STACK_DEPTH);
+				}
+				long cost = (cpuTimeSupported ? threadMXBean.getCurrentThreadCpuTime() : System.nanoTime())
+						- start;
+				// Keep the cost of sampling below the limit by sampling less often.
+				averageCostNanos = averageCostNanos == 0 ? cost : (averageCostNanos * 7 + cost) / 8;
+				interval = Math.max(sampleInterval, averageCostNanos * 100 / maxCpuPercent / 1000000);
+			}
+
+			long currTime = System.currentTimeMillis();
+			if (currTime >= exportAt) {
+				export();
+				profile.decay();
+				latencies.decay();
+				exportAt = currTime + exportInterval;
+			}
+		}
+		export();
+	}
+
+	private void sleepForMillis(long milliseconds) {
+		try {
+			synchronized (sleepMonitor) {
+				sleepMonitor.wait(milliseconds);
+			}
+		} catch (InterruptedException e) {
+			// Wake up.
+		}
+	}
+
+	/**
+	 * Writes the profile and the latency histogram to the export directory.
+	 */
+	// VisibleForTesting
+	void export() {
+		try {
+			Path directory = getExportDirectory();
+			Files.createDirectories(directory);
+			Path profileFile = directory.resolve(PROFILE_FILE_NAME);
+			Path profileTemp = directory.resolve(PROFILE_FILE_NAME + ".tmp"); //$NON-NLS-1$
+			try (Writer writer = Files.newBufferedWriter(profileTemp, StandardCharsets.UTF_8)) {
+				profile.writeCollapsed(writer);
+			}
+			Files.move(profileTemp, profileFile, StandardCopyOption.REPLACE_EXISTING);
+			Path latencyFile = directory.resolve(LATENCY_FILE_NAME);
+			Path latencyTemp = directory.resolve(LATENCY_FILE_NAME + ".tmp"); //$NON-NLS-1$
+			try (Writer writer = Files.newBufferedWriter(latencyTemp, StandardCharsets.UTF_8)) {
+				latencies.write(writer);
+			}
+			Files.move(latencyTemp, latencyFile, StandardCopyOption.REPLACE_EXISTING);
+			exportFailed = false;
+		} catch (IOException | RuntimeException e) {
+			// Report only the first of consecutive failures.
+			if (!exportFailed) {
+				exportFailed = true;
+				MonitoringPlugin.logError(Messages.UiThreadProfiler_export_error, e);
+			}
+		}
+	}
+
+	private Path getExportDirectory() {
+		if (exportDirectory.isEmpty()) {
+			return Platform.getStateLocation(FrameworkUtil.getBundle(getClass())).toFile().toPath();
+		}
+		return Paths.get(exportDirectory);
+	}
+}
@@ -46,5 +46,12 @@ public class MonitoringPreferenceInitializer extends AbstractPreferenceInitializ
 				+ ",org.eclipse.osgi.framework.eventmgr.EventManager$EventThread.run" //$NON-NLS-1$
 				+ ",org.eclipse.equinox.internal.util.impl.tpt.timer.TimerImpl.run" //$NON-NLS-1$
 				+ ",org.eclipse.equinox.internal.util.impl.tpt.threadpool.Executor.run"); //$NON-NLS-1$
+		store.setDefault(PreferenceConstants.DISPATCH_LATENCY_ENABLED, false);
+		store.setDefault(PreferenceConstants.DISPATCH_LATENCY_BY_LISTENER, false);
+		store.setDefault(PreferenceConstants.PROFILING_ENABLED, false);
+		store.setDefault(PreferenceConstants.PROFILING_SAMPLE_INTERVAL_MILLIS, 20);
+		store.setDefault(PreferenceConstants.PROFILING_MAX_CPU_PERCENT, 2);
+		store.setDefault(PreferenceConstants.PROFILING_EXPORT_INTERVAL_SECONDS, 300); // 5 min
+		store.setDefault(PreferenceConstants.PROFILING_EXPORT_DIRECTORY, ""); //$NON-NLS-1$
 	}
 }
@@ -30,6 +30,8 @@ import org.eclipse.ui.monitoring.PreferenceConstants;
  * Listens to preference changes and restarts the monitoring thread when necessary.
  */
 public class MonitoringPreferenceListener implements IPropertyChangeListener {
+	private static final String PROFILING_PREFIX = "profiling_"; //$NON-NLS-1$
+	private static final String DISPATCH_LATENCY_PREFIX = "dispatch_latency_"; //$NON-NLS-1$
 	private EventLoopMonitorThread monitoringThread;
 	/**
 	 * A flag to handle the resetting of the {@link EventLoopMonitorThread}. The method
@@ -55,7 +57,9 @@ public class MonitoringPreferenceListener implements IPropertyChangeListener {
 				&& !property.equals(PreferenceConstants.LOG_TO_ERROR_LOG)
 				&& !property.equals(PreferenceConstants.MAX_STACK_SAMPLES)
 				&& !property.equals(PreferenceConstants.UI_THREAD_FILTER)
-				&& !property.equals(PreferenceConstants.NONINTERESTING_THREAD_FILTER)) {
+				&& !property.equals(PreferenceConstants.NONINTERESTING_THREAD_FILTER)
+				&& !property.startsWith(PROFILING_PREFIX)
+				&& !property.startsWith(DISPATCH_LATENCY_PREFIX)) {
 			return;
 		}
 
@@ -26,6 +26,7 @@ import org.eclipse.jface.preference.BooleanFieldEditor;
 import org.eclipse.jface.preference.FieldEditor;
 import org.eclipse.jface.preference.FieldEditorPreferencePage;
 import org.eclipse.jface.preference.IntegerFieldEditor;
+import org.eclipse.jface.preference.StringFieldEditor;
 import org.eclipse.jface.util.PropertyChangeEvent;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Composite;
@@ -110,6 +111,7 @@ public class MonitoringPreferencePage extends FieldEditorPreferencePage
 		Composite container = new Composite(parent, SWT.NONE);
 
 		createTopBlock(container);
+		createProfilingBlock(container, pixelConverter);
 		createBottomBlock(container, pixelConverter);
 
 		GridLayoutFactory.fillDefaults()
@@ -153,6 +155,36 @@ public class MonitoringPreferencePage extends FieldEditorPreferencePage
 		return block;
 	}
 
+	private Composite createProfilingBlock(Composite container, PixelConverter pixelConverter) {
+		Composite block = new Composite(container, SWT.NONE);
+
+		createEmptySpace(block, pixelConverter.convertVerticalDLUsToPixels(3), 2);
+		createBooleanEditor(PreferenceConstants.DISPATCH_LATENCY_ENABLED,
+				Messages.MonitoringPreferencePage_dispatch_latency_enabled_label, block);
+		createBooleanEditor(PreferenceConstants.DISPATCH_LATENCY_BY_LISTENER,
+				Messages.MonitoringPreferencePage_dispatch_latency_by_listener_label, block);
+		createBooleanEditor(PreferenceConstants.PROFILING_ENABLED,
+				Messages.MonitoringPreferencePage_profiling_enabled_label, block);
+		createIntegerEditor(
+				PreferenceConstants.PROFILING_SAMPLE_INTERVAL_MILLIS,
+				Messages.MonitoringPreferencePage_profiling_sample_interval_label, block,
+				1, 60000);
+		createIntegerEditor(
+				PreferenceConstants.PROFILING_MAX_CPU_PERCENT,
+				Messages.MonitoringPreferencePage_profiling_max_cpu_percent_label, block, 1, 100);
+		createIntegerEditor(
+				PreferenceConstants.PROFILING_EXPORT_INTERVAL_SECONDS,
+				Messages.MonitoringPreferencePage_profiling_export_interval_label, block,
+				1, 24 * 3600);
+		addField(new StringFieldEditor(PreferenceConstants.PROFILING_EXPORT_DIRECTORY,
+				Messages.MonitoringPreferencePage_profiling_export_directory_label, block), block);
+		GridLayoutFactory.fillDefaults()
+				.numColumns(2)
+				.spacing(LayoutConstants.getSpacing())
+				.applyTo(block);
+		return block;
+	}
+
 	private Composite createBottomBlock(Composite container, PixelConverter pixelConverter) {
 		Composite block = new Composite(container, SWT.NONE);
 
@@ -58,6 +58,41 @@ public class PreferenceConstants {
 	 * message if all stack frames of the thread match the filter.
 	 */
 	public static final String NONINTERESTING_THREAD_FILTER = "noninteresting_thread_filter"; //$NON-NLS-1$
+	/**
+	 * If true, records the dispatch time of events in histograms by event type, published
+	 * through JMX.
+	 */
+	public static final String DISPATCH_LATENCY_ENABLED = "dispatch_latency_enabled"; //$NON-NLS-1$
+	/**
+	 * If true, the dispatch time of events is also recorded by the class of the first listener
+	 * of the event.
+	 */
+	public static final String DISPATCH_LATENCY_BY_LISTENER = "dispatch_latency_by_listener"; //$NON-NLS-1$
+	/**
+	 * If true, samples the stack of the UI thread continuously while it dispatches events and
+	 * merges the samples into a call tree profile.
+	 */
+	public static final String PROFILING_ENABLED = "profiling_enabled"; //$NON-NLS-1$
+	/**
+	 * The interval in milliseconds between two stack samples of the UI thread when profiling.
+	 */
+	public static final String PROFILING_SAMPLE_INTERVAL_MILLIS = "profiling_sample_interval"; //$NON-NLS-1$
+	/**
+	 * The maximum percentage of the time of one processor spent sampling stacks. The sample
+	 * interval is increased when sampling takes longer.
+	 */
+	public static final String PROFILING_MAX_CPU_PERCENT = "profiling_max_cpu_percent"; //$NON-NLS-1$
+	/**
+	 * The interval in seconds at which the profile and the event dispatch latency histogram are
+	 * written to the export directory. The counts are halved after each export, so that the
+	 * profile mostly reflects the recent activity.
+	 */
+	public static final String PROFILING_EXPORT_INTERVAL_SECONDS = "profiling_export_interval"; //$NON-NLS-1$
+	/**
+	 * The directory the profile is written to in collapsed stack format, and the event dispatch
+	 * latency histogram as text. The state location of the plug-in is used if empty.
+	 */
+	public static final String PROFILING_EXPORT_DIRECTORY = "profiling_export_directory"; //$NON-NLS-1$
 
 	private PreferenceConstants() {}
 }
@@ -14,9 +14,11 @@
 
 package org.eclipse.ui.internal.navigator;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 
 import org.eclipse.ui.navigator.INavigatorContentDescriptor;
 
@@ -36,6 +38,7 @@ public class ContributorTrackingSet extends LinkedHashSet {
 	private INavigatorContentDescriptor contributor;
 	private INavigatorContentDescriptor firstClassContributor;
 	private NavigatorContentService contentService;
+	private List<Object[]> deferredContributions;
 
 	/**
 	 * Construct a tracking set.
@@ -62,14 +65,14 @@ public class ContributorTrackingSet extends LinkedHashSet {
 	@Override
 	public boolean add(Object o) {
 		if (contributor != null) {
-			contentService.rememberContribution(contributor, firstClassContributor, o);
+			rememberContribution(o);
 		}
 		return super.add(o);
 	}
 
 	@Override
 	public boolean remove(Object o) {
-		contentService.forgetContribution(o);
+		forgetContribution(o);
 		return super.remove(o);
 	}
 
@@ -78,10 +81,57 @@ public class ContributorTrackingSet extends LinkedHashSet {
 	public void clear() {
 		Iterator it = iterator();
 		while (it.hasNext())
-			contentService.forgetContribution(it.next());
+			forgetContribution(it.next());
 		super.clear();
 	}
 
+	/**
+	 * Records the contributions instead of passing them to the content service
+	 * until {@link #applyDeferredContributions()} is called. Used for sets that
+	 * are filled by a content extension outside of the UI thread, so that the
+	 * contributions are remembered in the same order as if the extensions had
+	 * been invoked one after another.
+	 */
+	public void deferContributions() {
+		deferredContributions = new ArrayList<>();
+	}
+
+	/**
+	 * Passes the contributions recorded since {@link #deferContributions()} to
+	 * the content service, and stops recording.
+	 */
+	public void applyDeferredContributions() {
+		List<Object[]> contributions = deferredContributions;
+		if (contributions == null) {
+			return;
+		}
+		deferredContributions = null;
+		for (Object[] contribution : contributions) {
+			if (contribution.length == 1) {
+				contentService.forgetContribution(contribution[0]);
+			} else {
+				contentService.rememberContribution((INavigatorContentDescriptor) contribution[1],
+						(INavigatorContentDescriptor) contribution[2], contribution[0]);
+			}
+		}
+	}
+
+	private void rememberContribution(Object o) {
+		if (deferredContributions != null) {
+			deferredContributions.add(new Object[] { o, contributor, firstClassContributor });
+		} else {
+			contentService.rememberContribution(contributor, firstClassContributor, o);
+		}
+	}
+
+	private void forgetContribution(Object o) {
+		if (deferredContributions != null) {
+			deferredContributions.add(new Object[] { o });
+		} else {
+			contentService.forgetContribution(o);
+		}
+	}
+
 	/**
 	 *
 	 * @return The current contributor.
@@ -139,7 +189,7 @@ public class ContributorTrackingSet extends LinkedHashSet {
 			@Override
 			public void remove() {
 				delegateIterator.remove();
-				contentService.forgetContribution(current);
+				forgetContribution(current);
 			}
 		};
 	}
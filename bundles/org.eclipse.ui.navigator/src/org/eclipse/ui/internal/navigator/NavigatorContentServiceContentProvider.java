@@ -23,14 +23,27 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.jface.viewers.ITreeContentProvider;
 import org.eclipse.jface.viewers.ITreePathContentProvider;
+import org.eclipse.jface.viewers.StructuredViewer;
 import org.eclipse.jface.viewers.TreePath;
 import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.osgi.util.NLS;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.internal.navigator.extensions.NavigatorContentDescriptor;
 import org.eclipse.ui.internal.navigator.extensions.NavigatorContentExtension;
 import org.eclipse.ui.internal.navigator.extensions.NavigatorViewerDescriptor;
@@ -56,6 +69,17 @@ import org.eclipse.ui.navigator.OverridePolicy;
  * functionality (filters, sorting, etc) may choose to use this class, in effect
  * using an extensible, aggregating, delegate content provider.
  * </p>
+ * <p>
+ * If the system property
+ * <code>org.eclipse.ui.navigator.content.workers</code> is set to a value
+ * greater than one (or to zero for one worker per available processor), the
+ * children provided by different first class extensions are computed in
+ * parallel. The viewer waits for them at most
+ * <code>org.eclipse.ui.navigator.content.timeBudget</code> milliseconds
+ * (250 by default); children provided later are merged into the tree when
+ * they arrive. Both can be changed for one content provider with
+ * {@link #setParallelEvaluation(int, long)}.
+ * </p>
  *
  * @see org.eclipse.ui.internal.navigator.NavigatorContentService
  * @see org.eclipse.ui.internal.navigator.NavigatorContentServiceLabelProvider
@@ -67,6 +91,27 @@ public class NavigatorContentServiceContentProvider implements ITreeContentProvi
 
 	private static final Object[] NO_CHILDREN = new Object[0];
 
+	private static final int DEFAULT_WORKER_COUNT = computeWorkerCount(
+			Integer.getInteger("org.eclipse.ui.navigator.content.workers", 1).intValue()); //$NON-NLS-1$
+
+	private static final long DEFAULT_TIME_BUDGET = Long
+			.getLong("org.eclipse.ui.navigator.content.timeBudget", 250).longValue(); //$NON-NLS-1$
+
+	/**
+	 * The number of threads computing the children of different extensions in
+	 * parallel, 1 to invoke the extensions one after another on the calling
+	 * thread.
+	 */
+	private int workerCount = DEFAULT_WORKER_COUNT;
+
+	/**
+	 * The time in milliseconds the UI thread waits for the children of the
+	 * extensions computed in parallel.
+	 */
+	private long timeBudget = DEFAULT_TIME_BUDGET;
+
+	private ThreadPoolExecutor executor;
+
 	private final NavigatorContentService contentService;
 
 	private boolean disposeContentService;
@@ -75,6 +120,12 @@ public class NavigatorContentServiceContentProvider implements ITreeContentProvi
 
 	private Viewer viewer;
 
+	/**
+	 * The running evaluations and those that have missed the time budget,
+	 * until their results are merged.
+	 */
+	private final Map<EvaluationKey, Evaluation> evaluations = new ConcurrentHashMap<>();
+
 	/**
 	 * <p>
 	 * Creates a cached {@link NavigatorContentService}&nbsp;from the given
@@ -107,8 +158,30 @@ public class NavigatorContentServiceContentProvider implements ITreeContentProvi
 		enforceHasChildren = vDesc.getBooleanConfigProperty(NavigatorViewerDescriptor.PROP_ENFORCE_HAS_CHILDREN);
 	}
 
+	/**
+	 * Configures the parallel evaluation of the extensions of this content
+	 * provider, overriding the system properties.
+	 *
+	 * @param workers
+	 *            the number of threads computing the children of different
+	 *            extensions, 1 to invoke the extensions one after another on
+	 *            the calling thread, or zero or less for one per available
+	 *            processor
+	 * @param timeBudgetMillis
+	 *            the time in milliseconds the UI thread waits for the children
+	 *            of the extensions
+	 */
+	// VisibleForTesting
+	public synchronized void setParallelEvaluation(int workers, long timeBudgetMillis) {
+		cancelEvaluations();
+		shutdownExecutor();
+		workerCount = computeWorkerCount(workers);
+		timeBudget = timeBudgetMillis;
+	}
+
 	@Override
 	public void inputChanged(Viewer aViewer, Object anOldInput, Object aNewInput) {
+		cancelEvaluations();
 		viewer = aViewer;
 		contentService.updateService(aViewer, anOldInput, aNewInput);
 	}
@@ -139,6 +212,9 @@ public class NavigatorContentServiceContentProvider implements ITreeContentProvi
 		if (enabledExtensions.isEmpty()) {
 			return NO_CHILDREN;
 		}
+		if (workerCount > 1 && enabledExtensions.size() > 1) {
+			return internalGetChildrenInParallel(aParentElement, aParentElementOrPath, enabledExtensions, elements);
+		}
 		final Set finalSet = new LinkedHashSet();
 		final ContributorTrackingSet localSet = new ContributorTrackingSet(contentService);
 
@@ -152,12 +228,16 @@ public class NavigatorContentServiceContentProvider implements ITreeContentProvi
 				public void run() throws Exception {
 					if (!isOverridingExtensionInSet(foundExtension.getDescriptor(),
 							enabledExtensions)) {
+						long start = Policy.DEBUG_EXTENSION_TIMING ? System.nanoTime() : 0;
 						if (elements)
 							contributedChildren = foundExtension.internalGetContentProvider()
 									.getElements(aParentElementOrPath);
 						else
 							contributedChildren = foundExtension.internalGetContentProvider()
 									.getChildren(aParentElementOrPath);
+						if (Policy.DEBUG_EXTENSION_TIMING) {
+							traceTiming(foundExtension, aParentElement, elements, start, false);
+						}
 						overridingExtensions = foundExtension
 								.getOverridingExtensionsForTriggerPoint(aParentElement);
 						INavigatorContentDescriptor foundDescriptor = foundExtension
@@ -185,6 +265,113 @@ public class NavigatorContentServiceContentProvider implements ITreeContentProvi
 		return finalSet.toArray();
 	}
 
+	/**
+	 * Computes the children of the first class extensions on the
+	 * {@link #getExecutor() executor}, each one together with the pipeline of
+	 * its overriding extensions. The extensions, their content providers and
+	 * pipelines are resolved on the calling thread, and the results are merged
+	 * in the order of the extensions, so the override and sequence number
+	 * ordering is the same as when the extensions are invoked one after
+	 * another.
+	 * <p>
+	 * When called on the UI thread of a structured viewer, the results are only
+	 * waited for until the {@link #timeBudget} has passed. The children of an
+	 * extension that finishes later are kept, and the parent is refreshed to
+	 * merge them into the tree.
+	 * </p>
+	 */
+	private Object[] internalGetChildrenInParallel(final Object aParentElement,
+			final Object aParentElementOrPath, final Set enabledExtensions, final boolean elements) {
+		final Display display = viewer instanceof StructuredViewer ? Display.getCurrent() : null;
+		final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudget);
+		final List<Evaluation> started = new ArrayList<>(enabledExtensions.size());
+
+		for (final Iterator itr = enabledExtensions.iterator(); itr.hasNext();) {
+			SafeRunner.run(new NavigatorSafeRunnable() {
+				NavigatorContentExtension foundExtension = (NavigatorContentExtension) itr.next();
+
+				@Override
+				public void run() throws Exception {
+					if (!isOverridingExtensionInSet(foundExtension.getDescriptor(), enabledExtensions)) {
+						started.add(startEvaluation(foundExtension, aParentElement, aParentElementOrPath,
+								elements, display));
+					}
+				}
+
+				@Override
+				public void handleException(Throwable e) {
+					NavigatorPlugin.logError(0, NLS.bind(
+							CommonNavigatorMessages.Exception_Invoking_Extension, new Object[] {
+									foundExtension.getDescriptor().getId(), aParentElement }), e);
+				}
+			});
+		}
+
+		final Set finalSet = new LinkedHashSet();
+		for (Evaluation evaluation : started) {
+			ContributorTrackingSet contributedChildren = evaluation.await(display != null ? deadline : Long.MAX_VALUE);
+			if (contributedChildren != null) {
+				contributedChildren.applyDeferredContributions();
+				finalSet.addAll(contributedChildren);
+			}
+		}
+		return finalSet.toArray();
+	}
+
+	/**
+	 * Returns the pending evaluation of the extension for the parent, which has
+	 * missed an earlier time budget, or starts a new one.
+	 */
+	private Evaluation startEvaluation(final NavigatorContentExtension anExtension, final Object aParentElement,
+			final Object aParentElementOrPath, final boolean elements, Display display) {
+		EvaluationKey key = new EvaluationKey(anExtension, aParentElementOrPath, elements);
+		Evaluation evaluation = evaluations.get(key);
+		if (evaluation != null) {
+			return evaluation;
+		}
+
+		final SafeDelegateTreeContentProvider contentProvider = anExtension.internalGetContentProvider();
+		final List pipeline = new ArrayList();
+		NavigatorContentExtension[] overridingExtensions = anExtension
+				.getOverridingExtensionsForTriggerPoint(aParentElement);
+		if (overridingExtensions.length > 0) {
+			collectPipeline(aParentElement, overridingExtensions, pipeline);
+		}
+		final INavigatorContentDescriptor foundDescriptor = anExtension.getDescriptor();
+		final ContributorTrackingSet localSet = new ContributorTrackingSet(contentService);
+		localSet.deferContributions();
+		localSet.setContributor(foundDescriptor, foundDescriptor);
+
+		evaluation = new Evaluation(key, aParentElement, display, () -> {
+			boolean[] failed = new boolean[1];
+			SafeRunner.run(new NavigatorSafeRunnable() {
+				@Override
+				public void run() throws Exception {
+					long start = Policy.DEBUG_EXTENSION_TIMING ? System.nanoTime() : 0;
+					Object[] contributedChildren = elements ? contentProvider.getElements(aParentElementOrPath)
+							: contentProvider.getChildren(aParentElementOrPath);
+					if (Policy.DEBUG_EXTENSION_TIMING) {
+						traceTiming(anExtension, aParentElement, elements, start, false);
+					}
+					localSet.setContents(contributedChildren);
+					runPipeline(aParentElement, pipeline, foundDescriptor, localSet, elements);
+				}
+
+				@Override
+				public void handleException(Throwable e) {
+					failed[0] = true;
+					NavigatorPlugin.logError(0, NLS.bind(
+							CommonNavigatorMessages.Exception_Invoking_Extension, new Object[] {
+									foundDescriptor.getId(), aParentElement }), e);
+				}
+			});
+			return failed[0] ? null : localSet;
+		});
+		evaluations.put(key, evaluation);
+		getExecutor().execute(evaluation);
+		return evaluation;
+	}
+
 	/**
 	 * Query each of <code>theOverridingExtensions</code> for children, and then
 	 * pipe them through the Pipeline content provider.
@@ -200,26 +387,197 @@ public class NavigatorContentServiceContentProvider implements ITreeContentProvi
 	 */
 	private void pipelineChildren(Object aParent, NavigatorContentExtension[] theOverridingExtensions,
 			INavigatorContentDescriptor firstClassDescriptor, ContributorTrackingSet pipelinedChildren, boolean elements) {
-		IPipelinedTreeContentProvider pipelinedContentProvider;
+		List pipeline = new ArrayList();
+		collectPipeline(aParent, theOverridingExtensions, pipeline);
+		runPipeline(aParent, pipeline, firstClassDescriptor, pipelinedChildren, elements);
+	}
+
+	/**
+	 * Collects the pipelined extensions among <code>theOverridingExtensions</code>
+	 * and the extensions overriding them, in the order in which they are
+	 * invoked.
+	 */
+	private void collectPipeline(Object aParent, NavigatorContentExtension[] theOverridingExtensions,
+			List pipeline) {
 		NavigatorContentExtension[] overridingExtensions;
 		for (NavigatorContentExtension overridingExtension : theOverridingExtensions) {
 
 			if (overridingExtension.internalGetContentProvider().isPipelined()) {
-				pipelinedContentProvider = overridingExtension.internalGetContentProvider();
-				pipelinedChildren.setContributor(overridingExtension.getDescriptor(), firstClassDescriptor);
-				if (elements) {
-					pipelinedContentProvider.getPipelinedElements(aParent, pipelinedChildren);
-				} else {
-					pipelinedContentProvider.getPipelinedChildren(aParent, pipelinedChildren);
-				}
+				pipeline.add(overridingExtension);
 				overridingExtensions = overridingExtension.getOverridingExtensionsForTriggerPoint(aParent);
 				if (overridingExtensions.length > 0) {
-					pipelineChildren(aParent, overridingExtensions, firstClassDescriptor, pipelinedChildren, elements);
+					collectPipeline(aParent, overridingExtensions, pipeline);
 				}
 			}
 		}
 	}
 
+	/**
+	 * Pipes the children through the given pipelined extensions.
+	 */
+	private void runPipeline(Object aParent, List pipeline, INavigatorContentDescriptor firstClassDescriptor,
+			ContributorTrackingSet pipelinedChildren, boolean elements) {
+		IPipelinedTreeContentProvider pipelinedContentProvider;
+		for (Iterator itr = pipeline.iterator(); itr.hasNext();) {
+			NavigatorContentExtension overridingExtension = (NavigatorContentExtension) itr.next();
+			long start = Policy.DEBUG_EXTENSION_TIMING ? System.nanoTime() : 0;
+			pipelinedContentProvider = overridingExtension.internalGetContentProvider();
+			pipelinedChildren.setContributor(overridingExtension.getDescriptor(), firstClassDescriptor);
+			if (elements) {
+				pipelinedContentProvider.getPipelinedElements(aParent, pipelinedChildren);
+			} else {
+				pipelinedContentProvider.getPipelinedChildren(aParent, pipelinedChildren);
+			}
+			if (Policy.DEBUG_EXTENSION_TIMING) {
+				traceTiming(overridingExtension, aParent, elements, start, false);
+			}
+		}
+	}
+
+	private static void traceTiming(NavigatorContentExtension anExtension, Object aParent, boolean elements,
+			long start, boolean late) {
+		System.out.println("Content extension " + anExtension.getId() + ": " //$NON-NLS-1$ //$NON-NLS-2$
+				+ TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms for " //$NON-NLS-1$
+				+ (elements ? "elements of " : "children of ") + Policy.getObjectString(aParent) //$NON-NLS-1$ //$NON-NLS-2$
+				+ (late ? ", missed the time budget" : "")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static int computeWorkerCount(int configured) {
+		if (configured <= 0) {
+			return Runtime.getRuntime().availableProcessors();
+		}
+		return configured;
+	}
+
+	private synchronized ExecutorService getExecutor() {
+		if (executor == null) {
+			ThreadPoolExecutor pool = new ThreadPoolExecutor(workerCount, workerCount, 1, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(), runnable -> {
+						Thread thread = new Thread(runnable, "Navigator Content Extensions"); //$NON-NLS-1$
+						thread.setDaemon(true);
+						return thread;
+					});
+			// don't keep idle threads for viewers that are not expanded
+			pool.allowCoreThreadTimeOut(true);
+			executor = pool;
+		}
+		return executor;
+	}
+
+	private synchronized void shutdownExecutor() {
+		if (executor != null) {
+			executor.shutdown();
+			executor = null;
+		}
+	}
+
+	private void cancelEvaluations() {
+		for (Evaluation evaluation : evaluations.values()) {
+			evaluation.cancel(false);
+		}
+		evaluations.clear();
+	}
+
+	/**
+	 * Identifies the evaluation of one extension for one parent.
+	 */
+	private static final class EvaluationKey {
+		private final NavigatorContentExtension extension;
+		private final Object parentElementOrPath;
+		private final boolean elements;
+
+		EvaluationKey(NavigatorContentExtension extension, Object parentElementOrPath, boolean elements) {
+			this.extension = extension;
+			this.parentElementOrPath = parentElementOrPath;
+			this.elements = elements;
+		}
+
+		@Override
+		public int hashCode() {
+			return extension.hashCode() * 31 + parentElementOrPath.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof EvaluationKey)) {
+				return false;
+			}
+			EvaluationKey other = (EvaluationKey) obj;
+			return extension == other.extension && elements == other.elements
+					&& parentElementOrPath.equals(other.parentElementOrPath);
+		}
+	}
+
+	/**
+	 * The children of one extension for one parent, computed on the executor.
+	 * An evaluation that misses the time budget stays in
+	 * {@link NavigatorContentServiceContentProvider#evaluations} until the
+	 * refresh it triggers when done picks up its result.
+	 */
+	private final class Evaluation extends FutureTask<ContributorTrackingSet> {
+		private final EvaluationKey key;
+		private final Object parentElement;
+		private final Display display;
+		private final long start = System.nanoTime();
+		private volatile boolean late;
+
+		Evaluation(EvaluationKey key, Object parentElement, Display display,
+				Callable<ContributorTrackingSet> computation) {
+			super(computation);
+			this.key = key;
+			this.parentElement = parentElement;
+			this.display = display;
+		}
+
+		/**
+		 * Waits for the result until the deadline.
+		 *
+		 * @return the children, or <code>null</code> if the extension failed or
+		 *         has not finished yet
+		 */
+		ContributorTrackingSet await(long deadline) {
+			try {
+				ContributorTrackingSet result = deadline == Long.MAX_VALUE ? get()
+						: get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+				evaluations.remove(key, this);
+				return result;
+			} catch (TimeoutException e) {
+				late = true;
+				// done() may have checked the flag before it was set
+				if (isDone()) {
+					return await(deadline);
+				}
+				return null;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				late = true;
+				return isDone() ? await(deadline) : null;
+			} catch (ExecutionException | CancellationException e) {
+				evaluations.remove(key, this);
+				return null;
+			}
+		}
+
+		@Override
+		protected void done() {
+			if (!late || isCancelled()) {
+				return;
+			}
+			if (Policy.DEBUG_EXTENSION_TIMING) {
+				traceTiming(key.extension, parentElement, key.elements, start, true);
+			}
+			if (display == null || display.isDisposed()) {
+				return;
+			}
+			display.asyncExec(() -> {
+				Viewer currentViewer = viewer;
+				if (currentViewer instanceof StructuredViewer && currentViewer.getControl() != null
+						&& !currentViewer.getControl().isDisposed() && evaluations.get(key) == this) {
+					((StructuredViewer) currentViewer).refresh(parentElement);
+				}
+			});
+		}
+	}
 
 	/**
 	 * Currently this method only checks one level deep. If the suppressed
@@ -482,6 +840,8 @@ public class NavigatorContentServiceContentProvider implements ITreeContentProvi
 	 */
 	@Override
 	public void dispose() {
+		cancelEvaluations();
+		shutdownExecutor();
 		if (disposeContentService) {
 			contentService.dispose();
 		}
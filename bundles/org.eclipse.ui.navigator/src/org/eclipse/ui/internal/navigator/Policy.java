@@ -51,6 +51,12 @@ public class Policy {
 	 */
 	public static boolean DEBUG_VIEWER_MAP = DEFAULT;
 
+	/**
+	 * Option for tracing the time each content extension takes to provide
+	 * children
+	 */
+	public static boolean DEBUG_EXTENSION_TIMING = DEFAULT;
+
 	static {
 		if (getDebugOption("/debug")) { //$NON-NLS-1$
 			DEBUG_DND = getDebugOption("/debug/dnd"); //$NON-NLS-1$
@@ -58,6 +64,7 @@ public class Policy {
 			DEBUG_EXTENSION_SETUP = getDebugOption("/debug/setup"); //$NON-NLS-1$
 			DEBUG_SORT = getDebugOption("/debug/sort"); //$NON-NLS-1$
 			DEBUG_VIEWER_MAP = getDebugOption("/debug/viewermap"); //$NON-NLS-1$
+			DEBUG_EXTENSION_TIMING = getDebugOption("/debug/timing"); //$NON-NLS-1$
 		}
 	}
 
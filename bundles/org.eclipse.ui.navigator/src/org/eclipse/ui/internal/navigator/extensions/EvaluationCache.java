@@ -25,86 +25,187 @@ import org.eclipse.ui.internal.navigator.VisibilityAssistant.VisibilityListener;
 
 /**
  * A cache for evaluated {@link NavigatorContentDescriptor}.
+ * <p>
+ * The cache is thread safe, so the descriptors can be looked up by content
+ * computed outside of the UI thread. It holds at most a fixed number of
+ * elements, set with the system property
+ * <code>org.eclipse.ui.navigator.evaluationCache.size</code> (10000 by
+ * default), and evicts them in segmented LRU order: new elements are put in a
+ * probationary segment and move to a protected segment when they are looked up
+ * again, so that a scan over many elements seen once, like the expansion of a
+ * large folder, does not evict the elements in use. Elements and descriptors
+ * are only softly referenced and are dropped under memory pressure.
+ * </p>
  */
 public class EvaluationCache implements VisibilityListener {
-	// TODO Have an LRU cache with max size as well as SoftReferences, to help
-	// prevent pathological GC performance that can happen where there are a
-	// large number of softly reachable objects, as well as helping to reduce
-	// dependence on the GC from keeping this cache's size in line in the first
-	// place.
 
-	// TODO Counters for cache hits, misses, replacements, etc.
+	private static final int DEFAULT_MAX_SIZE = Integer
+			.getInteger("org.eclipse.ui.navigator.evaluationCache.size", 10000).intValue(); //$NON-NLS-1$
 
-	// TODO Either the overrides and not overrides case should "share" parts of
-	// their data structures (for example, this can be a map of key -> pair
-	// instead of two maps) OR not bother tracking "overrides or not" state here
-	// and instead let users of this class handle it with two instances of this
-	// class.
-	private final Map<EvaluationReference<Object>, EvaluationValueReference<NavigatorContentDescriptor[]>> evaluations = new HashMap<>();
-	private final Map<EvaluationReference<Object>, EvaluationValueReference<NavigatorContentDescriptor[]>> evaluationsWithOverrides = new HashMap<>();
+	/**
+	 * The share of the entries that may be in the protected segment, in
+	 * percent.
+	 */
+	private static final int PROTECTED_PERCENTAGE = 80;
+
+	/**
+	 * The cached descriptors of one element, for the computation with and
+	 * without overrides, linked into one of the segments.
+	 */
+	private static final class Entry {
+		final EvaluationReference<Object> key;
+		final EvaluationValueReference<NavigatorContentDescriptor[]>[] values;
+		boolean isProtected;
+		Entry previous;
+		Entry next;
 
-	private final ReferenceQueue<Object> evaluationsQueue = new ReferenceQueue<>();
-	private final ReferenceQueue<Object> evaluationsWithOverridesQueue = new ReferenceQueue<>();
+		/**
+		 * Creates the head of a segment.
+		 */
+		Entry() {
+			key = null;
+			values = null;
+			previous = next = this;
+		}
+
+		@SuppressWarnings("unchecked")
+		Entry(EvaluationReference<Object> key) {
+			this.key = key;
+			this.values = new EvaluationValueReference[2];
+		}
+
+		boolean hasValues() {
+			return values[0] != null || values[1] != null;
+		}
+
+		void unlink() {
+			previous.next = next;
+			next.previous = previous;
+			previous = next = null;
+		}
+
+		void linkAfter(Entry head) {
+			previous = head;
+			next = head.next;
+			head.next.previous = this;
+			head.next = this;
+		}
+	}
+
+	private final int maxSize;
+	private final int maxProtectedSize;
+
+	private final Map<EvaluationReference<Object>, Entry> entries = new HashMap<>();
+	private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+	/** The probationary segment, most recently used first. */
+	private final Entry probation = new Entry();
+	/** The protected segment, most recently used first. */
+	private final Entry protectedSegment = new Entry();
+	private int protectedSize;
+
+	private long hitCount;
+	private long missCount;
+	private long evictionCount;
 
 	/**
 	 * @param anAssistant the VisisbilityAssistant to register with, must be non-null
 	 */
 	public EvaluationCache(VisibilityAssistant anAssistant) {
+		this(anAssistant, DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * @param anAssistant
+	 *            the VisisbilityAssistant to register with, must be non-null
+	 * @param aMaxSize
+	 *            the maximum number of elements to cache, must be positive
+	 */
+	public EvaluationCache(VisibilityAssistant anAssistant, int aMaxSize) {
+		maxSize = aMaxSize;
+		maxProtectedSize = (int) ((long) aMaxSize * PROTECTED_PERCENTAGE / 100);
 		anAssistant.addListener(this);
 	}
 
+	/**
+	 * Removes the entries whose element or descriptors have been collected.
+	 * Must be called holding the lock.
+	 */
 	private void cleanUpStaleEntries() {
-		// TODO Only clean up to a certain number of entries per call when merely accessing or setting?
-		// TODO Periodic task to run this every now and then, ala org.eclipse.core.runtime.jobs.Job?
-		// If this is done, will need to make this class thread safe.
-
-		// Not thread safe, but this whole class isn't, so that is fine.
 		Reference<?> r;
 		// Reference#poll thankfully does not block if there is nothing available.
-		while ((r = evaluationsQueue.poll()) != null) {
-			processStaleEntry(r, evaluations);
-		}
-		while ((r = evaluationsWithOverridesQueue.poll()) != null) {
-			processStaleEntry(r, evaluationsWithOverrides);
+		while ((r = queue.poll()) != null) {
+			if (r instanceof EvaluationReference) {
+				// Key has been collected; the reference is only equal to itself now.
+				Entry entry = entries.get(r);
+				if (entry != null) {
+					removeEntry(entry);
+				}
+			} else if (r instanceof EvaluationValueReference) {
+				// If the value has been collected, get its key, and then remove the value.
+				EvaluationReference<?> key = ((EvaluationValueReference<?>) r).getKey();
+				Entry entry = key == null ? null : entries.get(key);
+				if (entry != null && entry.key == key) {
+					for (int i = 0; i < entry.values.length; i++) {
+						if (entry.values[i] == r) {
+							entry.values[i] = null;
+						}
+					}
+					if (!entry.hasValues()) {
+						removeEntry(entry);
+					}
+				}
+			}
+			// All other Reference types we just leave alone.
 		}
 	}
 
-	private static void processStaleEntry(Reference<?> r,
-			Map<? extends Reference<?>, ? extends Reference<?>> fromMap) {
-		if (r instanceof EvaluationReference) {
-			// Key has been collected; clear its entry.
-			EvaluationValueReference<?> oldVal = (EvaluationValueReference<?>) fromMap.remove(r);
-			if (oldVal != null) {
-				// Clear the key from the value so we don't try to prematurely
-				// remove any potential new mapping upon cleanUpStaleEntries()
-				oldVal.clear();
-			}
+	private void removeEntry(Entry entry) {
+		entries.remove(entry.key);
+		if (entry.isProtected) {
+			protectedSize--;
 		}
-		if (r instanceof EvaluationValueReference) {
-			// If the value has been collected, get its key, and then remove that entry.
-			EvaluationReference<?> key = ((EvaluationValueReference<?>) r).getKey();
-			if (key != null) {
-				fromMap.remove(key);
+		entry.unlink();
+		// Clear the references so they are not processed by cleanUpStaleEntries()
+		entry.key.clear();
+		for (EvaluationValueReference<NavigatorContentDescriptor[]> value : entry.values) {
+			if (value != null) {
+				value.clear();
 			}
 		}
-		// All other Reference types we just leave alone.
 	}
 
-	private static NavigatorContentDescriptor[] getDescriptorsFromMap(Object anElement,
-			Map<EvaluationReference<Object>, EvaluationValueReference<NavigatorContentDescriptor[]>> map) {
-		// Need to wrap in the reference type before querying, else it won't be found by HashMap.
-		EvaluationReference<Object> key = new EvaluationReference<>(anElement);
-		NavigatorContentDescriptor[] cachedDescriptors = null;
-		Reference<NavigatorContentDescriptor[]> cache = map.get(key);
-		if (cache != null && (cachedDescriptors = cache.get()) == null) {
-			// There was an entry, but it has been collected; remove stale mapping.
-			EvaluationValueReference<NavigatorContentDescriptor[]> value = map.remove(key);
-			if (value != null) {
-				// Clear the key from the value so we don't try to prematurely remove any potential new mapping upon cleanUpStaleEntries()
-				value.clear();
+	/**
+	 * Moves an entry that is used again to the front of the protected segment.
+	 * If the protected segment is full, its least recently used entry goes back
+	 * to the probationary segment.
+	 */
+	private void recordAccess(Entry entry) {
+		entry.unlink();
+		entry.linkAfter(protectedSegment);
+		if (!entry.isProtected) {
+			entry.isProtected = true;
+			protectedSize++;
+			if (protectedSize > maxProtectedSize) {
+				Entry demoted = protectedSegment.previous;
+				demoted.unlink();
+				demoted.isProtected = false;
+				demoted.linkAfter(probation);
+				protectedSize--;
 			}
 		}
-		return cachedDescriptors;
+	}
+
+	private void evictIfNeeded() {
+		while (entries.size() > maxSize) {
+			Entry victim = probation.previous != probation ? probation.previous : protectedSegment.previous;
+			removeEntry(victim);
+			evictionCount++;
+		}
+	}
+
+	private static int indexOf(boolean toComputeOverrides) {
+		return toComputeOverrides ? 1 : 0;
 	}
 
 	/**
@@ -119,34 +220,33 @@ public class EvaluationCache implements VisibilityListener {
 	 *         currently in the cache
 	 */
 	public final NavigatorContentDescriptor[] getDescriptors(Object anElement, boolean toComputeOverrides) {
-		cleanUpStaleEntries();
-		if (anElement == null)
-			return null;
-
-		if (toComputeOverrides) {
-			return getDescriptorsFromMap(anElement, evaluations);
-		}
-		return getDescriptorsFromMap(anElement, evaluationsWithOverrides);
-	}
+		synchronized (entries) {
+			cleanUpStaleEntries();
+			if (anElement == null)
+				return null;
 
-	private static void setDescriptorsInMap(Object anElement, NavigatorContentDescriptor[] theDescriptors,
-			Map<EvaluationReference<Object>, EvaluationValueReference<NavigatorContentDescriptor[]>> map,
-			ReferenceQueue<Object> queue) {
-		// Ideally, we would use a WeakReference wrapper if the object given uses identity equality
-		// (we can test if the class uses Object's equals or has its own override), and only use a SoftReference
-		// if the object overrides equals, but that is a bit too unwieldy to check (it would require
-		// checking reflective data) to be worth it.
-		EvaluationReference<Object> key = new EvaluationReference<>(anElement, queue);
-		EvaluationValueReference<NavigatorContentDescriptor[]> newValue =
-				new EvaluationValueReference<>(theDescriptors, key, queue);
-		EvaluationValueReference<NavigatorContentDescriptor[]> oldValue = map.put(key, newValue);
-		if (oldValue != null) {
-			// "Swap" the correct key instance when swapping the value, or else the above, temporary
-			// lookup key will be collected too early (not the actual anElement, but the Reference object).
-			// Not truly needed, but it will help the point of this field not go to waste.
-			newValue.swapKey(oldValue);
-			// Clear the key so we don't try to prematurely remove the new mapping upon cleanUpStaleEntries()
-			oldValue.clear();
+			// Need to wrap in the reference type before querying, else it won't be found by HashMap.
+			Entry entry = entries.get(new EvaluationReference<>(anElement));
+			NavigatorContentDescriptor[] cachedDescriptors = null;
+			if (entry != null) {
+				int index = indexOf(toComputeOverrides);
+				EvaluationValueReference<NavigatorContentDescriptor[]> value = entry.values[index];
+				if (value != null && (cachedDescriptors = value.get()) == null) {
+					// There was a value, but it has been collected; remove stale mapping.
+					value.clear();
+					entry.values[index] = null;
+					if (!entry.hasValues()) {
+						removeEntry(entry);
+					}
+				}
+			}
+			if (cachedDescriptors == null) {
+				missCount++;
+				return null;
+			}
+			hitCount++;
+			recordAccess(entry);
+			return cachedDescriptors;
 		}
 	}
 
@@ -163,13 +263,27 @@ public class EvaluationCache implements VisibilityListener {
 	 */
 	public final void setDescriptors(Object anElement, NavigatorContentDescriptor[] theDescriptors,
 			boolean toComputeOverrides) {
-		cleanUpStaleEntries();
-		if (anElement != null) {
-			if (toComputeOverrides) {
-				setDescriptorsInMap(anElement, theDescriptors, evaluations, evaluationsQueue);
+		synchronized (entries) {
+			cleanUpStaleEntries();
+			if (anElement == null) {
+				return;
+			}
+			Entry entry = entries.get(new EvaluationReference<>(anElement));
+			if (entry == null) {
+				entry = new Entry(new EvaluationReference<>(anElement, queue));
+				entries.put(entry.key, entry);
+				entry.linkAfter(probation);
+				evictIfNeeded();
 			} else {
-				setDescriptorsInMap(anElement, theDescriptors, evaluationsWithOverrides, evaluationsWithOverridesQueue);
+				recordAccess(entry);
+			}
+			int index = indexOf(toComputeOverrides);
+			EvaluationValueReference<NavigatorContentDescriptor[]> oldValue = entry.values[index];
+			if (oldValue != null) {
+				// Clear the old value so we don't try to remove the new one upon cleanUpStaleEntries()
+				oldValue.clear();
 			}
+			entry.values[index] = new EvaluationValueReference<>(theDescriptors, entry.key, queue);
 		}
 	}
 
@@ -184,24 +298,79 @@ public class EvaluationCache implements VisibilityListener {
 	}
 
 	/**
-	 * Clears the cache.
+	 * Clears the cache. The statistics are kept.
 	 */
 	public void clear() {
-		// Dump everything in the reference queues.
-		// Don't bother removing from the map based on references, we are about to clear everything anyways.
-		// This might lead to some premature removals because yet to be collected values are not clearing
-		// their key reference, but that is worth having a fast clearing of the maps.
-		// Thankfully, this should be rare, as when reference objects themselves are GCed before being added
-		// to a reference queue, they don't get added at all.
-		while (evaluationsQueue.poll() != null) {
-			// No need to do anything with the reference, we just need to drain
-			// the queue.
-		}
-		while (evaluationsWithOverridesQueue.poll() != null) {
-			// No need to do anything with the reference, we just need to drain
-			// the queue.
-		}
-		evaluations.clear();
-		evaluationsWithOverrides.clear();
-	}
-}
\ No newline at end of file
+		synchronized (entries) {
+			// Dump everything in the reference queue.
+			while (queue.poll() != null) {
+				// No need to do anything with the reference, we just need to drain
+				// the queue.
+			}
+			for (Entry entry = probation.next; entry != probation; entry = entry.next) {
+				removeReferences(entry);
+			}
+			for (Entry entry = protectedSegment.next; entry != protectedSegment; entry = entry.next) {
+				removeReferences(entry);
+			}
+			entries.clear();
+			probation.previous = probation.next = probation;
+			protectedSegment.previous = protectedSegment.next = protectedSegment;
+			protectedSize = 0;
+		}
+	}
+
+	private static void removeReferences(Entry entry) {
+		entry.key.clear();
+		for (EvaluationValueReference<NavigatorContentDescriptor[]> value : entry.values) {
+			if (value != null) {
+				value.clear();
+			}
+		}
+	}
+
+	/**
+	 * @return the number of elements in the cache
+	 */
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	/**
+	 * @return the number of lookups that found cached descriptors
+	 */
+	public long getHitCount() {
+		synchronized (entries) {
+			return hitCount;
+		}
+	}
+
+	/**
+	 * @return the number of lookups that found no cached descriptors
+	 */
+	public long getMissCount() {
+		synchronized (entries) {
+			return missCount;
+		}
+	}
+
+	/**
+	 * @return the number of elements removed to keep the cache within its size
+	 *         limit
+	 */
+	public long getEvictionCount() {
+		synchronized (entries) {
+			return evictionCount;
+		}
+	}
+
+	@Override
+	public String toString() {
+		synchronized (entries) {
+			return "EvaluationCache[size=" + entries.size() + ", hits=" + hitCount + ", misses=" + missCount //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ ", evictions=" + evictionCount + ']'; //$NON-NLS-1$
+		}
+	}
+}
@@ -35,7 +35,7 @@ import java.util.Arrays;
  * @since 3.3
  */
 public class EvaluationValueReference<T> extends SoftReference<T> {
-	private Reference<EvaluationReference<?>> refToKey;
+	private final Reference<EvaluationReference<?>> refToKey;
 
 	/**
 	 * @param referrent
@@ -70,18 +70,6 @@ public class EvaluationValueReference<T> extends SoftReference<T> {
 		return refToKey.get();
 	}
 
-	/**
-	 * Facilitates "handing off" a particular instance of a key.
-	 *
-	 * @param otherValue
-	 *            the value ref to copy the key from.
-	 */
-	void swapKey(EvaluationValueReference<?> otherValue) {
-		Reference<EvaluationReference<?>> tmp = refToKey;
-		this.refToKey = otherValue.refToKey;
-		otherValue.refToKey = tmp;
-	}
-
 	/**
 	 * Clears this reference and the underlying reference to the key.
 	 *
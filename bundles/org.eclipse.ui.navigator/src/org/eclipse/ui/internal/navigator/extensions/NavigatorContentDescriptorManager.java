@@ -190,11 +190,13 @@ public class NavigatorContentDescriptorManager {
 
 	private EvaluationCache getEvaluationCache(Map<VisibilityAssistant, EvaluationCache> anEvaluationMap,
 			VisibilityAssistant aVisibilityAssistant) {
-		EvaluationCache c = anEvaluationMap.get(aVisibilityAssistant);
-		if (c == null) {
-			anEvaluationMap.put(aVisibilityAssistant, c = new EvaluationCache(aVisibilityAssistant));
+		synchronized (anEvaluationMap) {
+			EvaluationCache c = anEvaluationMap.get(aVisibilityAssistant);
+			if (c == null) {
+				anEvaluationMap.put(aVisibilityAssistant, c = new EvaluationCache(aVisibilityAssistant));
+			}
+			return c;
 		}
-		return c;
 	}
 
 	private boolean addDescriptorsConsideringOverrides(Object anElement,
@@ -302,11 +304,15 @@ public class NavigatorContentDescriptorManager {
 	 * Clears all cached information.
 	 */
 	public void clearCache() {
-		for (EvaluationCache cache : cachedPossibleChildrenEvaluations.values()) {
-			cache.clear();
+		synchronized (cachedPossibleChildrenEvaluations) {
+			for (EvaluationCache cache : cachedPossibleChildrenEvaluations.values()) {
+				cache.clear();
+			}
 		}
-		for (EvaluationCache cache : cachedTriggerPointEvaluations.values()) {
-			cache.clear();
+		synchronized (cachedTriggerPointEvaluations) {
+			for (EvaluationCache cache : cachedTriggerPointEvaluations.values()) {
+				cache.clear();
+			}
 		}
 	}
 
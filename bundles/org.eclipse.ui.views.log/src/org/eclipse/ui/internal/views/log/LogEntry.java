@@ -20,6 +20,7 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.text.*;
 import java.util.*;
+import java.util.function.Supplier;
 import org.eclipse.core.runtime.IStatus;
 
 /**
@@ -39,6 +40,7 @@ public class LogEntry extends AbstractEntry {
 	private Date fDate;
 	private String message;
 	private String stack;
+	private Supplier<String> stackLoader;
 	private LogSession session;
 
 	/**
@@ -137,9 +139,20 @@ public class LogEntry extends AbstractEntry {
 	 * @return the stack trace or <code>null</code>
 	 */
 	public String getStack() {
+		if (stack == null && stackLoader != null) {
+			return stackLoader.get();
+		}
 		return stack;
 	}
 
+	/**
+	 * Returns whether this entry has a stack trace, without reading it
+	 * @return if the entry has a stack trace or not
+	 */
+	public boolean hasStack() {
+		return stack != null || stackLoader != null;
+	}
+
 	/**
 	 * Returns a pretty-print formatting for the date for this entry
 	 * @return the formatted date for this entry
@@ -327,6 +340,16 @@ public class LogEntry extends AbstractEntry {
 		this.stack = stack;
 	}
 
+	/**
+	 * Sets the function reading the stack trace of this entry from the log
+	 * file each time it is requested, instead of keeping it in memory.
+	 * @param stackLoader
+	 */
+	void setStackLoader(Supplier<String> stackLoader) {
+		this.stack = null;
+		this.stackLoader = stackLoader;
+	}
+
 	/**
 	 * Sets the message to the given message value.
 	 * No validation is performed on the new value
@@ -378,9 +401,10 @@ public class LogEntry extends AbstractEntry {
 		if (message != null) {
 			writer.println(getMessage());
 		}
-		if (stack != null) {
+		String stackTrace = getStack();
+		if (stackTrace != null) {
 			writer.println();
-			writer.println(stack);
+			writer.println(stackTrace);
 		}
 	}
 }
@@ -0,0 +1,348 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.views.log;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+
+/**
+ * Index of the records of a log file, the offsets of its <code>!SESSION</code>
+ * and <code>!ENTRY</code> lines. Each record extends to the next one. The file
+ * is scanned once, and then only the bytes appended since the last
+ * {@link #update()}, so that records can be read from the end of a large log
+ * without parsing it. The first scan can be limited to the tail of the file,
+ * see {@link #update(long)}. Only complete lines are indexed. The index is rebuilt if
+ * the file was truncated or replaced, for example by a new log after the old
+ * one was rotated. A replaced file is recognized by its file key, or by its
+ * creation time where the file system has no file keys.
+ * <p>
+ * The file is not kept open between the calls, so that it can be deleted.
+ * </p>
+ */
+// VisibleForTesting
+public class LogFileIndex {
+	private static final int BUFFER_SIZE = 1024 * 1024;
+	/** The maximum number of bytes at the start of a line in which a record marker is searched. */
+	private static final int MAX_MARKER_PREFIX = 64;
+	private static final byte[] SESSION_MARKER = LogSession.SESSION.getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] ENTRY_MARKER = "!ENTRY".getBytes(StandardCharsets.US_ASCII); //$NON-NLS-1$
+	private static final int NO_RECORD = 0;
+	private static final int SESSION_RECORD = 1;
+	private static final int ENTRY_RECORD = 2;
+
+	private final File file;
+	/** The offsets of the records, in increasing order. */
+	private long[] offsets = new long[256];
+	private int size;
+	/** The indexes of the session records, in increasing order. */
+	private int[] sessions = new int[16];
+	private int sessionCount;
+	/** The offset from which the file is indexed. */
+	private long start;
+	/** The indexed length of the file, the end of its last complete line. */
+	private long indexedLength;
+	/** The file key or creation time of the indexed file, or <code>null</code>. */
+	private Object indexedFile;
+
+	public LogFileIndex(File file) {
+		this.file = file;
+	}
+
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * Indexes the lines appended to the file since the last update.
+	 *
+	 * @return whether records were added, or the index was rebuilt
+	 * @throws IOException if the file cannot be read
+	 */
+	public synchronized boolean update() throws IOException {
+		return update(Long.MAX_VALUE);
+	}
+
+	/**
+	 * Indexes the lines appended to the file since the last update. When the
+	 * file is indexed from scratch, only its last <code>tailLength</code> bytes
+	 * are scanned, starting at the first line that begins within them. The index
+	 * is rebuilt if a longer tail is requested than was scanned.
+	 *
+	 * @param tailLength the number of bytes at the end of the file to index
+	 * @return whether records were added, or the index was rebuilt
+	 * @throws IOException if the file cannot be read
+	 */
+	public synchronized boolean update(long tailLength) throws IOException {
+		if (!file.exists()) {
+			boolean changed = size > 0;
+			clear();
+			return changed;
+		}
+		try (FileChannel channel = open()) {
+			Object identity = getIdentity();
+			long length = channel.size();
+			long tailStart = Math.max(0, length - Math.max(tailLength, 0));
+			boolean rebuilt = false;
+			if ((indexedFile != null && !indexedFile.equals(identity)) || length < indexedLength
+					|| (size > 0 && getRecordType(channel, offsets[0]) == NO_RECORD) || tailStart < start) {
+				clear();
+				rebuilt = true;
+			}
+			if (indexedFile == null) {
+				start = tailStart;
+				indexedLength = tailStart;
+			}
+			indexedFile = identity;
+			int oldSize = size;
+			// the tail may start, and end if no line was completed yet, within a line
+			scan(channel, indexedLength > 0 && !isLineStart(channel, indexedLength));
+			return rebuilt || size != oldSize;
+		}
+	}
+
+	/**
+	 * Returns what identifies the file across renames and appends: its file key,
+	 * or its creation time if the file system has no keys.
+	 */
+	private Object getIdentity() throws IOException {
+		BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+		Object key = attributes.fileKey();
+		return key != null ? key : attributes.creationTime();
+	}
+
+	private void clear() {
+		size = 0;
+		sessionCount = 0;
+		start = 0;
+		indexedLength = 0;
+		indexedFile = null;
+	}
+
+	private static boolean isLineStart(FileChannel channel, long offset) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(1);
+		if (channel.read(buffer, offset - 1) <= 0) {
+			return false;
+		}
+		byte previous = buffer.get(0);
+		return previous == '\n' || previous == '\r';
+	}
+
+	/**
+	 * Scans the file from the indexed length, which is within a line if
+	 * <code>inLine</code> is true.
+	 */
+	private void scan(FileChannel channel, boolean inLine) throws IOException {
+		long length = channel.size();
+		long position = indexedLength;
+		ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(BUFFER_SIZE, Math.max(length - position, 1)));
+		byte[] bytes = buffer.array();
+		// The start of the current line, and the type of the record it starts
+		long lineStart = position;
+		int lineType = NO_RECORD;
+		while (position < length) {
+			buffer.clear();
+			while (buffer.hasRemaining() && channel.read(buffer, position + buffer.position()) > 0) {
+				// read until the buffer is full or the end of the file
+			}
+			int limit = buffer.position();
+			if (limit == 0) {
+				break;
+			}
+			boolean end = position + limit >= length;
+			int i = 0;
+			while (i < limit) {
+				if (!inLine) {
+					if (!end && i > 0 && limit - i < MAX_MARKER_PREFIX) {
+						// read the start of the line again with the following bytes
+						break;
+					}
+					lineStart = position + i;
+					lineType = getRecordType(bytes, i, limit);
+					inLine = true;
+				}
+				while (i < limit && bytes[i] != '\n' && bytes[i] != '\r') {
+					i++;
+				}
+				if (i < limit) {
+					i++;
+					inLine = false;
+					if (lineType != NO_RECORD) {
+						add(lineStart, lineType == SESSION_RECORD);
+					}
+					indexedLength = position + i;
+				}
+			}
+			position += i;
+		}
+	}
+
+	private void add(long offset, boolean session) {
+		if (size == offsets.length) {
+			offsets = Arrays.copyOf(offsets, size * 2);
+		}
+		if (session) {
+			if (sessionCount == sessions.length) {
+				sessions = Arrays.copyOf(sessions, sessionCount * 2);
+			}
+			sessions[sessionCount++] = size;
+		}
+		offsets[size++] = offset;
+	}
+
+	private static int getRecordType(FileChannel channel, long offset) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(MAX_MARKER_PREFIX);
+		while (buffer.hasRemaining() && channel.read(buffer, offset + buffer.position()) > 0) {
+			// read until the buffer is full or the end of the file
+		}
+		return getRecordType(buffer.array(), 0, buffer.position());
+	}
+
+	/**
+	 * Returns the type of the record starting at the line, ignoring leading white
+	 * space as the parser does.
+	 */
+	private static int getRecordType(byte[] bytes, int start, int limit) {
+		int i = start;
+		while (i < limit && bytes[i] <= ' ' && bytes[i] != '\n' && bytes[i] != '\r') {
+			i++;
+		}
+		if (startsWith(bytes, i, limit, ENTRY_MARKER)) {
+			return ENTRY_RECORD;
+		}
+		if (startsWith(bytes, i, limit, SESSION_MARKER)) {
+			return SESSION_RECORD;
+		}
+		return NO_RECORD;
+	}
+
+	private static boolean startsWith(byte[] bytes, int start, int limit, byte[] prefix) {
+		if (limit - start < prefix.length) {
+			return false;
+		}
+		for (int i = 0; i < prefix.length; i++) {
+			if (bytes[start + i] != prefix[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the number of records.
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the offset of the record in the file.
+	 */
+	public synchronized long getOffset(int record) {
+		checkIndex(record);
+		return offsets[record];
+	}
+
+	/**
+	 * Returns whether the record is a session, otherwise it is an entry.
+	 */
+	public synchronized boolean isSession(int record) {
+		checkIndex(record);
+		return Arrays.binarySearch(sessions, 0, sessionCount, record) >= 0;
+	}
+
+	/**
+	 * Returns the index of the session record the record belongs to, or -1 if
+	 * there is none before it.
+	 */
+	public synchronized int getSession(int record) {
+		checkIndex(record);
+		int i = Arrays.binarySearch(sessions, 0, sessionCount, record);
+		if (i < 0) {
+			i = -i - 2;
+		}
+		return i < 0 ? -1 : sessions[i];
+	}
+
+	/**
+	 * Returns the index of the last session record, or -1 if there is none.
+	 */
+	public synchronized int getLastSession() {
+		return sessionCount == 0 ? -1 : sessions[sessionCount - 1];
+	}
+
+	/**
+	 * Returns the index of the first record starting at or after the offset.
+	 */
+	public synchronized int getFirstRecordAfter(long offset) {
+		int i = Arrays.binarySearch(offsets, 0, size, offset);
+		return i < 0 ? -i - 1 : i;
+	}
+
+	/**
+	 * Returns the indexed length of the file.
+	 */
+	public synchronized long getIndexedLength() {
+		return indexedLength;
+	}
+
+	/**
+	 * Opens the file for reading records.
+	 *
+	 * @throws IOException if the file cannot be opened
+	 */
+	FileChannel open() throws IOException {
+		return FileChannel.open(file.toPath(), StandardOpenOption.READ);
+	}
+
+	/**
+	 * Reads the text of the record.
+	 *
+	 * @throws IOException if the file cannot be read
+	 */
+	public String read(int record) throws IOException {
+		try (FileChannel channel = open()) {
+			return read(channel, record);
+		}
+	}
+
+	/**
+	 * Reads the text of the record from the file opened by {@link #open()}.
+	 *
+	 * @throws IOException if the file cannot be read
+	 */
+	String read(FileChannel channel, int record) throws IOException {
+		long start;
+		long end;
+		synchronized (this) {
+			checkIndex(record);
+			start = offsets[record];
+			end = record + 1 < size ? offsets[record + 1] : indexedLength;
+		}
+		ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(end - start, Integer.MAX_VALUE - 8));
+		while (buffer.hasRemaining() && channel.read(buffer, start + buffer.position()) > 0) {
+			// read until the buffer is full or the end of the file
+		}
+		return new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+	}
+
+	private void checkIndex(int record) {
+		if (record < 0 || record >= size) {
+			throw new IndexOutOfBoundsException(Integer.toString(record));
+		}
+	}
+}
@@ -17,15 +17,17 @@
 package org.eclipse.ui.internal.views.log;
 
 import java.io.*;
-import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
 import java.text.ParseException;
 import java.util.*;
+import java.util.function.Supplier;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.ui.IMemento;
 
-class LogReader {
+// VisibleForTesting
+public class LogReader {
 	private static final int SESSION_STATE = 10;
 	public static final long MAX_FILE_LENGTH = 1024 * 1024;
 	private static final int ONE_MEGA_BYTE_IN_BYTES = 1024 * 1024;
@@ -36,33 +38,176 @@ class LogReader {
 	private static final int TEXT_STATE = 60;
 	private static final int UNKNOWN_STATE = 70;
 
-	public static LogSession parseLogFile(File file, long maxLogTailSizeInMegaByte, List<LogEntry> entries,
+	/**
+	 * Reads the entries of the last <code>maxLogTailSizeInMegaByte</code> of the
+	 * log file. The tail is indexed first, see {@link LogFileIndex}, and the
+	 * entries are read from the most recent one backwards until the count limit
+	 * of the memento is reached, so that the time needed does not depend on the
+	 * size of the file. The stack traces are not kept in memory but read again
+	 * from the file when requested.
+	 *
+	 * @return the most recent session, or <code>null</code>
+	 */
+	public static LogSession parseLogFile(LogFileIndex index, long maxLogTailSizeInMegaByte, List<LogEntry> entries,
 			IMemento memento) {
-		if (!file.exists())
+		if (!index.getFile().exists())
+			return null;
+
+		boolean useLimit = memento.getString(LogView.P_USE_LIMIT).equals("true"); //$NON-NLS-1$
+		int limit = useLimit ? memento.getInteger(LogView.P_LOG_LIMIT).intValue() : Integer.MAX_VALUE;
+		if (limit == 0)
+			return null;
+
+		long maxTailSizeInBytes = maxLogTailSizeInMegaByte > 0 ? maxLogTailSizeInMegaByte * ONE_MEGA_BYTE_IN_BYTES
+				: ONE_MEGA_BYTE_IN_BYTES;
+		try {
+			index.update(maxTailSizeInBytes);
+		} catch (IOException e) { // do nothing
 			return null;
+		}
+
+		// the file may have grown since the tail was first indexed
+		int first = index.getFirstRecordAfter(index.getIndexedLength() - maxTailSizeInBytes);
+		int lastSession = index.getLastSession();
+		// if not showing all sessions, only the entries of the most recent session
+		if (lastSession > first && !memento.getString(LogView.P_SHOW_ALL_SESSIONS).equals("true")) //$NON-NLS-1$
+			first = lastSession;
+
+		Map<Integer, LogSession> sessions = new HashMap<>();
+		LogSession currentSession = null;
+		LogSession fakeSession = null;
+		List<LogEntry> result = new ArrayList<>();
+		try (FileChannel channel = index.open()) {
+			if (lastSession >= 0) {
+				currentSession = readSession(index, channel, lastSession);
+				sessions.put(Integer.valueOf(lastSession), currentSession);
+			}
+			for (int record = index.size() - 1; record >= first && result.size() < limit; record--) {
+				if (index.isSession(record))
+					continue;
+				int sessionRecord = index.getSession(record);
+				LogSession session;
+				if (sessionRecord >= 0) {
+					session = sessions.computeIfAbsent(Integer.valueOf(sessionRecord),
+							r -> readSession(index, channel, r.intValue()));
+				} else { // create fake session if there was no any
+					if (fakeSession == null)
+						fakeSession = new LogSession();
+					session = fakeSession;
+				}
+				LogEntry entry = readEntry(index, channel, record, session);
+				if (entry != null && isLogged(entry, memento))
+					result.add(entry);
+			}
+		} catch (IOException e) { // do nothing, show the entries read so far
+		}
+		if (currentSession == null)
+			currentSession = fakeSession;
+		Collections.reverse(result);
+		entries.addAll(result);
+
+		if (entries.isEmpty() && index.getIndexedLength() > maxTailSizeInBytes) {
+			LogEntry entry = new LogEntry(new Status(IStatus.WARNING, Activator.PLUGIN_ID, NLS.bind(
+					Messages.LogReader_warn_noEntryWithinMaxLogTailSize, Long.valueOf(maxLogTailSizeInMegaByte))));
+			entry.setSession(currentSession == null ? new LogSession() : currentSession);
+			entries.add(entry);
+		}
+		return currentSession;
+	}
 
-		if (memento.getString(LogView.P_USE_LIMIT).equals("true") //$NON-NLS-1$
-				&& memento.getInteger(LogView.P_LOG_LIMIT).intValue() == 0)
+	public static LogSession parseLogFile(File file, List<LogEntry> entries, IMemento memento) {
+		return parseLogFile(new LogFileIndex(file), ONE_MEGA_BYTE_IN_BYTES, entries, memento);
+	}
+
+	/**
+	 * Reads a session record. Returns a session without date nor data if it cannot be read.
+	 */
+	private static LogSession readSession(LogFileIndex index, FileChannel channel, int record) {
+		LogSession session = new LogSession();
+		String text;
+		try {
+			text = index.read(channel, record);
+		} catch (IOException e) { // do nothing
+			return session;
+		}
+		StringBuilder data = new StringBuilder();
+		try (BufferedReader reader = new BufferedReader(new StringReader(text))) {
+			String header = reader.readLine();
+			if (header != null)
+				session.processLogLine(header.trim());
+			for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+				if (data.length() > 0)
+					data.append(System.lineSeparator());
+				data.append(line);
+			}
+		} catch (IOException e) { // cannot happen
+		}
+		session.setSessionData(data.toString());
+		return session;
+	}
+
+	/**
+	 * Reads an entry record with its sub-entries. The stack traces are replaced by
+	 * loaders reading the record again.
+	 *
+	 * @return the entry or <code>null</code> if it cannot be read
+	 */
+	private static LogEntry readEntry(LogFileIndex index, FileChannel channel, int record, LogSession session) {
+		List<LogEntry> recordEntries;
+		long offset;
+		try {
+			offset = index.getOffset(record);
+			recordEntries = parseEntryRecord(index.read(channel, record), session);
+		} catch (IOException e) { // do nothing
 			return null;
+		}
+		if (recordEntries.isEmpty())
+			return null;
+		for (int i = 0; i < recordEntries.size(); i++) {
+			LogEntry entry = recordEntries.get(i);
+			if (entry.getStack() != null)
+				entry.setStackLoader(createStackLoader(index, record, offset, i));
+		}
+		return recordEntries.get(0);
+	}
+
+	/**
+	 * Returns a function reading the stack trace of the entry at the position in
+	 * the record, or <code>null</code> if the record is no longer in the file.
+	 */
+	private static Supplier<String> createStackLoader(LogFileIndex index, int record, long offset, int position) {
+		return () -> {
+			try {
+				if (index.getOffset(record) != offset)
+					return null;
+				List<LogEntry> recordEntries = parseEntryRecord(index.read(record), null);
+				return position < recordEntries.size() ? recordEntries.get(position).getStack() : null;
+			} catch (IOException | IndexOutOfBoundsException e) {
+				return null;
+			}
+		};
+	}
 
+	/**
+	 * Parses the text of an entry record.
+	 *
+	 * @return the entry followed by its sub-entries in the order of the record, or
+	 *         an empty list if the entry cannot be parsed
+	 */
+	private static List<LogEntry> parseEntryRecord(String text, LogSession session) {
+		List<LogEntry> result = new ArrayList<>();
 		ArrayList<LogEntry> parents = new ArrayList<>();
 		LogEntry current = null;
-		LogSession session = null;
 		int writerState = UNKNOWN_STATE;
-		StringWriter swriter = null;
-		PrintWriter writer = null;
-		int state = UNKNOWN_STATE;
-		LogSession currentSession = null;
-		long maxTailSizeInBytes = maxLogTailSizeInMegaByte > 0 ? maxLogTailSizeInMegaByte * ONE_MEGA_BYTE_IN_BYTES
-				: ONE_MEGA_BYTE_IN_BYTES;
-		try (BufferedReader reader = new BufferedReader(
-				new InputStreamReader(new TailInputStream(file, maxTailSizeInBytes), StandardCharsets.UTF_8))) {
+		StringBuilder buffer = null;
+		try (BufferedReader reader = new BufferedReader(new StringReader(text))) {
 			for (;;) {
 				String line0 = reader.readLine();
 				if (line0 == null)
 					break;
 				String line = line0.trim();
 
+				int state;
 				if (line.startsWith(LogSession.SESSION)) {
 					state = SESSION_STATE;
 				} else if (line.startsWith("!ENTRY")) { //$NON-NLS-1$
@@ -77,52 +222,34 @@ class LogReader {
 					state = TEXT_STATE;
 
 				if (state == TEXT_STATE) {
-					if (writer != null) {
-						if (swriter.getBuffer().length() > 0)
-							writer.println();
-						writer.print(line0);
+					if (buffer != null) {
+						if (buffer.length() > 0)
+							buffer.append(System.lineSeparator());
+						buffer.append(line0);
 					}
 					continue;
 				}
 
-				if (writer != null) {
-					setData(current, session, writerState, swriter);
+				if (buffer != null) {
+					setData(current, writerState, buffer);
 					writerState = UNKNOWN_STATE;
-					swriter = null;
-					writer.close();
-					writer = null;
+					buffer = null;
 				}
 
 				switch (state) {
-				case STACK_STATE:
-					swriter = new StringWriter();
-					writer = new PrintWriter(swriter, true);
-					writerState = STACK_STATE;
-					break;
-				case SESSION_STATE:
-					session = new LogSession();
-					session.processLogLine(line);
-					swriter = new StringWriter();
-					writer = new PrintWriter(swriter, true);
-					writerState = SESSION_STATE;
-					currentSession = updateCurrentSession(currentSession, session);
-					// if current session is most recent and not showing all sessions
-					if (currentSession.equals(session) && !memento.getString(LogView.P_SHOW_ALL_SESSIONS).equals("true")) //$NON-NLS-1$
-						entries.clear();
-					break;
 				case ENTRY_STATE:
-					if (currentSession == null) { // create fake session if there was no any
-						currentSession = new LogSession();
-					}
+					if (!result.isEmpty())
+						break;
 					try {
 						LogEntry entry = new LogEntry();
-						entry.setSession(currentSession);
+						entry.setSession(session);
 						entry.processEntry(line);
 						setNewParent(parents, entry, 0);
 						current = entry;
-						addEntry(current, entries, memento);
+						result.add(entry);
 					} catch (ParseException pe) {
 						//do nothing, just toss the entry
+						return result;
 					}
 					break;
 				case SUBENTRY_STATE:
@@ -135,14 +262,14 @@ class LogReader {
 							current = entry;
 							LogEntry parent = parents.get(depth - 1);
 							parent.addChild(entry);
+							result.add(entry);
 						} catch (ParseException pe) {
 							//do nothing, just toss the bad entry
 						}
 					}
 					break;
 				case MESSAGE_STATE:
-					swriter = new StringWriter();
-					writer = new PrintWriter(swriter, true);
+					buffer = new StringBuilder();
 					String message = ""; //$NON-NLS-1$
 					if (line.length() > 8)
 						message = line.substring(9);
@@ -150,90 +277,37 @@ class LogReader {
 						current.setMessage(message);
 					writerState = MESSAGE_STATE;
 					break;
+				case STACK_STATE:
+					buffer = new StringBuilder();
+					writerState = STACK_STATE;
+					break;
 				default:
 					break;
 				}
 			}
-
-			if (swriter != null && current != null && writerState == STACK_STATE) {
-				writerState = UNKNOWN_STATE;
-				current.setStack(swriter.toString());
-			}
-		} catch (IOException e) { // do nothing
-		} finally {
-			if (file.length() > maxLogTailSizeInMegaByte && entries.isEmpty()) {
-				LogEntry entry = new LogEntry(new Status(IStatus.WARNING, Activator.PLUGIN_ID, NLS.bind(
-						Messages.LogReader_warn_noEntryWithinMaxLogTailSize, Long.valueOf(maxLogTailSizeInMegaByte))));
-				entry.setSession(currentSession == null ? new LogSession() : currentSession);
-				entries.add(entry);
-			}
-			if (writer != null) {
-				setData(current, session, writerState, swriter);
-				writer.close();
-			}
+		} catch (IOException e) { // cannot happen
 		}
-
-		return currentSession;
-	}
-
-	public static LogSession parseLogFile(File file, List<LogEntry> entries, IMemento memento) {
-		return parseLogFile(file, ONE_MEGA_BYTE_IN_BYTES, entries, memento);
+		if (buffer != null) {
+			setData(current, writerState, buffer);
+		}
+		return result;
 	}
 
 	/**
-	 * Assigns data from writer to appropriate field of current Log Entry or Session,
+	 * Assigns data from buffer to appropriate field of current Log Entry,
 	 * depending on writer state.
 	 */
-	private static void setData(LogEntry current, LogSession session, int writerState, StringWriter swriter) {
+	private static void setData(LogEntry current, int writerState, StringBuilder buffer) {
 		if (writerState == STACK_STATE && current != null) {
-			current.setStack(swriter.toString());
-		} else if (writerState == SESSION_STATE && session != null) {
-			session.setSessionData(swriter.toString());
+			current.setStack(buffer.toString());
 		} else if (writerState == MESSAGE_STATE && current != null) {
 			StringBuilder sb = new StringBuilder(current.getMessage());
-			String continuation = swriter.toString();
-			if (continuation.length() > 0)
-				sb.append(System.lineSeparator()).append(continuation);
+			if (buffer.length() > 0)
+				sb.append(System.lineSeparator()).append(buffer);
 			current.setMessage(sb.toString());
 		}
 	}
 
-	/**
-	 * Updates the currentSession to be the one that is not null or has most recent date.
-	 */
-	private static LogSession updateCurrentSession(LogSession currentSession, LogSession session) {
-		if (currentSession == null) {
-			return session;
-		}
-		Date currentDate = currentSession.getDate();
-		Date sessionDate = session.getDate();
-		if (currentDate == null && sessionDate != null)
-			return session;
-		else if (currentDate != null && sessionDate == null)
-			return session;
-		else if (currentDate != null && sessionDate != null && sessionDate.after(currentDate))
-			return session;
-
-		return currentSession;
-	}
-
-	/**
-	 * Adds entry to the list if it's not filtered. Removes entries exceeding the count limit.
-	 */
-	private static void addEntry(LogEntry entry, List<LogEntry> entries, IMemento memento) {
-
-		if (isLogged(entry, memento)) {
-			entries.add(entry);
-
-			if (memento.getString(LogView.P_USE_LIMIT).equals("true")) {//$NON-NLS-1$
-				int limit = memento.getInteger(LogView.P_LOG_LIMIT).intValue();
-				if (entries.size() > limit) {
-					entries.remove(0);
-				}
-			}
-		}
-	}
-
 	/**
 	 * Returns whether given entry is logged (true) or filtered (false).
 	 * @return is entry logged or filtered
@@ -123,6 +123,7 @@ public class LogView extends ViewPart implements LogListener {
 
 	private IMemento fMemento;
 	private File fInputFile;
+	private LogFileIndex fLogFileIndex;
 	private String fDirectory;
 
 	private Comparator<?> fComparator;
@@ -876,7 +877,7 @@ public class LogView extends ViewPart implements LogListener {
 	private CompletableFuture<List<LogEntry>> fetchLogEntries() {
 		return CompletableFuture.supplyAsync(() -> {
 			List<LogEntry> result = new ArrayList<>();
-			LogSession lastLogSession = LogReader.parseLogFile(this.fInputFile, getLogMaxTailSize(), result,
+			LogSession lastLogSession = LogReader.parseLogFile(getLogFileIndex(), getLogMaxTailSize(), result,
 					this.fMemento);
 			if (lastLogSession != null
 					&& (lastLogSession.getDate() == null || isEclipseStartTime(lastLogSession.getDate()))) {
@@ -888,6 +889,17 @@ public class LogView extends ViewPart implements LogListener {
 		});
 	}
 
+	/**
+	 * Returns the index of the backing log file, kept while the file is shown so
+	 * that reloading it only indexes the appended entries.
+	 */
+	private synchronized LogFileIndex getLogFileIndex() {
+		if (fLogFileIndex == null || !fLogFileIndex.getFile().equals(fInputFile)) {
+			fLogFileIndex = new LogFileIndex(fInputFile);
+		}
+		return fLogFileIndex;
+	}
+
 	private void updateLogViewer(List<LogEntry> entries) {
 		elements.clear();
 		groups.clear();
@@ -1485,7 +1497,20 @@ public class LogView extends ViewPart implements LogListener {
 
 		String message = null;
 		if (item.getData() instanceof LogEntry) {
-			message = ((LogEntry) item.getData()).getStack();
+			LogEntry entry = (LogEntry) item.getData();
+			if (!entry.hasStack())
+				return;
+			// the stack is read from the log file, so not in the UI thread
+			Display display = fTree.getDisplay();
+			CompletableFuture.supplyAsync(entry::getStack).thenAccept(stack -> display.asyncExec(() -> {
+				if (stack == null || fTree.isDisposed() || fTextShell == null || fTextShell.isDisposed())
+					return;
+				TreeItem hovered = fTree.getItem(point);
+				if (hovered != null && hovered.getData() == entry) {
+					showTextShell(stack, point);
+				}
+			}));
+			return;
 		} else if (item.getData() instanceof LogSession) {
 			LogSession session = ((LogSession) item.getData());
 			message = Messages.LogView_SessionStarted;
@@ -1498,6 +1523,10 @@ public class LogView extends ViewPart implements LogListener {
 		if (message == null)
 			return;
 
+		showTextShell(message, point);
+	}
+
+	private void showTextShell(String message, Point point) {
 		fTextLabel.setText(message);
 		Rectangle bounds = fTree.getDisplay().getBounds();
 		Point cursorPoint = fTree.getDisplay().getCursorLocation();
@@ -72,7 +72,7 @@ public class LogViewLabelProvider extends LabelProvider implements ITableLabelPr
 				case IStatus.WARNING :
 					return warningImage;
 				default :
-					return (entry.getStack() == null ? errorImage : errorWithStackImage);
+					return (entry.hasStack() ? errorWithStackImage : errorImage);
 			}
 		}
 		return null;
@@ -13,30 +13,31 @@
  *******************************************************************************/
 package org.eclipse.ui;
 
+import java.io.BufferedWriter;
+import java.io.Closeable;
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
-import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import org.eclipse.ui.internal.WorkbenchMessages;
 import org.eclipse.ui.internal.WorkbenchPlugin;
 import org.w3c.dom.Attr;
 import org.w3c.dom.DOMException;
+import org.w3c.dom.DOMImplementation;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 import org.w3c.dom.Text;
-import org.xml.sax.ErrorHandler;
-import org.xml.sax.InputSource;
-import org.xml.sax.SAXException;
-import org.xml.sax.SAXParseException;
 
 /**
  * This class represents the default implementation of the <code>IMemento</code>
@@ -54,6 +55,64 @@ public final class XMLMemento implements IMemento {
 
 	private static String FILE_STRING = "file"; //$NON-NLS-1$
 
+	/**
+	 * The parser and document factories, created once as looking them up is
+	 * expensive.
+	 */
+	private static final class Factories {
+		private static final String REPORT_CDATA_EVENT = "http://java.sun.com/xml/stream/properties/report-cdata-event"; //$NON-NLS-1$
+
+		static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+		static final DOMImplementation DOM_IMPLEMENTATION;
+
+		static final ParserConfigurationException DOM_CONFIGURATION_ERROR;
+
+		static {
+			DOMImplementation implementation = null;
+			ParserConfigurationException error = null;
+			try {
+				implementation = DocumentBuilderFactory.newInstance().newDocumentBuilder().getDOMImplementation();
+			} catch (ParserConfigurationException e) {
+				error = e;
+			}
+			DOM_IMPLEMENTATION = implementation;
+			DOM_CONFIGURATION_ERROR = error;
+		}
+
+		private static XMLInputFactory createInputFactory() {
+			XMLInputFactory factory = XMLInputFactory.newInstance();
+			factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.FALSE);
+			factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.FALSE);
+			try {
+				// keep CDATA sections apart like a DocumentBuilder does
+				factory.setProperty(REPORT_CDATA_EVENT, Boolean.TRUE);
+			} catch (IllegalArgumentException e) {
+				// Property not supported
+			}
+			Object attributeDTDOldValue = null;
+			try {
+				attributeDTDOldValue = factory.getProperty(javax.xml.XMLConstants.ACCESS_EXTERNAL_DTD);
+			} catch (IllegalArgumentException e) {
+				// Property not defined
+			}
+			try {
+				factory.setProperty(javax.xml.XMLConstants.ACCESS_EXTERNAL_DTD,
+						getAttributeNewValue(attributeDTDOldValue));
+			} catch (IllegalArgumentException e) {
+				// Property not supported
+			}
+			return factory;
+		}
+
+		static Document newDocument() throws ParserConfigurationException {
+			if (DOM_IMPLEMENTATION == null) {
+				throw DOM_CONFIGURATION_ERROR;
+			}
+			return DOM_IMPLEMENTATION.createDocument(null, null, null);
+		}
+	}
+
 	/**
 	 * Creates a <code>Document</code> from the <code>Reader</code> and returns a
 	 * memento on the first <code>Element</code> for reading the document.
@@ -107,65 +166,35 @@ public final class XMLMemento implements IMemento {
 	public static XMLMemento createReadRoot(Reader reader, String baseDir) throws WorkbenchException {
 		String errorMessage = null;
 		Exception exception = null;
-		DocumentBuilderFactory factory = null;
-		Object attributeDTDOldValue = null;
-		Object attributeSchemaOldValue = null;
 		try {
-			factory = DocumentBuilderFactory.newInstance();
+			Document document = Factories.newDocument();
+			XMLStreamReader parser = baseDir != null
+					? Factories.INPUT_FACTORY.createXMLStreamReader(baseDir, reader)
+					: Factories.INPUT_FACTORY.createXMLStreamReader(reader);
 			try {
-				attributeDTDOldValue = factory.getAttribute(javax.xml.XMLConstants.ACCESS_EXTERNAL_DTD);
-				attributeSchemaOldValue = factory.getAttribute(javax.xml.XMLConstants.ACCESS_EXTERNAL_SCHEMA);
-			} catch (NullPointerException | IllegalArgumentException e) {
-				// Attributes not defined
-			}
-			factory.setAttribute(javax.xml.XMLConstants.ACCESS_EXTERNAL_DTD,
-					getAttributeNewValue(attributeDTDOldValue));
-			factory.setAttribute(javax.xml.XMLConstants.ACCESS_EXTERNAL_SCHEMA,
-					getAttributeNewValue(attributeSchemaOldValue));
-			DocumentBuilder parser = factory.newDocumentBuilder();
-			InputSource source = new InputSource(reader);
-			if (baseDir != null) {
-				source.setSystemId(baseDir);
-			}
-
-			parser.setErrorHandler(new ErrorHandler() {
-				@Override
-				public void warning(SAXParseException exception) {
-					// ignore
-				}
-
-				@Override
-				public void error(SAXParseException exception) {
-					// ignore
-				}
-
-				@Override
-				public void fatalError(SAXParseException exception) throws SAXException {
-					throw exception;
+				Element root = null;
+				while (parser.hasNext()) {
+					if (parser.next() == XMLStreamConstants.START_ELEMENT && root == null) {
+						root = readElement(document, parser);
+						document.appendChild(root);
+					}
 				}
-			});
-
-			Document document = parser.parse(source);
-			NodeList list = document.getChildNodes();
-			for (int i = 0; i < list.getLength(); i++) {
-				Node node = list.item(i);
-				if (node instanceof Element) {
-					return new XMLMemento(document, (Element) node);
+				if (root != null) {
+					return new XMLMemento(document, root);
 				}
+			} finally {
+				parser.close();
 			}
 		} catch (ParserConfigurationException e) {
 			exception = e;
 			errorMessage = WorkbenchMessages.XMLMemento_parserConfigError;
-		} catch (IOException e) {
-			exception = e;
-			errorMessage = WorkbenchMessages.XMLMemento_ioError;
-		} catch (SAXException e) {
-			exception = e;
-			errorMessage = WorkbenchMessages.XMLMemento_formatError;
-		} finally {
-			if (factory != null) {
-				factory.setAttribute(javax.xml.XMLConstants.ACCESS_EXTERNAL_DTD, attributeDTDOldValue);
-				factory.setAttribute(javax.xml.XMLConstants.ACCESS_EXTERNAL_SCHEMA, attributeSchemaOldValue);
+		} catch (XMLStreamException e) {
+			if (e.getNestedException() instanceof IOException) {
+				exception = (IOException) e.getNestedException();
+				errorMessage = WorkbenchMessages.XMLMemento_ioError;
+			} else {
+				exception = e;
+				errorMessage = WorkbenchMessages.XMLMemento_formatError;
 			}
 		}
 
@@ -179,6 +208,86 @@ public final class XMLMemento implements IMemento {
 		throw new WorkbenchException(problemText, exception);
 	}
 
+	/**
+	 * Reads the element the parser is at, including its children, into a tree of
+	 * nodes of the document. Adjacent character data is merged into one text
+	 * node, like a <code>DocumentBuilder</code> does.
+	 *
+	 * @return the element, not yet appended to the document
+	 */
+	private static Element readElement(Document document, XMLStreamReader parser) throws XMLStreamException {
+		// the names were checked by the parser already
+		boolean errorChecking = document.getStrictErrorChecking();
+		document.setStrictErrorChecking(false);
+		try {
+			Element root = createElement(document, parser);
+			Element parent = root;
+			Text text = null;
+			while (true) {
+				switch (parser.next()) {
+				case XMLStreamConstants.START_ELEMENT:
+					Element child = createElement(document, parser);
+					parent.appendChild(child);
+					parent = child;
+					text = null;
+					break;
+				case XMLStreamConstants.END_ELEMENT:
+					if (parent == root) {
+						return root;
+					}
+					parent = (Element) parent.getParentNode();
+					text = null;
+					break;
+				case XMLStreamConstants.CHARACTERS:
+				case XMLStreamConstants.SPACE:
+					if (text == null) {
+						text = document.createTextNode(parser.getText());
+						parent.appendChild(text);
+					} else {
+						text.appendData(parser.getText());
+					}
+					break;
+				case XMLStreamConstants.CDATA:
+					parent.appendChild(document.createCDATASection(parser.getText()));
+					text = null;
+					break;
+				case XMLStreamConstants.COMMENT:
+					parent.appendChild(document.createComment(parser.getText()));
+					text = null;
+					break;
+				case XMLStreamConstants.PROCESSING_INSTRUCTION:
+					parent.appendChild(document.createProcessingInstruction(parser.getPITarget(), parser.getPIData()));
+					text = null;
+					break;
+				default:
+					break;
+				}
+			}
+		} finally {
+			document.setStrictErrorChecking(errorChecking);
+		}
+	}
+
+	private static Element createElement(Document document, XMLStreamReader parser) {
+		Element element = document.createElement(getName(parser.getPrefix(), parser.getLocalName()));
+		for (int i = 0; i < parser.getAttributeCount(); i++) {
+			element.setAttribute(getName(parser.getAttributePrefix(i), parser.getAttributeLocalName(i)),
+					parser.getAttributeValue(i));
+		}
+		return element;
+	}
+
+	/**
+	 * Returns the name as written in the document, as the parser may split off
+	 * the prefix even if it is not aware of namespaces.
+	 */
+	private static String getName(String prefix, String localName) {
+		if (prefix == null || prefix.isEmpty()) {
+			return localName;
+		}
+		return prefix + ':' + localName;
+	}
+
 	/**
 	 * Returns a root memento for writing a document.
 	 *
@@ -190,7 +299,7 @@ public final class XMLMemento implements IMemento {
 	public static XMLMemento createWriteRoot(String type) throws DOMException {
 		Document document;
 		try {
-			document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+			document = Factories.newDocument();
 			Element element = document.createElement(type);
 			document.appendChild(element);
 			return new XMLMemento(document, element);
@@ -625,29 +734,43 @@ public final class XMLMemento implements IMemento {
 
 	/**
 	 * A simple XML writer. Using this instead of the javax.xml.transform classes
-	 * allows compilation against JCL Foundation (bug 80053).
+	 * allows compilation against JCL Foundation (bug 80053). The document is
+	 * written to the output as it is walked, each tag and text through one reused
+	 * buffer.
 	 */
-	private static final class DOMWriter extends PrintWriter {
+	private static final class DOMWriter implements Closeable {
 
 		/* constants */
 		private static final String XML_VERSION = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"; //$NON-NLS-1$
 
+		private static final String LINE_SEPARATOR = System.lineSeparator();
+
+		private final Writer out;
+
+		private final StringBuilder buffer = new StringBuilder(256);
+
+		private char[] chars = new char[256];
+
 		/**
 		 * Creates a new DOM writer on the given output writer.
 		 *
 		 * @param output the output writer
+		 * @throws IOException if the output cannot be written
 		 */
-		public DOMWriter(Writer output) {
-			super(output);
-			println(XML_VERSION);
+		public DOMWriter(Writer output) throws IOException {
+			out = output instanceof BufferedWriter || output instanceof StringWriter ? output
+					: new BufferedWriter(output);
+			out.write(XML_VERSION);
+			out.write(LINE_SEPARATOR);
 		}
 
 		/**
 		 * Prints the given element.
 		 *
 		 * @param element the element to print
+		 * @throws IOException if the output cannot be written
 		 */
-		public void print(Element element) {
+		public void print(Element element) throws IOException {
 			// Ensure extra whitespace is not emitted next to a Text node,
 			// as that will result in a situation where the restored text data is not the
 			// same as the saved text data.
@@ -660,64 +783,85 @@ public final class XMLMemento implements IMemento {
 					Node node = children.item(i);
 					if (node instanceof Element) {
 						if (!prevWasText) {
-							println();
+							out.write(LINE_SEPARATOR);
 						}
-						print((Element) children.item(i));
+						print((Element) node);
 						prevWasText = false;
 					} else if (node instanceof Text) {
-						print(getEscaped(node.getNodeValue()));
+						appendEscaped(node.getNodeValue());
+						write();
 						prevWasText = true;
 					}
 				}
 				if (!prevWasText) {
-					println();
+					out.write(LINE_SEPARATOR);
 				}
 				endTag(element);
 			}
 		}
 
-		private void startTag(Element element, boolean hasChildren) {
-			StringBuilder sb = new StringBuilder();
-			sb.append("<"); //$NON-NLS-1$
-			sb.append(element.getTagName());
+		@Override
+		public void close() throws IOException {
+			out.close();
+		}
+
+		private void startTag(Element element, boolean hasChildren) throws IOException {
+			buffer.append('<');
+			buffer.append(element.getTagName());
 			NamedNodeMap attributes = element.getAttributes();
 			for (int i = 0; i < attributes.getLength(); i++) {
 				Attr attribute = (Attr) attributes.item(i);
-				sb.append(" "); //$NON-NLS-1$
-				sb.append(attribute.getName());
-				sb.append("=\""); //$NON-NLS-1$
-				sb.append(getEscaped(String.valueOf(attribute.getValue())));
-				sb.append("\""); //$NON-NLS-1$
+				buffer.append(' ');
+				buffer.append(attribute.getName());
+				buffer.append("=\""); //$NON-NLS-1$
+				appendEscaped(String.valueOf(attribute.getValue()));
+				buffer.append('"');
 			}
-			sb.append(hasChildren ? ">" : "/>"); //$NON-NLS-1$ //$NON-NLS-2$
-			print(sb.toString());
-		}
-
-		private void endTag(Element element) {
-			StringBuilder sb = new StringBuilder();
-			sb.append("</"); //$NON-NLS-1$
-			sb.append(element.getNodeName());
-			sb.append(">"); //$NON-NLS-1$
-			print(sb.toString());
-		}
-
-		private static void appendEscapedChar(StringBuilder buffer, char c) {
-			String replacement = getReplacement(c);
-			if (replacement != null) {
-				buffer.append('&');
-				buffer.append(replacement);
-				buffer.append(';');
-			} else if (c == 9 || c == 10 || c == 13 || c >= 32) {
-				buffer.append(c);
+			buffer.append(hasChildren ? ">" : "/>"); //$NON-NLS-1$ //$NON-NLS-2$
+			write();
+		}
+
+		private void endTag(Element element) throws IOException {
+			buffer.append("</"); //$NON-NLS-1$
+			buffer.append(element.getNodeName());
+			buffer.append('>');
+			write();
+		}
+
+		/**
+		 * Writes the buffer to the output at once and clears it.
+		 */
+		private void write() throws IOException {
+			int length = buffer.length();
+			if (chars.length < length) {
+				chars = new char[Math.max(length, 2 * chars.length)];
 			}
+			buffer.getChars(0, length, chars, 0);
+			out.write(chars, 0, length);
+			buffer.setLength(0);
 		}
 
-		private static String getEscaped(String s) {
-			StringBuilder result = new StringBuilder(s.length() + 10);
+		/**
+		 * Appends the string to the buffer, replacing special characters by
+		 * character references and dropping other control characters. Runs of
+		 * plain characters are appended at once.
+		 */
+		private void appendEscaped(String s) {
+			int start = 0;
 			for (int i = 0; i < s.length(); ++i) {
-				appendEscapedChar(result, s.charAt(i));
+				char c = s.charAt(i);
+				String replacement = getReplacement(c);
+				if (replacement != null || c < 32) {
+					buffer.append(s, start, i);
+					start = i + 1;
+					if (replacement != null) {
+						buffer.append('&');
+						buffer.append(replacement);
+						buffer.append(';');
+					}
+				}
 			}
-			return result.toString();
+			buffer.append(s, start, s.length());
 		}
 
 		private static String getReplacement(char c) {
@@ -77,6 +77,8 @@ final class JFaceUtil {
 					.equalsIgnoreCase(Platform.getDebugOption(Policy.JFACE + "/debug/viewers/reentrantViewerCalls")); //$NON-NLS-1$
 			InternalPolicy.DEBUG_LOG_EQUAL_VIEWER_ELEMENTS = "true" //$NON-NLS-1$
 					.equalsIgnoreCase(Platform.getDebugOption(Policy.JFACE + "/debug/viewers/equalElements")); //$NON-NLS-1$
+			InternalPolicy.DEBUG_TRACE_TREE_REFRESH = "true" //$NON-NLS-1$
+					.equalsIgnoreCase(Platform.getDebugOption(Policy.JFACE + "/debug/viewers/treeRefresh")); //$NON-NLS-1$
 			InternalPolicy.DEBUG_BIDI_UTILS = "true" //$NON-NLS-1$
 					.equalsIgnoreCase(Platform.getDebugOption(Policy.JFACE + "/debug/bidiUtils")); //$NON-NLS-1$
 			InternalPolicy.DEBUG_TRACE_URL_IMAGE_DESCRIPTOR = "true" //$NON-NLS-1$
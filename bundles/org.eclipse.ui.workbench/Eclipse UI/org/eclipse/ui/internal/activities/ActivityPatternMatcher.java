@@ -0,0 +1,297 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.ui.internal.activities;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.eclipse.ui.activities.IActivityPatternBinding;
+
+/**
+ * Finds the activities whose pattern bindings match an identifier, without
+ * testing every binding.
+ * <p>
+ * Equality patterns are looked up by their string. Regular expressions are
+ * stored in a trie under the literal prefix they start with, where an unescaped
+ * <code>.</code> is a wildcard edge. Matching an identifier walks the trie
+ * once along its characters, and only the regular expressions found on the way
+ * are run. Expressions for any contributor, starting with <code>.*&#47;</code>,
+ * are stored in a second trie under the prefix that follows, which is walked
+ * from each <code>/</code> of the identifier. Bindings can be added and removed
+ * one at a time.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+public final class ActivityPatternMatcher {
+
+	/**
+	 * Stands for an unescaped <code>.</code> in a prefix.
+	 */
+	private static final char WILDCARD = '\uFFFF';
+
+	private static final String META_CHARACTERS = "[](){}*+?^$|"; //$NON-NLS-1$
+
+	private static final String QUANTIFIERS = "?*{"; //$NON-NLS-1$
+
+	private static final String ANY_CONTRIBUTOR = ".*/"; //$NON-NLS-1$
+
+	private static final class Node {
+		Map<Character, Node> children;
+
+		Node wildcard;
+
+		/**
+		 * The bindings whose prefix ends at this node, or <code>null</code>.
+		 */
+		List<ActivityPatternBinding> bindings;
+
+		Node getChild(char c, boolean create) {
+			if (c == WILDCARD) {
+				if (wildcard == null && create) {
+					wildcard = new Node();
+				}
+				return wildcard;
+			}
+			Node child = children == null ? null : children.get(c);
+			if (child == null && create) {
+				if (children == null) {
+					children = new HashMap<>(4);
+				}
+				child = new Node();
+				children.put(c, child);
+			}
+			return child;
+		}
+	}
+
+	private final Map<String, List<String>> activityIdsByString = new HashMap<>();
+
+	private final Node root = new Node();
+
+	/**
+	 * The trie of the expressions starting with {@link #ANY_CONTRIBUTOR}.
+	 */
+	private final Node contributorRoot = new Node();
+
+	private int size;
+
+	/**
+	 * Adds a binding.
+	 *
+	 * @param binding the binding, an {@link ActivityPatternBinding}
+	 */
+	public synchronized void add(IActivityPatternBinding binding) {
+		ActivityPatternBinding patternBinding = (ActivityPatternBinding) binding;
+		if (patternBinding.isEqualityPattern()) {
+			activityIdsByString.computeIfAbsent(patternBinding.getString(), s -> new ArrayList<>(1))
+					.add(patternBinding.getActivityId());
+		} else {
+			Node node = getNode(patternBinding.getPattern(), true);
+			if (node.bindings == null) {
+				node.bindings = new ArrayList<>(1);
+			}
+			node.bindings.add(patternBinding);
+		}
+		size++;
+	}
+
+	/**
+	 * Removes a binding added before, or one with the same activity and pattern.
+	 *
+	 * @param binding the binding
+	 */
+	public synchronized void remove(IActivityPatternBinding binding) {
+		ActivityPatternBinding patternBinding = (ActivityPatternBinding) binding;
+		boolean removed;
+		if (patternBinding.isEqualityPattern()) {
+			List<String> activityIds = activityIdsByString.get(patternBinding.getString());
+			removed = activityIds != null && activityIds.remove(patternBinding.getActivityId());
+			if (removed && activityIds.isEmpty()) {
+				activityIdsByString.remove(patternBinding.getString());
+			}
+		} else {
+			Node node = getNode(patternBinding.getPattern(), false);
+			removed = false;
+			if (node != null && node.bindings != null) {
+				for (Iterator<ActivityPatternBinding> i = node.bindings.iterator(); i.hasNext();) {
+					ActivityPatternBinding added = i.next();
+					if (added.getActivityId().equals(patternBinding.getActivityId())
+							&& added.getPattern().pattern().equals(patternBinding.getPattern().pattern())
+							&& added.getPattern().flags() == patternBinding.getPattern().flags()) {
+						i.remove();
+						removed = true;
+						break;
+					}
+				}
+			}
+		}
+		if (removed) {
+			size--;
+		}
+	}
+
+	/**
+	 * Returns the ids of the activities with a binding that matches the
+	 * identifier.
+	 *
+	 * @param identifier the identifier
+	 * @return a new set of activity ids
+	 */
+	public synchronized Set<String> getActivityIds(String identifier) {
+		Set<String> activityIds = new HashSet<>();
+		List<String> equal = activityIdsByString.get(identifier);
+		if (equal != null) {
+			activityIds.addAll(equal);
+		}
+
+		List<Node> nodes = new ArrayList<>();
+		List<Node> next = new ArrayList<>();
+		match(root, identifier, 0, activityIds, nodes, next);
+		for (int i = identifier.indexOf('/'); i >= 0; i = identifier.indexOf('/', i + 1)) {
+			match(contributorRoot, identifier, i + 1, activityIds, nodes, next);
+		}
+		return activityIds;
+	}
+
+	/**
+	 * @return the number of bindings
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Walks the trie from the start node along the identifier from the start
+	 * index, running the regular expressions of the nodes passed.
+	 */
+	private static void match(Node start, String identifier, int startIndex, Set<String> activityIds,
+			List<Node> nodes, List<Node> next) {
+		nodes.clear();
+		nodes.add(start);
+		match(start, identifier, activityIds);
+		for (int i = startIndex; i < identifier.length() && !nodes.isEmpty(); i++) {
+			char c = identifier.charAt(i);
+			for (Node node : nodes) {
+				Node child = node.children == null ? null : node.children.get(c);
+				if (child != null) {
+					next.add(child);
+					match(child, identifier, activityIds);
+				}
+				if (node.wildcard != null) {
+					next.add(node.wildcard);
+					match(node.wildcard, identifier, activityIds);
+				}
+			}
+			List<Node> swap = nodes;
+			nodes = next;
+			next = swap;
+			next.clear();
+		}
+	}
+
+	private static void match(Node node, String identifier, Set<String> activityIds) {
+		if (node.bindings != null) {
+			for (ActivityPatternBinding binding : node.bindings) {
+				if (!activityIds.contains(binding.getActivityId()) && binding.isMatch(identifier)) {
+					activityIds.add(binding.getActivityId());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the node of the trie that the pattern is stored at.
+	 *
+	 * @param create whether to create missing nodes, or to return
+	 *               <code>null</code>
+	 */
+	private Node getNode(Pattern pattern, boolean create) {
+		String regex = pattern.pattern();
+		String prefix;
+		Node node;
+		if (pattern.flags() != 0 || regex.indexOf('|') >= 0) {
+			// the prefix could be in another case or in another alternative
+			prefix = ""; //$NON-NLS-1$
+			node = root;
+		} else if (regex.startsWith(ANY_CONTRIBUTOR) && (regex.length() == ANY_CONTRIBUTOR.length()
+				|| QUANTIFIERS.indexOf(regex.charAt(ANY_CONTRIBUTOR.length())) < 0)) {
+			prefix = getPrefix(regex, ANY_CONTRIBUTOR.length());
+			node = contributorRoot;
+		} else {
+			prefix = getPrefix(regex, regex.startsWith("^") ? 1 : 0); //$NON-NLS-1$
+			node = root;
+		}
+		for (int i = 0; i < prefix.length() && node != null; i++) {
+			node = node.getChild(prefix.charAt(i), create);
+		}
+		return node;
+	}
+
+	/**
+	 * Returns the characters every string matched by the regular expression from
+	 * the start index starts with, {@link #WILDCARD} standing for any character.
+	 * The prefix may be shorter than possible, but never longer.
+	 */
+	private static String getPrefix(String regex, int start) {
+		StringBuilder prefix = new StringBuilder();
+		int length = regex.length();
+		int i = start;
+		while (i < length) {
+			char c = regex.charAt(i);
+			if (c == '\\') {
+				if (i + 1 == length) {
+					break;
+				}
+				char escaped = regex.charAt(i + 1);
+				if (escaped == 'Q') {
+					int end = regex.indexOf("\\E", i + 2); //$NON-NLS-1$
+					prefix.append(regex, i + 2, end < 0 ? length : end);
+					i = end < 0 ? length : end + 2;
+				} else if (Character.isLetterOrDigit(escaped)) {
+					// a character class, a back reference or a boundary
+					break;
+				} else {
+					prefix.append(escaped);
+					i += 2;
+				}
+			} else if (c == '.') {
+				prefix.append(WILDCARD);
+				i++;
+			} else if (META_CHARACTERS.indexOf(c) >= 0) {
+				break;
+			} else {
+				prefix.append(c);
+				i++;
+			}
+			if (i < length) {
+				char next = regex.charAt(i);
+				if (QUANTIFIERS.indexOf(next) >= 0) {
+					// the last character is optional
+					if (prefix.length() > 0) {
+						prefix.setLength(prefix.length() - 1);
+					}
+					break;
+				} else if (next == '+') {
+					break;
+				}
+			}
+		}
+		return prefix.toString();
+	}
+}
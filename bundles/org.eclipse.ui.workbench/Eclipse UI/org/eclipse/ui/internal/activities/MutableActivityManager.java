@@ -68,6 +68,12 @@ public final class MutableActivityManager extends AbstractActivityManager
 
 	private Map<String, Set<IActivityPatternBinding>> activityPatternBindingsByActivityId = new HashMap<>();
 
+	/**
+	 * All bindings of {@link #activityPatternBindingsByActivityId}, used to
+	 * match identifiers.
+	 */
+	private final ActivityPatternMatcher activityPatternMatcher = new ActivityPatternMatcher();
+
 	private IActivityRegistry activityRegistry;
 
 	private Map<String, Category> categoriesById = new HashMap<>();
@@ -378,6 +384,7 @@ public final class MutableActivityManager extends AbstractActivityManager
 
 		this.activityRequirementBindingsByActivityId = activityRequirementBindingsByActivityId;
 		this.activityDefinitionsById = activityDefinitionsById;
+		updateActivityPatternMatcher(this.activityPatternBindingsByActivityId, activityPatternBindingsByActivityId);
 		this.activityPatternBindingsByActivityId = activityPatternBindingsByActivityId;
 		this.categoryActivityBindingsByCategoryId = categoryActivityBindingsByCategoryId;
 		this.categoryDefinitionsById = categoryDefinitionsById;
@@ -441,6 +448,37 @@ public final class MutableActivityManager extends AbstractActivityManager
 		}
 	}
 
+	/**
+	 * Adds the new pattern bindings to the matcher and removes the ones that are
+	 * gone, so that it is not rebuilt on every registry change. Equal bindings
+	 * contributed more than once are in the matcher once per contribution.
+	 */
+	private void updateActivityPatternMatcher(Map<String, Set<IActivityPatternBinding>> previousBindingsByActivityId,
+			Map<String, Set<IActivityPatternBinding>> bindingsByActivityId) {
+		// patterns do not implement equals, compare the bindings by their string
+		Map<String, List<IActivityPatternBinding>> previousBindings = new HashMap<>();
+		for (Set<IActivityPatternBinding> bindings : previousBindingsByActivityId.values()) {
+			for (IActivityPatternBinding binding : bindings) {
+				previousBindings.computeIfAbsent(binding.toString(), s -> new ArrayList<>(1)).add(binding);
+			}
+		}
+		for (Set<IActivityPatternBinding> bindings : bindingsByActivityId.values()) {
+			for (IActivityPatternBinding binding : bindings) {
+				List<IActivityPatternBinding> previous = previousBindings.get(binding.toString());
+				if (previous == null || previous.isEmpty()) {
+					activityPatternMatcher.add(binding);
+				} else {
+					previous.remove(previous.size() - 1);
+				}
+			}
+		}
+		for (List<IActivityPatternBinding> bindings : previousBindings.values()) {
+			for (IActivityPatternBinding binding : bindings) {
+				activityPatternMatcher.remove(binding);
+			}
+		}
+	}
+
 	private void clearExpressions() {
 		IEvaluationService evaluationService = PlatformUI.getWorkbench().getService(IEvaluationService.class);
 		Iterator<IEvaluationReference> i = refsByActivityDefinition.values().iterator();
@@ -737,14 +775,10 @@ public final class MutableActivityManager extends AbstractActivityManager
 				return new IdentifierEvent(identifier, activityIdsChanged, enabledChanged);
 			}
 		} else {
-			Set<String> activityIdsToUpdate = new HashSet<>(changedActivityIds);
-			if (identifier.getActivityIds() != null) {
-				activityIdsToUpdate.addAll(identifier.getActivityIds());
-			}
-			for (String activityId : activityIdsToUpdate) {
-				Activity activity = (Activity) getActivity(activityId);
-
-				if (activity.isMatch(id)) {
+			Set<String> previousActivityIds = identifier.getActivityIds();
+			for (String activityId : activityPatternMatcher.getActivityIds(id)) {
+				if (changedActivityIds.contains(activityId)
+						|| (previousActivityIds != null && previousActivityIds.contains(activityId))) {
 					activityIds.add(activityId);
 				}
 			}
@@ -815,14 +849,7 @@ public final class MutableActivityManager extends AbstractActivityManager
 
 				while (!deferredIdentifiers.isEmpty()) {
 					Identifier identifier = deferredIdentifiers.remove(0);
-					Set<String> activityIds = new HashSet<>();
-					for (String activityId : definedActivityIds) {
-						Activity activity = (Activity) getActivity(activityId);
-
-						if (activity.isMatch(identifier.getId())) {
-							activityIds.add(activityId);
-						}
-					}
+					Set<String> activityIds = activityPatternMatcher.getActivityIds(identifier.getId());
 
 					boolean activityIdsChanged = identifier.setActivityIds(activityIds);
 					if (activityIdsChanged) {
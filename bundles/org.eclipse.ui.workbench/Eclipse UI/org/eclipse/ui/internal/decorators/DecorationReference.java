@@ -39,6 +39,8 @@ class DecorationReference {
 
 	private volatile boolean forceUpdate = false;
 
+	private volatile boolean visible = false;
+
 	private final Set<IDecorationContext> contexts = ConcurrentHashMap.newKeySet();
 
 	DecorationReference(Object object, Object adaptedObject, IDecorationContext context) {
@@ -85,6 +87,25 @@ class DecorationReference {
 		this.forceUpdate = forceUpdate;
 	}
 
+	/**
+	 * Return true if the element was requested by a viewer that is showing it
+	 * and should therefore be decorated before other pending elements.
+	 *
+	 * @return boolean
+	 */
+	boolean isVisible() {
+		return visible;
+	}
+
+	/**
+	 * Sets the visible flag. If true the decoration is calculated with priority.
+	 *
+	 * @param visible The visible flag to set
+	 */
+	void setVisible(boolean visible) {
+		this.visible = visible;
+	}
+
 	/**
 	 * Set the text that will be used to label the decoration calculation.
 	 *
@@ -16,6 +16,7 @@
  *******************************************************************************/
 package org.eclipse.ui.internal.decorators;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -23,7 +24,6 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import org.eclipse.core.runtime.Assert;
@@ -108,11 +108,37 @@ import org.eclipse.ui.progress.WorkbenchJob;
  * asynchronously by the <code>decorationJob</code> and enqueued for UI-update,
  * and finally, the <code>updateJob</code> fires events which cause the viewers
  * to update the UI using the now available decoration results.
+ *
+ * <p>
+ * If the system property <code>org.eclipse.ui.decorators.workers</code> is set
+ * to a value greater than one (or to zero for one worker per available
+ * processor), the decorations are calculated in the sharded mode: every
+ * element is assigned to one of several <code>decorationJobs</code> by its
+ * hash code, so all requests for the same element are still handled one after
+ * another by the same job while different elements are decorated in parallel.
+ * In this mode elements requested by a viewer that is painting them are
+ * decorated before elements queued by a bulk label update. Contributed
+ * lightweight decorators are not required to be thread safe, so each of them
+ * is still called by one job at a time; only the declarative decorators run in
+ * parallel.
+ * </p>
  */
 public class DecorationScheduler {
 
 	private static final ILabelProviderListener[] EMPTY_LISTENER_LIST = new ILabelProviderListener[0];
 
+	/**
+	 * Default number of jobs calculating decorations in parallel, <code>1</code>
+	 * unless the sharded mode is enabled.
+	 */
+	private static final int DEFAULT_WORKER_COUNT = Integer.getInteger("org.eclipse.ui.decorators.workers", 1) //$NON-NLS-1$
+			.intValue();
+
+	/**
+	 * Number of jobs calculating decorations in parallel.
+	 */
+	private final int workerCount;
+
 	// When decorations are computed they are added to this cache via
 	// scheduleUpdateJob() method
 	private final Map<IDecorationContext, Map<Object, DecorationResult>> resultCache = new ConcurrentHashMap<>();
@@ -126,12 +152,18 @@ public class DecorationScheduler {
 	/** manually synchronized on DecorationScheduler.this **/
 	private final LinkedHashMap<Object, DecorationReference> awaitingDecoration = new LinkedHashMap<>();
 
+	/**
+	 * The references of awaitingDecoration in the order they are processed, one
+	 * queue per decoration job. manually synchronized on DecorationScheduler.this
+	 **/
+	private final DecorationQueue[] queues;
+
 	/** manually synchronized on DecorationScheduler.this **/
 	private boolean shutdown = false;
 
 	private final DecoratorManager decoratorManager;
 
-	private final Job decorationJob;
+	private final Job[] decorationJobs;
 
 	// Notifies about updateJob or clearJob finishing
 	private final class JobChangeListener extends JobChangeAdapter {
@@ -182,8 +214,78 @@ public class DecorationScheduler {
 	 * @param manager
 	 */
 	DecorationScheduler(DecoratorManager manager) {
+		this(manager, DEFAULT_WORKER_COUNT);
+	}
+
+	/**
+	 * Return a new instance of the receiver configured for the supplied
+	 * DecoratorManager and number of decoration jobs.
+	 *
+	 * @param manager
+	 * @param workers the number of jobs calculating decorations in parallel, or
+	 *                <code>0</code> for one per available processor
+	 */
+	// VisibleForTesting
+	public DecorationScheduler(DecoratorManager manager, int workers) {
 		decoratorManager = manager;
-		decorationJob = createDecorationJob();
+		workerCount = computeWorkerCount(workers);
+		queues = new DecorationQueue[workerCount];
+		decorationJobs = new Job[workerCount];
+		for (int i = 0; i < workerCount; i++) {
+			queues[i] = new DecorationQueue();
+			decorationJobs[i] = createDecorationJob(queues[i]);
+		}
+	}
+
+	private static int computeWorkerCount(int configured) {
+		if (configured <= 0) {
+			return Runtime.getRuntime().availableProcessors();
+		}
+		return configured;
+	}
+
+	/**
+	 * The references waiting to be decorated by one decoration job. In the
+	 * sharded mode references of elements that are shown by a viewer are
+	 * processed first.
+	 */
+	private static final class DecorationQueue {
+
+		final ArrayDeque<DecorationReference> visible = new ArrayDeque<>();
+
+		final LinkedHashSet<DecorationReference> offscreen = new LinkedHashSet<>();
+
+		void add(DecorationReference reference) {
+			if (reference.isVisible()) {
+				visible.add(reference);
+			} else {
+				offscreen.add(reference);
+			}
+		}
+
+		/**
+		 * Moves a queued offscreen reference to the visible queue so it is not
+		 * counted or polled twice.
+		 */
+		void moveToVisible(DecorationReference reference) {
+			offscreen.remove(reference);
+			reference.setVisible(true);
+			visible.add(reference);
+		}
+
+		DecorationReference poll() {
+			DecorationReference reference = visible.poll();
+			if (reference == null && !offscreen.isEmpty()) {
+				Iterator<DecorationReference> iterator = offscreen.iterator();
+				reference = iterator.next();
+				iterator.remove();
+			}
+			return reference;
+		}
+
+		int size() {
+			return visible.size() + offscreen.size();
+		}
 	}
 
 	/**
@@ -218,37 +320,63 @@ public class DecorationScheduler {
 	 *                        decoration occurred or not.
 	 * @param undecoratedText The original text for the element if it is known.
 	 * @param context         The decoration context
+	 * @param visible         If true the element is requested by a viewer that
+	 *                        shows it. In the sharded mode such elements are
+	 *                        decorated before the others.
 	 */
 
-	synchronized void queueForDecoration(Object element, Object adaptedElement, boolean forceUpdate,
-			String undecoratedText, IDecorationContext context) {
+	public synchronized void queueForDecoration(Object element, Object adaptedElement, boolean forceUpdate,
+			String undecoratedText, IDecorationContext context, boolean visible) {
 
 		Assert.isNotNull(context);
+		int index = queueIndex(element);
 		DecorationReference reference = awaitingDecoration.get(element);
 		if (reference != null) {
 			if (forceUpdate) {// Make sure we don't loose a force
 				reference.setForceUpdate(forceUpdate);
 			}
 			reference.addContext(context);
+			if (visible && workerCount > 1 && !reference.isVisible()) {
+				// Move it to the front
+				queues[index].moveToVisible(reference);
+			}
 		} else {
 			reference = new DecorationReference(element, adaptedElement, context);
 			reference.setForceUpdate(forceUpdate);
 			reference.setUndecoratedText(undecoratedText);
+			reference.setVisible(visible && workerCount > 1);
 			awaitingDecoration.put(element, reference);
+			queues[index].add(reference);
 			if (shutdown) {
 				return;
 			}
-			schedule();
+			decorationJobs[index].schedule();
 		}
 
 	}
 
+	/**
+	 * Return the index of the queue and job responsible for the element. All
+	 * requests for an element go to the same job so that they are processed in
+	 * order.
+	 */
+	private int queueIndex(Object element) {
+		if (workerCount == 1) {
+			return 0;
+		}
+		int hash = element.hashCode();
+		hash ^= (hash >>> 16);
+		return (hash & Integer.MAX_VALUE) % workerCount;
+	}
+
 	/*
 	 * should not be called before constructor finished. Would leak reference to
 	 * incomplete constructed DecorationScheduler.this
 	 */
 	void schedule() {
-		decorationJob.schedule();
+		for (Job decorationJob : decorationJobs) {
+			decorationJob.schedule();
+		}
 	}
 
 	/**
@@ -293,7 +421,7 @@ public class DecorationScheduler {
 		DecorationResult decoration = internalGetResult(element, context);
 
 		if (decoration == null) {
-			queueForDecoration(element, adaptedElement, false, null, context);
+			queueForDecoration(element, adaptedElement, false, null, context, true);
 			return null;
 		}
 		return decoration;
@@ -335,30 +463,37 @@ public class DecorationScheduler {
 	/**
 	 * Shutdown the decoration.
 	 */
-	synchronized void shutdown() {
+	public synchronized void shutdown() {
 		shutdown = true;
 	}
 
 	/**
-	 * Get the next resource to be decorated.
+	 * Get the next resource to be decorated from the given queue.
 	 *
 	 * @return IResource
 	 */
-	synchronized DecorationReference removeNextReference() {
-		Iterator<Entry<Object, DecorationReference>> iterator = awaitingDecoration.entrySet().iterator();
-		if (shutdown || !iterator.hasNext()) {
+	synchronized DecorationReference removeNextReference(DecorationQueue queue) {
+		if (shutdown) {
 			return null;
 		}
-		Entry<Object, DecorationReference> entry = iterator.next();
-		iterator.remove();
-		DecorationReference reference = entry.getValue();
-		return reference;
+		DecorationReference reference;
+		while ((reference = queue.poll()) != null) {
+			// Skip references that are no longer awaited
+			if (awaitingDecoration.remove(reference.getElement(), reference)) {
+				return reference;
+			}
+		}
+		return null;
+	}
+
+	private synchronized int getAwaitingCount(DecorationQueue queue) {
+		return queue.size();
 	}
 
 	/**
-	 * Create the Thread used for running decoration.
+	 * Create the Thread used for running decoration of the given queue.
 	 */
-	private Job createDecorationJob() {
+	private Job createDecorationJob(DecorationQueue queue) {
 		Job decorationJob = new Job(WorkbenchMessages.DecorationScheduler_CalculationJobName) {
 			@Override
 			public IStatus run(IProgressMonitor monitor) {
@@ -381,13 +516,13 @@ public class DecorationScheduler {
 				}
 
 				SubMonitor subMonitor = SubMonitor.convert(monitor,
-						WorkbenchMessages.DecorationScheduler_CalculatingTask, awaitingDecoration.size() + 1);
+						WorkbenchMessages.DecorationScheduler_CalculatingTask, getAwaitingCount(queue) + 1);
 				// will block if there are no resources to be decorated
 				DecorationReference reference;
 
 				boolean queued = false;
 				// for each in awaitingDecorationValues, but not locking the map during the whole iteration:
-				while ((reference = removeNextReference()) != null) {
+				while ((reference = removeNextReference(queue)) != null) {
 					subMonitor.split(1);
 					queued = true;
 					Object element = reference.getElement();
@@ -396,7 +531,7 @@ public class DecorationScheduler {
 					for (IDecorationContext context : contexts) {
 						queued |= queue(element, force, context);
 					}
-					subMonitor.setWorkRemaining(awaitingDecoration.size() + 1); // may grow asynchronously
+					subMonitor.setWorkRemaining(getAwaitingCount(queue) + 1); // may grow asynchronously
 					// Only notify listeners when we have exhausted the
 					// queue of decoration requests.
 				}
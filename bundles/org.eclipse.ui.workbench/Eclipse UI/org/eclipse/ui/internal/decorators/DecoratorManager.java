@@ -626,7 +626,6 @@ public class DecoratorManager implements ILabelProviderListener, IDecoratorManag
 	 * occur due to changes in enablement.
 	 */
 	public void clearCaches() {
-		getLightweightManager().reset();
 		fullTextRunnable.clearReferences();
 		fullImageRunnable.clearReferences();
 	}
@@ -672,7 +671,7 @@ public class DecoratorManager implements ILabelProviderListener, IDecoratorManag
 				Object adapted = getResourceAdapter(element);
 				// Force an update in case full decorators are the only ones
 				// enabled
-				scheduler.queueForDecoration(element, adapted, true, null, DecorationContext.DEFAULT_CONTEXT);
+				scheduler.queueForDecoration(element, adapted, true, null, DecorationContext.DEFAULT_CONTEXT, false);
 			}
 		}
 	}
@@ -969,7 +968,7 @@ public class DecoratorManager implements ILabelProviderListener, IDecoratorManag
 		}
 
 		// Queue the decoration.
-		scheduler.queueForDecoration(element, getResourceAdapter(element), force, originalText, context);
+		scheduler.queueForDecoration(element, getResourceAdapter(element), force, originalText, context, true);
 
 		// If we are going to force an update just let that happen later.
 		return !force;
@@ -84,7 +84,7 @@ class LightweightDecoratorDefinition extends DecoratorDefinition implements IObj
 	 * The DeclarativeDecorator is the internal decorator supplied by the decorator
 	 * definition.
 	 */
-	private ILightweightLabelDecorator decorator;
+	private volatile ILightweightLabelDecorator decorator;
 
 	private int quadrant;
 
@@ -100,10 +100,12 @@ class LightweightDecoratorDefinition extends DecoratorDefinition implements IObj
 	 * Gets the decorator and creates it if it does not exist yet. Throws a
 	 * CoreException if there is a problem creating the decorator. This method
 	 * should not be called unless a check for enabled to be true is done first.
+	 * Synchronized as the decoration jobs of a sharded DecorationScheduler may
+	 * ask for the decorator at the same time.
 	 *
 	 * @return Returns a ILabelDecorator
 	 */
-	protected ILightweightLabelDecorator internalGetDecorator() throws CoreException {
+	protected synchronized ILightweightLabelDecorator internalGetDecorator() throws CoreException {
 		if (labelProviderCreationFailed) {
 			return null;
 		}
@@ -245,16 +247,14 @@ class LightweightDecoratorDefinition extends DecoratorDefinition implements IObj
 				return;
 			}
 
-			if (isAdaptable()) {
-				String[] classes = getObjectClasses();
-				for (String className : classes) {
-					Object adapted = LegacyResourceSupport.getAdapter(element, className);
-					if (adapted != null) {
-						currentDecorator.decorate(adapted, decoration);
-					}
+			if (currentDecorator instanceof DeclarativeDecorator) {
+				decorate(currentDecorator, element, decoration);
+			} else {
+				// Contributed decorators are not required to be thread safe, so
+				// the decoration jobs of a sharded DecorationScheduler take turns
+				synchronized (this) {
+					decorate(currentDecorator, element, decoration);
 				}
-			} else if (element != null) {
-				currentDecorator.decorate(element, decoration);
 			}
 		} catch (CoreException exception) {
 			handleCoreException(exception);
@@ -262,6 +262,20 @@ class LightweightDecoratorDefinition extends DecoratorDefinition implements IObj
 
 	}
 
+	private void decorate(ILightweightLabelDecorator currentDecorator, Object element, IDecoration decoration) {
+		if (isAdaptable()) {
+			String[] classes = getObjectClasses();
+			for (String className : classes) {
+				Object adapted = LegacyResourceSupport.getAdapter(element, className);
+				if (adapted != null) {
+					currentDecorator.decorate(adapted, decoration);
+				}
+			}
+		} else if (element != null) {
+			currentDecorator.decorate(element, decoration);
+		}
+	}
+
 	/**
 	 * Returns the lightweight decorator, or <code>null</code> if not enabled.
 	 *
@@ -272,7 +286,7 @@ class LightweightDecoratorDefinition extends DecoratorDefinition implements IObj
 	}
 
 	@Override
-	protected void refreshDecorator() {
+	protected synchronized void refreshDecorator() {
 		// Only do something if disabled so as to prevent
 		// gratutitous activation
 		if (!this.enabled && decorator != null) {
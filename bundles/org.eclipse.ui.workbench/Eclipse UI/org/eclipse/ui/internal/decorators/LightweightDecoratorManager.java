@@ -117,8 +117,6 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 		}
 	}
 
-	private LightweightRunnable runnable = new LightweightRunnable();
-
 	// The lightweight definitions read from the registry
 	private LightweightDecoratorDefinition[] lightweightDefinitions;
 
@@ -271,13 +269,6 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 		return false;
 	}
 
-	/**
-	 * Reset any cached values.
-	 */
-	void reset() {
-		runnable.clearReferences();
-	}
-
 	/**
 	 * Shutdown the decorator manager by disabling all of the decorators so that
 	 * dispose() will be called on them.
@@ -311,7 +302,7 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 	/**
 	 * Get the lightweight registered for elements of this type.
 	 */
-	LightweightDecoratorDefinition[] getDecoratorsFor(Object element) {
+	synchronized LightweightDecoratorDefinition[] getDecoratorsFor(Object element) {
 
 		if (element == null) {
 			return EMPTY_LIGHTWEIGHT_DEF;
@@ -355,7 +346,9 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 	 * @param decorator  The decorator being applied.
 	 */
 	private void decorate(Object element, DecorationBuilder decoration, LightweightDecoratorDefinition decorator) {
-
+		// A runnable per call as decorations may be calculated by several
+		// workers of the DecorationScheduler at once
+		LightweightRunnable runnable = new LightweightRunnable();
 		runnable.setValues(element, decoration, decorator);
 		SafeRunner.run(runnable);
 	}
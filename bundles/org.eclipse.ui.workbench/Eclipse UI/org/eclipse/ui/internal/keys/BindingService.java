@@ -21,13 +21,19 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
 import org.eclipse.core.commands.CommandManager;
 import org.eclipse.core.commands.ParameterizedCommand;
 import org.eclipse.core.commands.common.NotDefinedException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.e4.core.commands.ECommandService;
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.di.annotations.Optional;
@@ -35,6 +41,7 @@ import org.eclipse.e4.ui.bindings.EBindingService;
 import org.eclipse.e4.ui.bindings.internal.BindingTable;
 import org.eclipse.e4.ui.bindings.internal.BindingTableManager;
 import org.eclipse.e4.ui.bindings.keys.KeyBindingDispatcher;
+import org.eclipse.e4.ui.di.UIEventTopic;
 import org.eclipse.e4.ui.model.application.MApplication;
 import org.eclipse.e4.ui.model.application.commands.MBindingContext;
 import org.eclipse.e4.ui.model.application.commands.MBindingTable;
@@ -43,6 +50,11 @@ import org.eclipse.e4.ui.model.application.commands.MCommandsFactory;
 import org.eclipse.e4.ui.model.application.commands.MKeyBinding;
 import org.eclipse.e4.ui.model.application.commands.MParameter;
 import org.eclipse.e4.ui.model.application.commands.impl.CommandsFactoryImpl;
+import org.eclipse.e4.ui.model.application.ui.basic.MPart;
+import org.eclipse.e4.ui.model.application.ui.basic.MWindow;
+import org.eclipse.e4.ui.services.IServiceConstants;
+import org.eclipse.e4.ui.workbench.UIEvents;
+import org.eclipse.e4.ui.workbench.modeling.EModelService;
 import org.eclipse.jface.bindings.Binding;
 import org.eclipse.jface.bindings.BindingManager;
 import org.eclipse.jface.bindings.IBindingManagerListener;
@@ -55,6 +67,8 @@ import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.commands.ICommandService;
 import org.eclipse.ui.internal.WorkbenchPlugin;
 import org.eclipse.ui.keys.IBindingService;
+import org.eclipse.ui.progress.UIJob;
+import org.osgi.service.event.Event;
 
 /**
  * <p>
@@ -68,6 +82,18 @@ import org.eclipse.ui.keys.IBindingService;
  */
 public final class BindingService implements IBindingService {
 
+	/**
+	 * The maximum number of context combinations whose bindings are precomputed
+	 * after a part has been activated.
+	 */
+	private static final int MAX_PRECOMPUTED_BINDINGS = 16;
+
+	/**
+	 * The delay after the activation of a part before the bindings are
+	 * precomputed, so that switching parts quickly doesn't do needless work.
+	 */
+	private static final long PRECOMPUTE_DELAY = 1000;
+
 	@Inject
 	private MApplication application;
 
@@ -90,6 +116,10 @@ public final class BindingService implements IBindingService {
 	@Optional
 	private KeyBindingDispatcher dispatcher;
 
+	@Inject
+	@Optional
+	private EModelService modelService;
+
 	private BindingPersistence bp;
 
 	private Map<String, MBindingContext> bindingContexts = new HashMap<>();
@@ -103,6 +133,14 @@ public final class BindingService implements IBindingService {
 
 	private IEclipseContext context;
 
+	/**
+	 * The part activated last, whose window is searched for the parts whose
+	 * bindings are precomputed.
+	 */
+	private MPart activePart;
+
+	private UIJob precomputeJob;
+
 	@PostConstruct
 	void init() {
 		final Scheme activeScheme = manager.getActiveScheme();
@@ -128,6 +166,71 @@ public final class BindingService implements IBindingService {
 		if (bp != null) {
 			bp.dispose();
 		}
+		if (precomputeJob != null) {
+			precomputeJob.cancel();
+		}
+	}
+
+	@Inject
+	@Optional
+	void partActivated(@UIEventTopic(UIEvents.UILifeCycle.ACTIVATE) Event event) {
+		Object element = event.getProperty(UIEvents.EventTags.ELEMENT);
+		if (!(element instanceof MPart) || modelService == null) {
+			return;
+		}
+		activePart = (MPart) element;
+		if (precomputeJob == null) {
+			precomputeJob = new UIJob("Precompute Key Bindings") { //$NON-NLS-1$
+				@Override
+				public IStatus runInUIThread(IProgressMonitor monitor) {
+					precomputeBindings(monitor);
+					return Status.OK_STATUS;
+				}
+			};
+			precomputeJob.setSystem(true);
+			precomputeJob.setPriority(Job.DECORATE);
+		}
+		precomputeJob.cancel();
+		precomputeJob.schedule(PRECOMPUTE_DELAY);
+	}
+
+	/**
+	 * Computes the bindings for the contexts which become active when one of
+	 * the other parts of the active perspective is activated, so that switching
+	 * to it doesn't have to wait for the bindings. The contexts of a part are
+	 * those that the active contexts function would compute if the part was the
+	 * active leaf.
+	 */
+	private void precomputeBindings(IProgressMonitor monitor) {
+		MPart part = activePart;
+		MWindow window = part == null ? null : modelService.getTopLevelWindowFor(part);
+		if (window == null || window.getContext() == null) {
+			return;
+		}
+		Set<Set<String>> contextIdSets = new LinkedHashSet<>();
+		List<MPart> parts = modelService.findElements(window, null, MPart.class, null,
+				EModelService.OUTSIDE_PERSPECTIVE | EModelService.IN_ACTIVE_PERSPECTIVE
+						| EModelService.IN_SHARED_AREA);
+		for (MPart candidate : parts) {
+			if (monitor.isCanceled() || contextIdSets.size() >= MAX_PRECOMPUTED_BINDINGS) {
+				break;
+			}
+			IEclipseContext partContext = candidate.getContext();
+			if (candidate == part || partContext == null) {
+				continue;
+			}
+			Object contextIds = partContext.get(IServiceConstants.ACTIVE_CONTEXTS);
+			if (contextIds instanceof Set) {
+				Set<String> ids = new HashSet<>();
+				for (Object id : (Set<?>) contextIds) {
+					ids.add((String) id);
+				}
+				contextIdSets.add(ids);
+			}
+		}
+		if (!monitor.isCanceled()) {
+			manager.precomputeBindings(contextIdSets);
+		}
 	}
 
 	@Inject
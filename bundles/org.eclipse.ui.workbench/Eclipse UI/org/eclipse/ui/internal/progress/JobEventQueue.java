@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.progress;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Queue of the changes of jobs and groups waiting to be sent to the UI, filled
+ * by any number of threads and drained by one. The changes are coalesced per
+ * element: the kinds of the changes are accumulated in a bit mask stored in the
+ * element itself, and the element is queued only when its mask was empty, so
+ * the UI sees each element at most once per drain, in its latest state.
+ * <p>
+ * Offering does not block.
+ *
+ * @param <E> the type of the elements
+ */
+public final class JobEventQueue<E> {
+	/** The element was added. */
+	public static final int ADDED = 1;
+	/** The element was changed. */
+	public static final int UPDATED = 1 << 1;
+	/** The element was removed. */
+	public static final int REMOVED = 1 << 2;
+
+	private final AtomicIntegerFieldUpdater<E> pendingEvents;
+	private final Queue<E> queue = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger size = new AtomicInteger();
+
+	/**
+	 * @param pendingEvents the updater of the {@code volatile int} field of the
+	 *                      elements holding their pending changes, used by this
+	 *                      queue only
+	 */
+	public JobEventQueue(AtomicIntegerFieldUpdater<E> pendingEvents) {
+		this.pendingEvents = pendingEvents;
+	}
+
+	/**
+	 * Adds changes of the element.
+	 *
+	 * @param element the changed element
+	 * @param events  the kinds of the changes, a combination of {@link #ADDED},
+	 *                {@link #UPDATED} and {@link #REMOVED}
+	 * @return {@code true} if the element was not already queued
+	 */
+	public boolean offer(E element, int events) {
+		int previous = pendingEvents.getAndAccumulate(element, events, (current, added) -> current | added);
+		if (previous != 0) {
+			return false;
+		}
+		queue.offer(element);
+		size.incrementAndGet();
+		return true;
+	}
+
+	/**
+	 * Removes the elements queued before the call and passes each one with the
+	 * kinds of its changes to the consumer, in the order they were first queued.
+	 * Changes offered during the call are kept for the next one. Must not be
+	 * called by several threads at the same time.
+	 *
+	 * @param consumer receives the elements and their changes
+	 */
+	public void drain(ObjIntConsumer<E> consumer) {
+		// Bound the work, so that producers cannot keep the consumer busy.
+		for (int remaining = size.get(); remaining > 0; remaining--) {
+			E element = queue.poll();
+			if (element == null) {
+				break;
+			}
+			size.decrementAndGet();
+			int events = pendingEvents.getAndSet(element, 0);
+			if (events != 0) {
+				consumer.accept(element, events);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of queued elements.
+	 */
+	public int size() {
+		return size.get();
+	}
+
+	/**
+	 * Returns whether no element is queued.
+	 */
+	public boolean isEmpty() {
+		return size.get() == 0;
+	}
+}
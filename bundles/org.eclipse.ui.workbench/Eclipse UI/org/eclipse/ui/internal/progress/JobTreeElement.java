@@ -20,6 +20,12 @@ import org.eclipse.swt.graphics.Image;
  * The JobTreeElement is the abstract superclass of items displayed in the tree.
  */
 public abstract class JobTreeElement {
+	/**
+	 * The changes of the element not yet sent to the listeners of the
+	 * {@link ProgressManager}, see {@link JobEventQueue}.
+	 */
+	volatile int pendingEvents;
+
 	/**
 	 * Returns the parent of this object.
 	 *
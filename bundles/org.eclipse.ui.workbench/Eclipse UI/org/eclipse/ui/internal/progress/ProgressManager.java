@@ -24,21 +24,22 @@ import java.lang.reflect.InvocationTargetException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
-import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Predicate;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -135,42 +136,17 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 	 */
 	public static final String BLOCKED_JOB_KEY = "LOCKED_JOB"; //$NON-NLS-1$
 
-	final Map<Job, JobMonitor> runnableMonitors = new HashMap<>();
+	final Map<Job, JobMonitor> runnableMonitors = new ConcurrentHashMap<>();
 
 	// A table that maps families to keys in the Jface image table
 	private Hashtable<Object, String> imageKeyTable = new Hashtable<>();
 
 	/**
-	 * Lock object for synchronizing updates of {@code pendingJobUpdates},
-	 * {@code pendingGroupUpdates}, {@code pendingJobRemoval},
-	 * {@code pendingGroupRemoval} and {@code pendingJobAddition}.
+	 * The jobs and groups changed since the last notification of the listeners.
+	 * Filled by any thread, drained by the UI thread.
 	 */
-	private final Object pendingUpdatesMutex = new Object();
-
-	/**
-	 * Modification guarded by {@link #pendingUpdatesMutex}.
-	 */
-	private Map<JobInfo, Set<IJobProgressManagerListener>> pendingJobUpdates = new LinkedHashMap<>();
-
-	/**
-	 * Modification guarded by {@link #pendingUpdatesMutex}.
-	 */
-	private Set<GroupInfo> pendingGroupUpdates = new LinkedHashSet<>();
-
-	/**
-	 * Modification guarded by {@link #pendingUpdatesMutex}.
-	 */
-	private Map<JobInfo, Set<IJobProgressManagerListener>> pendingJobRemoval = new LinkedHashMap<>();
-
-	/**
-	 * Modification guarded by {@link #pendingUpdatesMutex}.
-	 */
-	private Set<GroupInfo> pendingGroupRemoval = new LinkedHashSet<>();
-
-	/**
-	 * Modification guarded by {@link #pendingUpdatesMutex}.
-	 */
-	private Map<JobInfo, Set<IJobProgressManagerListener>> pendingJobAddition = new LinkedHashMap<>();
+	private final JobEventQueue<JobTreeElement> pendingEvents = new JobEventQueue<>(
+			AtomicIntegerFieldUpdater.newUpdater(JobTreeElement.class, "pendingEvents")); //$NON-NLS-1$
 
 	private static final String IMAGE_KEY = "org.eclipse.ui.progress.images"; //$NON-NLS-1$
 
@@ -360,39 +336,69 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 	 * Send pending notifications to listeners.
 	 */
 	/* Visible for testing */ public void notifyListeners() {
-		Set<GroupInfo> localPendingGroupUpdates, localPendingGroupRemoval;
-		Map<JobInfo, Set<IJobProgressManagerListener>> localPendingJobUpdates, localPendingJobAddition,
-				localPendingJobRemoval;
-		synchronized (pendingUpdatesMutex) {
-			localPendingJobUpdates = pendingJobUpdates;
-			pendingJobUpdates = new LinkedHashMap<>();
-			localPendingGroupUpdates = pendingGroupUpdates;
-			pendingGroupUpdates = new LinkedHashSet<>();
-			localPendingJobRemoval = pendingJobRemoval;
-			pendingJobRemoval = new LinkedHashMap<>();
-			localPendingGroupRemoval = pendingGroupRemoval;
-			pendingGroupRemoval = new LinkedHashSet<>();
-			localPendingJobAddition = pendingJobAddition;
-			pendingJobAddition = new LinkedHashMap<>();
+		List<JobInfo> jobAdditions = new ArrayList<>();
+		List<JobInfo> jobUpdates = new ArrayList<>();
+		List<JobInfo> jobRemovals = new ArrayList<>();
+		Set<GroupInfo> groupUpdates = new LinkedHashSet<>();
+		Set<GroupInfo> groupRemovals = new LinkedHashSet<>();
+		pendingEvents.drain((element, events) -> {
+			if (element instanceof JobInfo) {
+				JobInfo info = (JobInfo) element;
+				if ((events & JobEventQueue.ADDED) != 0) {
+					jobAdditions.add(info);
+				}
+				if ((events & JobEventQueue.UPDATED) != 0) {
+					jobUpdates.add(info);
+				}
+				if ((events & JobEventQueue.REMOVED) != 0) {
+					jobRemovals.add(info);
+				}
+			} else {
+				GroupInfo group = (GroupInfo) element;
+				if ((events & JobEventQueue.UPDATED) != 0) {
+					groupUpdates.add(group);
+				}
+				if ((events & JobEventQueue.REMOVED) != 0) {
+					groupRemovals.add(group);
+				}
+			}
+		});
+		if (listeners.isEmpty()) {
+			return;
 		}
 
-		localPendingJobAddition.entrySet().forEach(e -> e.getValue().forEach(listener -> listener.addJob(e.getKey())));
+		for (JobInfo info : jobAdditions) {
+			for (IJobProgressManagerListener listener : listeners) {
+				if (!isNeverDisplaying(info.getJob(), listener.showsDebug())) {
+					listener.addJob(info);
+				}
+			}
+		}
 
 		// Adds all non null JobInfo#getGroupInfo to the list of groups to
 		// be refreshed
-		localPendingJobUpdates.entrySet().stream().map(e -> e.getKey().getGroupInfo()).filter(Objects::nonNull)
-				.forEach(localPendingGroupUpdates::add);
+		jobUpdates.stream().map(JobInfo::getGroupInfo).filter(Objects::nonNull).forEach(groupUpdates::add);
 
-		localPendingJobUpdates.entrySet()
-				.forEach(e -> e.getValue().forEach(listener -> listener.refreshJobInfo(e.getKey())));
+		for (JobInfo info : jobUpdates) {
+			for (IJobProgressManagerListener listener : listeners) {
+				if (!isNeverDisplaying(info.getJob(), listener.showsDebug())) {
+					listener.refreshJobInfo(info);
+				}
+			}
+		}
 
 		// refresh groups
-		localPendingGroupUpdates.forEach(groupInfo -> listeners.forEach(listener -> listener.refreshGroup(groupInfo)));
+		groupUpdates.forEach(groupInfo -> listeners.forEach(listener -> listener.refreshGroup(groupInfo)));
 
-		localPendingJobRemoval.entrySet()
-				.forEach(e -> e.getValue().forEach(listener -> listener.removeJob(e.getKey())));
+		for (JobInfo info : jobRemovals) {
+			for (IJobProgressManagerListener listener : listeners) {
+				if (!isNeverDisplaying(info.getJob(), listener.showsDebug())) {
+					listener.removeJob(info);
+				}
+			}
+		}
 
-		localPendingGroupRemoval.forEach(group -> {
+		groupRemovals.forEach(group -> {
 			listeners.forEach(listener -> listener.removeGroup(group));
 		});
 	}
@@ -609,9 +615,11 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 	 * @return a monitor for the job. Might be an existing monitor for this job.
 	 */
 	public JobMonitor progressFor(Job job) {
-		synchronized (runnableMonitors) {
-			return runnableMonitors.computeIfAbsent(job, j -> new JobMonitor(j, new JobInfo(j)));
+		JobMonitor monitor = runnableMonitors.get(job);
+		if (monitor == null) {
+			monitor = runnableMonitors.computeIfAbsent(job, j -> new JobMonitor(j, new JobInfo(j)));
 		}
+		return monitor;
 	}
 
 	/**
@@ -639,11 +647,9 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 	 */
 	public void refreshJobInfo(JobInfo info) {
 		checkForStaleness(info.getJob());
-		synchronized (pendingUpdatesMutex) {
-			Predicate<IJobProgressManagerListener> predicate = listener -> !isNeverDisplaying(info.getJob(), listener.showsDebug());
-			rememberListenersForJob(info, pendingJobUpdates, predicate);
+		if (pendingEvents.offer(info, JobEventQueue.UPDATED)) {
+			uiRefreshThrottler.throttledExec();
 		}
-		uiRefreshThrottler.throttledExec();
 	}
 
 	/**
@@ -652,10 +658,9 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 	 * @param info the updated job group
 	 */
 	public void refreshGroup(GroupInfo info) {
-		synchronized (pendingUpdatesMutex) {
-			pendingGroupUpdates.add(info);
+		if (pendingEvents.offer(info, JobEventQueue.UPDATED)) {
+			uiRefreshThrottler.throttledExec();
 		}
-		uiRefreshThrottler.throttledExec();
 	}
 
 	/**
@@ -665,17 +670,12 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 	 * @return the removed job info
 	 */
 	public JobInfo removeJob(Job job) {
-		JobInfo info;
-		synchronized (runnableMonitors) {
-			info = progressFor(job).getJobInfo();
-			managedJobs.remove(job);
-			synchronized (pendingUpdatesMutex) {
-				Predicate<IJobProgressManagerListener> predicate = listener -> !isNeverDisplaying(info.getJob(), listener.showsDebug());
-				rememberListenersForJob(info, pendingJobRemoval, predicate);
-			}
-			runnableMonitors.remove(job);
+		JobMonitor monitor = runnableMonitors.remove(job);
+		JobInfo info = monitor != null ? monitor.getJobInfo() : new JobInfo(job);
+		managedJobs.remove(job);
+		if (pendingEvents.offer(info, JobEventQueue.REMOVED)) {
+			uiRefreshThrottler.throttledExec();
 		}
-		uiRefreshThrottler.throttledExec();
 		return info;
 	}
 
@@ -697,10 +697,9 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 	 * @param group GroupInfo
 	 */
 	public void removeGroup(GroupInfo group) {
-		synchronized (pendingUpdatesMutex) {
-			pendingGroupRemoval.add(group);
+		if (pendingEvents.offer(group, JobEventQueue.REMOVED)) {
+			uiRefreshThrottler.throttledExec();
 		}
-		uiRefreshThrottler.throttledExec();
 	}
 
 	/**
@@ -715,17 +714,10 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 		}
 
 		managedJobs.add(info.getJob());
-		synchronized (pendingUpdatesMutex) {
-			Predicate<IJobProgressManagerListener> predicate = listener -> !isCurrentDisplaying(info.getJob(), listener.showsDebug());
-			rememberListenersForJob(info, pendingJobAddition, predicate);
+		// Sleeping jobs are not displayed until they wake up
+		if (info.getJob().getState() != Job.SLEEPING && pendingEvents.offer(info, JobEventQueue.ADDED)) {
+			uiRefreshThrottler.throttledExec();
 		}
-		uiRefreshThrottler.throttledExec();
-	}
-
-	private void rememberListenersForJob(JobInfo info, Map<JobInfo, Set<IJobProgressManagerListener>> listenersMap, Predicate<IJobProgressManagerListener> predicate) {
-		Set<IJobProgressManagerListener> localListeners = listenersMap.computeIfAbsent(info,
-				k -> new LinkedHashSet<>());
-		listeners.stream().filter(predicate).forEach(localListeners::add);
 	}
 
 	/**
@@ -45,6 +45,7 @@ public class EvaluationReference extends RunAndTrack implements IEvaluationRefer
 	boolean participating = true;
 	boolean postingChanges = true;
 	boolean hasRun = false;
+	MemoizingExpressionEvaluator evaluator;
 	static LogThrottle logThrottle = new LogThrottle(THROTTLE_MAX, THROTTLE_VALUE);
 
 	public EvaluationReference(IEclipseContext context, Expression expression, IPropertyChangeListener listener,
@@ -78,17 +79,29 @@ public class EvaluationReference extends RunAndTrack implements IEvaluationRefer
 			try {
 				cache = expression.evaluate(context) != EvaluationResult.FALSE;
 			} catch (CoreException e) {
-				String message = "Failed to evaluate: " + expression; //$NON-NLS-1$
-				boolean logged = logThrottle.log(ERROR.ordinal(), message, e);
-				if (!logged && Policy.DEBUG_CMDS) {
-					Activator.trace(Policy.DEBUG_CMDS_FLAG, message, e);
-				}
+				logEvaluationFailure(e);
 				return false;
 			}
 		}
 		return cache;
 	}
 
+	private void evaluateMemoized() {
+		try {
+			cache = evaluator.evaluate(expression, new ExpressionContext(context)) != EvaluationResult.FALSE;
+		} catch (CoreException e) {
+			logEvaluationFailure(e);
+		}
+	}
+
+	private void logEvaluationFailure(CoreException e) {
+		String message = "Failed to evaluate: " + expression; //$NON-NLS-1$
+		boolean logged = logThrottle.log(ERROR.ordinal(), message, e);
+		if (!logged && Policy.DEBUG_CMDS) {
+			Activator.trace(Policy.DEBUG_CMDS_FLAG, message, e);
+		}
+	}
+
 	@Override
 	public void setResult(boolean result) {
 		cache = result;
@@ -106,7 +119,11 @@ public class EvaluationReference extends RunAndTrack implements IEvaluationRefer
 
 	public void evaluate() {
 		boolean value = cache;
-		evaluate(new ExpressionContext(context));
+		if (evaluator != null && expression != null) {
+			evaluateMemoized();
+		} else {
+			evaluate(new ExpressionContext(context));
+		}
 		if (!postingChanges) {
 			return;
 		}
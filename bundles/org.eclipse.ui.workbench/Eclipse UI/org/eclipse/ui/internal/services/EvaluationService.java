@@ -65,11 +65,14 @@ public final class EvaluationService implements IEvaluationService {
 	LinkedList<EvaluationReference> refs = new LinkedList<>();
 	private ISourceProviderListener contextUpdater;
 
+	private final MemoizingExpressionEvaluator evaluator = new MemoizingExpressionEvaluator();
+
 	private HashSet<String> ratVariables = new HashSet<>();
 	private RunAndTrack ratUpdater = new RunAndTrack() {
 		@Override
 		public boolean changed(IEclipseContext context) {
 			context.get(RE_EVAL);
+			evaluator.startSourceChange();
 			String[] vars = ratVariables.toArray(new String[ratVariables.size()]);
 			for (String var : vars) {
 				Object value = context.getActive(var);
@@ -193,6 +196,7 @@ public final class EvaluationService implements IEvaluationService {
 			invalidate(ref, false);
 		}
 		refs.clear();
+		evaluator.clear();
 		serviceListeners.clear();
 	}
 
@@ -235,6 +239,10 @@ public final class EvaluationService implements IEvaluationService {
 		if (changed) {
 			contextEvaluate();
 		}
+		if (eref.getExpression() != null && eref.evaluator == null) {
+			evaluator.addReference(eref.getExpression());
+			eref.evaluator = evaluator;
+		}
 		eref.participating = true;
 		ratContext.runAndTrack(eref);
 	}
@@ -247,6 +255,10 @@ public final class EvaluationService implements IEvaluationService {
 		eref.participating = false;
 		eref.evaluate();
 		eref.hasRun = false;
+		if (eref.evaluator != null) {
+			evaluator.removeReference(eref.getExpression());
+			eref.evaluator = null;
+		}
 		contextEvaluate();
 	}
 
@@ -268,6 +280,8 @@ public final class EvaluationService implements IEvaluationService {
 		context.set(pokeVar, "link"); //$NON-NLS-1$
 
 		startSourceChange();
+		evaluator.startSourceChange();
+		evaluator.invalidate(propertyName);
 		for (EvaluationReference ref : refs) {
 			Expression expr = ref.getExpression();
 			if (expr != null) {
@@ -328,6 +342,27 @@ public final class EvaluationService implements IEvaluationService {
 		}
 	}
 
+	/**
+	 * Hook for testing and diagnostics.
+	 *
+	 * @return the number of expressions of evaluation references that have been
+	 *         evaluated
+	 */
+	public long getEvaluationsPerformed() {
+		return evaluator.getEvaluationsPerformed();
+	}
+
+	/**
+	 * Hook for testing and diagnostics.
+	 *
+	 * @return the number of evaluations of evaluation references that have been
+	 *         skipped because the result of an equal expression with the same
+	 *         inputs could be reused
+	 */
+	public long getEvaluationsSkipped() {
+		return evaluator.getEvaluationsSkipped();
+	}
+
 	IEventBroker getEventBroker() {
 		if (eventBroker == null) {
 			eventBroker = context.get(IEventBroker.class);
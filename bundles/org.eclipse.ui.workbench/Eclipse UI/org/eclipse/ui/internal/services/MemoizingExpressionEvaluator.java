@@ -0,0 +1,270 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.ui.internal.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.core.commands.util.Tracing;
+import org.eclipse.core.expressions.EvaluationResult;
+import org.eclipse.core.expressions.Expression;
+import org.eclipse.core.expressions.ExpressionInfo;
+import org.eclipse.core.expressions.IEvaluationContext;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.ui.internal.misc.Policy;
+
+/**
+ * Evaluates the expressions of the {@link EvaluationReference}s of an
+ * {@link EvaluationService}, remembering for each expression its result and
+ * the variables it has read. Structurally equal expressions share one result.
+ * <p>
+ * A result is reused as long as the variables read by the evaluation still
+ * have equal values. Reading them again to compare also keeps them tracked by
+ * the <code>RunAndTrack</code> of the reference. Expressions that use property
+ * testers may depend on more than their variables, so their results are only
+ * reused within one source change, and are dropped when the evaluation of one
+ * of their properties is requested or a reference with an equal expression is
+ * added.
+ * </p>
+ */
+final class MemoizingExpressionEvaluator {
+
+	private static final String TRACING_COMPONENT = "SOURCES"; //$NON-NLS-1$
+
+	private static final String[] NO_PROPERTIES = new String[0];
+
+	/**
+	 * The evaluation result of one expression, shared by all references with an
+	 * equal expression.
+	 */
+	private static final class Memo {
+		int references;
+		/**
+		 * The accessed property names, empty if the expression only depends on
+		 * its variables.
+		 */
+		final String[] properties;
+		final boolean dependsOnVariablesOnly;
+		EvaluationResult result;
+		/**
+		 * The names of the variables read, <code>null</code> for the default
+		 * variable.
+		 */
+		String[] names;
+		Object[] values;
+		int sourceChange;
+
+		Memo(Expression expression) {
+			ExpressionInfo info = expression.computeExpressionInfo();
+			String[] accessedProperties = info.getAccessedPropertyNames();
+			properties = accessedProperties == null ? NO_PROPERTIES : accessedProperties;
+			Class<?>[] misbehaving = info.getMisbehavingExpressionTypes();
+			dependsOnVariablesOnly = properties.length == 0 && (misbehaving == null || misbehaving.length == 0);
+		}
+
+		boolean isValid(IEvaluationContext context) {
+			if (result == null) {
+				return false;
+			}
+			for (int i = 0; i < names.length; i++) {
+				Object value = names[i] == null ? context.getDefaultVariable() : context.getVariable(names[i]);
+				if (!Objects.equals(value, values[i])) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Passes everything on to the context of the evaluation, recording the
+	 * variables read.
+	 */
+	private static final class RecordingContext implements IEvaluationContext {
+		private final IEvaluationContext context;
+		final List<String> names = new ArrayList<>();
+		final List<Object> values = new ArrayList<>();
+		boolean cacheable = true;
+
+		RecordingContext(IEvaluationContext context) {
+			this.context = context;
+		}
+
+		@Override
+		public IEvaluationContext getParent() {
+			return null;
+		}
+
+		@Override
+		public IEvaluationContext getRoot() {
+			return this;
+		}
+
+		@Override
+		public void setAllowPluginActivation(boolean value) {
+			context.setAllowPluginActivation(value);
+		}
+
+		@Override
+		public boolean getAllowPluginActivation() {
+			return context.getAllowPluginActivation();
+		}
+
+		@Override
+		public Object getDefaultVariable() {
+			Object value = context.getDefaultVariable();
+			names.add(null);
+			values.add(value);
+			return value;
+		}
+
+		@Override
+		public void addVariable(String name, Object value) {
+			cacheable = false;
+			context.addVariable(name, value);
+		}
+
+		@Override
+		public Object removeVariable(String name) {
+			cacheable = false;
+			return context.removeVariable(name);
+		}
+
+		@Override
+		public Object getVariable(String name) {
+			Object value = context.getVariable(name);
+			names.add(name);
+			values.add(value);
+			return value;
+		}
+
+		@Override
+		public Object resolveVariable(String name, Object[] args) throws CoreException {
+			cacheable = false;
+			return context.resolveVariable(name, args);
+		}
+	}
+
+	private final Map<Expression, Memo> memos = new HashMap<>();
+
+	private int sourceChange;
+
+	private int performed;
+
+	private int skipped;
+
+	private long totalPerformed;
+
+	private long totalSkipped;
+
+	/**
+	 * Starts to remember the results of the expression of a reference. A result
+	 * that may depend on property testers is dropped, as the properties may
+	 * have changed without a source change since it was computed.
+	 */
+	void addReference(Expression expression) {
+		Memo memo = memos.computeIfAbsent(expression, Memo::new);
+		memo.references++;
+		if (!memo.dependsOnVariablesOnly) {
+			memo.result = null;
+		}
+	}
+
+	/**
+	 * Forgets the results of the expression once no reference uses it anymore.
+	 */
+	void removeReference(Expression expression) {
+		Memo memo = memos.get(expression);
+		if (memo != null && --memo.references <= 0) {
+			memos.remove(expression);
+		}
+	}
+
+	/**
+	 * Evaluates the expression, or returns the result of an earlier evaluation
+	 * of an equal expression if the variables it has read are unchanged.
+	 */
+	EvaluationResult evaluate(Expression expression, IEvaluationContext context) throws CoreException {
+		Memo memo = memos.get(expression);
+		if (memo != null && (memo.dependsOnVariablesOnly || memo.sourceChange == sourceChange)
+				&& memo.isValid(context)) {
+			skipped++;
+			totalSkipped++;
+			return memo.result;
+		}
+		RecordingContext recorder = new RecordingContext(context);
+		EvaluationResult result = expression.evaluate(recorder);
+		performed++;
+		totalPerformed++;
+		if (memo != null) {
+			if (recorder.cacheable) {
+				memo.result = result;
+				memo.names = recorder.names.toArray(new String[recorder.names.size()]);
+				memo.values = recorder.values.toArray();
+				memo.sourceChange = sourceChange;
+			} else {
+				memo.result = null;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Marks the start of a source change, after which results that may depend on
+	 * property testers are evaluated again.
+	 */
+	void startSourceChange() {
+		if (Policy.DEBUG_SOURCES && performed + skipped > 0) {
+			Tracing.printTrace(TRACING_COMPONENT,
+					"expressions evaluated: " + performed + ", skipped: " + skipped); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		performed = 0;
+		skipped = 0;
+		sourceChange++;
+	}
+
+	/**
+	 * Forgets the results of the expressions that access the property or read
+	 * the variable of that name.
+	 */
+	void invalidate(String propertyName) {
+		for (Memo memo : memos.values()) {
+			if (memo.result != null && (Arrays.asList(memo.properties).contains(propertyName)
+					|| Arrays.asList(memo.names).contains(propertyName))) {
+				memo.result = null;
+			}
+		}
+	}
+
+	void clear() {
+		memos.clear();
+	}
+
+	/**
+	 * @return the number of expressions evaluated since the service was created
+	 */
+	long getEvaluationsPerformed() {
+		return totalPerformed;
+	}
+
+	/**
+	 * @return the number of evaluations skipped since the service was created
+	 *         because an earlier result could be reused
+	 */
+	long getEvaluationsSkipped() {
+		return totalSkipped;
+	}
+}
@@ -17,6 +17,7 @@
 package org.eclipse.e4.ui.tests.css.core.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -26,7 +27,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.e4.ui.css.core.impl.dom.DocumentCSSImpl;
 import org.eclipse.e4.ui.css.core.impl.dom.ViewCSSImpl;
@@ -36,10 +39,13 @@ import org.eclipse.e4.ui.tests.css.core.util.TestElement;
 import org.eclipse.swt.widgets.Display;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.w3c.dom.Element;
 import org.w3c.dom.css.CSSRule;
 import org.w3c.dom.css.CSSStyleDeclaration;
 import org.w3c.dom.css.CSSStyleSheet;
+import org.w3c.dom.css.DocumentCSS;
 import org.w3c.dom.css.ViewCSS;
+import org.w3c.dom.stylesheets.StyleSheetList;
 
 public class ViewCSSTest {
 
@@ -120,6 +126,118 @@ public class ViewCSSTest {
 		assertEquals("color: blue;", buttonStyle.getCssText());
 	}
 
+	@Test
+	void testGetComputedStyleAcrossSelectorKinds() throws Exception {
+		// Rules with the same specificity from different kinds of selectors, the
+		// last matching one in the stylesheet has to win
+		String css = ".special { color: red; }\n" + "* { color: black; }\n" + "Button.special { color: green; }\n"
+				+ "Button { background-color: white; }\n" + "#myId.other { color: blue; }\n"
+				+ "Label.special { color: yellow; }\n";
+		ViewCSS viewCSS = createViewCss(css);
+
+		TestElement button = new TestElement("Button", engine);
+		button.setClass("first special");
+		CSSStyleDeclaration buttonStyle = viewCSS.getComputedStyle(button, null);
+		assertNotNull(buttonStyle);
+		assertEquals("green", buttonStyle.getPropertyCSSValue("color").getCssText());
+		assertEquals("white", buttonStyle.getPropertyCSSValue("background-color").getCssText());
+
+		TestElement label = new TestElement("Label", engine);
+		label.setId("myId");
+		label.setClass("other");
+		CSSStyleDeclaration labelStyle = viewCSS.getComputedStyle(label, null);
+		assertNotNull(labelStyle);
+		assertEquals("blue", labelStyle.getPropertyCSSValue("color").getCssText());
+
+		TestElement other = new TestElement("Label", engine);
+		other.setClass("specialist");
+		CSSStyleDeclaration otherStyle = viewCSS.getComputedStyle(other, null);
+		assertNotNull(otherStyle);
+		assertEquals("black", otherStyle.getPropertyCSSValue("color").getCssText());
+	}
+
+	@Test
+	void testComputedStyleKey() throws Exception {
+		String css = "Button { color: blue; }\n" + "Button.special { color: green; }\n"
+				+ "Shell Label { color: red; }\n";
+		CSSStyleSheet styleSheet = ParserTestUtil.parseCss(css);
+		DocumentCSSImpl docCss = new DocumentCSSImpl();
+		docCss.addStyleSheet(styleSheet);
+		ViewCSSImpl viewCSS = new ViewCSSImpl(docCss);
+
+		TestElement shell = new TestElement("Shell", engine);
+		TestElement button1 = new TestElement("Button", shell, engine);
+		button1.setClass("special");
+		TestElement button2 = new TestElement("Button", engine);
+		button2.setClass("special");
+		TestElement button3 = new TestElement("Button", engine);
+
+		assertNotNull(viewCSS.getComputedStyleKey(button1, null));
+		assertEquals(viewCSS.getComputedStyleKey(button1, null), viewCSS.getComputedStyleKey(button2, null));
+		assertNotEquals(viewCSS.getComputedStyleKey(button1, null), viewCSS.getComputedStyleKey(button3, null));
+
+		// the style of a label depends on its parents
+		TestElement label = new TestElement("Label", shell, engine);
+		assertNull(viewCSS.getComputedStyleKey(label, null));
+	}
+
+	@Test
+	void testComputedStyleCache() throws Exception {
+		String css = "Button { color: blue; }\n" + "Button.special { color: green; }\n"
+				+ "Shell Label { color: red; }\n";
+		ViewCSSImpl viewCSS = (ViewCSSImpl) createViewCss(css);
+		Map<Object, CSSStyleDeclaration> styleCache = new HashMap<>();
+
+		TestElement button1 = new TestElement("Button", engine);
+		button1.setClass("special");
+		TestElement button2 = new TestElement("Button", engine);
+		button2.setClass("special");
+		CSSStyleDeclaration style = viewCSS.getComputedStyle(button1, null, styleCache);
+		assertEquals("green", style.getPropertyCSSValue("color").getCssText());
+		assertEquals(1, styleCache.size());
+		assertSame(style, viewCSS.getComputedStyle(button2, null, styleCache));
+
+		// the style of a label depends on its parents and is not cached
+		TestElement shell = new TestElement("Shell", engine);
+		TestElement label = new TestElement("Label", shell, engine);
+		assertEquals("red", viewCSS.getComputedStyle(label, null, styleCache).getPropertyCSSValue("color").getCssText());
+		assertEquals(1, styleCache.size());
+	}
+
+	@Test
+	void testRuleIndexWithoutRuleCaching() throws Exception {
+		DocumentCSSImpl docCss = new DocumentCSSImpl();
+		docCss.addStyleSheet(ParserTestUtil.parseCss("Button { color: blue; }\n"));
+		// a DocumentCSS that does not notify about stylesheet changes
+		DocumentCSS plainDocCss = new DocumentCSS() {
+			@Override
+			public StyleSheetList getStyleSheets() {
+				return docCss.getStyleSheets();
+			}
+
+			@Override
+			public CSSStyleDeclaration getOverrideStyle(Element elt, String pseudoElt) {
+				return null;
+			}
+		};
+		ViewCSSImpl viewCSS = new ViewCSSImpl(plainDocCss);
+		Field ruleIndexField = ViewCSSImpl.class.getDeclaredField("currentRuleIndex");
+		ruleIndexField.setAccessible(true);
+
+		TestElement button = new TestElement("Button", engine);
+		assertEquals("blue", viewCSS.getComputedStyle(button, null).getPropertyCSSValue("color").getCssText());
+		Object ruleIndex = ruleIndexField.get(viewCSS);
+		assertNotNull(ruleIndex);
+		viewCSS.getComputedStyleKey(button, null);
+		viewCSS.getComputedStyle(button, null);
+		assertSame(ruleIndex, ruleIndexField.get(viewCSS));
+
+		// the index is rebuilt when the rules change
+		docCss.addStyleSheet(ParserTestUtil.parseCss("Button { color: green; }\n"));
+		assertEquals("green", viewCSS.getComputedStyle(button, null).getPropertyCSSValue("color").getCssText());
+		assertNotSame(ruleIndex, ruleIndexField.get(viewCSS));
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	void testRuleCaching() throws Exception {
@@ -253,6 +253,40 @@ public class EModelServiceFindTest {
 		assertEquals(badIdAndTypeAndTags.size(), 0);
 	}
 
+	@Test
+	public void testFindElementsAfterModelChanges() {
+		MApplication application = createApplication();
+
+		EModelService modelService = application.getContext().get(EModelService.class);
+		assertNotNull(modelService);
+
+		MPart part = modelService.findElements(application, "twoValidIds", MPart.class).get(0);
+		assertNull(modelService.find("renamedId", application));
+
+		part.setElementId("renamedId");
+		assertSame(part, modelService.find("renamedId", application));
+		assertEquals(1, modelService.findElements(application, "twoValidIds", null).size());
+
+		List<String> tags = new ArrayList<>();
+		tags.add("addedTag");
+		assertEquals(0, modelService.findElements(application, null, null, tags).size());
+		part.getTags().add("addedTag");
+		assertEquals(1, modelService.findElements(application, null, null, tags).size());
+		part.getTags().remove("addedTag");
+		assertEquals(0, modelService.findElements(application, null, null, tags).size());
+
+		MWindow window = modelService.createModelElement(MWindow.class);
+		application.getChildren().add(window);
+		MPartStack stack = modelService.createModelElement(MPartStack.class);
+		window.getChildren().add(stack);
+		stack.getChildren().add(part);
+		assertSame(part, modelService.find("renamedId", window));
+		assertEquals(1, modelService.findElements(application, "renamedId", null).size());
+
+		stack.getChildren().remove(part);
+		assertNull(modelService.find("renamedId", application));
+	}
+
 	@Test
 	public void testFindElements_NullCheck() {
 		MApplication application = createApplication();
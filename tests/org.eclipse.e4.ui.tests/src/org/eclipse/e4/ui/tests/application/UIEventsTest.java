@@ -14,6 +14,7 @@
 
 package org.eclipse.e4.ui.tests.application;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -46,6 +47,7 @@ import org.eclipse.e4.ui.workbench.UIEvents.UILabel;
 import org.eclipse.e4.ui.workbench.UIEvents.Window;
 import org.eclipse.emf.common.notify.Notifier;
 import org.junit.Test;
+import org.osgi.service.event.Event;
 import org.osgi.service.event.EventHandler;
 
 public class UIEventsTest extends HeadlessApplicationElementTest {
@@ -343,6 +345,44 @@ public class UIEventsTest extends HeadlessApplicationElementTest {
 		assertFalse(seen[0]);
 	}
 
+	@Test
+	public void testBatchedEvents() {
+		IEventBroker eventBroker = rule.getApplicationContext().get(IEventBroker.class);
+		MTestHarness allData = MTestFactory.eINSTANCE.createTestHarness();
+		allData.setElementId("first");
+		final UIEventPublisher ep = new UIEventPublisher(rule.getApplicationContext());
+		((Notifier) allData).eAdapters().add(ep);
+
+		List<Event> events = new ArrayList<>();
+		EventHandler handler = events::add;
+		eventBroker.subscribe(ApplicationElement.TOPIC_ALL, handler);
+		try {
+			ep.runBatched(() -> {
+				allData.setElementId("second");
+				allData.getTags().add("Testing");
+				ep.runBatched(() -> allData.setElementId("third"));
+				allData.getPersistedState().put("key", "value");
+				assertTrue("events sent within the batch", events.isEmpty());
+			});
+
+			assertEquals(3, events.size());
+			Event tagsEvent = events.get(0);
+			assertEquals(ApplicationElement.TAGS, tagsEvent.getProperty(EventTags.ATTNAME));
+			Event idEvent = events.get(1);
+			assertEquals(ApplicationElement.ELEMENTID, idEvent.getProperty(EventTags.ATTNAME));
+			assertEquals("first", idEvent.getProperty(EventTags.OLD_VALUE));
+			assertEquals("third", idEvent.getProperty(EventTags.NEW_VALUE));
+			assertEquals(ApplicationElement.PERSISTEDSTATE, events.get(2).getProperty(EventTags.ATTNAME));
+
+			// outside of a batch the events are sent immediately again
+			events.clear();
+			allData.setElementId("fourth");
+			assertEquals(1, events.size());
+		} finally {
+			eventBroker.unsubscribe(handler);
+		}
+	}
+
 	/**
 	 * @param allTesters
 	 * @param tester
@@ -17,8 +17,12 @@
 package org.eclipse.e4.ui.tests.workbench;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayDeque;
@@ -62,13 +66,16 @@ import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.URIConverter;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.equinox.log.ExtendedLogReaderService;
 import org.eclipse.equinox.log.LogFilter;
 import org.eclipse.swt.widgets.Display;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Ignore;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.osgi.service.log.LogEntry;
 import org.osgi.service.log.LogListener;
 
@@ -89,6 +96,9 @@ public class ModelAssemblerTests {
 	private ArrayDeque<String> logMessages;
 	private ModelAssemblerTestLogListener logListener;
 
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
 	class ModelAssemblerTestLogListener implements LogListener {
 
 		CountDownLatch countDownLatch;
@@ -394,6 +404,95 @@ public class ModelAssemblerTests {
 		assertEquals(0, logMessages.size());
 	}
 
+	/**
+	 * Tests that the fragments merged into a persisted model are not merged again
+	 * on the next start if neither they nor their elements changed, and that the
+	 * model is the same as after a full merge.
+	 */
+	@Test
+	public void testFragments_cachedMergedModel() throws Exception {
+		setUpPersistedModelProcessingOrder();
+		assembler.processModel(false);
+		MPlaceholder placeholder = (MPlaceholder) modelService.find("testModelProcessingOrder-placeholder", application);
+		assertNotNull(placeholder);
+		assertNotNull(application.getPersistedState().get("modelFragmentsDigest"));
+
+		restart();
+		assembler.processModel(false);
+		assertSame(placeholder, modelService.find("testModelProcessingOrder-placeholder", application));
+		EObject cachedModel = EcoreUtil.copy((EObject) application);
+
+		// a full merge
+		application.getPersistedState().remove("modelFragmentsDigest");
+		restart();
+		assembler.processModel(false);
+		assertTrue("The cached model differs from the merged one", EcoreUtil.equals(cachedModel, (EObject) application));
+		assertEquals(0, logMessages.size());
+	}
+
+	/**
+	 * Tests that the fragments are merged again if an element they contributed
+	 * was changed in the persisted model, as a full merge replaces it.
+	 */
+	@Test
+	public void testFragments_cachedMergedModel_elementChanged() throws Exception {
+		setUpPersistedModelProcessingOrder();
+		assembler.processModel(false);
+		MPlaceholder placeholder = (MPlaceholder) modelService.find("testModelProcessingOrder-placeholder", application);
+		placeholder.getTags().add("testFragments_cachedMergedModel_elementChanged");
+
+		restart();
+		assembler.processModel(false);
+		MPlaceholder merged = (MPlaceholder) modelService.find("testModelProcessingOrder-placeholder", application);
+		assertNotSame(placeholder, merged);
+		assertTrue(merged.getTags().isEmpty());
+		assertSame(modelService.find("testModelProcessingOrder-part", application), merged.getRef());
+		assertEquals(0, logMessages.size());
+	}
+
+	/**
+	 * Tests that the fragments are merged again if an element they contributed is
+	 * missing from the persisted model.
+	 */
+	@Test
+	public void testFragments_cachedMergedModel_elementRemoved() throws Exception {
+		setUpPersistedModelProcessingOrder();
+		assembler.processModel(false);
+		MPlaceholder placeholder = (MPlaceholder) modelService.find("testModelProcessingOrder-placeholder", application);
+		placeholder.getParent().getChildren().remove(placeholder);
+
+		restart();
+		assembler.processModel(false);
+		assertNotNull(modelService.find("testModelProcessingOrder-placeholder", application));
+		assertEquals(0, logMessages.size());
+	}
+
+	private void setUpPersistedModelProcessingOrder() throws IOException {
+		appResource.setURI(URI.createFileURI(new File(temporaryFolder.getRoot(), "workbench.xmi").getAbsolutePath()));
+		MTrimmedWindow trimmedWindow = modelService.createModelElement(MTrimmedWindow.class);
+		trimmedWindow.setElementId("testModelProcessingOrder-trimmedWindow");
+		application.getChildren().add(trimmedWindow);
+		MPart part = modelService.createModelElement(MPart.class);
+		part.setElementId("testModelProcessingOrder-part");
+		trimmedWindow.getChildren().add(part);
+		MArea area = modelService.createModelElement(MArea.class);
+		area.setElementId("testModelProcessingOrder-area");
+		trimmedWindow.getChildren().add(area);
+
+		IContributor contributor = ContributorFactorySimple.createContributor(BUNDLE_SYMBOLIC_NAME);
+		IExtensionRegistry registry = createTestExtensionRegistry();
+		assembler.setExtensionRegistry(registry);
+		String dataFilePath = "org.eclipse.e4.ui.tests/data/ModelAssembler/modelProcessingOrder.xml";
+		registry.addContribution(getContentsAsInputStream(dataFilePath), contributor, false, null, null, null);
+	}
+
+	/**
+	 * Drops the loaded fragments, as a restart with the persisted model would.
+	 */
+	private void restart() {
+		resourceSet.getResources().retainAll(List.of(appResource));
+	}
+
 	/**
 	 * Tests that pre-processors running from a non-persisted state that are
 	 * marked as "always" are executed.
@@ -23,10 +23,15 @@ import static org.junit.Assert.assertTrue;
 import java.util.Arrays;
 import java.util.List;
 import javax.inject.Inject;
+import org.eclipse.core.commands.AbstractHandler;
+import org.eclipse.core.commands.Command;
+import org.eclipse.core.commands.ExecutionEvent;
 import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.commands.MCommand;
 import org.eclipse.e4.ui.model.application.ui.basic.MTrimBar;
 import org.eclipse.e4.ui.model.application.ui.basic.MTrimmedWindow;
 import org.eclipse.e4.ui.model.application.ui.menu.MDirectToolItem;
+import org.eclipse.e4.ui.model.application.ui.menu.MHandledToolItem;
 import org.eclipse.e4.ui.model.application.ui.menu.MToolBar;
 import org.eclipse.e4.ui.model.application.ui.menu.MToolItem;
 import org.eclipse.e4.ui.tests.rules.WorkbenchContextRule;
@@ -439,6 +444,89 @@ public class ToolBarManagerRendererTest {
 		assertEquals(2, toolBar.getChildren().size());
 	}
 
+	@Test
+	public void testToolItemUpdater_CommandIndex() {
+		MCommand command = ems.createModelElement(MCommand.class);
+		command.setElementId("toolItemUpdaterTest.command");
+		application.getCommands().add(command);
+
+		MHandledToolItem handledItem = ems.createModelElement(MHandledToolItem.class);
+		handledItem.setCommand(command);
+		toolBar.getChildren().add(handledItem);
+		toolBar.getChildren().add(ems.createModelElement(MDirectToolItem.class));
+
+		contextRule.createAndRunWorkbench(window);
+		ToolItemUpdater updater = getToolBarManagerRenderer().getUpdater();
+
+		long checked = updater.getCheckedItemCount();
+		updater.updateContributionItems("toolItemUpdaterTest.command");
+		assertEquals(1, updater.getCheckedItemCount() - checked);
+
+		checked = updater.getCheckedItemCount();
+		updater.updateContributionItems(e -> true);
+		assertEquals(2, updater.getCheckedItemCount() - checked);
+		updater.run();
+		assertEquals(2, updater.getLastEvaluatedItemCount());
+
+		// a handler change only updates the items of the command
+		Command wbCommand = handledItem.getWbCommand().getCommand();
+		checked = updater.getCheckedItemCount();
+		wbCommand.setHandler(new AbstractHandler() {
+			@Override
+			public Object execute(ExecutionEvent event) {
+				return null;
+			}
+		});
+		wbCommand.setHandler(null);
+		assertEquals(2, updater.getCheckedItemCount() - checked);
+		updater.run();
+		assertEquals(1, updater.getLastEvaluatedItemCount());
+
+		// items are no longer updated after they have been removed
+		handledItem.setToBeRendered(false);
+		checked = updater.getCheckedItemCount();
+		updater.updateContributionItems("toolItemUpdaterTest.command");
+		assertEquals(0, updater.getCheckedItemCount() - checked);
+	}
+
+	@Test
+	public void testToolItemUpdater_UpdateAll() {
+		MCommand command = ems.createModelElement(MCommand.class);
+		command.setElementId("toolItemUpdaterTest.command");
+		application.getCommands().add(command);
+		MCommand otherCommand = ems.createModelElement(MCommand.class);
+		otherCommand.setElementId("toolItemUpdaterTest.otherCommand");
+		application.getCommands().add(otherCommand);
+
+		MHandledToolItem handledItem = ems.createModelElement(MHandledToolItem.class);
+		handledItem.setCommand(command);
+		toolBar.getChildren().add(handledItem);
+		MHandledToolItem otherItem = ems.createModelElement(MHandledToolItem.class);
+		otherItem.setCommand(otherCommand);
+		toolBar.getChildren().add(otherItem);
+		toolBar.getChildren().add(ems.createModelElement(MDirectToolItem.class));
+
+		contextRule.createAndRunWorkbench(window);
+		ToolItemUpdater updater = getToolBarManagerRenderer().getUpdater();
+		updater.updateAllContributionItems();
+		updater.run();
+
+		// the commands did not change, so only the item without command is updated
+		long checked = updater.getCheckedItemCount();
+		updater.updateAllContributionItems();
+		assertEquals(1, updater.getCheckedItemCount() - checked);
+		updater.run();
+		assertEquals(1, updater.getLastEvaluatedItemCount());
+
+		// the item is indexed by its new command
+		handledItem.setWbCommand(otherItem.getWbCommand());
+		checked = updater.getCheckedItemCount();
+		updater.updateContributionItems("toolItemUpdaterTest.command");
+		assertEquals(0, updater.getCheckedItemCount() - checked);
+		updater.updateContributionItems("toolItemUpdaterTest.otherCommand");
+		assertEquals(2, updater.getCheckedItemCount() - checked);
+	}
+
 	private ToolBarManagerRenderer getToolBarManagerRenderer() {
 		Object renderer = toolBar.getRenderer();
 		assertEquals(ToolBarManagerRenderer.class, renderer.getClass());
@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.core.tests.internal.databinding.observable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.list.ListDiff;
+import org.eclipse.core.databinding.observable.list.ListDiffEntry;
+import org.eclipse.core.databinding.observable.list.ListDiffVisitor;
+import org.eclipse.core.internal.databinding.observable.ListDiffer;
+import org.junit.Test;
+
+public class ListDifferTest {
+
+	@Test
+	public void testEmpty() {
+		assertEquals(0, ListDiffer.computeDifferences(Collections.emptyList(), Collections.emptyList()).size());
+	}
+
+	@Test
+	public void testEqualLists() {
+		List<Integer> list = range(0, 1000);
+		assertEquals(0, ListDiffer.computeDifferences(list, new ArrayList<>(list)).size());
+	}
+
+	@Test
+	public void testSingleMove() {
+		List<ListDiffEntry<String>> entries = checkDifferences(Arrays.asList("a", "b", "c", "d"),
+				Arrays.asList("d", "a", "b", "c"));
+		assertEquals(2, entries.size());
+		assertEntry(entries.get(0), false, 3, "d");
+		assertEntry(entries.get(1), true, 0, "d");
+	}
+
+	@Test
+	public void testMoveIsReportedToVisitor() {
+		List<String> oldList = Arrays.asList("a", "b", "c");
+		List<String> newList = Arrays.asList("b", "c", "a");
+		final int[] moves = new int[1];
+		Diffs.createListDiff(ListDiffer.computeDifferences(oldList, newList)).accept(new ListDiffVisitor<String>() {
+			@Override
+			public void handleAdd(int index, String element) {
+			}
+
+			@Override
+			public void handleRemove(int index, String element) {
+			}
+
+			@Override
+			public void handleMove(int oldIndex, int newIndex, String element) {
+				assertEquals("a", element);
+				moves[0]++;
+			}
+		});
+		assertEquals(1, moves[0]);
+	}
+
+	@Test
+	public void testDuplicates() {
+		checkDifferences(Arrays.asList("a", "a", "b", "a"), Arrays.asList("b", "a", "a", "a", "b"));
+		checkDifferences(Arrays.asList("a", null, "a", null), Arrays.asList(null, "a", null, "c", "a"));
+	}
+
+	@Test
+	public void testLargeAppend() {
+		List<Integer> oldList = range(0, 20000);
+		List<Integer> newList = range(0, 25000);
+		assertEquals(5000, checkDifferences(oldList, newList).size());
+	}
+
+	@Test
+	public void testLargeReplace() {
+		List<Integer> oldList = range(0, 20000);
+		List<Integer> newList = range(20000, 40000);
+		assertEquals(40000, checkDifferences(oldList, newList).size());
+	}
+
+	@Test
+	public void testLargeReorder() {
+		List<Integer> oldList = range(0, 20000);
+		List<Integer> newList = new ArrayList<>(oldList);
+		Collections.shuffle(newList, new Random(0));
+		checkDifferences(oldList, newList);
+
+		Collections.reverse(oldList);
+		checkDifferences(newList, oldList);
+	}
+
+	@Test
+	public void testComputeListDiffUsesListDifferForLargeLists() {
+		List<Integer> oldList = range(0, 1000);
+		List<Integer> newList = new ArrayList<>(oldList);
+		newList.add(0, newList.remove(999));
+		ListDiff<Integer> diff = Diffs.computeListDiff(oldList, newList);
+		assertEquals(2, diff.getDifferences().length);
+		assertEquals(newList, apply(oldList, Arrays.asList(diff.getDifferences())));
+	}
+
+	/**
+	 * Compares the results with the simple algorithm used by {@link Diffs} for
+	 * small lists.
+	 */
+	@Test
+	public void testConformance() {
+		Random random = new Random(4711);
+		for (int i = 0; i < 2000; i++) {
+			boolean distinct = i % 2 == 0;
+			List<Integer> oldList = randomList(random, distinct);
+			List<Integer> newList = randomList(random, distinct);
+
+			List<ListDiffEntry<Integer>> expected = Arrays.asList(Diffs.computeListDiff(oldList, newList)
+					.getDifferences());
+			List<ListDiffEntry<Integer>> actual = checkDifferences(oldList, newList);
+			assertEquals(newList, apply(oldList, expected));
+			if (distinct) {
+				assertTrue(oldList + " -> " + newList, actual.size() <= expected.size());
+			}
+		}
+	}
+
+	private static List<Integer> randomList(Random random, boolean distinct) {
+		int size = random.nextInt(12);
+		List<Integer> list = new ArrayList<>();
+		if (distinct) {
+			list.addAll(range(0, 16));
+			Collections.shuffle(list, random);
+			return new ArrayList<>(list.subList(0, size));
+		}
+		for (int i = 0; i < size; i++) {
+			list.add(random.nextInt(4));
+		}
+		return list;
+	}
+
+	private static List<Integer> range(int from, int to) {
+		List<Integer> list = new ArrayList<>(to - from);
+		for (int i = from; i < to; i++) {
+			list.add(i);
+		}
+		return list;
+	}
+
+	private static <E> List<ListDiffEntry<E>> checkDifferences(List<E> oldList, List<E> newList) {
+		List<ListDiffEntry<E>> entries = ListDiffer.computeDifferences(oldList, newList);
+		assertEquals("Applying diff to old list should make it equal to new list", newList, apply(oldList, entries));
+		return entries;
+	}
+
+	private static <E> List<E> apply(List<E> oldList, List<ListDiffEntry<E>> entries) {
+		List<E> list = new ArrayList<>(oldList);
+		for (ListDiffEntry<E> entry : entries) {
+			if (entry.isAddition()) {
+				list.add(entry.getPosition(), entry.getElement());
+			} else {
+				assertEquals(entry.getElement(), list.remove(entry.getPosition()));
+			}
+		}
+		return list;
+	}
+
+	private static void assertEntry(ListDiffEntry<?> entry, boolean addition, int position, String element) {
+		assertEquals("addition", addition, entry.isAddition());
+		assertEquals("position", position, entry.getPosition());
+		assertEquals("element", element, entry.getElement());
+	}
+}
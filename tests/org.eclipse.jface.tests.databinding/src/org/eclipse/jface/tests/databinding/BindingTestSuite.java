@@ -115,6 +115,7 @@ import org.eclipse.core.tests.internal.databinding.conversion.StringToNumberPars
 import org.eclipse.core.tests.internal.databinding.conversion.StringToShortConverterTest;
 import org.eclipse.core.tests.internal.databinding.observable.ConstantObservableValueTest;
 import org.eclipse.core.tests.internal.databinding.observable.DelayedObservableValueTest;
+import org.eclipse.core.tests.internal.databinding.observable.ListDifferTest;
 import org.eclipse.core.tests.internal.databinding.observable.MapEntryObservableValueTest;
 import org.eclipse.core.tests.internal.databinding.observable.UnmodifiableObservableListTest;
 import org.eclipse.core.tests.internal.databinding.observable.UnmodifiableObservableSetTest;
@@ -218,7 +219,7 @@ import org.junit.runners.Suite.SuiteClasses;
 		EditMaskParserTest.class, GroupObservableValueTest.class, IdentityConverterTest.class, IdentityMapTest.class,
 		IdentitySetTest.class, IntegerToStringConverterTest.class, LabelObservableValueTest.class,
 		ListBindingTest.class,
-		ListDiffTest.class, ListDiffVisitorTest.class, ListSimpleValueObservableListTest.class,
+		ListDiffTest.class, ListDifferTest.class, ListDiffVisitorTest.class, ListSimpleValueObservableListTest.class,
 		MapEntryObservableValueTest.class, MapSimpleValueObservableMapTest.class, MultiListTest.class,
 		MultiValidatorTest.class, NumberToBigDecimalTest.class, NumberToBigIntegerConverterTest.class,
 		NumberToByteConverterTest.class, NumberToByteValidatorTest.class, NumberToDoubleConverterTest.class,
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.eclipse.jface.tests.dialogs;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -459,6 +460,33 @@ public class DialogSettingsTest {
 
 	}
 
+	@Test
+	public void testLoadDirectChildrenOnly() {
+		DialogSettings settings = new DialogSettings("");
+		settings.load(new StringReader("<?xml version=\"1.0\" encoding=\"UTF-8\"?><!-- comment --><section name=\"root\">"
+				+ "<item key=\"key\" value=\"value\"/>"
+				+ "<other><item key=\"nested\" value=\"ignored\"/><section name=\"ignored\"/></other>"
+				+ "<list key=\"list\"><item value=\"a\"/><other><item value=\"ignored\"/></other><item/></list>"
+				+ "<section name=\"section\"><item key=\"key\" value=\"inner\"/></section></section>"));
+
+		assertEquals("root", settings.getName());
+		assertEquals("value", settings.get("key"));
+		assertNull(settings.get("nested"));
+		assertArrayEquals(new String[] { "a", "" }, settings.getArray("list"));
+		assertEquals(1, settings.getSections().length);
+		assertEquals("inner", settings.getSection("section").get("key"));
+	}
+
+	@Test
+	public void testLoadInvalidDocument() {
+		DialogSettings settings = new DialogSettings("test");
+		settings.put("key", "value");
+		settings.load(new StringReader("<section name=\"other\"><item key=\"key\" value=\"changed\"/>"));
+
+		assertEquals("test", settings.getName());
+		assertEquals("value", settings.get("key"));
+	}
+
 	@Test
 	@SuppressWarnings("resource")
 	public void testSaveWithIOException() {
@@ -115,6 +115,28 @@ public class MultipleEqualElementsTreeViewerTest extends TreeViewerTest {
 		assertEquals(4, getTreeViewer().testFindItems(element_2_1_2).length);
 	}
 
+	public void testElementMapAfterRemove() {
+		getTreeViewer().expandToLevel(element_1, AbstractTreeViewer.ALL_LEVELS);
+		getTreeViewer().expandToLevel(element_2, AbstractTreeViewer.ALL_LEVELS);
+		List<Widget> items = Arrays.asList(getTreeViewer().testFindItems(element_2_1_2));
+		assertEquals(4, items.size());
+		long memoryUsage = getTreeViewer().testElementMapMemoryUsage();
+		assertTrue(memoryUsage > 0);
+
+		element_2.basicDeleteChild(element_2_1);
+		getTreeViewer().remove(element_2, new Object[] { element_2_1 });
+		Widget[] remaining = getTreeViewer().testFindItems(element_2_1_2);
+		assertEquals(2, remaining.length);
+		// the remaining items keep their order
+		assertTrue(items.indexOf(remaining[0]) >= 0);
+		assertTrue(items.indexOf(remaining[0]) < items.indexOf(remaining[1]));
+		assertSame(remaining[0], getTreeViewer().testFindItem(element_2_1_2));
+
+		getTreeViewer().setInput(null);
+		assertEquals(0, getTreeViewer().testFindItems(element_2_1_2).length);
+		assertTrue(getTreeViewer().testElementMapMemoryUsage() < memoryUsage);
+	}
+
 	public void testSelection() {
 		getTreeViewer().expandToLevel(element_1, AbstractTreeViewer.ALL_LEVELS);
 		getTreeViewer().expandToLevel(element_2, AbstractTreeViewer.ALL_LEVELS);
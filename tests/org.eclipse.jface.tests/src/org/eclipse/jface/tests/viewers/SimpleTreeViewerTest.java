@@ -15,6 +15,9 @@
 
 package org.eclipse.jface.tests.viewers;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.jface.viewers.ILabelProviderListener;
 import org.eclipse.jface.viewers.ISelectionChangedListener;
 import org.eclipse.jface.viewers.ITableLabelProvider;
@@ -31,6 +34,7 @@ import org.eclipse.jface.viewers.ViewerComparator;
 import org.eclipse.jface.viewers.ViewerFilter;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.TreeItem;
 
 /**
  * @since 3.2
@@ -139,6 +143,47 @@ public class SimpleTreeViewerTest extends ViewerTestCase {
 		assertEquals("right", treeViewer.getTree().getItem(0).getText());
 	}
 
+	public void testRefreshKeepsUnchangedItems() {
+		List<TreeNode> nodes = new ArrayList<>();
+		treeViewer.setInput(null);
+		treeViewer.setContentProvider(new TreeNodeContentProvider() {
+			@Override
+			public Object[] getElements(Object inputElement) {
+				return nodes.toArray();
+			}
+		});
+		for (int i = 0; i < 1000; i++) {
+			TreeNode node = new TreeNode("node" + i);
+			node.setChildren(new TreeNode[] { new TreeNode("child" + i) });
+			nodes.add(node);
+		}
+		treeViewer.setInput(nodes);
+		treeViewer.setExpandedState(nodes.get(600), true);
+		TreeItem[] oldItems = treeViewer.getTree().getItems();
+
+		TreeNode added = new TreeNode("added");
+		nodes.add(500, added);
+		nodes.remove(100);
+		treeViewer.refresh();
+
+		TreeItem[] newItems = treeViewer.getTree().getItems();
+		assertEquals(nodes.size(), newItems.length);
+		for (int i = 0; i < newItems.length; i++) {
+			assertSame(nodes.get(i), newItems[i].getData());
+		}
+		assertTrue(oldItems[100].isDisposed());
+		for (int i = 0; i < newItems.length; i++) {
+			if (i < 100) {
+				assertSame(oldItems[i], newItems[i]);
+			} else if (i < 499) {
+				assertSame(oldItems[i + 1], newItems[i]);
+			} else if (i > 499) {
+				assertSame(oldItems[i], newItems[i]);
+			}
+		}
+		assertTrue(treeViewer.getExpandedState(nodes.get(600)));
+	}
+
 	public void test327004() {
 		treeViewer.setInput(null);
 		treeViewer.setContentProvider(new TreeNodeContentProvider());
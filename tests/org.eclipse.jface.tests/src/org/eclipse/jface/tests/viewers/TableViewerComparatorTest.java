@@ -19,6 +19,7 @@ import org.eclipse.jface.viewers.ColumnWeightData;
 import org.eclipse.jface.viewers.StructuredViewer;
 import org.eclipse.jface.viewers.TableLayout;
 import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.jface.viewers.ViewerComparator;
 import org.eclipse.jface.viewers.ViewerSorter;
 import org.eclipse.swt.SWT;
@@ -90,6 +91,81 @@ public class TableViewerComparatorTest extends ViewerComparatorTest {
 		assertSortedResult(TEAM1_SORTED_WITH_INSERT);
 	}
 
+	public void testViewerComparatorSortKeys() {
+		CountingLabelProvider labelProvider = new CountingLabelProvider();
+		fViewer.setLabelProvider(labelProvider);
+		Object[] members = team1.members.clone();
+		new ViewerComparator().sort(fViewer, members);
+		assertEquals("Labels not computed once per element", members.length, labelProvider.count);
+		assertSortedMembers(TEAM1_SORTED, members);
+
+		// categories are applied before the labels
+		ViewerComparator categoryComparator = new ViewerComparator() {
+			@Override
+			public int category(Object element) {
+				return ((TeamMember) element).name.length();
+			}
+		};
+		members = team1.members.clone();
+		categoryComparator.sort(fViewer, members);
+		assertSortedMembers(new String[] { "Kim", "Tod", "Eric", "Mike", "Paul", "Boris", "Susan", "Andrea",
+				"Karice", "Michael" }, members);
+	}
+
+	public void testViewerComparatorOverridingCompare() {
+		CountingLabelProvider labelProvider = new CountingLabelProvider();
+		fViewer.setLabelProvider(labelProvider);
+		ViewerComparator reverseComparator = new ViewerComparator() {
+			@Override
+			public int compare(Viewer viewer, Object e1, Object e2) {
+				return super.compare(viewer, e2, e1);
+			}
+		};
+		Object[] members = team1.members.clone();
+		reverseComparator.sort(fViewer, members);
+		assertTrue("Labels computed once per element", labelProvider.count > members.length);
+		String[] expected = new String[TEAM1_SORTED.length];
+		for (int i = 0; i < expected.length; i++) {
+			expected[i] = TEAM1_SORTED[expected.length - 1 - i];
+		}
+		assertSortedMembers(expected, members);
+
+		// opting in uses the default order
+		ViewerComparator optInComparator = new ViewerComparator() {
+			@Override
+			public int compare(Viewer viewer, Object e1, Object e2) {
+				return super.compare(viewer, e1, e2);
+			}
+
+			@Override
+			protected boolean useSortKeys() {
+				return true;
+			}
+		};
+		labelProvider.count = 0;
+		members = team1.members.clone();
+		optInComparator.sort(fViewer, members);
+		assertEquals("Labels not computed once per element", members.length, labelProvider.count);
+		assertSortedMembers(TEAM1_SORTED, members);
+	}
+
+	private static void assertSortedMembers(String[] expected, Object[] members) {
+		assertEquals(expected.length, members.length);
+		for (int i = 0; i < members.length; i++) {
+			assertEquals("Element not expected at " + i, expected[i], ((TeamMember) members[i]).name);
+		}
+	}
+
+	private static class CountingLabelProvider extends TeamModelLabelProvider {
+		int count;
+
+		@Override
+		public String getText(Object element) {
+			count++;
+			return super.getText(element);
+		}
+	}
+
 	private void assertSortedResult(String[] expected) {
 		TableItem[] items = getTableViewer().getTable().getItems();
 		for (int i = 0; i < items.length; i++) {
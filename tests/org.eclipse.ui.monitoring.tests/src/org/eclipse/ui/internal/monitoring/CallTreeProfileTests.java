@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link CallTreeProfile} class.
+ */
+public class CallTreeProfileTests {
+
+	/**
+	 * Creates a stack from frames given in calling order, the running method last.
+	 */
+	private static StackTraceElement[] stack(String... frames) {
+		StackTraceElement[] stack = new StackTraceElement[frames.length];
+		for (int i = 0; i < frames.length; i++) {
+			int dot = frames[i].lastIndexOf('.');
+			stack[frames.length - 1 - i] = new StackTraceElement(frames[i].substring(0, dot),
+					frames[i].substring(dot + 1), null, -1);
+		}
+		return stack;
+	}
+
+	private static String collapsed(CallTreeProfile profile) throws IOException {
+		StringBuilder out = new StringBuilder();
+		profile.writeCollapsed(out);
+		return out.toString();
+	}
+
+	@Test
+	public void testWriteCollapsed() throws Exception {
+		CallTreeProfile profile = new CallTreeProfile(100);
+		profile.addSample(stack("a.Main.run", "a.Display.readAndDispatch", "a.View.paint"), false);
+		profile.addSample(stack("a.Main.run", "a.Display.readAndDispatch", "a.View.paint"), false);
+		profile.addSample(stack("a.Main.run", "a.Display.readAndDispatch", "a.Job.done"), false);
+		profile.addSample(stack("a.Main.run", "a.Display.readAndDispatch"), false);
+		profile.addSample(stack("a.Display.readAndDispatch", "a.View.paint"), true);
+
+		assertEquals(5, profile.getSampleCount());
+		assertEquals(7, profile.getNodeCount());
+		assertEquals("a.Main.run;a.Display.readAndDispatch 1\n"
+				+ "a.Main.run;a.Display.readAndDispatch;a.View.paint 2\n"
+				+ "a.Main.run;a.Display.readAndDispatch;a.Job.done 1\n"
+				+ "[truncated];a.Display.readAndDispatch;a.View.paint 1\n",
+				collapsed(profile));
+	}
+
+	@Test
+	public void testMaxNodes() throws Exception {
+		CallTreeProfile profile = new CallTreeProfile(2);
+		profile.addSample(stack("a.Main.run", "a.Display.readAndDispatch", "a.View.paint"), false);
+		profile.addSample(stack("a.Main.run", "a.Display.readAndDispatch", "a.Job.done"), false);
+		profile.addSample(stack("a.Other.run"), false);
+
+		// The frames without room are counted for the deepest existing caller.
+		assertEquals(3, profile.getSampleCount());
+		assertEquals(2, profile.getNodeCount());
+		assertEquals("a.Main.run;a.Display.readAndDispatch 2\n", collapsed(profile));
+	}
+
+	@Test
+	public void testDecay() throws Exception {
+		CallTreeProfile profile = new CallTreeProfile(100);
+		for (int i = 0; i < 5; i++) {
+			profile.addSample(stack("a.Main.run", "a.View.paint"), false);
+		}
+		profile.addSample(stack("a.Main.run", "a.Job.done"), false);
+
+		profile.decay();
+		assertEquals(2, profile.getSampleCount());
+		assertEquals(2, profile.getNodeCount());
+		assertEquals("a.Main.run;a.View.paint 2\n", collapsed(profile));
+
+		profile.decay();
+		profile.decay();
+		assertEquals(0, profile.getSampleCount());
+		assertEquals(0, profile.getNodeCount());
+		assertEquals("", collapsed(profile));
+	}
+}
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import javax.management.JMX;
+import javax.management.ObjectName;
+
+import org.eclipse.swt.SWT;
+import org.junit.Test;
+
+/**
+ * Tests for {@link DispatchLatencyHistogram} class.
+ */
+public class DispatchLatencyHistogramTests {
+	private static final long MILLISECOND = 1000000;
+
+	@Test
+	public void testPercentiles() {
+		DispatchLatencyHistogram histogram = new DispatchLatencyHistogram();
+		for (int i = 0; i < 98; i++) {
+			histogram.record(SWT.Paint, 3 * MILLISECOND);
+		}
+		histogram.record(SWT.Paint, 100 * MILLISECOND);
+		histogram.record(SWT.Paint, 1000 * MILLISECOND);
+		histogram.record(SWT.Selection, 10 * MILLISECOND);
+
+		assertEquals(100, histogram.getCount(SWT.Paint));
+		assertEquals(1, histogram.getCount(SWT.Selection));
+		assertEquals(0, histogram.getCount(SWT.KeyDown));
+		// The percentiles are the highest values of the buckets, in microseconds.
+		assertEquals(3007, histogram.getPercentile(SWT.Paint, 50));
+		assertEquals(3007, histogram.getPercentile(SWT.Paint, 98));
+		assertEquals(100351, histogram.getPercentile(SWT.Paint, 99));
+		assertEquals(1000000, histogram.getPercentile(SWT.Paint, 100));
+		assertEquals(10000, histogram.getPercentile(SWT.Selection, 50));
+		assertEquals(0, histogram.getPercentile(SWT.KeyDown, 50));
+	}
+
+	@Test
+	public void testDecayAndWrite() throws Exception {
+		DispatchLatencyHistogram histogram = new DispatchLatencyHistogram();
+		for (int i = 0; i < 4; i++) {
+			histogram.record(SWT.Paint, 3 * MILLISECOND);
+		}
+		histogram.record(SWT.Selection, 10 * MILLISECOND);
+
+		histogram.decay();
+		assertEquals(2, histogram.getCount(SWT.Paint));
+		assertEquals(0, histogram.getCount(SWT.Selection));
+
+		StringBuilder out = new StringBuilder();
+		histogram.write(out);
+		assertEquals("# Dispatch time of UI events in milliseconds\n"
+				+ "# event\tcount\tmean\tp50\tp90\tp99\tp99.9\tmax\n"
+				+ "Paint\t2\t3.000\t3.000\t3.000\t3.000\t3.000\t3.000\n", out.toString());
+	}
+
+	@Test
+	public void testListeners() throws Exception {
+		DispatchLatencyHistogram histogram = new DispatchLatencyHistogram();
+		histogram.record(SWT.Selection, "a.SelectionHandler", 2 * MILLISECOND);
+		histogram.record(SWT.Selection, "a.SelectionHandler", 4 * MILLISECOND);
+		histogram.record(SWT.Selection, null, MILLISECOND);
+		assertEquals(3, histogram.getCount(SWT.Selection));
+		Map<String, LatencyHistogram> listeners = histogram.getListenerHistograms();
+		assertEquals(1, listeners.size());
+		assertEquals(2, listeners.get("a.SelectionHandler").getCount());
+
+		// The number of listener classes is bounded.
+		for (int i = 0; i < 1000; i++) {
+			histogram.record(SWT.Paint, "a.PaintHandler" + i, MILLISECOND);
+		}
+		listeners = histogram.getListenerHistograms();
+		assertTrue(listeners.size() < 1000);
+		assertEquals(1000 - listeners.size() + 2,
+				listeners.get(DispatchLatencyHistogram.OTHER_LISTENERS).getCount());
+
+		StringBuilder out = new StringBuilder();
+		histogram.write(out);
+		assertTrue(out.toString().contains("\n\n# listener\tcount\tmean\tp50\tp90\tp99\tp99.9\tmax\n"));
+		assertTrue(out.toString().contains("\na.SelectionHandler\t2\t3.000\t"));
+	}
+
+	@Test
+	public void testMXBean() throws Exception {
+		DispatchLatencyHistogram histogram = new DispatchLatencyHistogram();
+		histogram.record(SWT.KeyDown, "a.KeyHandler", 5 * MILLISECOND);
+		EventDispatchLatency latency = new EventDispatchLatency(histogram);
+		latency.register();
+		try {
+			EventDispatchLatencyMXBean proxy = JMX.newMXBeanProxy(ManagementFactory.getPlatformMBeanServer(),
+					new ObjectName(EventDispatchLatencyMXBean.OBJECT_NAME), EventDispatchLatencyMXBean.class);
+			LatencyStatistics keyDown = proxy.getEventTypes().get("KeyDown");
+			assertEquals(1, keyDown.getCount());
+			assertEquals(5.0, keyDown.getP99(), 0);
+			assertEquals(5.0, keyDown.getMax(), 0);
+			assertEquals(1, proxy.getListeners().get("a.KeyHandler").getCount());
+			assertTrue(proxy.dump().contains("\nKeyDown\t1\t5.000\t"));
+
+			proxy.reset();
+			assertEquals(0, histogram.getCount(SWT.KeyDown));
+			assertTrue(proxy.getListeners().isEmpty());
+		} finally {
+			latency.unregister();
+		}
+		assertTrue(!ManagementFactory.getPlatformMBeanServer()
+				.isRegistered(new ObjectName(EventDispatchLatencyMXBean.OBJECT_NAME)));
+	}
+}
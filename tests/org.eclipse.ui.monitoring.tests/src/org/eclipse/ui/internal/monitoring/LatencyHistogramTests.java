@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link LatencyHistogram} class.
+ */
+public class LatencyHistogramTests {
+
+	@Test
+	public void testBuckets() {
+		Random random = new Random(1);
+		for (int i = 0; i < 100000; i++) {
+			long value = i < 1000 ? i : (random.nextLong() >>> 1) >>> random.nextInt(63);
+			int index = LatencyHistogram.getIndex(value);
+			long lowest = LatencyHistogram.getLowestValue(index);
+			long highest = LatencyHistogram.getHighestValue(index);
+			assertTrue(value + " " + lowest, lowest <= value);
+			assertTrue(value + " " + highest, value <= highest);
+			if (highest != Long.MAX_VALUE) {
+				// The relative error is bounded.
+				assertTrue(value + " " + index, (highest - lowest + 1) * LatencyHistogram.SUB_BUCKETS
+						<= Math.max(lowest, LatencyHistogram.SUB_BUCKETS));
+				assertEquals(index + 1, LatencyHistogram.getIndex(highest + 1));
+			}
+		}
+	}
+
+	@Test
+	public void testPercentiles() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals(0, histogram.getValueAtPercentile(50));
+		for (int i = 1; i <= 1000; i++) {
+			histogram.record(i * 1000L);
+		}
+		assertEquals(1000, histogram.getCount());
+		assertEquals(500500, histogram.getMean(), 0.001);
+		assertEquals(1000000, histogram.getMax());
+		assertValue(500000, histogram.getValueAtPercentile(50));
+		assertValue(990000, histogram.getValueAtPercentile(99));
+		assertValue(999000, histogram.getValueAtPercentile(99.9));
+		assertEquals(1000000, histogram.getValueAtPercentile(100));
+
+		histogram.record(Long.MAX_VALUE);
+		assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+	}
+
+	private static void assertValue(long expected, long actual) {
+		assertTrue(expected + " " + actual,
+				expected <= actual && actual <= expected + expected / LatencyHistogram.SUB_BUCKETS);
+	}
+
+	@Test
+	public void testDecayAndReset() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(10);
+		histogram.record(10);
+		histogram.record(5000);
+		histogram.decay();
+		assertEquals(1, histogram.getCount());
+		assertEquals(10, histogram.getMax());
+		assertEquals(10, histogram.getValueAtPercentile(100));
+
+		histogram.reset();
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getMax());
+		assertEquals(0, histogram.getMean(), 0);
+	}
+}
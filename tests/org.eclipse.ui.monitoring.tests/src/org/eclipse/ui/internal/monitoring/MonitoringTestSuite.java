@@ -26,6 +26,9 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
 	EventLoopMonitorThreadTests.class,
 	FilterHandlerTests.class,
-	DefaultLoggerTests.class})
+	DefaultLoggerTests.class,
+	CallTreeProfileTests.class,
+	DispatchLatencyHistogramTests.class,
+	LatencyHistogramTests.class})
 public class MonitoringTestSuite {
 }
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.tests.navigator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.ui.internal.navigator.ContributorTrackingSet;
+import org.eclipse.ui.internal.navigator.NavigatorContentService;
+import org.eclipse.ui.navigator.INavigatorContentDescriptor;
+import org.junit.Test;
+
+/**
+ * Tests that a {@link ContributorTrackingSet} filled outside of the UI thread
+ * remembers its contributions in order once they are applied.
+ */
+public class ContributorTrackingSetTest extends NavigatorTestBase {
+
+	public ContributorTrackingSetTest() {
+		_navigatorInstanceId = TEST_VIEWER;
+	}
+
+	@Test
+	public void testDeferredContributions() {
+		NavigatorContentService contentService = (NavigatorContentService) _contentService;
+		INavigatorContentDescriptor first = _contentService.getContentDescriptorById(TEST_CONTENT);
+		INavigatorContentDescriptor override = _contentService.getContentDescriptorById(TEST_CONTENT_OVERRIDE1);
+		Object kept = new Object();
+		Object removed = new Object();
+
+		ContributorTrackingSet set = new ContributorTrackingSet(contentService);
+		set.deferContributions();
+		set.setContributor(first, first);
+		set.setContents(new Object[] { kept, removed });
+		set.setContributor(override, first);
+		set.remove(removed);
+		set.add(kept);
+
+		assertEquals(1, set.size());
+		assertNull(contentService.getContribution(kept));
+
+		set.applyDeferredContributions();
+		assertSame(override, contentService.getContribution(kept));
+		assertNull(contentService.getContribution(removed));
+
+		// later changes are passed on immediately
+		set.remove(kept);
+		assertNull(contentService.getContribution(kept));
+	}
+}
@@ -127,6 +127,47 @@ public class EvaluationCacheTest extends NavigatorTestBase {
 		Assert.assertNull(cache.getDescriptors(key, true));
 	}
 
+	@Test
+	public void testStatistics() {
+		Object key = new Object();
+		NavigatorContentDescriptor[] value = new NavigatorContentDescriptor[0];
+		Assert.assertNull(cache.getDescriptors(key, false));
+		cache.setDescriptors(key, value, false);
+		Assert.assertSame(value, cache.getDescriptors(key, false));
+		Assert.assertSame(value, cache.getDescriptors(key, false));
+		Assert.assertEquals(2, cache.getHitCount());
+		Assert.assertEquals(1, cache.getMissCount());
+		Assert.assertEquals(0, cache.getEvictionCount());
+		Assert.assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void testEvictionKeepsElementsInUse() {
+		INavigatorViewerDescriptor mockViewerDescript = new TestNavigatorViewerDescriptor();
+		INavigatorActivationService mockActivationService = new TestNavigatorActivationService();
+		EvaluationCache smallCache = new EvaluationCache(
+				new VisibilityAssistant(mockViewerDescript, mockActivationService), 10);
+		NavigatorContentDescriptor[] value = new NavigatorContentDescriptor[0];
+		for (int i = 0; i < 10; i++) {
+			smallCache.setDescriptors("element" + i, value, false);
+		}
+		// used again, so moved to the protected segment
+		for (int i = 0; i < 3; i++) {
+			Assert.assertSame(value, smallCache.getDescriptors("element" + i, false));
+		}
+		// a scan over many new elements
+		for (int i = 10; i < 100; i++) {
+			smallCache.setDescriptors("element" + i, value, false);
+		}
+		Assert.assertEquals(10, smallCache.size());
+		Assert.assertEquals(90, smallCache.getEvictionCount());
+		for (int i = 0; i < 3; i++) {
+			Assert.assertSame(value, smallCache.getDescriptors("element" + i, false));
+		}
+		Assert.assertNull(smallCache.getDescriptors("element3", false));
+		Assert.assertSame(value, smallCache.getDescriptors("element99", false));
+	}
+
 	// TODO Some way to reliably test the clearing of entries. Possibly using
 	// java.lang.ref.Reference#enqueue().
 }
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.tests.navigator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.eclipse.swt.widgets.TreeItem;
+import org.eclipse.ui.internal.navigator.NavigatorContentServiceContentProvider;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
+import org.eclipse.ui.tests.navigator.extension.TestSimpleChildrenContentProvider;
+import org.eclipse.ui.tests.navigator.extension.TestSimpleChildrenContentProvider3;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests the parallel evaluation of first class extensions by the
+ * {@link NavigatorContentServiceContentProvider}.
+ */
+public class ParallelContentTest extends NavigatorTestBase {
+
+	private static final String[] EXTENSIONS = { COMMON_NAVIGATOR_RESOURCE_EXT, TEST_SIMPLE_CHILDREN1,
+			TEST_SIMPLE_CHILDREN2, TEST_SIMPLE_CHILDREN3 };
+
+	public ParallelContentTest() {
+		_navigatorInstanceId = TEST_VIEWER_PROGRAMMATIC;
+	}
+
+	@Override
+	@After
+	public void tearDown() {
+		CountDownLatch gate = TestSimpleChildrenContentProvider3._gate;
+		TestSimpleChildrenContentProvider3._gate = null;
+		if (gate != null) {
+			gate.countDown();
+		}
+		super.tearDown();
+	}
+
+	private NavigatorContentServiceContentProvider getContentProvider() {
+		return (NavigatorContentServiceContentProvider) _viewer.getContentProvider();
+	}
+
+	private void activate(String[] extensions) {
+		_contentService.bindExtensions(extensions, false);
+		_contentService.getActivationService().activateExtensions(extensions, true);
+	}
+
+	@Test
+	public void testParallelChildrenKeepExtensionOrder() {
+		activate(EXTENSIONS);
+		NavigatorContentServiceContentProvider contentProvider = getContentProvider();
+
+		Object[] sequential = contentProvider.getChildren(_p1);
+		contentProvider.setParallelEvaluation(4, 10000);
+		Object[] parallel = contentProvider.getChildren(_p1);
+
+		assertTrue(sequential.length >= 3 * TestSimpleChildrenContentProvider.NUM_ITEMS);
+		assertArrayEquals(sequential, parallel);
+
+		TreeItem[] rootItems = _viewer.getTree().getItems();
+		_viewer.expandAll();
+		assertChildOrder(rootItems[0]);
+	}
+
+	@Test
+	public void testLateChildrenAreMerged() {
+		TestSimpleChildrenContentProvider3._gate = new CountDownLatch(1);
+		getContentProvider().setParallelEvaluation(4, 50);
+		activate(EXTENSIONS);
+
+		TreeItem[] rootItems = _viewer.getTree().getItems();
+		_viewer.expandAll();
+		List<String> children = getChildNames(rootItems[0]);
+		assertFalse("Children of the slow extension should arrive later: " + children, children.contains("30"));
+		assertTrue(children.contains("20"));
+		assertTrue(children.contains("10"));
+
+		TestSimpleChildrenContentProvider3._gate.countDown();
+		assertTrue("Children of the slow extension were not merged",
+				DisplayHelper.waitForCondition(_viewer.getTree().getDisplay(), 10000,
+						() -> getChildNames(rootItems[0]).contains("30")));
+		assertChildOrder(rootItems[0]);
+	}
+
+	private static List<String> getChildNames(TreeItem item) {
+		List<String> names = new ArrayList<>();
+		for (TreeItem child : item.getItems()) {
+			names.add(child.getText());
+		}
+		return names;
+	}
+
+	private static void assertChildOrder(TreeItem item) {
+		TreeItem[] items = item.getItems();
+		assertEquals("30", items[0].getText());
+		assertEquals("20", items[TestSimpleChildrenContentProvider.NUM_ITEMS].getText());
+		assertEquals("10", items[TestSimpleChildrenContentProvider.NUM_ITEMS * 2].getText());
+	}
+}
@@ -24,6 +24,7 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.swt.widgets.TreeItem;
+import org.eclipse.ui.internal.navigator.NavigatorContentServiceContentProvider;
 import org.eclipse.ui.tests.harness.util.DisplayHelper;
 import org.eclipse.ui.tests.navigator.extension.TestPipelineProvider;
 import org.junit.Test;
@@ -86,6 +87,18 @@ public class PipelineChainTest extends NavigatorTestBase {
 		_testPipelinedChildren();
 	}
 
+	/**
+	 * Verifies that the pipeline is queried in the same sequence when the
+	 * extensions are evaluated in parallel
+	 */
+	@Test
+	public void testPipelinedChildrenInParallel() throws Exception
+	{
+		_initContent();
+		((NavigatorContentServiceContentProvider) _viewer.getContentProvider()).setParallelEvaluation(4, 10000);
+		_testPipelinedChildren();
+	}
+
 	private void _testPipelinedChildren() throws CoreException {
 		final String NEW_FOLDER = "newFolder_" + System.currentTimeMillis();
 
@@ -13,10 +13,32 @@
  *******************************************************************************/
 package org.eclipse.ui.tests.navigator.extension;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 public class TestSimpleChildrenContentProvider3 extends TestSimpleChildrenContentProvider {
 
+	/**
+	 * If set, the children are only returned once the latch is released, to
+	 * simulate a slow extension.
+	 */
+	public static volatile CountDownLatch _gate;
+
 	public TestSimpleChildrenContentProvider3() {
 		_name = "3";
 	}
 
+	@Override
+	public Object[] getChildren(Object parentElement) {
+		CountDownLatch gate = _gate;
+		if (gate != null) {
+			try {
+				gate.await(30, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		return super.getChildren(parentElement);
+	}
+
 }
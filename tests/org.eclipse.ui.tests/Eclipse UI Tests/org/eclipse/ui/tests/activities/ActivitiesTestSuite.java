@@ -29,7 +29,8 @@ import org.junit.runners.Suite;
 	PersistanceTest.class,
 	ActivityPreferenceTest.class,
 	MenusTest.class,
-	PatternUtilTest.class
+	PatternUtilTest.class,
+	ActivityPatternMatcherTest.class
 })
 public class ActivitiesTestSuite {
 
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.ui.tests.activities;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.eclipse.ui.internal.activities.ActivityPatternBinding;
+import org.eclipse.ui.internal.activities.ActivityPatternMatcher;
+import org.junit.Test;
+
+/**
+ * Tests that the {@link ActivityPatternMatcher} finds the same activities as
+ * matching each {@link ActivityPatternBinding}.
+ */
+public class ActivityPatternMatcherTest {
+
+	private static final String[] IDENTIFIERS = { "org.eclipse.jdt.ui/org.eclipse.jdt.ui.PackageExplorer",
+			"org.eclipse.jdt.debug.ui/org.eclipse.jdt.debug.ui.launchShortcut", "org.eclipse.pde.ui/newPlugin",
+			"org.eclipse.team.cvs.ui/sync", "org.eclipse.ui.ide/org.eclipse.ui.views.ProblemView", "ORG.ECLIPSE.TEAM",
+			"team", "org", "", "a+b", "com.example/view", "org-eclipse-team" };
+
+	private final List<ActivityPatternBinding> bindings = new ArrayList<>();
+
+	private ActivityPatternBinding add(ActivityPatternMatcher matcher, ActivityPatternBinding binding) {
+		bindings.add(binding);
+		matcher.add(binding);
+		return binding;
+	}
+
+	private void assertMatches(ActivityPatternMatcher matcher) {
+		for (String identifier : IDENTIFIERS) {
+			Set<String> expected = new HashSet<>();
+			for (ActivityPatternBinding binding : bindings) {
+				if (binding.isMatch(identifier)) {
+					expected.add(binding.getActivityId());
+				}
+			}
+			assertEquals(identifier, expected, matcher.getActivityIds(identifier));
+		}
+		assertEquals(bindings.size(), matcher.size());
+	}
+
+	@Test
+	public void testMatch() {
+		ActivityPatternMatcher matcher = new ActivityPatternMatcher();
+		add(matcher, new ActivityPatternBinding("jdt", "org\\.eclipse\\.jdt\\..*/.*"));
+		add(matcher, new ActivityPatternBinding("jdt", "org\\.eclipse\\.jdt\\.ui/.*"));
+		add(matcher, new ActivityPatternBinding("debug", "org\\.eclipse\\.jdt\\.debug\\.ui/.*launch.*"));
+		add(matcher, new ActivityPatternBinding("pde", "org.eclipse.pde.*"));
+		add(matcher, new ActivityPatternBinding("team", "org.eclipse.team.*"));
+		add(matcher, new ActivityPatternBinding("team", "(?i)org\\.eclipse\\.team"));
+		add(matcher, new ActivityPatternBinding("team", Pattern.compile("team", Pattern.CASE_INSENSITIVE)));
+		add(matcher, new ActivityPatternBinding("all", ".*"));
+		add(matcher, new ActivityPatternBinding("views", ".*/org\\.eclipse\\.ui\\.views\\..*"));
+		add(matcher, new ActivityPatternBinding("views", ".*/*org\\.eclipse\\.team"));
+		add(matcher, new ActivityPatternBinding("optional", "orgx?"));
+		add(matcher, new ActivityPatternBinding("optional", "org-?eclipse-team"));
+		add(matcher, new ActivityPatternBinding("either", "com\\.example/.*|org\\.eclipse\\.ui\\.ide/.*"));
+		add(matcher, new ActivityPatternBinding("quoted", "\\Qa+b\\E"));
+		add(matcher, new ActivityPatternBinding("anchored", "^org\\.eclipse\\.pde\\.ui/new[A-Z].*$"));
+		add(matcher, new ActivityPatternBinding("class", "\\w+"));
+		add(matcher, new ActivityPatternBinding("equal", "a+b", true));
+		add(matcher, new ActivityPatternBinding("equal", "org.eclipse.team.cvs.ui/sync", true));
+		add(matcher, new ActivityPatternBinding("empty", "", true));
+		assertMatches(matcher);
+	}
+
+	@Test
+	public void testAddAndRemove() {
+		ActivityPatternMatcher matcher = new ActivityPatternMatcher();
+		ActivityPatternBinding jdt = add(matcher, new ActivityPatternBinding("jdt", "org\\.eclipse\\.jdt\\..*"));
+		ActivityPatternBinding team = add(matcher, new ActivityPatternBinding("team", "team", true));
+		assertMatches(matcher);
+
+		add(matcher, new ActivityPatternBinding("debug", "org\\.eclipse\\.jdt\\.debug\\..*"));
+		assertMatches(matcher);
+
+		// bindings are removed by their activity and pattern
+		bindings.remove(jdt);
+		matcher.remove(new ActivityPatternBinding("jdt", "org\\.eclipse\\.jdt\\..*"));
+		bindings.remove(team);
+		matcher.remove(new ActivityPatternBinding("team", "team", true));
+		assertMatches(matcher);
+		assertEquals(new HashSet<>(Arrays.asList("debug")),
+				matcher.getActivityIds("org.eclipse.jdt.debug.ui/org.eclipse.jdt.debug.ui.launchShortcut"));
+
+		// removing what is not there changes nothing
+		matcher.remove(new ActivityPatternBinding("jdt", "org\\.eclipse\\.jdt\\..*"));
+		matcher.remove(new ActivityPatternBinding("other", "org\\.eclipse\\.jdt\\.debug\\..*"));
+		assertMatches(matcher);
+	}
+}
@@ -399,9 +399,23 @@ public class DynamicModelActivityRegistry extends AbstractActivityRegistry {
 	 *            The pattern.
 	 */
 	public void addActivityPatternBinding(String activityId, String pattern) {
+		addActivityPatternBinding(activityId, pattern, sourceId);
+	}
+
+	/**
+	 * Add an activity pattern binding contributed by the given source.
+	 *
+	 * @param activityId
+	 *            The actvity Id.
+	 * @param pattern
+	 *            The pattern.
+	 * @param source
+	 *            The id of the contributing source.
+	 */
+	public void addActivityPatternBinding(String activityId, String pattern, String source) {
 		if (activityPatternBindingDefinitions
 				.add(new ActivityPatternBindingDefinition(activityId, pattern,
-						sourceId))) {
+						source))) {
 			fireActivityRegistryChanged();
 			return;
 		}
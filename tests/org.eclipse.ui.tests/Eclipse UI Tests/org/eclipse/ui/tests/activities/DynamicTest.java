@@ -121,6 +121,27 @@ public class DynamicTest {
 				.getActivityPatternBindings().size());
 	}
 
+	/**
+	 * Test a pattern binding contributed twice.
+	 */
+	@Test
+	public void testDuplicateActivityPatternBindings() {
+		String activityId = (String) activityManager.getDefinedActivityIds().toArray()[0];
+		String pattern = "org\\.eclipse\\.ui\\.duplicatePattern/.*"; //$NON-NLS-1$
+		String identifierId = "org.eclipse.ui.duplicatePattern/item"; //$NON-NLS-1$
+		fixedModelRegistry.addActivityPatternBinding(activityId, pattern, "org.eclipse.ui.tests.source1"); //$NON-NLS-1$
+		fixedModelRegistry.addActivityPatternBinding(activityId, pattern, "org.eclipse.ui.tests.source2"); //$NON-NLS-1$
+		// unrelated registry changes must keep one binding per contribution
+		fixedModelRegistry.addCategory("org.eclipse.category8", "Category 8"); //$NON-NLS-1$ //$NON-NLS-2$
+		fixedModelRegistry.removeCategory("org.eclipse.category8", "Category 8"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue(activityManager.getIdentifier(identifierId).getActivityIds().contains(activityId));
+
+		fixedModelRegistry.removeActivityPatternBinding(pattern);
+		assertTrue(activityManager.getIdentifier(identifierId).getActivityIds().contains(activityId));
+		fixedModelRegistry.removeActivityPatternBinding(pattern);
+		assertFalse(activityManager.getIdentifier(identifierId).getActivityIds().contains(activityId));
+	}
+
 	/**
 	 * Test the enabled activities.
 	 *
@@ -93,6 +93,20 @@ public class XMLMementoTest {
 		assertEquals("some text data", memento.getTextData());
 	}
 
+	@Test
+	public void testCreateReadRootReaderNodes() throws WorkbenchException {
+		XMLMemento memento = XMLMemento.createReadRoot(new StringReader(
+				"<?xml version=\"1.0\" encoding=\"UTF-8\"?><!-- comment --><root key=\"a &lt; b\"><!-- comment -->"
+						+ "text &amp; more<![CDATA[<cdata>]]><child id=\"c\"/>\n<p:child p:key=\"value\"/></root>"));
+		assertEquals("root", memento.getType());
+		assertEquals("a < b", memento.getString("key"));
+		// the first text node only, as before
+		assertEquals("text & more", memento.getTextData());
+		assertEquals(2, memento.getChildren().length);
+		assertEquals("c", memento.getChild("child").getString("id"));
+		assertEquals("value", memento.getChild("p:child").getString("p:key"));
+	}
+
 	/*
 	 * Class under test for XMLMemento createReadRoot(Reader, String)
 	 */
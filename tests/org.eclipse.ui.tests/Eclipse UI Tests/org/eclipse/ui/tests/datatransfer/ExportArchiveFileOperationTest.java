@@ -13,20 +13,26 @@
  *******************************************************************************/
 package org.eclipse.ui.tests.datatransfer;
 
+import static org.junit.Assert.assertArrayEquals;
+
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
+import java.util.zip.CRC32;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
@@ -117,6 +123,102 @@ public class ExportArchiveFileOperationTest extends UITestCase implements
 		verifyCompressed(ZIP_FILE_EXT);
 	}
 
+	@Test
+	public void testExportZipContents() throws Exception {
+		// large enough to be spilled to a temporary file when compressed
+		byte[] contents = new byte[2 * 1024 * 1024];
+		new Random(0).nextBytes(contents);
+		IFile largeFile = project.getFile("large.bin");
+		largeFile.create(new ByteArrayInputStream(contents), true, new NullProgressMonitor());
+		byte[] text = "ümläut, 日本語".getBytes(StandardCharsets.UTF_8);
+		IFile nonAsciiFile = project.getFile("ümläut-日本語.txt");
+		nonAsciiFile.create(new ByteArrayInputStream(text), true, new NullProgressMonitor());
+
+		for (boolean compress : new boolean[] { false, true }) {
+			filePath = localDirectory + "/" + FILE_NAME + compress + "." + ZIP_FILE_EXT;
+			ArchiveFileExportOperation operation = new ArchiveFileExportOperation(project, filePath);
+			operation.setUseCompression(compress);
+			operation.setUseTarFormat(false);
+			operation.run(new NullProgressMonitor());
+			assertTrue(operation.getStatus().isOK());
+
+			try (ZipFile zipFile = new ZipFile(filePath)) {
+				ZipEntry entry = zipFile.getEntry(project.getName() + "/large.bin");
+				assertEquals(compress ? ZipEntry.DEFLATED : ZipEntry.STORED, entry.getMethod());
+				assertEquals(crc(contents), entry.getCrc());
+				try (InputStream in = zipFile.getInputStream(entry)) {
+					assertArrayEquals(contents, in.readAllBytes());
+				}
+				entry = zipFile.getEntry(project.getName() + "/" + nonAsciiFile.getName());
+				assertEquals(crc(text), entry.getCrc());
+				try (InputStream in = zipFile.getInputStream(entry)) {
+					assertArrayEquals(text, in.readAllBytes());
+				}
+				for (String directoryName : directoryNames) {
+					for (String fileName : fileNames) {
+						entry = zipFile.getEntry(project.getName() + "/" + directoryName + "/" + fileName);
+						try (InputStream in = zipFile.getInputStream(entry)) {
+							assertEquals(directoryName + ", " + fileName, new String(in.readAllBytes()));
+						}
+					}
+				}
+			}
+
+			// the local headers have to agree with the central directory
+			int count = 0;
+			try (ZipInputStream in = new ZipInputStream(new FileInputStream(filePath), StandardCharsets.UTF_8)) {
+				ZipEntry entry;
+				while ((entry = in.getNextEntry()) != null) {
+					byte[] read = in.readAllBytes();
+					if (entry.getName().equals(project.getName() + "/" + nonAsciiFile.getName())) {
+						assertArrayEquals(text, read);
+					}
+					count++;
+				}
+			}
+			try (ZipFile zipFile = new ZipFile(filePath)) {
+				assertEquals(zipFile.size(), count);
+			}
+		}
+	}
+
+	/**
+	 * Tests that a file which cannot be read while it is compressed is reported
+	 * and left out, and that the other files still make a valid archive.
+	 */
+	@Test
+	public void testExportZipCompressedUnreadableFile() throws Exception {
+		IFile unreadable = project.getFolder(directoryNames[0]).getFile(fileNames[0]);
+		// out of sync, so that reading it fails
+		assertTrue(unreadable.getLocation().toFile().delete());
+
+		filePath = localDirectory + "/" + FILE_NAME + "." + ZIP_FILE_EXT;
+		ArchiveFileExportOperation operation = new ArchiveFileExportOperation(project, filePath);
+		operation.setUseCompression(true);
+		operation.setUseTarFormat(false);
+		operation.run(new NullProgressMonitor());
+
+		IStatus[] errors = operation.getStatus().getChildren();
+		assertEquals(1, errors.length);
+		assertTrue(errors[0].getMessage(),
+				errors[0].getMessage().contains(unreadable.getFullPath().makeRelative().toString()));
+		assertTrue(errors[0].getException() instanceof CoreException);
+
+		try (ZipFile zipFile = new ZipFile(filePath)) {
+			assertNull(zipFile.getEntry(project.getName() + "/" + directoryNames[0] + "/" + fileNames[0]));
+			ZipEntry entry = zipFile.getEntry(project.getName() + "/" + directoryNames[1] + "/" + fileNames[1]);
+			try (InputStream in = zipFile.getInputStream(entry)) {
+				assertEquals(directoryNames[1] + ", " + fileNames[1], new String(in.readAllBytes()));
+			}
+		}
+	}
+
+	private static long crc(byte[] contents) {
+		CRC32 crc = new CRC32();
+		crc.update(contents);
+		return crc.getValue();
+	}
+
 	@Test
 	public void testExportZipCreateSelectedDirectories() throws Exception {
 		filePath = localDirectory + "/" + FILE_NAME + "." + ZIP_FILE_EXT;
@@ -24,6 +24,7 @@ import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URL;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -59,6 +60,7 @@ import org.eclipse.ui.tests.harness.util.DialogCheck;
 import org.eclipse.ui.tests.harness.util.FileUtil;
 import org.eclipse.ui.tests.harness.util.UITestCase;
 import org.eclipse.ui.wizards.datatransfer.ExternalProjectImportWizard;
+import org.junit.Assume;
 import org.junit.FixMethodOrder;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -1212,4 +1214,41 @@ public class ImportExistingProjectsWizardTest extends UITestCase {
 		}
 	}
 
+	@Test
+	public void test24FindNestedProjectsWithSymbolicLinkCycle() throws IOException {
+		java.nio.file.Path root = Files.createTempDirectory("importNestedWithLink");
+		dataLocation = root.toString();
+		java.nio.file.Path projectA = createProjectDirectory(root.resolve("A"), "A");
+		java.nio.file.Path projectB = createProjectDirectory(projectA.resolve("B"), "B");
+		java.nio.file.Path link = projectB.resolve("loop");
+		try {
+			Files.createSymbolicLink(link, projectA);
+		} catch (IOException | UnsupportedOperationException e) {
+			Assume.assumeNoException("symbolic links not supported", e);
+		}
+		try {
+			WizardProjectsImportPage wpip = getNewWizard();
+			wpip.getProjectFromDirectoryRadio().setSelection(true);
+			wpip.getNestedProjectsCheckbox().setSelection(true);
+			wpip.saveWidgetValues();
+			wpip.restoreWidgetValues();
+			wpip.updateProjectsList(root.toString());
+
+			List<String> projectNames = new ArrayList<>();
+			for (ProjectRecord selectedProject : wpip.getProjectRecords()) {
+				projectNames.add(selectedProject.getProjectName());
+			}
+			assertEquals(List.of("A", "B"), projectNames);
+		} finally {
+			Files.delete(link);
+		}
+	}
+
+	private java.nio.file.Path createProjectDirectory(java.nio.file.Path directory, String name) throws IOException {
+		Files.createDirectories(directory);
+		Files.writeString(directory.resolve(".project"), "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+				+ "<projectDescription><name>" + name + "</name></projectDescription>\n");
+		return directory;
+	}
+
 }
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.tests.datatransfer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import org.eclipse.ui.internal.wizards.datatransfer.ZipArchiveWriter;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Reads archives written by {@link ZipArchiveWriter} back through
+ * {@link ZipFile}, which uses the central directory, and
+ * {@link ZipInputStream}, which uses the local headers.
+ */
+public class ZipArchiveWriterTest {
+
+	private static final String[] NAMES = { "dir/", "dir/plain.txt", "dir/ümläut.txt",
+			"日本語/ファイル.txt" };
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testStoredEntries() throws IOException {
+		File archive = folder.newFile("stored.zip");
+		try (ZipArchiveWriter writer = new ZipArchiveWriter(archive.getPath())) {
+			for (int i = 0; i < NAMES.length; i++) {
+				byte[] contents = contents(NAMES[i]);
+				// an unknown size reserves Zip64 fields in the local header
+				long expectedSize = i % 2 == 0 ? contents.length : -1;
+				writer.writeStoredEntry(ZipArchiveWriter.encodeName(NAMES[i]), System.currentTimeMillis(),
+						expectedSize, new ByteArrayInputStream(contents));
+			}
+			writer.finish();
+		}
+
+		try (ZipFile zipFile = new ZipFile(archive)) {
+			assertEquals(NAMES.length, zipFile.size());
+			for (String name : NAMES) {
+				ZipEntry entry = zipFile.getEntry(name);
+				byte[] contents = contents(name);
+				assertEquals(name, ZipEntry.STORED, entry.getMethod());
+				assertEquals(name, contents.length, entry.getSize());
+				assertEquals(name, crc(contents), entry.getCrc());
+				try (InputStream in = zipFile.getInputStream(entry)) {
+					assertArrayEquals(name, contents, in.readAllBytes());
+				}
+			}
+		}
+
+		try (ZipInputStream in = new ZipInputStream(new FileInputStream(archive), StandardCharsets.UTF_8)) {
+			for (String name : NAMES) {
+				ZipEntry entry = in.getNextEntry();
+				assertEquals(name, entry.getName());
+				// the stream checks the CRC of stored entries while reading
+				assertArrayEquals(name, contents(name), in.readAllBytes());
+			}
+			assertNull(in.getNextEntry());
+		}
+	}
+
+	@Test
+	public void testEntriesBeyond4GiB() throws IOException {
+		long size = (1L << 32) + 16;
+		Assume.assumeTrue("Not enough space for a 4 GiB archive",
+				folder.getRoot().getUsableSpace() > size + (1L << 30));
+
+		File archive = folder.newFile("large.zip");
+		byte[] after = contents(NAMES[3]);
+		try (ZipArchiveWriter writer = new ZipArchiveWriter(archive.getPath())) {
+			writer.writeStoredEntry(ZipArchiveWriter.encodeName("large.bin"), System.currentTimeMillis(), size,
+					new PatternInputStream(size));
+			// its offset needs the Zip64 extensions of the central directory
+			writer.writeStoredEntry(ZipArchiveWriter.encodeName(NAMES[3]), System.currentTimeMillis(),
+					after.length, new ByteArrayInputStream(after));
+			writer.finish();
+		}
+
+		CRC32 crc = new CRC32();
+		byte[] buffer = new byte[64 * 1024];
+		try (InputStream in = new PatternInputStream(size)) {
+			int n;
+			while ((n = in.read(buffer)) > 0) {
+				crc.update(buffer, 0, n);
+			}
+		}
+		try (ZipFile zipFile = new ZipFile(archive)) {
+			ZipEntry entry = zipFile.getEntry("large.bin");
+			assertEquals(size, entry.getSize());
+			assertEquals(size, entry.getCompressedSize());
+			assertEquals(crc.getValue(), entry.getCrc());
+			try (InputStream in = zipFile.getInputStream(zipFile.getEntry(NAMES[3]))) {
+				assertArrayEquals(after, in.readAllBytes());
+			}
+		}
+	}
+
+	private static byte[] contents(String name) {
+		return name.endsWith("/") ? new byte[0] : ("contents of " + name).getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static long crc(byte[] contents) {
+		CRC32 crc = new CRC32();
+		crc.update(contents);
+		return crc.getValue();
+	}
+
+	/**
+	 * Generates mostly zeros, with the page number at the start of every 4 KiB
+	 * page, independently of the size of the reads.
+	 */
+	private static final class PatternInputStream extends InputStream {
+		private final long length;
+		private long position;
+
+		PatternInputStream(long length) {
+			this.length = length;
+		}
+
+		@Override
+		public int read() {
+			if (position >= length) {
+				return -1;
+			}
+			return byteAt(position++) & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			if (position >= length) {
+				return -1;
+			}
+			int n = (int) Math.min(len, length - position);
+			for (int i = 0; i < n; i++) {
+				b[off + i] = byteAt(position + i);
+			}
+			position += n;
+			return n;
+		}
+
+		private static byte byteAt(long position) {
+			return (position & 0xFFF) == 0 ? (byte) (position >>> 12) : 0;
+		}
+	}
+}
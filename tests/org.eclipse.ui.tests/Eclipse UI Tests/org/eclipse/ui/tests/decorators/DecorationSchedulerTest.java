@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.tests.decorators;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jface.viewers.DecorationContext;
+import org.eclipse.jface.viewers.ILabelProviderListener;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.internal.WorkbenchPlugin;
+import org.eclipse.ui.internal.decorators.DecorationScheduler;
+import org.eclipse.ui.internal.decorators.DecoratorManager;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the sharded mode of the {@link DecorationScheduler}.
+ */
+public class DecorationSchedulerTest {
+
+	private static final int ELEMENT_COUNT = 200;
+
+	private DecoratorManager manager;
+
+	private DecorationScheduler scheduler;
+
+	private final Map<Object, Integer> notifications = new IdentityHashMap<>();
+
+	private final List<Object> notReady = new ArrayList<>();
+
+	private final ILabelProviderListener listener = event -> {
+		Object[] elements = event.getElements();
+		if (elements == null) {
+			return;
+		}
+		for (Object element : elements) {
+			if (element instanceof TestElement) {
+				notifications.merge(element, 1, Integer::sum);
+				if (!scheduler.isDecorationReady(element, DecorationContext.DEFAULT_CONTEXT)) {
+					notReady.add(element);
+				}
+			}
+		}
+	};
+
+	private static final class TestElement {
+		final int id;
+
+		TestElement(int id) {
+			this.id = id;
+		}
+
+		@Override
+		public String toString() {
+			return "element" + id;
+		}
+	}
+
+	@Before
+	public void setUp() {
+		manager = WorkbenchPlugin.getDefault().getDecoratorManager();
+		scheduler = new DecorationScheduler(manager, 4);
+		manager.addListener(listener);
+	}
+
+	@After
+	public void tearDown() {
+		manager.removeListener(listener);
+		scheduler.shutdown();
+	}
+
+	@Test
+	public void testShardedDecorationNotifiesEveryElementOnce() {
+		Object[] elements = new Object[ELEMENT_COUNT];
+		for (int i = 0; i < elements.length; i++) {
+			elements[i] = new TestElement(i);
+		}
+		// Queue everything before a decoration job can take an element, so
+		// that the second requests are merged into the pending references
+		synchronized (scheduler) {
+			for (Object element : elements) {
+				scheduler.queueForDecoration(element, null, true, null, DecorationContext.DEFAULT_CONTEXT, false);
+			}
+			for (int i = 0; i < elements.length; i += 3) {
+				scheduler.queueForDecoration(elements[i], null, true, null, DecorationContext.DEFAULT_CONTEXT, true);
+			}
+		}
+
+		Display display = Display.getCurrent();
+		assertTrue("Not all elements were decorated",
+				DisplayHelper.waitForCondition(display, 30000, () -> notifications.size() == ELEMENT_COUNT));
+		// Give duplicate notifications a chance to arrive
+		DisplayHelper.sleep(display, 500);
+
+		for (Object element : elements) {
+			assertEquals("Notifications for " + element, Integer.valueOf(1), notifications.get(element));
+		}
+		assertTrue("Decorations not ready when notified: " + notReady, notReady.isEmpty());
+	}
+}
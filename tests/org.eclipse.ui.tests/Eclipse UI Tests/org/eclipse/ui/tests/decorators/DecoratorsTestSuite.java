@@ -27,6 +27,7 @@ import org.junit.runners.Suite;
 	DecoratorTableTest.class,
 	DecoratorAdaptableTests.class,
 	DecoratorCacheTest.class,
+	DecorationSchedulerTest.class,
 })
 public class DecoratorsTestSuite {
 }
@@ -26,6 +26,7 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
 	ResourceItemLabelTest.class,
 	ResourceInitialSelectionTest.class,
+	ResourceNameIndexTest.class,
 	ResourceSelectionFilteringDialogTest.class,
 })
 public class FilteredResourcesSelectionDialogTestSuite {
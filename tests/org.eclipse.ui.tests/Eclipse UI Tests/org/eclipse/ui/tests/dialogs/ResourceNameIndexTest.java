@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.tests.dialogs;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.ui.internal.ide.dialogs.ResourceNameIndex;
+import org.eclipse.ui.tests.harness.util.UITestCase;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests that the name index used by the Open Resource dialog follows the
+ * changes of the workspace.
+ */
+@RunWith(JUnit4.class)
+public class ResourceNameIndexTest extends UITestCase {
+
+	private IProject project;
+
+	private ResourceNameIndex index;
+
+	public ResourceNameIndexTest() {
+		super(ResourceNameIndexTest.class.getSimpleName());
+	}
+
+	@Override
+	public void doSetUp() throws Exception {
+		super.doSetUp();
+		project = ResourcesPlugin.getWorkspace().getRoot()
+				.getProject(getClass().getSimpleName() + System.currentTimeMillis());
+		project.create(null);
+		project.open(null);
+		index = ResourceNameIndex.getDefault();
+		assertNotNull("Index disabled", index);
+		assertTrue("Index not built", processEventsUntil(index::isReady, 30000));
+	}
+
+	@Override
+	public void doTearDown() throws Exception {
+		super.doTearDown();
+		project.delete(true, null);
+	}
+
+	@Test
+	public void testResourceChanges() throws CoreException {
+		IFolder folder = project.getFolder("folder");
+		folder.create(true, true, null);
+		IFile file = folder.getFile("IndexedFile.txt");
+		file.create(new ByteArrayInputStream(new byte[0]), true, null);
+
+		assertTrue(index.getResources(project, "indexedf").contains(file));
+		assertTrue(index.getResources(project, "INDEXEDFILE.TXT").contains(file));
+		assertFalse(index.getResources(project, "indexedg").contains(file));
+		assertFalse(index.getResources(project.getFolder("other"), "indexedf").contains(file));
+		assertTrue(index.getResources(project, "").contains(folder));
+
+		IFile movedFile = folder.getFile("RenamedFile.txt");
+		file.move(movedFile.getFullPath(), true, null);
+		assertFalse(index.getResources(project, "indexedf").contains(file));
+		assertTrue(index.getResources(project, "renamedf").contains(movedFile));
+
+		project.close(null);
+		assertFalse(index.getResources(project, "renamedf").contains(movedFile));
+		project.open(null);
+		// opened projects are scanned in the background
+		assertTrue("Index not updated", processEventsUntil(index::isReady, 30000));
+		assertTrue(index.getResources(project, "renamedf").contains(movedFile));
+
+		folder.delete(true, null);
+		List<IResource> resources = index.getResources(project, "");
+		assertFalse(resources.contains(folder));
+		assertFalse(resources.contains(movedFile));
+	}
+
+	@Test
+	public void testClosedProjectWithSharedPathPrefix() throws CoreException {
+		IProject otherProject = ResourcesPlugin.getWorkspace().getRoot().getProject(project.getName() + "Other");
+		otherProject.create(null);
+		otherProject.open(null);
+		try {
+			IFile otherFile = otherProject.getFile("OtherFile.txt");
+			otherFile.create(new ByteArrayInputStream(new byte[0]), true, null);
+			IFile file = project.getFile("ClosedFile.txt");
+			file.create(new ByteArrayInputStream(new byte[0]), true, null);
+			assertTrue("Index not updated", processEventsUntil(index::isReady, 30000));
+
+			project.close(null);
+			assertFalse(index.getResources(project, "closedf").contains(file));
+			assertTrue(index.getResources(otherProject, "otherf").contains(otherFile));
+		} finally {
+			otherProject.delete(true, null);
+		}
+	}
+
+	@Test
+	public void testHiddenResources() throws CoreException {
+		IFolder folder = project.getFolder("hiddenFolder");
+		folder.create(IResource.HIDDEN, true, null);
+		IFile file = folder.getFile("fileInHiddenFolder.txt");
+		file.create(new ByteArrayInputStream(new byte[0]), true, null);
+
+		assertFalse(index.getResources(project, "hiddenfolder").contains(folder));
+		assertFalse(index.getResources(project, "fileinhidden").contains(file));
+	}
+}
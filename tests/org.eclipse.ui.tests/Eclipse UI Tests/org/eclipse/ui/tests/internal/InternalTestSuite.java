@@ -26,6 +26,7 @@ import org.eclipse.ui.tests.markers.MarkerSupportRegistryTests;
 import org.eclipse.ui.tests.markers.MarkerSupportViewTest;
 import org.eclipse.ui.tests.markers.MarkerTesterTest;
 import org.eclipse.ui.tests.markers.MarkerViewTests;
+import org.eclipse.ui.tests.markers.MarkerViewUpdateTest;
 import org.eclipse.ui.tests.markers.MarkerViewUtilTest;
 import org.eclipse.ui.tests.markers.ResourceMappingMarkersTest;
 import org.junit.runner.RunWith;
@@ -47,6 +48,7 @@ import org.junit.runners.Suite;
 	MarkerSortUtilTest.class,
 	MarkerViewTests.class,
 	MarkerViewUtilTest.class,
+	MarkerViewUpdateTest.class,
 	MarkerHelpRegistryTest.class,
 	MarkerHelpRegistryReaderTest.class,
 	MarkerQueryTest.class,
@@ -66,5 +68,7 @@ import org.junit.runners.Suite;
 	Bug549139Test.class,
 	LargeFileLimitsPreferenceHandlerTest.class,
 	WorkbookEditorsHandlerTest.class,
+	LogFileIndexTest.class,
+	LogReaderTest.class,
 })
 public class InternalTestSuite {}
@@ -0,0 +1,284 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.ui.internal.views.log.LogFileIndex;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the {@link LogFileIndex} against the offsets of the record lines
+ * found by splitting the whole file into lines.
+ */
+public class LogFileIndexTest {
+
+	private static final int BUFFER_SIZE = 1024 * 1024;
+
+	private static final int MAX_MARKER_PREFIX = 64;
+
+	private static final String SESSION = "!SESSION 2026-01-01 10:00:00.000 ----------------------------------------------\n"
+			+ "eclipse.buildId=unknown\n";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static String entry(String message) {
+		return "!ENTRY org.eclipse.ui 4 0 2026-01-01 10:00:01.000\n!MESSAGE " + message + "\n";
+	}
+
+	private static void append(File file, String text) throws IOException {
+		Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE,
+				StandardOpenOption.APPEND);
+	}
+
+	private static void write(File file, String text) throws IOException {
+		Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Returns the offsets of the complete lines starting with a record marker,
+	 * after white space.
+	 */
+	private static long[] findRecords(File file) throws IOException {
+		byte[] bytes = Files.readAllBytes(file.toPath());
+		List<Long> offsets = new ArrayList<>();
+		int start = 0;
+		for (int i = 0; i < bytes.length; i++) {
+			if (bytes[i] == '\n' || bytes[i] == '\r') {
+				String line = new String(bytes, start, i - start, StandardCharsets.UTF_8).trim();
+				if (line.startsWith("!SESSION") || line.startsWith("!ENTRY")) {
+					offsets.add(Long.valueOf(start));
+				}
+				start = i + 1;
+			}
+		}
+		return offsets.stream().mapToLong(Long::longValue).toArray();
+	}
+
+	private static long[] getOffsets(LogFileIndex index) {
+		long[] offsets = new long[index.size()];
+		for (int i = 0; i < offsets.length; i++) {
+			offsets[i] = index.getOffset(i);
+		}
+		return offsets;
+	}
+
+	private static void assertIndexed(File file, LogFileIndex index) throws IOException {
+		assertEquals(Arrays.toString(findRecords(file)), Arrays.toString(getOffsets(index)));
+	}
+
+	@Test
+	public void testIncrementalUpdate() throws IOException {
+		File file = folder.newFile("test.log");
+		write(file, SESSION + entry("first") + entry("second"));
+		LogFileIndex index = new LogFileIndex(file);
+
+		assertTrue(index.update());
+		assertIndexed(file, index);
+		assertEquals(3, index.size());
+		assertTrue(index.isSession(0));
+		assertFalse(index.isSession(1));
+		assertEquals(0, index.getSession(2));
+		assertEquals(file.length(), index.getIndexedLength());
+		assertEquals(entry("second"), index.read(2));
+		assertFalse("Nothing was appended", index.update());
+
+		long length = file.length();
+		append(file, entry("third") + SESSION + entry("fourth"));
+		assertTrue(index.update());
+		assertIndexed(file, index);
+		assertEquals(6, index.size());
+		assertEquals(length, index.getOffset(3));
+		assertEquals(4, index.getLastSession());
+		assertEquals(4, index.getSession(5));
+		assertEquals(0, index.getSession(3));
+	}
+
+	@Test
+	public void testPartialLastLine() throws IOException {
+		File file = folder.newFile("test.log");
+		write(file, SESSION + entry("first"));
+		LogFileIndex index = new LogFileIndex(file);
+		index.update();
+		long length = file.length();
+
+		// the writer has not finished the marker line yet
+		append(file, "!EN");
+		assertFalse(index.update());
+		assertEquals(2, index.size());
+		assertEquals(length, index.getIndexedLength());
+
+		append(file, "TRY org.eclipse.ui 4 0 2026-01-01 10:00:01.000");
+		assertFalse(index.update());
+		assertEquals(2, index.size());
+
+		append(file, "\n!MESSAGE second\n");
+		assertTrue(index.update());
+		assertIndexed(file, index);
+		assertEquals(length, index.getOffset(2));
+		assertEquals(entry("second"), index.read(2));
+	}
+
+	@Test
+	public void testCrLf() throws IOException {
+		File file = folder.newFile("test.log");
+		String text = (SESSION + entry("first") + "  " + entry("indented") + "\n" + entry("last")).replace("\n",
+				"\r\n");
+		write(file, text);
+		LogFileIndex index = new LogFileIndex(file);
+		index.update();
+
+		assertIndexed(file, index);
+		assertEquals(4, index.size());
+		assertEquals(file.length(), index.getIndexedLength());
+		assertEquals(entry("last").replace("\n", "\r\n"), index.read(3));
+
+		// a CR without its LF yet
+		append(file, "!ENTRY org.eclipse.ui 4 0 2026-01-01 10:00:01.000\r");
+		assertTrue(index.update());
+		append(file, "\n!MESSAGE next\r\n");
+		index.update();
+		assertIndexed(file, index);
+		assertEquals(5, index.size());
+	}
+
+	/**
+	 * Places a record marker around the ends of the buffer the file is read
+	 * with, and around the end of the bytes in which markers are searched
+	 * before the buffer is refilled.
+	 */
+	@Test
+	public void testMarkersAroundBufferBoundaries() throws IOException {
+		int[] distances = { -MAX_MARKER_PREFIX - 1, -MAX_MARKER_PREFIX, -MAX_MARKER_PREFIX + 1, -7, -3, -1, 0, 1,
+				3 };
+		for (int distance : distances) {
+			File file = folder.newFile("test" + distance + ".log");
+			StringBuilder text = new StringBuilder(SESSION);
+			// filler lines up to the marker
+			int fillerEnd = BUFFER_SIZE + distance;
+			while (text.length() < fillerEnd - 100) {
+				text.append("at org.eclipse.ui.Filler.method(Filler.java:1)\n");
+			}
+			text.append("x".repeat(fillerEnd - text.length() - 1)).append('\n');
+			assertEquals(fillerEnd, text.length());
+			text.append(entry("straddling " + distance)).append(entry("after"));
+			write(file, text.toString());
+
+			LogFileIndex index = new LogFileIndex(file);
+			index.update();
+			assertIndexed(file, index);
+			assertEquals("Distance " + distance, fillerEnd, index.getOffset(1));
+			assertEquals(entry("straddling " + distance), index.read(1));
+		}
+	}
+
+	@Test
+	public void testLineLongerThanBuffer() throws IOException {
+		File file = folder.newFile("test.log");
+		write(file, SESSION + entry("long " + "x".repeat(BUFFER_SIZE * 2)) + entry("after"));
+		LogFileIndex index = new LogFileIndex(file);
+		index.update();
+		assertIndexed(file, index);
+		assertEquals(3, index.size());
+	}
+
+	@Test
+	public void testTail() throws IOException {
+		File file = folder.newFile("test.log");
+		write(file, SESSION + entry("first") + entry("second") + entry("third") + entry("fourth"));
+		long[] records = findRecords(file);
+		long length = file.length();
+
+		// the tail starts within the marker line of the third entry
+		LogFileIndex index = new LogFileIndex(file);
+		assertTrue(index.update(length - records[3] - 1));
+		assertEquals(1, index.size());
+		assertEquals(records[4], index.getOffset(0));
+		assertEquals(-1, index.getLastSession());
+		assertEquals(-1, index.getSession(0));
+
+		// a longer tail, starting at the end of the line before the third entry
+		assertTrue(index.update(length - records[3] + 1));
+		assertEquals(2, index.size());
+		assertEquals(records[3], index.getOffset(0));
+		assertEquals(entry("third"), index.read(0));
+
+		append(file, entry("fifth"));
+		assertTrue(index.update(length - records[3] + 1));
+		assertEquals(3, index.size());
+		assertEquals(records[3], index.getOffset(0));
+		assertEquals(length, index.getOffset(2));
+		assertFalse("Nothing was appended", index.update(1));
+
+		assertTrue(index.update());
+		assertIndexed(file, index);
+	}
+
+	@Test
+	public void testTruncated() throws IOException {
+		File file = folder.newFile("test.log");
+		write(file, SESSION + entry("first") + entry("second") + entry("third"));
+		LogFileIndex index = new LogFileIndex(file);
+		index.update();
+
+		write(file, SESSION + entry("new"));
+		assertTrue(index.update());
+		assertIndexed(file, index);
+		assertEquals(2, index.size());
+		assertEquals(entry("new"), index.read(1));
+	}
+
+	/**
+	 * A log rotated away and replaced by a longer one, which starts with a
+	 * session like the old one.
+	 */
+	@Test
+	public void testReplaced() throws IOException {
+		File file = folder.newFile("test.log");
+		write(file, SESSION + entry("old"));
+		LogFileIndex index = new LogFileIndex(file);
+		index.update();
+
+		Files.move(file.toPath(), new File(folder.getRoot(), "test.bak_0.log").toPath());
+		write(file, SESSION + "java.version=11\n" + entry("new first") + entry("new second") + entry("new third"));
+		assertTrue(index.update());
+		assertIndexed(file, index);
+		assertEquals(4, index.size());
+		assertEquals(entry("new first"), index.read(1));
+	}
+
+	@Test
+	public void testDeleted() throws IOException {
+		File file = folder.newFile("test.log");
+		write(file, SESSION + entry("first"));
+		LogFileIndex index = new LogFileIndex(file);
+		index.update();
+
+		assertTrue(file.delete());
+		assertTrue(index.update());
+		assertEquals(0, index.size());
+		assertEquals(-1, index.getLastSession());
+	}
+}
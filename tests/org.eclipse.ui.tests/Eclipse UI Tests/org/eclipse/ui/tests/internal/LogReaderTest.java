@@ -0,0 +1,245 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.ui.IMemento;
+import org.eclipse.ui.XMLMemento;
+import org.eclipse.ui.internal.views.log.AbstractEntry;
+import org.eclipse.ui.internal.views.log.LogEntry;
+import org.eclipse.ui.internal.views.log.LogFileIndex;
+import org.eclipse.ui.internal.views.log.LogReader;
+import org.eclipse.ui.internal.views.log.LogSession;
+import org.eclipse.ui.internal.views.log.LogView;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests {@link LogReader#parseLogFile(LogFileIndex, long, List, IMemento)}. The
+ * expected entries are the ones the parser reading the whole tail of the file
+ * line by line returned for the same log, before the file was indexed.
+ */
+public class LogReaderTest {
+
+	private static final String FIRST_SESSION = "!SESSION 2026-01-01 10:00:00.000 ----------------------------------------------\n"
+			+ "eclipse.buildId=first\n"
+			+ "java.version=11\n"
+			+ "\n";
+
+	private static final String SECOND_SESSION = "!SESSION 2026-01-02 10:00:00.000 ----------------------------------------------\n"
+			+ "eclipse.buildId=second\n"
+			+ "\n";
+
+	private static final String LOG = FIRST_SESSION
+			+ "!ENTRY org.eclipse.ui 4 0 2026-01-01 10:00:01.000\n"
+			+ "!MESSAGE first error\n"
+			+ "!STACK 0\n"
+			+ "java.lang.IllegalStateException: first\n"
+			+ "\tat org.eclipse.ui.Test.first(Test.java:1)\n"
+			+ "\n"
+			+ "!ENTRY org.eclipse.ui 2 0 2026-01-01 10:00:02.000\n"
+			+ "!MESSAGE first warning\n"
+			+ "continued message\n"
+			+ "\n"
+			+ SECOND_SESSION
+			+ "!ENTRY org.eclipse.core.runtime 4 2 2026-01-02 10:00:01.000\n"
+			+ "!MESSAGE multi status\n"
+			+ "!SUBENTRY 1 org.eclipse.core.runtime 4 0 2026-01-02 10:00:01.000\n"
+			+ "!MESSAGE child\n"
+			+ "!STACK 0\n"
+			+ "java.lang.RuntimeException: child\n"
+			+ "\tat org.eclipse.ui.Test.child(Test.java:2)\n"
+			+ "\n"
+			+ "!ENTRY org.eclipse.ui 1 0 2026-01-02 10:00:02.000\n"
+			+ "!MESSAGE info\n"
+			+ "\n"
+			+ "!ENTRY org.eclipse.ui 4 0 2026-01-02 10:00:03.000\n"
+			+ "!MESSAGE last error\n";
+
+	private static final String FIRST_ERROR = "4 first error\n"
+			+ "java.lang.IllegalStateException: first\n"
+			+ "\tat org.eclipse.ui.Test.first(Test.java:1)\n [first]";
+
+	private static final String FIRST_WARNING = "2 first warning\ncontinued message\n [first]";
+
+	private static final String MULTI_STATUS = "4 multi status [second]";
+
+	private static final String CHILD = "4 child\n"
+			+ "java.lang.RuntimeException: child\n"
+			+ "\tat org.eclipse.ui.Test.child(Test.java:2)\n [second]";
+
+	private static final String INFO = "1 info [second]";
+
+	private static final String LAST_ERROR = "4 last error [second]";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File file;
+
+	private IMemento memento;
+
+	@Before
+	public void setUp() throws IOException {
+		file = folder.newFile("test.log");
+		Files.write(file.toPath(), LOG.getBytes(StandardCharsets.UTF_8));
+		memento = XMLMemento.createWriteRoot("logView");
+		memento.putString(LogView.P_LOG_OK, "true");
+		memento.putString(LogView.P_LOG_INFO, "true");
+		memento.putString(LogView.P_LOG_WARNING, "true");
+		memento.putString(LogView.P_LOG_ERROR, "true");
+		memento.putString(LogView.P_USE_LIMIT, "false");
+		memento.putInteger(LogView.P_LOG_LIMIT, 50);
+		memento.putString(LogView.P_SHOW_ALL_SESSIONS, "true");
+	}
+
+	/**
+	 * Describes the severity, message, stack trace and session of the entry.
+	 */
+	private static String describe(LogEntry entry) {
+		String description = entry.getSeverity() + " " + entry.getMessage();
+		if (entry.hasStack()) {
+			description += "\n" + entry.getStack();
+		}
+		description = description.replace(System.lineSeparator(), "\n");
+		if (entry.getSession() != null && entry.getSession().getSessionData() != null) {
+			// the build id of the session
+			String data = entry.getSession().getSessionData().replace(System.lineSeparator(), "\n");
+			description += " [" + data.substring(data.indexOf('=') + 1, data.indexOf('\n')) + "]";
+		}
+		return description;
+	}
+
+	private static List<String> describe(List<LogEntry> entries) {
+		List<String> descriptions = new ArrayList<>();
+		for (LogEntry entry : entries) {
+			descriptions.add(describe(entry));
+		}
+		return descriptions;
+	}
+
+	private LogSession parse(List<LogEntry> entries) {
+		return LogReader.parseLogFile(new LogFileIndex(file), 1, entries, memento);
+	}
+
+	@Test
+	public void testAllSessions() {
+		List<LogEntry> entries = new ArrayList<>();
+		LogSession session = parse(entries);
+
+		assertEquals(Arrays.asList(FIRST_ERROR, FIRST_WARNING, MULTI_STATUS, INFO, LAST_ERROR), describe(entries));
+		assertEquals("eclipse.buildId=second\n", session.getSessionData().replace(System.lineSeparator(), "\n"));
+		assertSame(session, entries.get(4).getSession());
+
+		AbstractEntry[] children = entries.get(2).getChildren(null);
+		assertEquals(1, children.length);
+		assertEquals(CHILD, describe((LogEntry) children[0]));
+		assertSame(entries.get(2), children[0].getParent(null));
+	}
+
+	@Test
+	public void testMostRecentSession() {
+		memento.putString(LogView.P_SHOW_ALL_SESSIONS, "false");
+		List<LogEntry> entries = new ArrayList<>();
+		LogSession session = parse(entries);
+
+		assertEquals(Arrays.asList(MULTI_STATUS, INFO, LAST_ERROR), describe(entries));
+		assertSame(session, entries.get(0).getSession());
+	}
+
+	@Test
+	public void testLimit() {
+		memento.putString(LogView.P_USE_LIMIT, "true");
+		memento.putInteger(LogView.P_LOG_LIMIT, 2);
+		List<LogEntry> entries = new ArrayList<>();
+		parse(entries);
+
+		assertEquals(Arrays.asList(INFO, LAST_ERROR), describe(entries));
+	}
+
+	@Test
+	public void testLimitWithFilter() {
+		memento.putString(LogView.P_USE_LIMIT, "true");
+		memento.putInteger(LogView.P_LOG_LIMIT, 3);
+		memento.putString(LogView.P_LOG_INFO, "false");
+		List<LogEntry> entries = new ArrayList<>();
+		parse(entries);
+
+		// the filtered entries do not count
+		assertEquals(Arrays.asList(FIRST_WARNING, MULTI_STATUS, LAST_ERROR), describe(entries));
+	}
+
+	@Test
+	public void testZeroLimit() {
+		memento.putString(LogView.P_USE_LIMIT, "true");
+		memento.putInteger(LogView.P_LOG_LIMIT, 0);
+		List<LogEntry> entries = new ArrayList<>();
+
+		assertNull(parse(entries));
+		assertTrue(entries.isEmpty());
+	}
+
+	@Test
+	public void testWithoutSession() throws IOException {
+		Files.write(file.toPath(), LOG.substring(LOG.indexOf("!ENTRY"), LOG.indexOf("!SESSION", 1))
+				.getBytes(StandardCharsets.UTF_8));
+		List<LogEntry> entries = new ArrayList<>();
+		LogSession session = parse(entries);
+
+		assertEquals(2, entries.size());
+		assertSame(session, entries.get(0).getSession());
+		assertSame(session, entries.get(1).getSession());
+	}
+
+	@Test
+	public void testAppended() throws IOException {
+		LogFileIndex index = new LogFileIndex(file);
+		List<LogEntry> entries = new ArrayList<>();
+		LogReader.parseLogFile(index, 1, entries, memento);
+
+		Files.write(file.toPath(), ("!ENTRY org.eclipse.ui 2 0 2026-01-02 10:00:04.000\n!MESSAGE appended\n")
+				.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+		entries.clear();
+		LogReader.parseLogFile(index, 1, entries, memento);
+
+		assertEquals(6, entries.size());
+		assertEquals("2 appended [second]", describe(entries.get(5)));
+	}
+
+	@Test
+	public void testStackReadFromFile() throws IOException {
+		List<LogEntry> entries = new ArrayList<>();
+		parse(entries);
+		LogEntry entry = entries.get(0);
+		assertTrue(entry.hasStack());
+		assertFalse(entries.get(1).hasStack());
+
+		// the stack is read again, and is gone with the file
+		Files.write(file.toPath(), FIRST_SESSION.getBytes(StandardCharsets.UTF_8));
+		assertNull(entry.getStack());
+	}
+}
@@ -25,6 +25,7 @@ import static org.junit.Assert.fail;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -235,6 +236,50 @@ public final class BindingManagerTest {
 				bindingManager.getActiveScheme());
 	}
 
+	/**
+	 * Tests that precomputed bindings are taken from the cache when their
+	 * contexts become active, and that the cache only keeps the recently used
+	 * bindings.
+	 *
+	 * @throws NotDefinedException
+	 *             If the scheme we try to activate is not defined.
+	 */
+	@Test
+	public void testCachedBindings() throws NotDefinedException {
+		contextManager.getContext("parent").define("name", "description", null);
+		contextManager.getContext("child").define("name", "description", "parent");
+		final Scheme scheme = bindingManager.getScheme("na");
+		scheme.define("name", "description", null);
+		bindingManager.setActiveScheme(scheme);
+
+		final Binding parentBinding = new TestBinding("parentCommand", "na", "parent", null, null, Binding.SYSTEM,
+				null);
+		final Binding childBinding = new TestBinding("childCommand", "na", "child", null, null, Binding.SYSTEM,
+				null);
+		bindingManager.setBindings(new Binding[] { parentBinding, childBinding });
+
+		contextManager.setActiveContextIds(Set.of("parent"));
+		assertSame(parentBinding, bindingManager.getPerfectMatch(TestBinding.TRIGGER_SEQUENCE));
+
+		final int misses = bindingManager.getCacheMissCount();
+		final int hits = bindingManager.getCacheHitCount();
+		bindingManager.precomputeBindings(List.of(Set.of("parent", "child")));
+		contextManager.setActiveContextIds(Set.of("parent", "child"));
+		assertSame(childBinding, bindingManager.getPerfectMatch(TestBinding.TRIGGER_SEQUENCE));
+		assertEquals(misses, bindingManager.getCacheMissCount());
+		assertEquals(hits + 1, bindingManager.getCacheHitCount());
+
+		// fill the cache with other combinations of contexts
+		for (int i = 0; i < 100; i++) {
+			contextManager.getContext("context" + i).define("name", "description", "parent");
+			contextManager.setActiveContextIds(Set.of("parent", "context" + i));
+		}
+		final int missesAfterFilling = bindingManager.getCacheMissCount();
+		contextManager.setActiveContextIds(Set.of("parent", "child"));
+		assertEquals(missesAfterFilling + 1, bindingManager.getCacheMissCount());
+		assertSame(childBinding, bindingManager.getPerfectMatch(TestBinding.TRIGGER_SEQUENCE));
+	}
+
 	/**
 	 * Tests that <code>getBindings</code> first returns <code>null</code>. It
 	 * then verifies that an added binding is return from this method.
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.tests.markers;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.tests.harness.util.UITestCase;
+import org.eclipse.ui.tests.navigator.AbstractNavigatorTest;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests that marker changes are applied to an open markers view.
+ */
+@RunWith(JUnit4.class)
+public class MarkerViewUpdateTest extends AbstractNavigatorTest {
+
+	private static final long TIMEOUT = 10000;
+
+	public MarkerViewUpdateTest() {
+		super(MarkerViewUpdateTest.class.getSimpleName());
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+		createTestFile();
+	}
+
+	@Test
+	public void testMarkerChanges() throws CoreException {
+		IWorkbenchPage page = PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage();
+		MarkersTestMarkersView view = (MarkersTestMarkersView) page.showView("org.eclipse.ui.tests.markerTests");
+
+		IMarker first = testFile.createMarker(IMarker.PROBLEM);
+		first.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_WARNING);
+		assertTrue("Created marker not shown", waitForMarkers(view, first));
+
+		first.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_ERROR);
+		IMarker second = testFile.createMarker(IMarker.PROBLEM);
+		second.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_WARNING);
+		assertTrue("Changed or added marker not shown", waitForMarkers(view, first, second));
+
+		first.delete();
+		assertTrue("Deleted marker still shown", waitForMarkers(view, second));
+	}
+
+	/**
+	 * Wait until the markers shown by the view for the test file are exactly the
+	 * given ones.
+	 */
+	private boolean waitForMarkers(MarkersTestMarkersView view, IMarker... expected) {
+		List<IMarker> expectedMarkers = Arrays.asList(expected);
+		return UITestCase.processEventsUntil(() -> {
+			List<IMarker> shown = Arrays.stream(view.getCurrentMarkers())
+					.filter(marker -> testFile.equals(marker.getResource())).collect(Collectors.toList());
+			return shown.size() == expectedMarkers.size() && shown.containsAll(expectedMarkers);
+		}, TIMEOUT);
+	}
+}
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.ui.tests.progress;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import org.eclipse.ui.internal.progress.JobEventQueue;
+import org.junit.Test;
+
+public class JobEventQueueTest {
+
+	static final class Element {
+		volatile int pendingEvents;
+
+		final int id;
+
+		Element(int id) {
+			this.id = id;
+		}
+	}
+
+	private final JobEventQueue<Element> queue = new JobEventQueue<>(
+			AtomicIntegerFieldUpdater.newUpdater(Element.class, "pendingEvents"));
+
+	private final List<Element> drained = new ArrayList<>();
+
+	private final List<Integer> drainedEvents = new ArrayList<>();
+
+	private void drain() {
+		drained.clear();
+		drainedEvents.clear();
+		queue.drain((element, events) -> {
+			drained.add(element);
+			drainedEvents.add(events);
+		});
+	}
+
+	@Test
+	public void testChangesAreCoalescedPerElement() {
+		Element first = new Element(1);
+		Element second = new Element(2);
+		assertTrue(queue.offer(first, JobEventQueue.ADDED));
+		assertTrue(queue.offer(second, JobEventQueue.UPDATED));
+		assertFalse(queue.offer(first, JobEventQueue.UPDATED));
+		assertFalse(queue.offer(first, JobEventQueue.UPDATED));
+		assertFalse(queue.offer(second, JobEventQueue.REMOVED));
+		assertEquals(2, queue.size());
+
+		drain();
+		assertEquals(List.of(first, second), drained);
+		assertEquals(List.of(JobEventQueue.ADDED | JobEventQueue.UPDATED,
+				JobEventQueue.UPDATED | JobEventQueue.REMOVED), drainedEvents);
+		assertTrue(queue.isEmpty());
+		assertEquals(0, first.pendingEvents);
+
+		drain();
+		assertTrue(drained.isEmpty());
+	}
+
+	@Test
+	public void testChangesDuringDrainAreKeptForNextDrain() {
+		Element element = new Element(1);
+		queue.offer(element, JobEventQueue.ADDED);
+		List<Integer> events = new ArrayList<>();
+		queue.drain((e, changes) -> {
+			events.add(changes);
+			assertTrue(queue.offer(e, JobEventQueue.REMOVED));
+		});
+		assertEquals(List.of(JobEventQueue.ADDED), events);
+		assertEquals(1, queue.size());
+
+		drain();
+		assertEquals(List.of(element), drained);
+		assertEquals(List.of(JobEventQueue.REMOVED), drainedEvents);
+	}
+
+	@Test
+	public void testConcurrentChangesAreAllDelivered() throws Exception {
+		Element[] elements = new Element[1000];
+		for (int i = 0; i < elements.length; i++) {
+			elements[i] = new Element(i);
+		}
+		int[] received = new int[elements.length];
+		CountDownLatch start = new CountDownLatch(1);
+		Thread[] producers = new Thread[4];
+		for (int p = 0; p < producers.length; p++) {
+			int event = 1 << (p % 3);
+			producers[p] = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					return;
+				}
+				for (int round = 0; round < 100; round++) {
+					for (Element element : elements) {
+						queue.offer(element, event);
+					}
+				}
+			});
+			producers[p].start();
+		}
+		start.countDown();
+		boolean producing = true;
+		while (producing) {
+			producing = false;
+			for (Thread producer : producers) {
+				producing |= producer.isAlive();
+			}
+			queue.drain((element, events) -> received[element.id] |= events);
+		}
+		queue.drain((element, events) -> received[element.id] |= events);
+
+		assertTrue(queue.isEmpty());
+		int all = JobEventQueue.ADDED | JobEventQueue.UPDATED | JobEventQueue.REMOVED;
+		for (int i = 0; i < elements.length; i++) {
+			assertEquals(all, received[i]);
+			assertEquals(0, elements[i].pendingEvents);
+		}
+	}
+}
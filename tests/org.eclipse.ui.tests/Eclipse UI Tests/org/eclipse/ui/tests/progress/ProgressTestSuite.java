@@ -32,7 +32,8 @@ import org.junit.runners.Suite;
 	JobInfoTest.class,
 	JobInfoTestOrdering.class,
 	ProgressAnimationItemTest.class,
-	AccumulatingProgressMonitorTest.class
+	AccumulatingProgressMonitorTest.class,
+	JobEventQueueTest.class
 })
 public class ProgressTestSuite {
 
@@ -22,6 +22,7 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.eclipse.core.expressions.EqualsExpression;
 import org.eclipse.core.expressions.EvaluationResult;
 import org.eclipse.core.expressions.Expression;
 import org.eclipse.core.expressions.ExpressionConverter;
@@ -29,6 +30,7 @@ import org.eclipse.core.expressions.ExpressionInfo;
 import org.eclipse.core.expressions.IEvaluationContext;
 import org.eclipse.core.expressions.TestExpression;
 import org.eclipse.core.expressions.WithExpression;
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IExtensionRegistry;
 import org.eclipse.core.runtime.Platform;
@@ -53,6 +55,7 @@ import org.eclipse.ui.handlers.IHandlerActivation;
 import org.eclipse.ui.handlers.IHandlerService;
 import org.eclipse.ui.internal.WorkbenchWindow;
 import org.eclipse.ui.internal.handlers.HandlerPersistence;
+import org.eclipse.ui.internal.services.EvaluationService;
 import org.eclipse.ui.services.IEvaluationReference;
 import org.eclipse.ui.services.IEvaluationService;
 import org.eclipse.ui.services.ISourceProviderService;
@@ -454,6 +457,61 @@ public class EvaluationServiceTest extends UITestCase {
 		assertEquals(3, listener.count);
 	}
 
+	private static Expression createUserExpression(String lookFor) {
+		WithExpression expression = new WithExpression("username");
+		expression.add(new EqualsExpression(lookFor));
+		return expression;
+	}
+
+	@Test
+	public void testSharedEvaluation() throws Exception {
+		IWorkbenchWindow window = openTestWindow();
+		IEvaluationService service = window.getService(IEvaluationService.class);
+		IEvaluationService workbenchService = getWorkbench().getService(IEvaluationService.class);
+		Assume.assumeTrue(workbenchService instanceof EvaluationService);
+		EvaluationService evaluationService = (EvaluationService) workbenchService;
+
+		ISourceProviderService sps = window.getService(ISourceProviderService.class);
+		ActiveUserSourceProvider userProvider = (ActiveUserSourceProvider) sps.getSourceProvider("username");
+		userProvider.setUsername("guest");
+
+		MyEval listener1 = new MyEval();
+		MyEval listener2 = new MyEval();
+		IEvaluationReference ref1 = service.addEvaluationListener(createUserExpression("Paul"), listener1,
+				IEvaluationService.RESULT);
+		IEvaluationReference ref2 = null;
+		try {
+			long performed = evaluationService.getEvaluationsPerformed();
+			long skipped = evaluationService.getEvaluationsSkipped();
+
+			// an equal expression with the same input reuses the result
+			ref2 = service.addEvaluationListener(createUserExpression("Paul"), listener2,
+					IEvaluationService.RESULT);
+			assertEquals(performed, evaluationService.getEvaluationsPerformed());
+			assertEquals(skipped + 1, evaluationService.getEvaluationsSkipped());
+			assertFalse(listener2.currentValue);
+			assertEquals(1, listener2.count);
+
+			// and is still notified about changes of the input
+			skipped = evaluationService.getEvaluationsSkipped();
+			userProvider.setUsername("Paul");
+			assertTrue(listener1.currentValue);
+			assertTrue(listener2.currentValue);
+			assertEquals(2, listener1.count);
+			assertEquals(2, listener2.count);
+			assertTrue(evaluationService.getEvaluationsSkipped() > skipped);
+
+			userProvider.setUsername("guest");
+			assertFalse(listener1.currentValue);
+			assertFalse(listener2.currentValue);
+		} finally {
+			service.removeEvaluationListener(ref1);
+			if (ref2 != null) {
+				service.removeEvaluationListener(ref2);
+			}
+		}
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void testSourceProviderPriority() throws Exception {
@@ -515,19 +573,7 @@ public class EvaluationServiceTest extends UITestCase {
 				.getService(IEvaluationService.class);
 		assertNotNull(service);
 		MyEval listener = new MyEval();
-		IExtensionRegistry registry = Platform.getExtensionRegistry();
-		IConfigurationElement element = null;
-		IConfigurationElement[] elements = registry
-				.getConfigurationElementsFor("org.eclipse.core.expressions.definitions");
-		for (int i = 0; i < elements.length && element == null; i++) {
-			if (elements[i].getAttribute("id").equals(
-					"org.eclipse.ui.tests.defWithPropertyTester")) {
-				element = elements[i];
-			}
-		}
-
-		assertNotNull(element);
-		Expression expr = ExpressionConverter.getDefault().perform(element.getChildren()[0]);
+		Expression expr = createPropertyTesterExpression();
 		service.addEvaluationListener(expr,
 				listener, IEvaluationService.RESULT);
 		assertFalse(listener.currentValue);
@@ -546,6 +592,50 @@ public class EvaluationServiceTest extends UITestCase {
 		assertEquals(2, listener.count);
 	}
 
+	@Test
+	public void testPropertyChangeBeforeAddingListener() throws Exception {
+		IWorkbenchWindow window = openTestWindow();
+		IEvaluationService service = window.getService(IEvaluationService.class);
+		Expression expr = createPropertyTesterExpression();
+		MyEval listener1 = new MyEval();
+		MyEval listener2 = new MyEval();
+		StaticVarPropertyTester.result = false;
+		IEvaluationReference ref1 = service.addEvaluationListener(expr, listener1, IEvaluationService.RESULT);
+		IEvaluationReference ref2 = null;
+		try {
+			assertFalse(listener1.currentValue);
+
+			// no source changes between the two references, the result of the
+			// first one must not be reused for the second one
+			StaticVarPropertyTester.result = true;
+			ref2 = service.addEvaluationListener(expr, listener2, IEvaluationService.RESULT);
+			assertTrue(listener2.currentValue);
+			assertEquals(1, listener2.count);
+		} finally {
+			StaticVarPropertyTester.result = false;
+			service.removeEvaluationListener(ref1);
+			if (ref2 != null) {
+				service.removeEvaluationListener(ref2);
+			}
+		}
+	}
+
+	private static Expression createPropertyTesterExpression() throws CoreException {
+		IExtensionRegistry registry = Platform.getExtensionRegistry();
+		IConfigurationElement element = null;
+		IConfigurationElement[] elements = registry
+				.getConfigurationElementsFor("org.eclipse.core.expressions.definitions");
+		for (int i = 0; i < elements.length && element == null; i++) {
+			if (elements[i].getAttribute("id").equals(
+					"org.eclipse.ui.tests.defWithPropertyTester")) {
+				element = elements[i];
+			}
+		}
+
+		assertNotNull(element);
+		return ExpressionConverter.getDefault().perform(element.getChildren()[0]);
+	}
+
 	@Test
 	public void testPlatformProperty() throws Exception {
 		IEvaluationService evaluationService = PlatformUI